@@ -0,0 +1,59 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+
+/**
+ * Turn-level engine paths on {@link Positions#midGame()}. Every mutating benchmark works on a
+ * fresh fork of the position; {@link #forkState()} measures that fork alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EngineBenchmark {
+
+	private GameState position;
+	private String playerId;
+	private String attackerId;
+	private String defenderId;
+
+	@Setup
+	public void setUp() {
+		position = Positions.midGame();
+		playerId = position.getCurrentPlayerId();
+		attackerId = Positions.readyAttacker(position.getPlayerState(playerId)).getInstanceId();
+		defenderId = Positions.defender(position.getOpponentState(playerId)).getInstanceId();
+	}
+
+	@Benchmark
+	public GameState forkState() {
+		return position.copy();
+	}
+
+	@Benchmark
+	public List<GameEvent> attackCreature() {
+		return Positions.RULES.gameEngine().attack(position.copy(), playerId, attackerId, defenderId);
+	}
+
+	@Benchmark
+	public List<GameEvent> startTurn() {
+		GameState game = position.copy();
+		return Positions.RULES.gameEngine().startTurn(game, game.getPlayerState(playerId));
+	}
+
+	@Benchmark
+	public List<GameEvent> aiExecuteTurn() {
+		return Positions.RULES.aiService().executeTurn(position.copy(), playerId);
+	}
+}
@@ -0,0 +1,74 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * {@link GameState#copy()} on a fixed, fully stocked state, as AI search forks it for every playout:
+ * both players with 20-card decks, 7-card hands and discard piles, and five creatures each.
+ * Unlike {@link EngineBenchmark#forkState()} the shape does not depend on a self-played game, so
+ * results stay comparable when the card pool or AI changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameStateCopyBenchmark {
+
+	private GameState position;
+
+	@Setup
+	public void setUp() {
+		position = new GameState();
+		position.setPlayer1Id("p1");
+		position.setPlayer2Id("p2");
+		for (PlayerState state : new PlayerState[] {position.getPlayer1State(), position.getPlayer2State()}) {
+			for (int i = 0; i < 20; i++) {
+				state.getDeck().add(card());
+			}
+			for (int i = 0; i < 7; i++) {
+				state.getHand().add(card());
+				state.getDiscardPile().add(card());
+			}
+			for (int i = 0; i < 5; i++) {
+				state.getBattlefield().add(CreatureState.summon(state, card(), 2, 3, Set.of(Keyword.GUARD)));
+			}
+		}
+	}
+
+	@Benchmark
+	public GameState copy() {
+		return position.copy();
+	}
+
+	/**
+	 * A fork followed by a draw, which un-shares the deck and hand it writes to.
+	 */
+	@Benchmark
+	public GameState copyAndDraw() {
+		GameState copy = position.copy();
+		PlayerState player = copy.getPlayer1State();
+		player.getHand().add(player.getDeck().removeAt(0));
+		return copy;
+	}
+
+	private static Card card() {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		return card;
+	}
+}
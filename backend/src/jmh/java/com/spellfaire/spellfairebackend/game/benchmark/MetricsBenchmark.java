@@ -0,0 +1,45 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+import com.spellfaire.spellfairebackend.game.service.GameMetrics;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Overhead of {@link GameMetrics#record} on the Prometheus registry used in production, against
+ * calling the same action directly. The difference is what instrumentation adds to every action.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsBenchmark {
+
+	private final GameMetrics gameMetrics = new GameMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+	private final GameActionResponse response = new GameActionResponse(new GameResponse(), List.of(
+			GameEvent.cardPlayed("card", "Played"), GameEvent.summon("creature", "Summoned")));
+	private final Supplier<GameActionResponse> action = () -> response;
+
+	@Benchmark
+	public GameActionResponse direct() {
+		return action.get();
+	}
+
+	@Benchmark
+	public GameActionResponse recorded() {
+		return gameMetrics.record("playCard", action);
+	}
+}
@@ -0,0 +1,106 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.service.CardEffect;
+import com.spellfaire.spellfairebackend.game.sim.Archetype;
+import com.spellfaire.spellfairebackend.game.sim.HeadlessRules;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * Shared engine and board positions for the benchmarks.
+ */
+final class Positions {
+
+	static final HeadlessRules RULES = HeadlessRules.fromClasspath();
+
+	private static final int MAX_SEEDS = 1000;
+
+	private Positions() {
+	}
+
+	/**
+	 * A self-played KINGDOM/FIRE vs NECROPOLIS/SHADOW game at the start of a turn from turn 8 on,
+	 * where the side to move holds two cards and has two ready creatures facing at least two.
+	 */
+	static GameState midGame() {
+		SelfPlaySimulator simulator = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(),
+				RULES.aiService(), 60);
+		for (long seed = 1; seed <= MAX_SEEDS; seed++) {
+			GameState game = simulator.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE),
+					new Archetype(Faction.NECROPOLIS, MagicSchool.SHADOW), seed);
+			while (game.getGameStatus() == GameStatus.IN_PROGRESS && game.getTurnNumber() < 30) {
+				String playerId = game.getCurrentPlayerId();
+				PlayerState self = game.getPlayerState(playerId);
+				if (game.getTurnNumber() >= 8 && self.getHand().size() >= 2 && readyAttacker(self) != null
+						&& self.getBattlefield().size() >= 2 && game.getOpponentState(playerId).getBattlefield().size() >= 2) {
+					return game;
+				}
+				RULES.aiService().executeTurn(game, playerId);
+				RULES.gameEngine().checkGameOver(game);
+				if (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+					RULES.gameEngine().endTurn(game, playerId);
+				}
+			}
+		}
+		throw new IllegalStateException("No mid-game position in " + MAX_SEEDS + " seeds");
+	}
+
+	/**
+	 * A creature of the player that may attack this turn, or null.
+	 */
+	static CreatureState readyAttacker(PlayerState state) {
+		Battlefield battlefield = state.getBattlefield();
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState creature = battlefield.get(i);
+			if (creature.isCanAttack() && !creature.isHasAttackedThisTurn() && !creature.isFrozenBlocksAttacksThisTurn()) {
+				return creature;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The creature an attack must target: the first Guard if the opponent has one, else the first creature.
+	 */
+	static CreatureState defender(PlayerState opponent) {
+		Battlefield battlefield = opponent.getBattlefield();
+		for (int i = 0; i < battlefield.size(); i++) {
+			if (battlefield.get(i).hasKeyword(Keyword.GUARD)) {
+				return battlefield.get(i);
+			}
+		}
+		return battlefield.get(0);
+	}
+
+	/**
+	 * A target the effect accepts, preferring enemy creatures, then friendly ones, then heroes;
+	 * null for effects that take none.
+	 */
+	static String targetFor(CardEffect effect, PlayerState caster, PlayerState opponent) {
+		if (effect.target() == CardEffect.TargetRule.NONE) {
+			return null;
+		}
+		for (PlayerState side : new PlayerState[] {opponent, caster}) {
+			for (int i = 0; i < side.getBattlefield().size(); i++) {
+				String instanceId = side.getBattlefield().get(i).getInstanceId();
+				if (effect.acceptsTarget(caster, opponent, instanceId)) {
+					return instanceId;
+				}
+			}
+		}
+		for (String hero : new String[] {"ENEMY_HERO", "FRIENDLY_HERO"}) {
+			if (effect.acceptsTarget(caster, opponent, hero)) {
+				return hero;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,86 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.service.ReplayPlayback;
+import com.spellfaire.spellfairebackend.game.sim.Archetype;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator;
+import com.spellfaire.spellfairebackend.game.state.GameAction;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.Replay;
+import com.spellfaire.spellfairebackend.game.state.ReplayCodec;
+import com.spellfaire.spellfairebackend.game.state.ZoneCodec;
+
+/**
+ * Replay export and playback on a self-played game, one recorded step per turn: decoding the
+ * stored bytes, indexing a playback, and seeking to a turn once indexed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReplayBenchmark {
+
+	private final ReplayCodec codec = new ReplayCodec(new ZoneCodec(), Positions.RULES.cardCatalog());
+
+	private Replay replay;
+	private byte[] data;
+	private ReplayPlayback playback;
+	private int middleTurn;
+
+	@Setup
+	public void setUp() {
+		GameState game = new SelfPlaySimulator(Positions.RULES.cardCatalog(), Positions.RULES.gameEngine(),
+				Positions.RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.NECROPOLIS, MagicSchool.SHADOW), 1);
+		GameState opening = game.copy();
+		List<List<GameAction>> steps = new ArrayList<>();
+		while (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+			String playerId = game.getCurrentPlayerId();
+			game.startRecording();
+			Positions.RULES.aiService().executeTurn(game, playerId);
+			Positions.RULES.gameEngine().checkGameOver(game);
+			if (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+				Positions.RULES.gameEngine().endTurn(game, playerId);
+			}
+			steps.add(game.stopRecording());
+		}
+		replay = new Replay(opening, steps);
+		data = codec.encode(replay);
+		playback = new ReplayPlayback(Positions.RULES.gameEngine(), replay);
+		middleTurn = playback.lastTurn() / 2;
+		System.out.printf("%n%d steps, %d turns, %d bytes stored%n", steps.size(), playback.lastTurn(), data.length);
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return codec.encode(replay);
+	}
+
+	@Benchmark
+	public Replay decode() {
+		return codec.decode(data);
+	}
+
+	@Benchmark
+	public ReplayPlayback index() {
+		return new ReplayPlayback(Positions.RULES.gameEngine(), replay);
+	}
+
+	@Benchmark
+	public GameState seekTurn() {
+		return playback.atTurn(middleTurn);
+	}
+}
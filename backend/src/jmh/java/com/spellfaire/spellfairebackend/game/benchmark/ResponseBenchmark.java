@@ -0,0 +1,54 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+import com.spellfaire.spellfairebackend.game.service.GameService;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+
+/**
+ * Building and serializing the response of an action: the {@code GameState} to
+ * {@code GameResponse} mapping and Jackson serialization of the {@code GameActionResponse}
+ * returned after a full AI turn on {@link Positions#midGame()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseBenchmark {
+
+	private final GameService gameService = new GameService(null, null, null, null);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private GameState position;
+	private GameActionResponse response;
+
+	@Setup
+	public void setUp() {
+		position = Positions.midGame();
+		List<GameEvent> events = Positions.RULES.aiService().executeTurn(position, position.getCurrentPlayerId());
+		response = new GameActionResponse(gameService.toGameResponse(position), events);
+	}
+
+	@Benchmark
+	public GameResponse toGameResponse() {
+		return gameService.toGameResponse(position);
+	}
+
+	@Benchmark
+	public byte[] serializeActionResponse() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
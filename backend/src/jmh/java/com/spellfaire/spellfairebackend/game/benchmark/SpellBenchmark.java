@@ -0,0 +1,58 @@
+package com.spellfaire.spellfairebackend.game.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+
+/**
+ * {@code SpellEffectResolver.resolveSpell} for every spell in {@code data/cards.json}, cast by the
+ * side to move in {@link Positions#midGame()}. Each call resolves on a fresh fork of the position,
+ * so the time includes one {@code EngineBenchmark.forkState}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpellBenchmark {
+
+	@Param({
+		"Ember Bolt", "Searing Ping", "Flame Javelin", "Combust", "Inferno Sweep", "Final Spark",
+		"Ice Shard", "Frost Shield", "Cold Snap", "Shatter", "Glacial Binding", "Deep Winter",
+		"Mend", "Vine Whip", "Sproutling", "Growth", "Bramble Wall", "Renewal",
+		"Dark Touch", "Wither", "Siphon Life", "Grim Bargain", "Haunting Fog", "Void Snare"
+	})
+	public String spell;
+
+	private GameState position;
+	private String casterId;
+	private Card card;
+	private String targetId;
+
+	@Setup
+	public void setUp() {
+		position = Positions.midGame();
+		casterId = position.getCurrentPlayerId();
+		card = Positions.RULES.cardCatalog().findByName(spell)
+			.orElseThrow(() -> new IllegalArgumentException("Unknown spell " + spell));
+		targetId = Positions.targetFor(Positions.RULES.effects().effectOf(card),
+				position.getPlayerState(casterId), position.getOpponentState(casterId));
+	}
+
+	@Benchmark
+	public List<GameEvent> resolveSpell() {
+		GameState game = position.copy();
+		return Positions.RULES.spellResolver().resolveSpell(card, game.getPlayerState(casterId),
+				game.getOpponentState(casterId), targetId);
+	}
+}
@@ -16,7 +16,8 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-	@Index(name = "idx_refresh_token_hash", columnList = "tokenHash", unique = true)
+	@Index(name = "idx_refresh_token_hash", columnList = "tokenHash", unique = true),
+	@Index(name = "idx_refresh_token_expires", columnList = "expiresAt")
 })
 public class RefreshToken {
 	@Id
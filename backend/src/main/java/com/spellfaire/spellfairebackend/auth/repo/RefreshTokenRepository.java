@@ -1,12 +1,36 @@
 package com.spellfaire.spellfairebackend.auth.repo;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.spellfaire.spellfairebackend.auth.model.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 	Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+	/**
+	 * Revoke a token if it is still active, in one statement; returns the rows changed (0 or 1).
+	 * Two requests racing to rotate the same token cannot both succeed.
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE RefreshToken t SET t.revokedAt = :now, t.replacedByTokenHash = :replacement "
+			+ "WHERE t.tokenHash = :tokenHash AND t.revokedAt IS NULL AND (t.expiresAt IS NULL OR t.expiresAt > :now)")
+	int revokeIfActive(@Param("tokenHash") String tokenHash, @Param("replacement") String replacement,
+			@Param("now") Instant now);
+
+	/**
+	 * IDs of tokens that expired before the cutoff, one page at a time for chunked purging.
+	 */
+	@Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :cutoff")
+	List<UUID> findExpiredIds(@Param("cutoff") Instant cutoff, Pageable page);
 }
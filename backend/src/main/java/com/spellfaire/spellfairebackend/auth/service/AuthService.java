@@ -3,8 +3,8 @@ package com.spellfaire.spellfairebackend.auth.service;
 import java.time.Instant;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.UUID;
@@ -20,17 +20,17 @@ import com.spellfaire.spellfairebackend.auth.repo.UserRepository;
 @Service
 public class AuthService {
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 	private final JwtService jwtService;
 	private final RefreshTokenService refreshTokenService;
 
 	public AuthService(
 			UserRepository userRepository,
-			PasswordEncoder passwordEncoder,
+			PasswordHasher passwordHasher,
 			JwtService jwtService,
 			RefreshTokenService refreshTokenService) {
 		this.userRepository = userRepository;
-		this.passwordEncoder = passwordEncoder;
+		this.passwordHasher = passwordHasher;
 		this.jwtService = jwtService;
 		this.refreshTokenService = refreshTokenService;
 	}
@@ -44,7 +44,7 @@ public class AuthService {
 		User user = new User();
 		user.setEmail(email);
 		user.setUsername(request.getUsername().trim());
-		user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+		user.setPasswordHash(passwordHasher.encode(request.getPassword()));
 		user.setCreatedAt(Instant.now());
 		userRepository.save(user);
 
@@ -56,13 +56,20 @@ public class AuthService {
 		User user = userRepository.findByEmail(email)
 				.orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
 
-		if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+		if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
 			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
 		}
+		// Bring the hash to the configured work factor while the password is at hand
+		if (passwordHasher.needsRehash(user.getPasswordHash())) {
+			user.setPasswordHash(passwordHasher.encode(request.getPassword()));
+			userRepository.save(user);
+		}
 
 		return issueTokens(user);
 	}
 
+	// Transactional so the user, a bare reference when the token was rotated from memory, can load
+	@Transactional
 	public AuthResult refresh(String rawRefreshToken) {
 		if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
 			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing refresh token");
@@ -89,10 +96,10 @@ public class AuthService {
 
 		if (request.getNewPassword() != null && !request.getNewPassword().isBlank()) {
 			if (request.getCurrentPassword() == null
-					|| !passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+					|| !passwordHasher.matches(request.getCurrentPassword(), user.getPasswordHash())) {
 				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Current password is incorrect");
 			}
-			user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+			user.setPasswordHash(passwordHasher.encode(request.getNewPassword()));
 		}
 
 		if (request.getAvatarBase64() != null) {
@@ -2,6 +2,7 @@ package com.spellfaire.spellfairebackend.auth.service;
 
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,15 +20,21 @@ public class JwtService {
 	private final JWTVerifier verifier;
 	private final String issuer;
 	private final long accessTokenTtlSeconds;
+	// Stream tokens are signed with their own key, so one can never pass as an access token
+	private final Algorithm streamAlgorithm;
+	private final long streamTokenTtlSeconds;
 
 	public JwtService(
 			@Value("${spellfaire.security.jwt.secret}") String secret,
 			@Value("${spellfaire.security.jwt.issuer}") String issuer,
-			@Value("${spellfaire.security.jwt.access-token-ttl-seconds}") long accessTokenTtlSeconds) {
+			@Value("${spellfaire.security.jwt.access-token-ttl-seconds}") long accessTokenTtlSeconds,
+			@Value("${spellfaire.security.jwt.stream-token-ttl-seconds:60}") long streamTokenTtlSeconds) {
 		this.algorithm = Algorithm.HMAC256(secret);
 		this.issuer = issuer;
 		this.accessTokenTtlSeconds = accessTokenTtlSeconds;
 		this.verifier = JWT.require(this.algorithm).withIssuer(this.issuer).build();
+		this.streamAlgorithm = Algorithm.HMAC256(secret + ":stream");
+		this.streamTokenTtlSeconds = streamTokenTtlSeconds;
 	}
 
 	public String createAccessToken(User user) {
@@ -47,4 +54,31 @@ public class JwtService {
 	public DecodedJWT verify(String token) throws JWTVerificationException {
 		return verifier.verify(token);
 	}
+
+	/**
+	 * A short-lived token that opens one game's event stream. EventSource cannot send an
+	 * Authorization header, so the stream takes this in its URL instead of the access token.
+	 */
+	public String createStreamToken(String userId, UUID gameId) {
+		Instant now = Instant.now();
+		return JWT.create()
+				.withIssuer(issuer)
+				.withSubject(userId)
+				.withIssuedAt(Date.from(now))
+				.withExpiresAt(Date.from(now.plusSeconds(streamTokenTtlSeconds)))
+				.withClaim("game", gameId.toString())
+				.sign(streamAlgorithm);
+	}
+
+	/**
+	 * The user a stream token was issued to, if it is valid for the game.
+	 */
+	public String verifyStreamToken(String token, UUID gameId) throws JWTVerificationException {
+		return JWT.require(streamAlgorithm)
+				.withIssuer(issuer)
+				.withClaim("game", gameId.toString())
+				.build()
+				.verify(token)
+				.getSubject();
+	}
 }
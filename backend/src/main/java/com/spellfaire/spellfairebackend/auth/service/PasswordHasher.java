@@ -0,0 +1,130 @@
+package com.spellfaire.spellfairebackend.auth.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing on its own bounded pool, so a burst of sign-ins cannot take every request
+ * thread and core from gameplay.
+ *
+ * The calling thread waits for its hash. When every worker is busy and the queue is full the
+ * request is refused with 429 rather than queued without bound.
+ */
+@Service
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final int strength;
+	private final ThreadPoolExecutor executor;
+	private final Timer encodeTimer;
+	private final Timer matchTimer;
+	private final Timer waitTimer;
+	private final Counter rejected;
+
+	public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+						  @Value("${spellfaire.security.password.bcrypt-strength:10}") int strength,
+						  @Value("${spellfaire.security.password.threads:2}") int threads,
+						  @Value("${spellfaire.security.password.queue-capacity:50}") int queueCapacity) {
+		this.passwordEncoder = passwordEncoder;
+		this.strength = strength;
+		AtomicInteger count = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> new Thread(runnable, "password-hash-" + count.incrementAndGet()),
+				new ThreadPoolExecutor.AbortPolicy());
+
+		this.encodeTimer = Timer.builder("spellfaire.security.password.hash")
+			.description("Time spent hashing or checking a password")
+			.tag("operation", "encode")
+			.register(meterRegistry);
+		this.matchTimer = Timer.builder("spellfaire.security.password.hash")
+			.description("Time spent hashing or checking a password")
+			.tag("operation", "matches")
+			.register(meterRegistry);
+		this.waitTimer = Timer.builder("spellfaire.security.password.wait")
+			.description("Time a password hash waited for a worker")
+			.register(meterRegistry);
+		this.rejected = Counter.builder("spellfaire.security.password.rejected")
+			.description("Password hashes refused because the pool was saturated")
+			.register(meterRegistry);
+		Gauge.builder("spellfaire.security.password.queued", executor, pool -> pool.getQueue().size())
+			.description("Password hashes waiting for a worker")
+			.register(meterRegistry);
+	}
+
+	public String encode(String rawPassword) {
+		return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return run(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * Whether a stored hash was made at a cost other than the configured one.
+	 * Hashes in another format are left alone.
+	 */
+	public boolean needsRehash(String encodedPassword) {
+		// $2a$10$... : the cost is the two digits after the version
+		if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+				|| encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+			return false;
+		}
+		try {
+			return Integer.parseInt(encodedPassword, 4, 6, 10) != strength;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> T run(Timer timer, Callable<T> work) {
+		long queuedAt = System.nanoTime();
+		Future<T> result;
+		try {
+			result = executor.submit(() -> {
+				waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+				return timer.recordCallable(work);
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many sign-in attempts, please retry shortly");
+		}
+
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while hashing a password", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		}
+	}
+}
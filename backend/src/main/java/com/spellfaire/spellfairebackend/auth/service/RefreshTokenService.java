@@ -6,62 +6,107 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.spellfaire.spellfairebackend.auth.model.RefreshToken;
 import com.spellfaire.spellfairebackend.auth.model.User;
 import com.spellfaire.spellfairebackend.auth.repo.RefreshTokenRepository;
-
+import com.spellfaire.spellfairebackend.auth.repo.UserRepository;
+
+/**
+ * Issues, rotates and revokes refresh tokens, stored by SHA-256 hash.
+ *
+ * Revoking is a single conditional update, which is what makes each token usable once, even across
+ * instances. Recently issued tokens are also remembered in memory (least recently used evicted) so
+ * rotating one skips the lookup; the update still has the final say. Expired rows are purged on a
+ * schedule in small chunks.
+ */
 @Service
 public class RefreshTokenService {
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
 	private final RefreshTokenRepository refreshTokenRepository;
+	private final UserRepository userRepository;
 	private final SecureRandom secureRandom = new SecureRandom();
 	private final long refreshTtlSeconds;
+	private final int maxCached;
+	private final int purgeChunkSize;
+
+	// Access-ordered so the eldest entry is the least recently used token
+	private final LinkedHashMap<String, ActiveToken> active = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ActiveToken> eldest) {
+			return size() > maxCached;
+		}
+	};
 
 	public RefreshTokenService(
 			RefreshTokenRepository refreshTokenRepository,
-			@Value("${spellfaire.security.refresh.ttl-seconds}") long refreshTtlSeconds) {
+			UserRepository userRepository,
+			@Value("${spellfaire.security.refresh.ttl-seconds}") long refreshTtlSeconds,
+			@Value("${spellfaire.security.refresh.cache.max-entries:10000}") int maxCached,
+			@Value("${spellfaire.security.refresh.purge.chunk-size:1000}") int purgeChunkSize) {
 		this.refreshTokenRepository = refreshTokenRepository;
+		this.userRepository = userRepository;
 		this.refreshTtlSeconds = refreshTtlSeconds;
+		this.maxCached = maxCached;
+		this.purgeChunkSize = purgeChunkSize;
 	}
 
 	public IssuedRefreshToken issueForUser(User user) {
 		String rawToken = generateTokenValue();
-		String tokenHash = sha256Base64Url(rawToken);
-
-		RefreshToken refreshToken = new RefreshToken();
-		refreshToken.setUser(user);
-		refreshToken.setTokenHash(tokenHash);
-		refreshToken.setCreatedAt(Instant.now());
-		refreshToken.setExpiresAt(Instant.now().plusSeconds(refreshTtlSeconds));
-
-		refreshTokenRepository.save(refreshToken);
-
-		return new IssuedRefreshToken(rawToken, refreshToken);
+		return new IssuedRefreshToken(rawToken, persist(user, sha256Base64Url(rawToken)));
 	}
 
+	/**
+	 * Exchange a refresh token for a new one, revoking it and linking it to its replacement.
+	 */
+	@Transactional
 	public IssuedRefreshToken rotate(String rawToken) {
 		String tokenHash = sha256Base64Url(rawToken);
-		RefreshToken existing = refreshTokenRepository.findByTokenHash(tokenHash)
-				.orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
-
-		if (existing.isRevoked()) {
-			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token revoked");
+		ActiveToken token = cached(tokenHash);
+		User user = null;
+		if (token == null) {
+			RefreshToken existing = refreshTokenRepository.findByTokenHash(tokenHash)
+					.orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+			if (existing.isRevoked()) {
+				throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token revoked");
+			}
+			user = existing.getUser();
+			token = new ActiveToken(user.getId(), existing.getExpiresAt());
 		}
-		if (existing.getExpiresAt() != null && existing.getExpiresAt().isBefore(Instant.now())) {
+
+		Instant now = Instant.now();
+		if (token.expiresAt() != null && token.expiresAt().isBefore(now)) {
+			forget(tokenHash);
 			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token expired");
 		}
 
-		IssuedRefreshToken issued = issueForUser(existing.getUser());
-		existing.setRevokedAt(Instant.now());
-		existing.setReplacedByTokenHash(issued.persisted().getTokenHash());
-		refreshTokenRepository.save(existing);
+		String rawReplacement = generateTokenValue();
+		String replacementHash = sha256Base64Url(rawReplacement);
+		forget(tokenHash);
+		if (refreshTokenRepository.revokeIfActive(tokenHash, replacementHash, now) == 0) {
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token revoked");
+		}
 
-		return issued;
+		if (user == null) {
+			// The replacement row only needs the user's key; a deleted user's tokens fail the revoke above
+			user = userRepository.getReferenceById(token.userId());
+		}
+		return new IssuedRefreshToken(rawReplacement, persist(user, replacementHash));
 	}
 
 	public void revokeIfPresent(String rawToken) {
@@ -70,12 +115,67 @@ public class RefreshTokenService {
 		}
 
 		String tokenHash = sha256Base64Url(rawToken);
-		refreshTokenRepository.findByTokenHash(tokenHash).ifPresent(token -> {
-			if (!token.isRevoked()) {
-				token.setRevokedAt(Instant.now());
-				refreshTokenRepository.save(token);
+		forget(tokenHash);
+		refreshTokenRepository.revokeIfActive(tokenHash, null, Instant.now());
+	}
+
+	/**
+	 * Delete expired tokens, revoked or not, one chunk per transaction so the purge never holds
+	 * locks on a large part of the table. Returns the number deleted.
+	 */
+	@Scheduled(fixedDelayString = "${spellfaire.security.refresh.purge.interval-ms:3600000}")
+	public int purgeExpired() {
+		Instant cutoff = Instant.now();
+		int purged = 0;
+		List<UUID> ids;
+		do {
+			ids = refreshTokenRepository.findExpiredIds(cutoff, PageRequest.of(0, purgeChunkSize));
+			if (!ids.isEmpty()) {
+				refreshTokenRepository.deleteAllByIdInBatch(ids);
+				purged += ids.size();
 			}
-		});
+		} while (ids.size() == purgeChunkSize);
+
+		if (purged > 0) {
+			log.info("Purged {} expired refresh tokens", purged);
+		}
+		return purged;
+	}
+
+	int cachedCount() {
+		synchronized (active) {
+			return active.size();
+		}
+	}
+
+	private RefreshToken persist(User user, String tokenHash) {
+		Instant now = Instant.now();
+		RefreshToken refreshToken = new RefreshToken();
+		refreshToken.setUser(user);
+		refreshToken.setTokenHash(tokenHash);
+		refreshToken.setCreatedAt(now);
+		refreshToken.setExpiresAt(now.plusSeconds(refreshTtlSeconds));
+
+		refreshTokenRepository.save(refreshToken);
+
+		if (maxCached > 0) {
+			synchronized (active) {
+				active.put(tokenHash, new ActiveToken(user.getId(), refreshToken.getExpiresAt()));
+			}
+		}
+		return refreshToken;
+	}
+
+	private ActiveToken cached(String tokenHash) {
+		synchronized (active) {
+			return active.get(tokenHash);
+		}
+	}
+
+	private void forget(String tokenHash) {
+		synchronized (active) {
+			active.remove(tokenHash);
+		}
 	}
 
 	private String generateTokenValue() {
@@ -96,4 +196,8 @@ public class RefreshTokenService {
 
 	public record IssuedRefreshToken(String rawToken, RefreshToken persisted) {
 	}
+
+	// What rotating needs to know about a token without loading its row
+	private record ActiveToken(UUID userId, Instant expiresAt) {
+	}
 }
@@ -2,6 +2,7 @@ package com.spellfaire.spellfairebackend.game.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -13,15 +14,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
 import com.spellfaire.spellfairebackend.game.model.ImmersiveQuote;
 import com.spellfaire.spellfairebackend.game.model.Keyword;
 import com.spellfaire.spellfairebackend.game.repo.CardRepository;
 import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameLogRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameReplayRepository;
 import com.spellfaire.spellfairebackend.game.repo.GameRepository;
 import com.spellfaire.spellfairebackend.game.repo.ImmersiveQuoteRepository;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
 
 /**
  * Initializes the database with data from JSON files on startup.
@@ -35,7 +41,10 @@ public class DataInitializer implements CommandLineRunner {
 	private final CardRepository cardRepository;
 	private final DeckRepository deckRepository;
 	private final GameRepository gameRepository;
+	private final GameLogRepository gameLogRepository;
+	private final GameReplayRepository gameReplayRepository;
 	private final ImmersiveQuoteRepository immersiveQuoteRepository;
+	private final CardCatalog cardCatalog;
 	private final ObjectMapper objectMapper;
 
 	@Value("${spellfaire.data.init.enabled:true}")
@@ -48,13 +57,19 @@ public class DataInitializer implements CommandLineRunner {
 		CardRepository cardRepository,
 		DeckRepository deckRepository,
 		GameRepository gameRepository,
+		GameLogRepository gameLogRepository,
+		GameReplayRepository gameReplayRepository,
 		ImmersiveQuoteRepository immersiveQuoteRepository,
+		CardCatalog cardCatalog,
 		ObjectMapper objectMapper
 	) {
 		this.cardRepository = cardRepository;
 		this.deckRepository = deckRepository;
 		this.gameRepository = gameRepository;
+		this.gameLogRepository = gameLogRepository;
+		this.gameReplayRepository = gameReplayRepository;
 		this.immersiveQuoteRepository = immersiveQuoteRepository;
+		this.cardCatalog = cardCatalog;
 		this.objectMapper = objectMapper;
 	}
 
@@ -75,6 +90,7 @@ public class DataInitializer implements CommandLineRunner {
 		loadCards();
 		loadTokenCards();
 		loadImmersiveQuotes();
+		cardCatalog.reload();
 
 		log.info("Data initialization complete");
 	}
@@ -86,6 +102,12 @@ public class DataInitializer implements CommandLineRunner {
 	private void clearTables() {
 		log.info("Clearing existing tables...");
 
+		gameLogRepository.deleteAllInBatch();
+		log.info("Cleared table: game_log");
+
+		gameReplayRepository.deleteAllInBatch();
+		log.info("Cleared table: game_replays");
+
 		gameRepository.deleteAll();
 		log.info("Cleared table: games");
 
@@ -138,10 +160,16 @@ public class DataInitializer implements CommandLineRunner {
 		}
 
 		try (InputStream inputStream = resource.getInputStream()) {
-			List<Card> cards = objectMapper.readValue(
-				inputStream,
-				new TypeReference<List<Card>>() {}
-			);
+			List<Card> cards = new ArrayList<>();
+			for (JsonNode node : objectMapper.readTree(inputStream)) {
+				// The effect script is stored verbatim; it is compiled when the catalog loads
+				JsonNode effect = ((ObjectNode) node).remove("effect");
+				Card card = objectMapper.treeToValue(node, Card.class);
+				if (effect != null && !effect.isNull()) {
+					card.setEffect(effect.toString());
+				}
+				cards.add(card);
+			}
 
 			// Ensure IDs are null so JPA generates UUIDs
 			cards.forEach(card -> card.setId(null));
@@ -0,0 +1,26 @@
+package com.spellfaire.spellfairebackend.game.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on each thread, so callers can measure how many
+ * statements one unit of work issued. Registered through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class StatementCounter implements StatementInspector {
+
+	private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+	/**
+	 * Statements prepared so far on the current thread.
+	 */
+	public static long current() {
+		return COUNT.get()[0];
+	}
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+}
@@ -3,7 +3,10 @@ package com.spellfaire.spellfairebackend.game.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,16 +14,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.spellfaire.spellfairebackend.auth.service.JwtService;
 import com.spellfaire.spellfairebackend.game.dto.AttackRequest;
 import com.spellfaire.spellfairebackend.game.dto.CreateAiGameRequest;
 import com.spellfaire.spellfairebackend.game.dto.CreateGameRequest;
 import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
 import com.spellfaire.spellfairebackend.game.dto.GameResponse;
 import com.spellfaire.spellfairebackend.game.dto.PlayCardRequest;
+import com.spellfaire.spellfairebackend.game.dto.StreamTokenResponse;
+import com.spellfaire.spellfairebackend.game.service.GameDeltaService;
 import com.spellfaire.spellfairebackend.game.service.GameService;
+import com.spellfaire.spellfairebackend.game.service.GameUpdateBroadcaster;
 import com.spellfaire.spellfairebackend.game.service.GameplayService;
+import com.spellfaire.spellfairebackend.game.service.ReplayService;
 
 import jakarta.validation.Valid;
 
@@ -34,10 +44,20 @@ public class GameController {
 
 	private final GameService gameService;
 	private final GameplayService gameplayService;
+	private final GameUpdateBroadcaster gameUpdateBroadcaster;
+	private final GameDeltaService gameDeltaService;
+	private final ReplayService replayService;
+	private final JwtService jwtService;
 
-	public GameController(GameService gameService, GameplayService gameplayService) {
+	public GameController(GameService gameService, GameplayService gameplayService,
+						  GameUpdateBroadcaster gameUpdateBroadcaster, GameDeltaService gameDeltaService,
+						  ReplayService replayService, JwtService jwtService) {
 		this.gameService = gameService;
 		this.gameplayService = gameplayService;
+		this.gameUpdateBroadcaster = gameUpdateBroadcaster;
+		this.gameDeltaService = gameDeltaService;
+		this.replayService = replayService;
+		this.jwtService = jwtService;
 	}
 
 	private String currentUserId(Authentication authentication) {
@@ -79,12 +99,91 @@ public class GameController {
 	}
 
 	/**
-	 * Get a specific game by ID.
+	 * Get a specific game by ID. A game stuck waiting on a lost AI turn gets it scheduled again.
 	 */
 	@GetMapping("/{id}")
 	public ResponseEntity<GameResponse> getGameById(@PathVariable String id) {
 		return gameService.getGameById(UUID.fromString(id))
-			.map(ResponseEntity::ok)
+			.map(response -> {
+				gameDeltaService.record(response);
+				gameplayService.resumeAiTurn(response);
+				return ResponseEntity.ok(response);
+			})
+			.orElse(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Issue a short-lived token for the game's stream. Browsers' EventSource cannot send the
+	 * Authorization header, so it passes this as the stream's {@code token} parameter instead.
+	 */
+	@PostMapping("/{id}/stream-token")
+	public ResponseEntity<StreamTokenResponse> createStreamToken(
+		Authentication authentication,
+		@PathVariable String id
+	) {
+		String token = jwtService.createStreamToken(currentUserId(authentication), UUID.fromString(id));
+		return ResponseEntity.ok(new StreamTokenResponse(token));
+	}
+
+	/**
+	 * Stream a game as server-sent events: a "game-state" snapshot, then a "game-update"
+	 * (events plus new state) after every action. Open to players and spectators alike,
+	 * authenticated by a bearer token or a stream token from {@code /stream-token}.
+	 */
+	@GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> streamGame(@PathVariable String id) {
+		UUID gameId = UUID.fromString(id);
+		return gameService.getGameById(gameId)
+			.map(snapshot -> ResponseEntity.ok(gameUpdateBroadcaster.subscribe(gameId, snapshot)))
+			.orElse(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Poll a game's updates (events plus new state) published after the given state version,
+	 * oldest first; the alternative to holding a stream open, e.g. while the AI takes its turn.
+	 */
+	@GetMapping("/{id}/updates")
+	public ResponseEntity<List<GameActionResponse>> getUpdates(
+		@PathVariable String id,
+		@RequestParam long sinceVersion
+	) {
+		return ResponseEntity.ok(gameUpdateBroadcaster.updatesSince(UUID.fromString(id), sinceVersion));
+	}
+
+	// ==================================================================
+	// REPLAY ENDPOINTS
+	// ==================================================================
+
+	/**
+	 * Download a finished game's replay: its opening state and every step played, deflated.
+	 */
+	@GetMapping(path = "/{id}/replay", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public ResponseEntity<byte[]> exportReplay(@PathVariable String id) {
+		return replayService.export(UUID.fromString(id))
+			.map(data -> ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename("spellfaire-" + id + ".replay").build().toString())
+				.body(data))
+			.orElse(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * A finished game's state at the start of the given turn.
+	 */
+	@GetMapping("/{id}/replay/turns/{turn}")
+	public ResponseEntity<GameResponse> getReplayTurn(@PathVariable String id, @PathVariable int turn) {
+		return replayService.stateAtTurn(UUID.fromString(id), turn)
+			.map(state -> ResponseEntity.ok(gameService.toGameResponse(state)))
+			.orElse(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * A finished game's state after the given number of actions, for stepping through a turn.
+	 */
+	@GetMapping("/{id}/replay/versions/{version}")
+	public ResponseEntity<GameResponse> getReplayVersion(@PathVariable String id, @PathVariable long version) {
+		return replayService.stateAtVersion(UUID.fromString(id), version)
+			.map(state -> ResponseEntity.ok(gameService.toGameResponse(state)))
 			.orElse(ResponseEntity.notFound().build());
 	}
 
@@ -101,9 +200,11 @@ public class GameController {
 		@Valid @RequestBody CreateAiGameRequest request
 	) {
 		GameActionResponse response = gameplayService.createAiGame(currentUserId(authentication), request);
-		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		return ResponseEntity.status(HttpStatus.CREATED).body(gameDeltaService.encode(response, null));
 	}
 
+	// Action endpoints take the client's last-seen stateVersion and answer with a delta when possible
+
 	/**
 	 * Play a card from hand.
 	 */
@@ -111,10 +212,11 @@ public class GameController {
 	public ResponseEntity<GameActionResponse> playCard(
 		Authentication authentication,
 		@PathVariable String id,
+		@RequestParam(required = false) Long sinceVersion,
 		@Valid @RequestBody PlayCardRequest request
 	) {
 		GameActionResponse response = gameplayService.playCard(UUID.fromString(id), currentUserId(authentication), request);
-		return ResponseEntity.ok(response);
+		return ResponseEntity.ok(gameDeltaService.encode(response, sinceVersion));
 	}
 
 	/**
@@ -124,10 +226,11 @@ public class GameController {
 	public ResponseEntity<GameActionResponse> attack(
 		Authentication authentication,
 		@PathVariable String id,
+		@RequestParam(required = false) Long sinceVersion,
 		@Valid @RequestBody AttackRequest request
 	) {
 		GameActionResponse response = gameplayService.attack(UUID.fromString(id), currentUserId(authentication), request);
-		return ResponseEntity.ok(response);
+		return ResponseEntity.ok(gameDeltaService.encode(response, sinceVersion));
 	}
 
 	/**
@@ -136,10 +239,11 @@ public class GameController {
 	@PostMapping("/{id}/end-turn")
 	public ResponseEntity<GameActionResponse> endTurn(
 		Authentication authentication,
-		@PathVariable String id
+		@PathVariable String id,
+		@RequestParam(required = false) Long sinceVersion
 	) {
 		GameActionResponse response = gameplayService.endTurn(UUID.fromString(id), currentUserId(authentication));
-		return ResponseEntity.ok(response);
+		return ResponseEntity.ok(gameDeltaService.encode(response, sinceVersion));
 	}
 
 	/**
@@ -148,9 +252,10 @@ public class GameController {
 	@PostMapping("/{id}/surrender")
 	public ResponseEntity<GameActionResponse> surrender(
 		Authentication authentication,
-		@PathVariable String id
+		@PathVariable String id,
+		@RequestParam(required = false) Long sinceVersion
 	) {
 		GameActionResponse response = gameplayService.surrender(UUID.fromString(id), currentUserId(authentication));
-		return ResponseEntity.ok(response);
+		return ResponseEntity.ok(gameDeltaService.encode(response, sinceVersion));
 	}
 }
@@ -1,5 +1,6 @@
 package com.spellfaire.spellfairebackend.game.dto;
 
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
 import com.spellfaire.spellfairebackend.game.model.Faction;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
 
@@ -16,6 +17,8 @@ public class CreateAiGameRequest {
 	@NotNull(message = "Magic school is required")
 	private MagicSchool magicSchool;
 
+	private AiDifficulty difficulty;  // Optional; defaults to NORMAL
+
 	public Faction getFaction() {
 		return faction;
 	}
@@ -31,4 +34,12 @@ public class CreateAiGameRequest {
 	public void setMagicSchool(MagicSchool magicSchool) {
 		this.magicSchool = magicSchool;
 	}
+
+	public AiDifficulty getDifficulty() {
+		return difficulty;
+	}
+
+	public void setDifficulty(AiDifficulty difficulty) {
+		this.difficulty = difficulty;
+	}
 }
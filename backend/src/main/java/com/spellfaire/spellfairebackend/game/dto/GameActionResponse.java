@@ -3,13 +3,18 @@ package com.spellfaire.spellfairebackend.game.dto;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Response wrapper for game actions.
  * Contains the updated game state plus a list of events that occurred.
+ * Clients that sent their last-seen state version get {@code delta} instead of {@code game}.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GameActionResponse {
 
 	private GameResponse game;
+	private GameDeltaResponse delta;
 	private List<GameEvent> events;
 
 	public GameActionResponse() {
@@ -29,6 +34,14 @@ public class GameActionResponse {
 		this.game = game;
 	}
 
+	public GameDeltaResponse getDelta() {
+		return delta;
+	}
+
+	public void setDelta(GameDeltaResponse delta) {
+		this.delta = delta;
+	}
+
 	public List<GameEvent> getEvents() {
 		return events;
 	}
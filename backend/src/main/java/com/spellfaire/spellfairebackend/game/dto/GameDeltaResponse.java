@@ -0,0 +1,115 @@
+package com.spellfaire.spellfairebackend.game.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.spellfaire.spellfairebackend.game.model.GamePhase;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+
+/**
+ * Changes between the game state a client last saw ({@code baseVersion}) and {@code stateVersion}.
+ * Scalars are always sent; unchanged zones are omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameDeltaResponse {
+	private String id;
+	private long baseVersion;
+	private long stateVersion;
+	private String currentPlayerId;
+	private GameStatus gameStatus;
+	private GamePhase currentPhase;
+	private String winnerId;
+	private int turnNumber;
+	private GamePlayerStateDeltaResponse player1State;
+	private GamePlayerStateDeltaResponse player2State;
+	private Instant updatedAt;
+
+	// Getters and setters
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public long getBaseVersion() {
+		return baseVersion;
+	}
+
+	public void setBaseVersion(long baseVersion) {
+		this.baseVersion = baseVersion;
+	}
+
+	public long getStateVersion() {
+		return stateVersion;
+	}
+
+	public void setStateVersion(long stateVersion) {
+		this.stateVersion = stateVersion;
+	}
+
+	public String getCurrentPlayerId() {
+		return currentPlayerId;
+	}
+
+	public void setCurrentPlayerId(String currentPlayerId) {
+		this.currentPlayerId = currentPlayerId;
+	}
+
+	public GameStatus getGameStatus() {
+		return gameStatus;
+	}
+
+	public void setGameStatus(GameStatus gameStatus) {
+		this.gameStatus = gameStatus;
+	}
+
+	public GamePhase getCurrentPhase() {
+		return currentPhase;
+	}
+
+	public void setCurrentPhase(GamePhase currentPhase) {
+		this.currentPhase = currentPhase;
+	}
+
+	public String getWinnerId() {
+		return winnerId;
+	}
+
+	public void setWinnerId(String winnerId) {
+		this.winnerId = winnerId;
+	}
+
+	public int getTurnNumber() {
+		return turnNumber;
+	}
+
+	public void setTurnNumber(int turnNumber) {
+		this.turnNumber = turnNumber;
+	}
+
+	public GamePlayerStateDeltaResponse getPlayer1State() {
+		return player1State;
+	}
+
+	public void setPlayer1State(GamePlayerStateDeltaResponse player1State) {
+		this.player1State = player1State;
+	}
+
+	public GamePlayerStateDeltaResponse getPlayer2State() {
+		return player2State;
+	}
+
+	public void setPlayer2State(GamePlayerStateDeltaResponse player2State) {
+		this.player2State = player2State;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(Instant updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+}
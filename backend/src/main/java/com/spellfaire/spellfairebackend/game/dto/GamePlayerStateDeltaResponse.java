@@ -0,0 +1,97 @@
+package com.spellfaire.spellfairebackend.game.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Changes to one player's state within a {@link GameDeltaResponse}.
+ * A null pile means unchanged; a present pile replaces the client's copy. {@code battlefield}
+ * holds only creatures that are new or changed (including position), and
+ * {@code removedCreatureIds} the instance IDs that left the board.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GamePlayerStateDeltaResponse {
+	private int heroHealth;
+	private int maxMana;
+	private int currentMana;
+	private int fatigueCounter;
+	private List<String> deck;
+	private List<String> hand;
+	private List<String> discardPile;
+	private List<BoardCreatureResponse> battlefield;
+	private List<String> removedCreatureIds;
+
+	// Getters and setters
+	public int getHeroHealth() {
+		return heroHealth;
+	}
+
+	public void setHeroHealth(int heroHealth) {
+		this.heroHealth = heroHealth;
+	}
+
+	public int getMaxMana() {
+		return maxMana;
+	}
+
+	public void setMaxMana(int maxMana) {
+		this.maxMana = maxMana;
+	}
+
+	public int getCurrentMana() {
+		return currentMana;
+	}
+
+	public void setCurrentMana(int currentMana) {
+		this.currentMana = currentMana;
+	}
+
+	public int getFatigueCounter() {
+		return fatigueCounter;
+	}
+
+	public void setFatigueCounter(int fatigueCounter) {
+		this.fatigueCounter = fatigueCounter;
+	}
+
+	public List<String> getDeck() {
+		return deck;
+	}
+
+	public void setDeck(List<String> deck) {
+		this.deck = deck;
+	}
+
+	public List<String> getHand() {
+		return hand;
+	}
+
+	public void setHand(List<String> hand) {
+		this.hand = hand;
+	}
+
+	public List<String> getDiscardPile() {
+		return discardPile;
+	}
+
+	public void setDiscardPile(List<String> discardPile) {
+		this.discardPile = discardPile;
+	}
+
+	public List<BoardCreatureResponse> getBattlefield() {
+		return battlefield;
+	}
+
+	public void setBattlefield(List<BoardCreatureResponse> battlefield) {
+		this.battlefield = battlefield;
+	}
+
+	public List<String> getRemovedCreatureIds() {
+		return removedCreatureIds;
+	}
+
+	public void setRemovedCreatureIds(List<String> removedCreatureIds) {
+		this.removedCreatureIds = removedCreatureIds;
+	}
+}
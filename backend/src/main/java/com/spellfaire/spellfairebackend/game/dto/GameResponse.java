@@ -17,6 +17,7 @@ public class GameResponse {
 	private GamePhase currentPhase;
 	private String winnerId;
 	private int turnNumber;
+	private long stateVersion;
 	private GamePlayerStateResponse player1State;
 	private GamePlayerStateResponse player2State;
 	private Instant createdAt;
@@ -87,6 +88,14 @@ public class GameResponse {
 		this.turnNumber = turnNumber;
 	}
 
+	public long getStateVersion() {
+		return stateVersion;
+	}
+
+	public void setStateVersion(long stateVersion) {
+		this.stateVersion = stateVersion;
+	}
+
 	public GamePlayerStateResponse getPlayer1State() {
 		return player1State;
 	}
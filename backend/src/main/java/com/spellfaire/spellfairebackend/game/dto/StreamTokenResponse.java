@@ -0,0 +1,17 @@
+package com.spellfaire.spellfairebackend.game.dto;
+
+/**
+ * DTO for a short-lived token that opens one game's event stream.
+ */
+public class StreamTokenResponse {
+
+	private final String token;
+
+	public StreamTokenResponse(String token) {
+		this.token = token;
+	}
+
+	public String getToken() {
+		return token;
+	}
+}
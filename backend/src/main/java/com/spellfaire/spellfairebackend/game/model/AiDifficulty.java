@@ -0,0 +1,10 @@
+package com.spellfaire.spellfairebackend.game.model;
+
+/**
+ * Strength of the AI opponent; each level maps to a per-turn search budget.
+ */
+public enum AiDifficulty {
+	EASY,    // Heuristic play only, no search
+	NORMAL,
+	HARD
+}
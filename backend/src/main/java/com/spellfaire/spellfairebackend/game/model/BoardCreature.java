@@ -3,6 +3,8 @@ package com.spellfaire.spellfairebackend.game.model;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -10,8 +12,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -25,9 +25,8 @@ import jakarta.persistence.Table;
 @Table(name = "board_creatures")
 public class BoardCreature {
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
 	@Column(columnDefinition = "BINARY(16)")
-	private UUID id;  // was instanceId
+	private UUID id;  // instanceId, assigned by the rules engine when the creature is summoned
 
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "player_state_id", nullable = false)
@@ -62,12 +61,14 @@ public class BoardCreature {
 	private boolean frozenBlocksAttacksThisTurn;
 
 	@ElementCollection(fetch = FetchType.EAGER)
+	@BatchSize(size = 64)
 	@CollectionTable(name = "board_creature_keywords", joinColumns = @JoinColumn(name = "board_creature_id"))
 	@Enumerated(EnumType.STRING)
 	@Column(name = "keyword", length = 20)
 	private Set<Keyword> keywords;
 
 	@ElementCollection(fetch = FetchType.EAGER)
+	@BatchSize(size = 64)
 	@CollectionTable(name = "board_creature_statuses", joinColumns = @JoinColumn(name = "board_creature_id"))
 	@Enumerated(EnumType.STRING)
 	@Column(name = "status", length = 20)
@@ -3,6 +3,8 @@ package com.spellfaire.spellfairebackend.game.model;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -47,6 +49,7 @@ public class Card {
 	private Faction faction;       // null for spells
 
 	@ElementCollection(fetch = FetchType.EAGER)
+	@BatchSize(size = 128)
 	@CollectionTable(name = "card_keywords", joinColumns = @JoinColumn(name = "card_id"))
 	@Enumerated(EnumType.STRING)
 	@Column(name = "keyword", length = 20)
@@ -64,6 +67,9 @@ public class Card {
 	@Column(columnDefinition = "TEXT")
 	private String flavorText;     // Italic lore/flavor text (can be null)
 
+	@Column(columnDefinition = "TEXT")
+	private String effect;         // Effect script as JSON (null for vanilla cards)
+
 	// Constructors
 	public Card() {
 	}
@@ -156,4 +162,12 @@ public class Card {
 	public void setFlavorText(String flavorText) {
 		this.flavorText = flavorText;
 	}
+
+	public String getEffect() {
+		return effect;
+	}
+
+	public void setEffect(String effect) {
+		this.effect = effect;
+	}
 }
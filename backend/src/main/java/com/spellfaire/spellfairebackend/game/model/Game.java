@@ -15,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Represents a game instance between two players (or player vs AI).
@@ -28,6 +29,9 @@ public class Game {
 	@Column(columnDefinition = "BINARY(16)")
 	private UUID id;
 
+	@Version
+	private Long version;  // Optimistic lock; bumped on every save
+
 	@Column(nullable = false, length = 36)
 	private String player1Id;
 
@@ -51,6 +55,22 @@ public class Game {
 	@Column(nullable = false)
 	private int turnNumber;  // Current turn number (starts at 1)
 
+	@Column(nullable = false)
+	private long stateVersion;  // Bumped by every applied action; clients diff against it
+
+	@Column(nullable = false)
+	private long rngSeed;  // Seed of every random decision in this game
+
+	@Column(nullable = false)
+	private long rngPosition;  // Random values drawn so far
+
+	@Column(nullable = false)
+	private int nextInstanceId;  // Instance ID of the next creature summoned
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private AiDifficulty aiDifficulty;  // null for games without an AI player
+
 	@OneToOne(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
 	@JoinColumn(name = "player1_state_id", unique = true)
 	private GamePlayerState player1State;
@@ -79,6 +99,10 @@ public class Game {
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
 	public String getPlayer1Id() {
 		return player1Id;
 	}
@@ -135,6 +159,14 @@ public class Game {
 		this.turnNumber = turnNumber;
 	}
 
+	public AiDifficulty getAiDifficulty() {
+		return aiDifficulty;
+	}
+
+	public void setAiDifficulty(AiDifficulty aiDifficulty) {
+		this.aiDifficulty = aiDifficulty;
+	}
+
 	public GamePlayerState getPlayer1State() {
 		return player1State;
 	}
@@ -159,6 +191,38 @@ public class Game {
 		this.createdAt = createdAt;
 	}
 
+	public long getStateVersion() {
+		return stateVersion;
+	}
+
+	public void setStateVersion(long stateVersion) {
+		this.stateVersion = stateVersion;
+	}
+
+	public long getRngSeed() {
+		return rngSeed;
+	}
+
+	public void setRngSeed(long rngSeed) {
+		this.rngSeed = rngSeed;
+	}
+
+	public long getRngPosition() {
+		return rngPosition;
+	}
+
+	public void setRngPosition(long rngPosition) {
+		this.rngPosition = rngPosition;
+	}
+
+	public int getNextInstanceId() {
+		return nextInstanceId;
+	}
+
+	public void setNextInstanceId(int nextInstanceId) {
+		this.nextInstanceId = nextInstanceId;
+	}
+
 	public Instant getUpdatedAt() {
 		return updatedAt;
 	}
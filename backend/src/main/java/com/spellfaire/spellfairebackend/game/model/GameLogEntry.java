@@ -0,0 +1,92 @@
+package com.spellfaire.spellfairebackend.game.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One accepted gameplay action in a game's append-only log: the rules-engine steps it applied
+ * and the events it produced, keyed by the state version it produced.
+ * Rows are only ever inserted.
+ */
+@Entity
+@Table(name = "game_log", uniqueConstraints = {
+	@UniqueConstraint(columnNames = {"game_id", "state_version"})
+})
+public class GameLogEntry {
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(columnDefinition = "BINARY(16)")
+	private UUID id;
+
+	@Column(name = "game_id", nullable = false, columnDefinition = "BINARY(16)")
+	private UUID gameId;
+
+	@Column(name = "state_version", nullable = false)
+	private long stateVersion;  // Game state version after this action
+
+	@Column(nullable = false)
+	private int turnNumber;  // Turn number after this action
+
+	// JSON array of GameAction steps; replaying them reproduces the action
+	@Lob
+	@Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+	private String actions;
+
+	// JSON array of the GameEvents returned to the client
+	@Lob
+	@Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+	private String events;
+
+	@Column(nullable = false)
+	private Instant createdAt;
+
+	public GameLogEntry() {
+	}
+
+	public GameLogEntry(UUID gameId, long stateVersion, int turnNumber, String actions, String events,
+						Instant createdAt) {
+		this.gameId = gameId;
+		this.stateVersion = stateVersion;
+		this.turnNumber = turnNumber;
+		this.actions = actions;
+		this.events = events;
+		this.createdAt = createdAt;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public UUID getGameId() {
+		return gameId;
+	}
+
+	public long getStateVersion() {
+		return stateVersion;
+	}
+
+	public int getTurnNumber() {
+		return turnNumber;
+	}
+
+	public String getActions() {
+		return actions;
+	}
+
+	public String getEvents() {
+		return events;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+}
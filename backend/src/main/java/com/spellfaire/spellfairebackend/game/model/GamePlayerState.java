@@ -4,16 +4,22 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Represents the state of one player within a game.
@@ -27,12 +33,24 @@ public class GamePlayerState {
 	@Column(columnDefinition = "BINARY(16)")
 	private UUID id;
 
+	@Version
+	private Long version;
+
 	@Column(length = 36)
 	private String userId;
 
 	@Column(length = 36)
 	private String deckId;
 
+	// Copied from the deck at game creation so responses need no deck lookup
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private Faction faction;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private MagicSchool magicSchool;
+
 	// Hero state
 	@Column(nullable = false)
 	private int heroHealth;       // Starting at 25
@@ -49,14 +67,23 @@ public class GamePlayerState {
 	private int fatigueCounter;   // Increments when drawing from empty deck
 
 	// Card zones (normalized into separate tables)
+	// Batched so both players' zones load together (and whole pages of games for list views)
 	@OneToMany(mappedBy = "playerState", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
 	@OrderBy("position ASC")
+	@BatchSize(size = 32)
 	private List<PlayerZoneCard> zoneCards = new ArrayList<>();
 
 	@OneToMany(mappedBy = "playerState", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
 	@OrderBy("position ASC")
+	@BatchSize(size = 32)
 	private List<BoardCreature> battlefield = new ArrayList<>();
 
+	// Compact encoding of all zones and the battlefield (see ZoneCodec).
+	// When set it takes precedence over the normalized tables above.
+	@Lob
+	@Column(name = "zones_blob", columnDefinition = "MEDIUMBLOB")
+	private byte[] zonesBlob;
+
 	public GamePlayerState() {
 		this.heroHealth = 25;
 		this.maxMana = 1;
@@ -73,6 +100,10 @@ public class GamePlayerState {
 		this.id = id;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
 	public String getUserId() {
 		return userId;
 	}
@@ -89,6 +120,22 @@ public class GamePlayerState {
 		this.deckId = deckId;
 	}
 
+	public Faction getFaction() {
+		return faction;
+	}
+
+	public void setFaction(Faction faction) {
+		this.faction = faction;
+	}
+
+	public MagicSchool getMagicSchool() {
+		return magicSchool;
+	}
+
+	public void setMagicSchool(MagicSchool magicSchool) {
+		this.magicSchool = magicSchool;
+	}
+
 	public int getHeroHealth() {
 		return heroHealth;
 	}
@@ -137,6 +184,14 @@ public class GamePlayerState {
 		this.battlefield = battlefield;
 	}
 
+	public byte[] getZonesBlob() {
+		return zonesBlob;
+	}
+
+	public void setZonesBlob(byte[] zonesBlob) {
+		this.zonesBlob = zonesBlob;
+	}
+
 	// Convenience methods for card zones
 	public List<String> getDeckCardIds() {
 		return zoneCards.stream()
@@ -0,0 +1,77 @@
+package com.spellfaire.spellfairebackend.game.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * A game's replay in {@code ReplayCodec} form: its opening state, written when the game is created,
+ * and once the game has finished, every step played from it.
+ */
+@Entity
+@Table(name = "game_replays")
+public class GameReplay {
+	@Id
+	@Column(columnDefinition = "BINARY(16)")
+	private UUID gameId;  // Same as the game's ID
+
+	@Version
+	private Long version;  // Also tells Spring Data a new replay from a loaded one
+
+	// Deflated ReplayCodec bytes
+	@Lob
+	@Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+	private byte[] data;
+
+	@Column(nullable = false)
+	private boolean complete;  // false while only the opening is stored
+
+	@Column(nullable = false)
+	private Instant createdAt;
+
+	private Instant updatedAt;
+
+	public GameReplay() {
+	}
+
+	public GameReplay(UUID gameId, byte[] data, Instant createdAt) {
+		this.gameId = gameId;
+		this.data = data;
+		this.createdAt = createdAt;
+	}
+
+	/**
+	 * Replace the opening with the full replay.
+	 */
+	public void complete(byte[] data, Instant updatedAt) {
+		this.data = data;
+		this.complete = true;
+		this.updatedAt = updatedAt;
+	}
+
+	public UUID getGameId() {
+		return gameId;
+	}
+
+	public byte[] getData() {
+		return data;
+	}
+
+	public boolean isComplete() {
+		return complete;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+}
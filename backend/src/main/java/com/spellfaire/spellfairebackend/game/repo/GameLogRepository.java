@@ -0,0 +1,21 @@
+package com.spellfaire.spellfairebackend.game.repo;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.spellfaire.spellfairebackend.game.model.GameLogEntry;
+
+/**
+ * Repository for the append-only game log.
+ */
+public interface GameLogRepository extends JpaRepository<GameLogEntry, UUID> {
+
+	/**
+	 * Entries after the given state version, in the order they were applied.
+	 */
+	List<GameLogEntry> findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(UUID gameId, long stateVersion);
+
+	List<GameLogEntry> findByGameIdOrderByStateVersionAsc(UUID gameId);
+}
@@ -0,0 +1,13 @@
+package com.spellfaire.spellfairebackend.game.repo;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.spellfaire.spellfairebackend.game.model.GameReplay;
+
+/**
+ * Repository for game replays, keyed by game ID.
+ */
+public interface GameReplayRepository extends JpaRepository<GameReplay, UUID> {
+}
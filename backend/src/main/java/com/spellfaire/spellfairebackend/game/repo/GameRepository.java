@@ -1,8 +1,10 @@
 package com.spellfaire.spellfairebackend.game.repo;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +17,14 @@ import com.spellfaire.spellfairebackend.game.model.GameStatus;
  */
 public interface GameRepository extends JpaRepository<Game, UUID> {
 
+	/**
+	 * Load a game with both player states in one query. Zones, creatures and their element
+	 * collections follow in a constant number of batched selects (see @BatchSize on the model).
+	 */
+	@Query("SELECT g FROM Game g JOIN FETCH g.player1State JOIN FETCH g.player2State WHERE g.id = :id")
+	Optional<Game> findGraphById(@Param("id") UUID id);
+
+	@EntityGraph(attributePaths = {"player1State", "player2State"})
 	List<Game> findByPlayer1IdOrPlayer2IdOrderByUpdatedAtDesc(String player1Id, String player2Id);
 
 	List<Game> findByGameStatus(GameStatus gameStatus);
@@ -22,6 +32,7 @@ public interface GameRepository extends JpaRepository<Game, UUID> {
 	@Query("SELECT g FROM Game g WHERE (g.player1Id = :playerId OR g.player2Id = :playerId) AND g.gameStatus = :status")
 	List<Game> findByPlayerIdAndGameStatus(@Param("playerId") String playerId, @Param("status") GameStatus status);
 
+	@EntityGraph(attributePaths = {"player1State", "player2State"})
 	@Query("SELECT g FROM Game g WHERE (g.player1Id = :playerId OR g.player2Id = :playerId) AND g.gameStatus IN :statuses")
 	List<Game> findByPlayerIdAndGameStatusIn(@Param("playerId") String playerId, @Param("statuses") List<GameStatus> statuses);
 }
@@ -8,18 +8,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import com.spellfaire.spellfairebackend.game.dto.AttackRequest;
-import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
 import com.spellfaire.spellfairebackend.game.dto.GameEvent;
-import com.spellfaire.spellfairebackend.game.dto.PlayCardRequest;
-import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
-import com.spellfaire.spellfairebackend.game.model.CardZone;
-import com.spellfaire.spellfairebackend.game.model.Game;
-import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
 import com.spellfaire.spellfairebackend.game.model.Keyword;
-import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
 
 /**
  * Heuristic-based AI opponent.
@@ -30,33 +26,43 @@ public class AiService {
 
 	private static final Logger log = LoggerFactory.getLogger(AiService.class);
 
-	private final GameplayService gameplayService;
+	private final GameEngine gameEngine;
+	private final CardEffectTable effects;
 
-	public AiService(GameplayService gameplayService) {
-		this.gameplayService = gameplayService;
+	public AiService(GameEngine gameEngine, CardEffectTable effects) {
+		this.gameEngine = gameEngine;
+		this.effects = effects;
 	}
 
 	/**
 	 * Execute a full AI turn.
 	 * Returns all game events that occurred during the AI's actions.
 	 */
-	public List<GameEvent> executeTurn(Game game) {
+	public List<GameEvent> executeTurn(GameState game) {
+		return executeTurn(game, "AI");
+	}
+
+	/**
+	 * Play the rest of the given player's turn with the heuristic.
+	 * Also the rollout policy of {@link MctsAiService}, which plays both sides with it.
+	 */
+	public List<GameEvent> executeTurn(GameState game, String playerId) {
 		List<GameEvent> allEvents = new ArrayList<>();
 
-		GamePlayerState aiState = gameplayService.getPlayerState(game, "AI");
-		GamePlayerState humanState = gameplayService.getOpponentState(game, "AI");
+		PlayerState aiState = game.getPlayerState(playerId);
+		PlayerState humanState = game.getOpponentState(playerId);
 
 		// Phase 1: Check for lethal
 		if (canDoLethal(aiState, humanState)) {
-			allEvents.addAll(executeLethal(game, aiState, humanState));
+			allEvents.addAll(executeLethal(game, playerId, aiState, humanState));
 			return allEvents;
 		}
 
 		// Phase 2: Play cards (highest cost first)
-		allEvents.addAll(playCardsPhase(game, aiState));
+		allEvents.addAll(playCardsPhase(game, playerId, aiState, humanState));
 
 		// Phase 3: Attack
-		allEvents.addAll(attackPhase(game, aiState, humanState));
+		allEvents.addAll(attackPhase(game, playerId, aiState, humanState));
 
 		return allEvents;
 	}
@@ -64,15 +70,14 @@ public class AiService {
 	/**
 	 * Check if AI can deliver lethal this turn.
 	 */
-	private boolean canDoLethal(GamePlayerState aiState, GamePlayerState humanState) {
+	private boolean canDoLethal(PlayerState aiState, PlayerState humanState) {
 		int totalDamage = 0;
 
 		// Calculate available creature attack damage
-		boolean enemyHasGuard = humanState.getBattlefield().stream()
-			.anyMatch(c -> c.getKeywords() != null && c.getKeywords().contains(Keyword.GUARD));
+		boolean enemyHasGuard = humanState.getBattlefield().anyHasKeyword(Keyword.GUARD);
 
 		if (!enemyHasGuard) {
-			for (BoardCreature c : aiState.getBattlefield()) {
+			for (CreatureState c : aiState.getBattlefield().snapshot()) {
 				if (c.isCanAttack() && !c.isHasAttackedThisTurn()
 						&& !c.isFrozenBlocksAttacksThisTurn()) {
 					totalDamage += c.getAttack();
@@ -84,9 +89,7 @@ public class AiService {
 		}
 
 		// Count burn spell damage from hand
-		for (PlayerZoneCard zc : aiState.getZoneCards()) {
-			if (zc.getZone() != CardZone.HAND) continue;
-			Card card = zc.getCard();
+		for (Card card : aiState.getHand().toList()) {
 			if (card.getCardType() != CardType.SPELL) continue;
 			if (card.getCost() > aiState.getCurrentMana()) continue;
 
@@ -102,40 +105,32 @@ public class AiService {
 	/**
 	 * Execute lethal sequence: burn spells first, then all-face attacks.
 	 */
-	private List<GameEvent> executeLethal(Game game, GamePlayerState aiState, GamePlayerState humanState) {
+	private List<GameEvent> executeLethal(GameState game, String playerId, PlayerState aiState, PlayerState humanState) {
 		List<GameEvent> events = new ArrayList<>();
 
 		// Play burn spells first
-		List<PlayerZoneCard> handCards = new ArrayList<>(aiState.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.HAND)
-			.filter(c -> c.getCard().getCardType() == CardType.SPELL)
-			.sorted(Comparator.comparingInt((PlayerZoneCard c) -> c.getCard().getCost()).reversed())
+		List<Card> handCards = new ArrayList<>(aiState.getHand().toList().stream()
+			.filter(c -> c.getCardType() == CardType.SPELL)
+			.sorted(Comparator.comparingInt(Card::getCost).reversed())
 			.toList());
 
-		for (PlayerZoneCard zc : handCards) {
+		for (Card card : handCards) {
 			if (humanState.getHeroHealth() <= 0) break;
-			Card card = zc.getCard();
 			int burn = getBurnDamage(card);
 			if (burn > 0 && card.getCost() <= aiState.getCurrentMana()) {
-				PlayCardRequest req = new PlayCardRequest();
-				req.setCardId(card.getId().toString());
-				req.setTargetId("ENEMY_HERO");
-				GameActionResponse resp = gameplayService.playCardInternal(game, "AI", req);
-				if (resp != null) events.addAll(resp.getEvents());
+				List<GameEvent> played = gameEngine.tryPlayCard(game, playerId, card.getId().toString(), "ENEMY_HERO");
+				if (played != null) events.addAll(played);
 			}
 		}
 
 		// Then attack face with everything
-		for (BoardCreature creature : new ArrayList<>(aiState.getBattlefield())) {
+		for (CreatureState creature : aiState.getBattlefield().snapshot()) {
 			if (humanState.getHeroHealth() <= 0) break;
 			if (!creature.isCanAttack() || creature.isHasAttackedThisTurn()) continue;
 			if (creature.isFrozenBlocksAttacksThisTurn()) continue;
 
-			AttackRequest req = new AttackRequest();
-			req.setAttackerInstanceId(creature.getId().toString());
-			req.setTargetId("ENEMY_HERO");
-			GameActionResponse resp = gameplayService.attackInternal(game, "AI", req);
-			if (resp != null) events.addAll(resp.getEvents());
+			List<GameEvent> attacked = gameEngine.tryAttack(game, playerId, creature.getInstanceId(), "ENEMY_HERO");
+			if (attacked != null) events.addAll(attacked);
 		}
 
 		return events;
@@ -144,7 +139,7 @@ public class AiService {
 	/**
 	 * Play cards from hand, prioritizing highest-cost cards first.
 	 */
-	private List<GameEvent> playCardsPhase(Game game, GamePlayerState aiState) {
+	private List<GameEvent> playCardsPhase(GameState game, String playerId, PlayerState aiState, PlayerState humanState) {
 		List<GameEvent> events = new ArrayList<>();
 
 		boolean playedSomething = true;
@@ -152,26 +147,21 @@ public class AiService {
 			playedSomething = false;
 
 			// Get current hand cards sorted by cost descending
-			List<PlayerZoneCard> hand = aiState.getZoneCards().stream()
-				.filter(c -> c.getZone() == CardZone.HAND)
-				.sorted(Comparator.comparingInt((PlayerZoneCard c) -> c.getCard().getCost()).reversed())
+			List<Card> hand = aiState.getHand().toList().stream()
+				.sorted(Comparator.comparingInt(Card::getCost).reversed())
 				.toList();
 
-			for (PlayerZoneCard zc : hand) {
-				Card card = zc.getCard();
+			for (Card card : hand) {
 				if (card.getCost() > aiState.getCurrentMana()) continue;
 
-				if (card.getCardType() == CardType.CREATURE && aiState.getBattlefield().size() >= 6) {
+				if (card.getCardType() == CardType.CREATURE && aiState.getBattlefield().isFull()) {
 					continue;
 				}
 
-				PlayCardRequest req = new PlayCardRequest();
-				req.setCardId(card.getId().toString());
-				// Target is auto-picked by GameplayService.pickAiSpellTarget for spells
-
-				GameActionResponse resp = gameplayService.playCardInternal(game, "AI", req);
-				if (resp != null) {
-					events.addAll(resp.getEvents());
+				String targetId = pickAiSpellTarget(card, aiState, humanState);
+				List<GameEvent> played = gameEngine.tryPlayCard(game, playerId, card.getId().toString(), targetId);
+				if (played != null) {
+					events.addAll(played);
 					playedSomething = true;
 					break; // Re-evaluate hand after each play
 				}
@@ -184,30 +174,22 @@ public class AiService {
 	/**
 	 * Attack phase: value trades first, then go face.
 	 */
-	private List<GameEvent> attackPhase(Game game, GamePlayerState aiState, GamePlayerState humanState) {
+	private List<GameEvent> attackPhase(GameState game, String playerId, PlayerState aiState, PlayerState humanState) {
 		List<GameEvent> events = new ArrayList<>();
 
-		boolean enemyHasGuard = humanState.getBattlefield().stream()
-			.anyMatch(c -> c.getKeywords() != null && c.getKeywords().contains(Keyword.GUARD));
-
-		for (BoardCreature attacker : new ArrayList<>(aiState.getBattlefield())) {
+		for (CreatureState attacker : aiState.getBattlefield().snapshot()) {
 			if (!attacker.isCanAttack() || attacker.isHasAttackedThisTurn()) continue;
 			if (attacker.isFrozenBlocksAttacksThisTurn()) continue;
 
 			// Recalculate guard status each iteration (a guard might have died)
-			boolean guardPresent = humanState.getBattlefield().stream()
-				.anyMatch(c -> c.getKeywords() != null && c.getKeywords().contains(Keyword.GUARD));
+			boolean guardPresent = humanState.getBattlefield().anyHasKeyword(Keyword.GUARD);
 
-			String targetId = pickAttackTarget(attacker, aiState, humanState, guardPresent);
+			String targetId = pickAttackTarget(attacker, humanState, guardPresent);
 			if (targetId == null) continue;
 
-			AttackRequest req = new AttackRequest();
-			req.setAttackerInstanceId(attacker.getId().toString());
-			req.setTargetId(targetId);
-
-			GameActionResponse resp = gameplayService.attackInternal(game, "AI", req);
-			if (resp != null) {
-				events.addAll(resp.getEvents());
+			List<GameEvent> attacked = gameEngine.tryAttack(game, playerId, attacker.getInstanceId(), targetId);
+			if (attacked != null) {
+				events.addAll(attacked);
 			}
 		}
 
@@ -217,56 +199,99 @@ public class AiService {
 	/**
 	 * Pick the best attack target for a creature.
 	 */
-	private String pickAttackTarget(BoardCreature attacker, GamePlayerState aiState,
-									GamePlayerState humanState, boolean guardPresent) {
-		List<BoardCreature> enemies = humanState.getBattlefield();
+	private String pickAttackTarget(CreatureState attacker, PlayerState humanState, boolean guardPresent) {
+		List<CreatureState> enemies = humanState.getBattlefield().snapshot();
 
 		if (guardPresent) {
 			// Must attack guard creatures
-			BoardCreature guard = enemies.stream()
-				.filter(c -> c.getKeywords() != null && c.getKeywords().contains(Keyword.GUARD))
-				.min(Comparator.comparingInt(BoardCreature::getHealth))
+			CreatureState guard = enemies.stream()
+				.filter(c -> c.hasKeyword(Keyword.GUARD))
+				.min(Comparator.comparingInt(CreatureState::getHealth))
 				.orElse(null);
-			return guard != null ? guard.getId().toString() : null;
+			return guard != null ? guard.getInstanceId() : null;
 		}
 
 		// Look for value trades: can kill a creature without dying
-		BoardCreature valueTrade = enemies.stream()
+		CreatureState valueTrade = enemies.stream()
 			.filter(c -> c.getHealth() <= attacker.getAttack()) // Attacker can kill it
 			.filter(c -> c.getAttack() < attacker.getHealth())  // Attacker survives
 			.max(Comparator.comparingInt(c -> c.getAttack() + c.getHealth())) // Kill highest value
 			.orElse(null);
 
 		if (valueTrade != null) {
-			return valueTrade.getId().toString();
+			return valueTrade.getInstanceId();
 		}
 
 		// Look for trades where both die but we trade up (kill higher cost)
-		BoardCreature tradeUp = enemies.stream()
+		CreatureState tradeUp = enemies.stream()
 			.filter(c -> c.getHealth() <= attacker.getAttack())
 			.filter(c -> c.getCard().getCost() > attacker.getCard().getCost())
 			.max(Comparator.comparingInt(c -> c.getCard().getCost()))
 			.orElse(null);
 
 		if (tradeUp != null) {
-			return tradeUp.getId().toString();
+			return tradeUp.getInstanceId();
 		}
 
 		// Go face
 		return "ENEMY_HERO";
 	}
 
+	/**
+	 * Simple target picker for AI spells and targeted "When played" effects,
+	 * driven by the card's {@link CardEffect#aiTarget()}.
+	 */
+	String pickAiSpellTarget(Card card, PlayerState aiState, PlayerState humanState) {
+		CardEffect effect = effects.effectOf(card);
+		List<CreatureState> enemies = humanState.getBattlefield().snapshot();
+		List<CreatureState> friendlies = aiState.getBattlefield().snapshot();
+
+		return switch (effect.aiTarget()) {
+			// Damage to any target -> finish a creature if it dies, else go face
+			case FINISH_OR_FACE -> {
+				CreatureState weakest = enemies.stream()
+					.min(Comparator.comparingInt(CreatureState::getHealth))
+					.orElse(null);
+				if (weakest != null && weakest.getHealth() <= effect.burnDamage()) {
+					yield weakest.getInstanceId();
+				}
+				yield "ENEMY_HERO";
+			}
+			// Damage to creature
+			case FIRST_ENEMY -> enemies.isEmpty() ? null : enemies.get(0).getInstanceId();
+			// Freeze or weaken the biggest threat
+			case STRONGEST_ENEMY -> enemies.stream()
+				.max(Comparator.comparingInt(CreatureState::getAttack))
+				.map(CreatureState::getInstanceId)
+				.orElse(null);
+			// Shatter frozen creature
+			case FROZEN_ENEMY -> enemies.stream()
+				.filter(c -> c.hasStatus(Status.FROZEN))
+				.findFirst()
+				.map(CreatureState::getInstanceId)
+				.orElse(null);
+			// Buff friendly creature
+			case FIRST_FRIENDLY -> friendlies.isEmpty() ? null : friendlies.get(0).getInstanceId();
+			// Sacrifice weakest own creature
+			case WEAKEST_FRIENDLY -> friendlies.stream()
+				.min(Comparator.comparingInt(c -> c.getAttack() + c.getHealth()))
+				.map(CreatureState::getInstanceId)
+				.orElse(null);
+			// Destroy the costliest enemy creature with cost 5 or less
+			case COSTLIEST_ENEMY_UP_TO_5 -> enemies.stream()
+				.filter(c -> c.getCard().getCost() <= 5)
+				.max(Comparator.comparingInt(c -> c.getCard().getCost()))
+				.map(CreatureState::getInstanceId)
+				.orElse(null);
+			// No target needed
+			case NONE -> null;
+		};
+	}
+
 	/**
 	 * Get burn damage to hero for a given spell (0 if not a burn spell).
 	 */
 	private int getBurnDamage(Card spell) {
-		return switch (spell.getName()) {
-			case "Ember Bolt" -> 2;
-			case "Final Spark" -> 7;
-			case "Dark Touch" -> 1;
-			case "Siphon Life" -> 3;
-			case "Combust" -> 2; // Only the hero portion
-			default -> 0;
-		};
+		return effects.effectOf(spell).burnDamage();
 	}
 }
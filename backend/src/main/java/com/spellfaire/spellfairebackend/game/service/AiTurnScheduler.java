@@ -0,0 +1,152 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs AI turns off the request that handed the turn to the AI, on a bounded pool.
+ *
+ * A turn scheduled inside a transaction starts only after it commits, so the turn always sees
+ * the saved game. When every worker is busy and the queue is full the turn is deferred and
+ * offered to the pool again after a delay; it never runs on the scheduling (request) thread.
+ * A turn still refused after the last retry is dropped and logged.
+ *
+ * At most one turn per game is pending at a time. Games whose turn failed, was dropped or was
+ * lost in a restart have none, which {@link GameplayService#resumeAiTurn} uses to schedule it again.
+ */
+@Service
+public class AiTurnScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(AiTurnScheduler.class);
+
+	private final Executor executor;
+	private final ScheduledExecutorService retries;
+	private final long retryDelayMs;
+	private final int maxRetries;
+	private final Counter deferred;
+	private final Counter dropped;
+	private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+	@Autowired
+	public AiTurnScheduler(@Value("${spellfaire.game.ai.turn-threads:4}") int threads,
+						   @Value("${spellfaire.game.ai.turn-queue-capacity:100}") int queueCapacity,
+						   @Value("${spellfaire.game.ai.turn-retry-delay-ms:500}") long retryDelayMs,
+						   @Value("${spellfaire.game.ai.turn-max-retries:10}") int maxRetries,
+						   MeterRegistry meterRegistry) {
+		this(pool(threads, queueCapacity),
+				Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "ai-turn-retry")),
+				retryDelayMs, maxRetries, meterRegistry);
+	}
+
+	AiTurnScheduler(Executor executor, ScheduledExecutorService retries, long retryDelayMs, int maxRetries,
+					MeterRegistry meterRegistry) {
+		this.executor = executor;
+		this.retries = retries;
+		this.retryDelayMs = retryDelayMs;
+		this.maxRetries = maxRetries;
+		this.deferred = Counter.builder("spellfaire.game.ai.turn.deferred")
+				.description("AI turns put back because the turn pool was full")
+				.register(meterRegistry);
+		this.dropped = Counter.builder("spellfaire.game.ai.turn.dropped")
+				.description("AI turns abandoned after the turn pool stayed full for every retry")
+				.register(meterRegistry);
+	}
+
+	AiTurnScheduler(Executor executor) {
+		this(executor, null, 0, 0, new SimpleMeterRegistry());
+	}
+
+	/**
+	 * Run the game's turn asynchronously, after the current transaction commits if there is one.
+	 * Does nothing if a turn of the game is already pending.
+	 */
+	public void schedule(UUID gameId, Runnable turn) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					start(gameId, turn);
+				}
+			});
+		} else {
+			start(gameId, turn);
+		}
+	}
+
+	/**
+	 * Whether a turn of the game is queued, waiting for a retry or running.
+	 */
+	public boolean isPending(UUID gameId) {
+		return pending.contains(gameId);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (retries != null) {
+			retries.shutdownNow();
+		}
+		if (executor instanceof ExecutorService service) {
+			service.shutdown();
+		}
+	}
+
+	private void start(UUID gameId, Runnable turn) {
+		if (pending.add(gameId)) {
+			submit(gameId, turn, 0);
+		}
+	}
+
+	private void submit(UUID gameId, Runnable turn, int attempt) {
+		try {
+			executor.execute(() -> {
+				try {
+					turn.run();
+				} catch (RuntimeException e) {
+					log.error("AI turn of game {} failed", gameId, e);
+				} finally {
+					pending.remove(gameId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			if (attempt >= maxRetries || retries == null || retries.isShutdown()) {
+				pending.remove(gameId);
+				dropped.increment();
+				log.error("AI turn of game {} dropped, the turn pool stayed full after {} retries", gameId, attempt);
+				return;
+			}
+			deferred.increment();
+			retries.schedule(() -> submit(gameId, turn, attempt + 1), retryDelayMs, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private static ExecutorService pool(int threads, int queueCapacity) {
+		AtomicInteger count = new AtomicInteger();
+		return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> new Thread(runnable, "ai-turn-" + count.incrementAndGet()),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+}
@@ -0,0 +1,200 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.repo.CardRepository;
+
+/**
+ * In-memory catalog of all cards, shared by every service that needs card data.
+ *
+ * Cards are static once {@code DataInitializer} has run, so the catalog loads them once and then
+ * serves every lookup from immutable indexes without touching the database. Each card also gets a
+ * dense index (0..size-1) for array-based tables. {@link #reload()} builds a fresh snapshot and
+ * swaps it in atomically, so readers never lock.
+ */
+@Service
+public class CardCatalog {
+
+	private static final Logger log = LoggerFactory.getLogger(CardCatalog.class);
+
+	private final CardRepository cardRepository;
+	private volatile Snapshot snapshot;
+
+	public CardCatalog(CardRepository cardRepository) {
+		this.cardRepository = cardRepository;
+	}
+
+	/**
+	 * A fixed catalog over the given cards, for tests and offline tools.
+	 */
+	public static CardCatalog of(Collection<Card> cards) {
+		CardCatalog catalog = new CardCatalog(null);
+		catalog.snapshot = new Snapshot(cards);
+		return catalog;
+	}
+
+	/**
+	 * Re-read all cards from the database. Call after the card table changes.
+	 */
+	public synchronized void reload() {
+		if (cardRepository == null) {
+			return;
+		}
+		snapshot = new Snapshot(cardRepository.findAll());
+		log.info("Card catalog loaded with {} cards", snapshot.cards.size());
+	}
+
+	// ==================================================================
+	// LOOKUPS
+	// ==================================================================
+
+	public List<Card> all() {
+		return snapshot().cards;
+	}
+
+	public int size() {
+		return snapshot().cards.size();
+	}
+
+	public Optional<Card> findById(UUID id) {
+		return Optional.ofNullable(snapshot().byId.get(id));
+	}
+
+	public Optional<Card> findByName(String name) {
+		return Optional.ofNullable(snapshot().byName.get(name));
+	}
+
+	/**
+	 * Dense index of a card, or -1 if the catalog does not know it.
+	 */
+	public int indexOf(UUID id) {
+		Integer index = snapshot().indexById.get(id);
+		return index == null ? -1 : index;
+	}
+
+	public Card get(int index) {
+		return snapshot().cards.get(index);
+	}
+
+	public List<Card> byType(CardType cardType) {
+		return snapshot().byType.getOrDefault(cardType, List.of());
+	}
+
+	public List<Card> creatures(Faction faction) {
+		return snapshot().creaturesByFaction.getOrDefault(faction, List.of());
+	}
+
+	public List<Card> spells(MagicSchool school) {
+		return snapshot().spellsBySchool.getOrDefault(school, List.of());
+	}
+
+	/**
+	 * The distinct cards of an auto-built deck: every creature of the faction and the five
+	 * cheapest spells of the school. Auto decks hold two copies of each.
+	 */
+	public List<Card> autoDeckCards(Faction faction, MagicSchool school) {
+		List<Card> creatures = creatures(faction);
+		List<Card> spells = spells(school)
+			.stream()
+			.sorted(Comparator.comparingInt(Card::getCost))
+			.limit(5)
+			.toList();
+
+		if (creatures.size() < 7) {
+			throw new IllegalStateException("Not enough creatures for faction " + faction);
+		}
+		if (spells.size() < 5) {
+			throw new IllegalStateException("Not enough spells for school " + school);
+		}
+
+		List<Card> cards = new ArrayList<>(creatures);
+		cards.addAll(spells);
+		return cards;
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private Snapshot snapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					reload();
+				}
+				current = snapshot;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Immutable indexes over one load of the card table.
+	 */
+	private static class Snapshot {
+		private final List<Card> cards;
+		private final Map<UUID, Card> byId;
+		private final Map<UUID, Integer> indexById;
+		private final Map<String, Card> byName;
+		private final Map<CardType, List<Card>> byType;
+		private final Map<Faction, List<Card>> creaturesByFaction;
+		private final Map<MagicSchool, List<Card>> spellsBySchool;
+
+		private Snapshot(Collection<Card> source) {
+			List<Card> cards = List.copyOf(source);
+			Map<UUID, Card> byId = new HashMap<>();
+			Map<UUID, Integer> indexById = new HashMap<>();
+			Map<String, Card> byName = new HashMap<>();
+			Map<CardType, List<Card>> byType = new EnumMap<>(CardType.class);
+			Map<Faction, List<Card>> creaturesByFaction = new EnumMap<>(Faction.class);
+			Map<MagicSchool, List<Card>> spellsBySchool = new EnumMap<>(MagicSchool.class);
+
+			for (int i = 0; i < cards.size(); i++) {
+				Card card = cards.get(i);
+				byId.put(card.getId(), card);
+				indexById.put(card.getId(), i);
+				byName.put(card.getName(), card);
+				if (card.getCardType() != null) {
+					byType.computeIfAbsent(card.getCardType(), type -> new ArrayList<>()).add(card);
+				}
+				if (card.getCardType() == CardType.CREATURE && card.getFaction() != null) {
+					creaturesByFaction.computeIfAbsent(card.getFaction(), faction -> new ArrayList<>()).add(card);
+				}
+				if (card.getCardType() == CardType.SPELL && card.getSchool() != null) {
+					spellsBySchool.computeIfAbsent(card.getSchool(), school -> new ArrayList<>()).add(card);
+				}
+			}
+
+			this.cards = cards;
+			this.byId = Map.copyOf(byId);
+			this.indexById = Map.copyOf(indexById);
+			this.byName = Map.copyOf(byName);
+			this.byType = freeze(byType);
+			this.creaturesByFaction = freeze(creaturesByFaction);
+			this.spellsBySchool = freeze(spellsBySchool);
+		}
+
+		private static <K extends Enum<K>> Map<K, List<Card>> freeze(Map<K, List<Card>> index) {
+			index.replaceAll((key, cards) -> List.copyOf(cards));
+			return Collections.unmodifiableMap(index);
+		}
+	}
+}
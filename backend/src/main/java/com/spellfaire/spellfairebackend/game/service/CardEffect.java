@@ -0,0 +1,146 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.List;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * A card's scripted effect plus the metadata the engine and AI read about it.
+ *
+ * @param trigger     when the handler runs
+ * @param target      which targets the effect acts on
+ * @param validator   rejects illegal targets before the card is paid for; null accepts anything
+ * @param burnDamage  damage the effect can deal to the enemy hero (used for lethal checks)
+ * @param aiTarget    how the AI picks a target for this card
+ * @param handler     the effect itself
+ */
+public record CardEffect(
+		Trigger trigger,
+		TargetRule target,
+		TargetValidator validator,
+		int burnDamage,
+		AiTarget aiTarget,
+		EffectHandler handler) {
+
+	/** Cards without a scripted effect. */
+	public static final CardEffect NONE = new CardEffect(Trigger.NONE, TargetRule.NONE, null, 0, AiTarget.NONE, null);
+
+	public enum Trigger {
+		NONE,
+		CAST,
+		WHEN_PLAYED,
+		WHEN_DIES,
+		START_OF_TURN
+	}
+
+	public enum TargetRule {
+		NONE,
+		ANY,
+		ANY_CREATURE,
+		ENEMY_CREATURE,
+		FRIENDLY_CREATURE,
+		OTHER_FRIENDLY_CREATURE;
+
+		/**
+		 * Whether the target exists where this rule allows it.
+		 */
+		public boolean matches(PlayerState caster, PlayerState opponent, String targetId) {
+			return switch (this) {
+				case NONE -> true;
+				case ANY -> "ENEMY_HERO".equals(targetId) || "FRIENDLY_HERO".equals(targetId)
+						|| caster.getBattlefield().find(targetId) != null
+						|| opponent.getBattlefield().find(targetId) != null;
+				case ANY_CREATURE -> caster.getBattlefield().find(targetId) != null
+						|| opponent.getBattlefield().find(targetId) != null;
+				case ENEMY_CREATURE -> opponent.getBattlefield().find(targetId) != null;
+				case FRIENDLY_CREATURE, OTHER_FRIENDLY_CREATURE -> caster.getBattlefield().find(targetId) != null;
+			};
+		}
+	}
+
+	/**
+	 * Target-picking strategies implemented by {@link AiService}.
+	 */
+	public enum AiTarget {
+		NONE,
+		/** Finish the weakest enemy creature if {@code burnDamage} kills it, otherwise the enemy hero. */
+		FINISH_OR_FACE,
+		FIRST_ENEMY,
+		STRONGEST_ENEMY,
+		FROZEN_ENEMY,
+		FIRST_FRIENDLY,
+		WEAKEST_FRIENDLY,
+		COSTLIEST_ENEMY_UP_TO_5
+	}
+
+	@FunctionalInterface
+	public interface EffectHandler {
+		/**
+		 * @param self      the creature whose trigger fired (null for spells)
+		 * @param owner     the player who owns the card
+		 * @param opponent  the other player
+		 * @param targetId  the chosen target, if any
+		 * @param events    collects the resulting game events
+		 */
+		void resolve(CreatureState self, PlayerState owner, PlayerState opponent,
+					 String targetId, List<GameEvent> events);
+	}
+
+	@FunctionalInterface
+	public interface TargetValidator {
+		boolean accepts(PlayerState caster, PlayerState opponent, String targetId);
+	}
+
+	// ==================================================================
+	// FACTORIES
+	// ==================================================================
+
+	public static CardEffect onCast(EffectHandler handler) {
+		return new CardEffect(Trigger.CAST, TargetRule.NONE, null, 0, AiTarget.NONE, handler);
+	}
+
+	public static CardEffect whenPlayed(EffectHandler handler) {
+		return new CardEffect(Trigger.WHEN_PLAYED, TargetRule.NONE, null, 0, AiTarget.NONE, handler);
+	}
+
+	public static CardEffect whenDies(EffectHandler handler) {
+		return new CardEffect(Trigger.WHEN_DIES, TargetRule.NONE, null, 0, AiTarget.NONE, handler);
+	}
+
+	public static CardEffect startOfTurn(EffectHandler handler) {
+		return new CardEffect(Trigger.START_OF_TURN, TargetRule.NONE, null, 0, AiTarget.NONE, handler);
+	}
+
+	public CardEffect targets(TargetRule target, AiTarget aiTarget) {
+		return new CardEffect(trigger, target, validator, burnDamage, aiTarget, handler);
+	}
+
+	/**
+	 * Reject plays whose target does not match {@link #target()}.
+	 */
+	public CardEffect strictTarget() {
+		return validTarget(target::matches);
+	}
+
+	public CardEffect validTarget(TargetValidator validator) {
+		return new CardEffect(trigger, target, validator, burnDamage, aiTarget, handler);
+	}
+
+	public CardEffect burn(int burnDamage) {
+		return new CardEffect(trigger, target, validator, burnDamage, aiTarget, handler);
+	}
+
+	// ==================================================================
+	// QUERIES
+	// ==================================================================
+
+	public boolean acceptsTarget(PlayerState caster, PlayerState opponent, String targetId) {
+		return validator == null || validator.accepts(caster, opponent, targetId);
+	}
+
+	public boolean firesOn(Trigger expected) {
+		return trigger == expected;
+	}
+}
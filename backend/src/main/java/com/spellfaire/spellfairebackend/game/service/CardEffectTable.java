@@ -0,0 +1,98 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+
+/**
+ * Dispatch table from card to {@link CardEffect}.
+ *
+ * The effect resolvers register their handlers by card name once, at construction. The first
+ * lookup compiles those registrations into an array indexed by {@link CardCatalog} position, so a
+ * lookup during play is an index read instead of a string switch. Catalog cards that carry an
+ * effect script are compiled from the script instead, when a script compiler is registered. The
+ * array is rebuilt whenever the catalog reloads. Cards the catalog does not know (tokens built in
+ * tests, a stale snapshot) fall back to the by-name registrations.
+ */
+@Component
+public class CardEffectTable {
+
+	private final CardCatalog cardCatalog;
+	private final Map<String, CardEffect> byName = new ConcurrentHashMap<>();
+	private volatile Function<Card, CardEffect> scriptCompiler;
+	private volatile Compiled compiled;
+
+	public CardEffectTable(CardCatalog cardCatalog) {
+		this.cardCatalog = cardCatalog;
+	}
+
+	/**
+	 * Register the effect of the card with the given name.
+	 */
+	public synchronized void register(String cardName, CardEffect effect) {
+		if (byName.putIfAbsent(cardName, effect) != null) {
+			throw new IllegalStateException("Effect already registered for " + cardName);
+		}
+		compiled = null;
+	}
+
+	/**
+	 * Compile catalog cards that carry an effect script with the given compiler.
+	 */
+	public synchronized void registerScripts(Function<Card, CardEffect> compiler) {
+		scriptCompiler = compiler;
+		compiled = null;
+	}
+
+	/**
+	 * The card's effect, or {@link CardEffect#NONE} if it has none.
+	 */
+	public CardEffect effectOf(Card card) {
+		Compiled table = compiled();
+		int index = card.getId() != null ? cardCatalog.indexOf(card.getId()) : -1;
+		if (index >= 0 && index < table.effects.length
+				&& table.cards.get(index).getId().equals(card.getId())) {
+			return table.effects[index];
+		}
+		return byName.getOrDefault(card.getName(), CardEffect.NONE);
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private Compiled compiled() {
+		List<Card> cards = cardCatalog.all();
+		Compiled current = compiled;
+		if (current != null && current.cards == cards) {
+			return current;
+		}
+		synchronized (this) {
+			current = compiled;
+			if (current == null || current.cards != cards) {
+				Function<Card, CardEffect> compiler = scriptCompiler;
+				CardEffect[] effects = new CardEffect[cards.size()];
+				for (int i = 0; i < effects.length; i++) {
+					Card card = cards.get(i);
+					effects[i] = compiler != null && card.getEffect() != null
+							? compiler.apply(card)
+							: byName.getOrDefault(card.getName(), CardEffect.NONE);
+				}
+				current = new Compiled(cards, effects);
+				compiled = current;
+			}
+			return current;
+		}
+	}
+
+	/**
+	 * Effects laid out in the order of one catalog snapshot.
+	 */
+	private record Compiled(List<Card> cards, CardEffect[] effects) {
+	}
+}
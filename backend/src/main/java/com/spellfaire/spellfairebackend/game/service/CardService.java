@@ -11,26 +11,25 @@ import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
 import com.spellfaire.spellfairebackend.game.model.Faction;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
-import com.spellfaire.spellfairebackend.game.repo.CardRepository;
 
 /**
  * Service for card-related operations.
- * Cards are static game data, so this service is primarily read-only.
+ * Cards are static game data, so this service is read-only and served from the {@link CardCatalog}.
  */
 @Service
 public class CardService {
 
-	private final CardRepository cardRepository;
+	private final CardCatalog cardCatalog;
 
-	public CardService(CardRepository cardRepository) {
-		this.cardRepository = cardRepository;
+	public CardService(CardCatalog cardCatalog) {
+		this.cardCatalog = cardCatalog;
 	}
 
 	/**
 	 * Get all cards.
 	 */
 	public List<CardResponse> getAllCards() {
-		return cardRepository.findAll().stream()
+		return cardCatalog.all().stream()
 			.map(this::toResponse)
 			.toList();
 	}
@@ -39,7 +38,7 @@ public class CardService {
 	 * Get a card by ID.
 	 */
 	public Optional<CardResponse> getCardById(UUID id) {
-		return cardRepository.findById(id)
+		return cardCatalog.findById(id)
 			.map(this::toResponse);
 	}
 
@@ -47,7 +46,7 @@ public class CardService {
 	 * Get all creatures.
 	 */
 	public List<CardResponse> getCreatures() {
-		return cardRepository.findByCardType(CardType.CREATURE).stream()
+		return cardCatalog.byType(CardType.CREATURE).stream()
 			.map(this::toResponse)
 			.toList();
 	}
@@ -56,7 +55,7 @@ public class CardService {
 	 * Get all spells.
 	 */
 	public List<CardResponse> getSpells() {
-		return cardRepository.findByCardType(CardType.SPELL).stream()
+		return cardCatalog.byType(CardType.SPELL).stream()
 			.map(this::toResponse)
 			.toList();
 	}
@@ -65,7 +64,7 @@ public class CardService {
 	 * Get creatures by faction.
 	 */
 	public List<CardResponse> getCreaturesByFaction(Faction faction) {
-		return cardRepository.findByCardTypeAndFaction(CardType.CREATURE, faction).stream()
+		return cardCatalog.creatures(faction).stream()
 			.map(this::toResponse)
 			.toList();
 	}
@@ -74,7 +73,7 @@ public class CardService {
 	 * Get spells by magic school.
 	 */
 	public List<CardResponse> getSpellsBySchool(MagicSchool school) {
-		return cardRepository.findByCardTypeAndSchool(CardType.SPELL, school).stream()
+		return cardCatalog.spells(school).stream()
 			.map(this::toResponse)
 			.toList();
 	}
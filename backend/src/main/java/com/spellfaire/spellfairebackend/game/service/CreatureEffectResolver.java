@@ -1,30 +1,35 @@
 package com.spellfaire.spellfairebackend.game.service;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 
 import com.spellfaire.spellfairebackend.game.dto.GameEvent;
-import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
-import com.spellfaire.spellfairebackend.game.model.CardZone;
-import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
 import com.spellfaire.spellfairebackend.game.model.Keyword;
-import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.AiTarget;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.TargetRule;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.Trigger;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CardPile;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
 
 /**
  * Resolves creature triggers: "When played", "When this dies", and "Start of your turn".
- * Hardcoded by creature name for all creatures with special effects.
+ * Each creature with a special effect registers it in the {@link CardEffectTable} at construction.
  */
 @Service
 public class CreatureEffectResolver {
 
 	private final SpellEffectResolver spellHelper;
+	private final CardEffectTable effects;
 
-	public CreatureEffectResolver(SpellEffectResolver spellHelper) {
+	public CreatureEffectResolver(SpellEffectResolver spellHelper, CardEffectTable effects) {
 		this.spellHelper = spellHelper;
+		this.effects = effects;
+		registerEffects();
 	}
 
 	/**
@@ -36,136 +41,165 @@ public class CreatureEffectResolver {
 	 * @param targetId      optional target for targeted battlecries
 	 * @return list of game events
 	 */
-	public List<GameEvent> resolveWhenPlayed(BoardCreature creature, GamePlayerState ownerState,
-											 GamePlayerState opponentState, String targetId) {
-		List<GameEvent> events = new ArrayList<>();
-		String name = creature.getCard().getName();
-
-		switch (name) {
-			case "Squire Captain" -> resolveSquireCaptain(creature, ownerState, targetId, events);
-			case "Banner Knight" -> resolveBannerKnight(creature, ownerState, events);
-			case "Chapel Healer" -> resolveChapelHealer(ownerState, events);
-			case "Pack Runner" -> resolvePackRunner(creature, ownerState, events);
-			case "Alpha Howler" -> resolveAlphaHowler(creature, ownerState, events);
-			case "Frenzied Mauler" -> resolveFrenziedMauler(creature, ownerState, events);
-			case "Bone Acolyte" -> resolveBoneAcolyte(ownerState, opponentState, targetId, events);
-			case "Rotting Giant" -> resolveRottingGiant(ownerState, events);
-			case "Arc Sparkbot" -> resolveArcSparkbot(opponentState, targetId, events);
-			case "Plating Engineer" -> resolvePlatingEngineer(creature, ownerState, targetId, events);
-			case "Overclock Colossus" -> resolveOverclockColossus(creature, ownerState, events);
-			default -> { /* No "When played" effect */ }
-		}
-
-		return events;
+	public List<GameEvent> resolveWhenPlayed(CreatureState creature, PlayerState ownerState,
+											 PlayerState opponentState, String targetId) {
+		return resolve(Trigger.WHEN_PLAYED, creature, ownerState, opponentState, targetId);
 	}
 
 	/**
 	 * Resolve "When this dies" effects.
 	 */
-	public List<GameEvent> resolveWhenDies(BoardCreature creature, GamePlayerState ownerState,
-										   GamePlayerState opponentState) {
-		List<GameEvent> events = new ArrayList<>();
-		String name = creature.getCard().getName();
-
-		switch (name) {
-			case "Grave Rat" -> {
-				spellHelper.drawCard(ownerState, events);
-				events.add(GameEvent.cardDrawn(ownerState.getUserId(), "Grave Rat: drew a card on death"));
-			}
-			case "Soul Collector" -> {
-				spellHelper.healHero(ownerState, 3, events, "Soul Collector");
-			}
-			default -> { /* No death effect */ }
-		}
-
-		return events;
+	public List<GameEvent> resolveWhenDies(CreatureState creature, PlayerState ownerState,
+										   PlayerState opponentState) {
+		return resolve(Trigger.WHEN_DIES, creature, ownerState, opponentState, null);
 	}
 
 	/**
 	 * Resolve "Start of your turn" effects for all creatures on the battlefield.
 	 */
-	public List<GameEvent> resolveStartOfTurn(GamePlayerState ownerState, GamePlayerState opponentState) {
+	public List<GameEvent> resolveStartOfTurn(PlayerState ownerState, PlayerState opponentState) {
 		List<GameEvent> events = new ArrayList<>();
 
-		for (BoardCreature creature : new ArrayList<>(ownerState.getBattlefield())) {
-			String name = creature.getCard().getName();
-
-			switch (name) {
-				case "Royal Tactician" -> resolveRoyalTactician(ownerState, events);
-				case "Lich Adept" -> resolveLichAdept(ownerState, events);
-				default -> { /* No start-of-turn effect */ }
+		for (CreatureState creature : ownerState.getBattlefield().snapshot()) {
+			CardEffect effect = effects.effectOf(creature.getCard());
+			if (effect.firesOn(Trigger.START_OF_TURN)) {
+				effect.handler().resolve(creature, ownerState, opponentState, null, events);
 			}
 		}
 
 		return events;
 	}
 
+	private List<GameEvent> resolve(Trigger trigger, CreatureState creature, PlayerState ownerState,
+									PlayerState opponentState, String targetId) {
+		List<GameEvent> events = new ArrayList<>();
+		CardEffect effect = effects.effectOf(creature.getCard());
+		if (effect.firesOn(trigger)) {
+			effect.handler().resolve(creature, ownerState, opponentState, targetId, events);
+		}
+		return events;
+	}
+
+	private void registerEffects() {
+		// === WHEN PLAYED ===
+		effects.register("Squire Captain", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveSquireCaptain(self, owner, targetId, events))
+				.targets(TargetRule.OTHER_FRIENDLY_CREATURE, AiTarget.NONE));
+		effects.register("Banner Knight", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveBannerKnight(self, owner, events)));
+		effects.register("Chapel Healer", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveChapelHealer(owner, events)));
+		effects.register("Pack Runner", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolvePackRunner(self, owner, events)));
+		effects.register("Alpha Howler", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveAlphaHowler(self, owner, events)));
+		effects.register("Frenzied Mauler", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveFrenziedMauler(self, owner, events)));
+		effects.register("Bone Acolyte", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveBoneAcolyte(owner, opponent, targetId, events))
+				.targets(TargetRule.ANY, AiTarget.FINISH_OR_FACE).burn(1));
+		effects.register("Rotting Giant", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveRottingGiant(owner, events)));
+		effects.register("Arc Sparkbot", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveArcSparkbot(opponent, targetId, events))
+				.targets(TargetRule.ENEMY_CREATURE, AiTarget.FIRST_ENEMY));
+		effects.register("Plating Engineer", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolvePlatingEngineer(self, owner, targetId, events))
+				.targets(TargetRule.OTHER_FRIENDLY_CREATURE, AiTarget.NONE));
+		effects.register("Overclock Colossus", CardEffect.whenPlayed((self, owner, opponent, targetId, events) ->
+				resolveOverclockColossus(self, owner, events)));
+
+		// === WHEN THIS DIES ===
+		effects.register("Grave Rat", CardEffect.whenDies((self, owner, opponent, targetId, events) -> {
+			spellHelper.drawCard(owner, events);
+			events.add(GameEvent.cardDrawn(owner.getUserId(), "Grave Rat: drew a card on death"));
+		}));
+		effects.register("Soul Collector", CardEffect.whenDies((self, owner, opponent, targetId, events) ->
+				spellHelper.healHero(owner, 3, events, "Soul Collector")));
+
+		// === START OF YOUR TURN ===
+		effects.register("Royal Tactician", CardEffect.startOfTurn((self, owner, opponent, targetId, events) ->
+				resolveRoyalTactician(owner, events)));
+		effects.register("Lich Adept", CardEffect.startOfTurn((self, owner, opponent, targetId, events) ->
+				resolveLichAdept(owner, events)));
+	}
+
 	// ====== WHEN PLAYED IMPLEMENTATIONS ======
 
 	/** When played, give another friendly creature +1 Health. */
-	private void resolveSquireCaptain(BoardCreature self, GamePlayerState owner,
+	private void resolveSquireCaptain(CreatureState self, PlayerState owner,
 									  String targetId, List<GameEvent> events) {
-		BoardCreature target = findFriendlyTarget(owner, self, targetId);
+		CreatureState target = findFriendlyTarget(owner, self, targetId);
 		if (target != null) {
 			target.setHealth(target.getHealth() + 1);
 			target.setMaxHealth(target.getMaxHealth() + 1);
-			events.add(GameEvent.buff(target.getId().toString(), 0,
+			events.add(GameEvent.buff(target.getInstanceId(), 0,
 					"Squire Captain: +1 Health to " + target.getCard().getName()));
 		}
 	}
 
 	/** When played, if you control a Guard creature, gain +1 Attack. */
-	private void resolveBannerKnight(BoardCreature self, GamePlayerState owner, List<GameEvent> events) {
-		boolean hasGuard = owner.getBattlefield().stream()
-			.filter(c -> c != self)
-			.anyMatch(c -> c.getKeywords() != null && c.getKeywords().contains(Keyword.GUARD));
+	private void resolveBannerKnight(CreatureState self, PlayerState owner, List<GameEvent> events) {
+		boolean hasGuard = false;
+		Battlefield battlefield = owner.getBattlefield();
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState c = battlefield.get(i);
+			if (c != self && c.hasKeyword(Keyword.GUARD)) {
+				hasGuard = true;
+				break;
+			}
+		}
 		if (hasGuard) {
 			self.setAttack(self.getAttack() + 1);
-			events.add(GameEvent.buff(self.getId() != null ? self.getId().toString() : "self",
+			events.add(GameEvent.buff(self.getInstanceId(),
 					1, "Banner Knight: +1 Attack (Guard present)"));
 		}
 	}
 
 	/** When played, heal your Hero for 3. */
-	private void resolveChapelHealer(GamePlayerState owner, List<GameEvent> events) {
+	private void resolveChapelHealer(PlayerState owner, List<GameEvent> events) {
 		spellHelper.healHero(owner, 3, events, "Chapel Healer");
 	}
 
 	/** When played, if you control another creature, gain +1 Attack. */
-	private void resolvePackRunner(BoardCreature self, GamePlayerState owner, List<GameEvent> events) {
-		boolean hasOther = owner.getBattlefield().stream().anyMatch(c -> c != self);
+	private void resolvePackRunner(CreatureState self, PlayerState owner, List<GameEvent> events) {
+		boolean hasOther = false;
+		Battlefield battlefield = owner.getBattlefield();
+		for (int i = 0; i < battlefield.size(); i++) {
+			if (battlefield.get(i) != self) {
+				hasOther = true;
+				break;
+			}
+		}
 		if (hasOther) {
 			self.setAttack(self.getAttack() + 1);
-			events.add(GameEvent.buff(self.getId() != null ? self.getId().toString() : "self",
+			events.add(GameEvent.buff(self.getInstanceId(),
 					1, "Pack Runner: +1 Attack (another creature present)"));
 		}
 	}
 
 	/** When played, give your other creatures +1 Attack this turn. */
-	private void resolveAlphaHowler(BoardCreature self, GamePlayerState owner, List<GameEvent> events) {
-		for (BoardCreature c : owner.getBattlefield()) {
+	private void resolveAlphaHowler(CreatureState self, PlayerState owner, List<GameEvent> events) {
+		for (CreatureState c : owner.getBattlefield().snapshot()) {
 			if (c != self) {
 				c.setAttack(c.getAttack() + 1);
-				events.add(GameEvent.buff(c.getId().toString(), 1,
+				events.add(GameEvent.buff(c.getInstanceId(), 1,
 						"Alpha Howler: +1 Attack to " + c.getCard().getName()));
 			}
 		}
 	}
 
 	/** When played, deal 1 damage to your Hero. Gain Charge. */
-	private void resolveFrenziedMauler(BoardCreature self, GamePlayerState owner, List<GameEvent> events) {
+	private void resolveFrenziedMauler(CreatureState self, PlayerState owner, List<GameEvent> events) {
 		spellHelper.applyDamageToHero(owner, 1, events, "Frenzied Mauler");
 		self.setCanAttack(true);
-		if (self.getKeywords() == null) {
-			self.setKeywords(new HashSet<>());
-		}
-		self.getKeywords().add(Keyword.CHARGE);
-		events.add(GameEvent.buff(self.getId() != null ? self.getId().toString() : "self",
+		self.addKeyword(Keyword.CHARGE);
+		events.add(GameEvent.buff(self.getInstanceId(),
 				0, "Frenzied Mauler gains Charge"));
 	}
 
 	/** When played, deal 1 damage to any target. */
-	private void resolveBoneAcolyte(GamePlayerState owner, GamePlayerState opponent,
+	private void resolveBoneAcolyte(PlayerState owner, PlayerState opponent,
 									String targetId, List<GameEvent> events) {
 		if (targetId != null) {
 			if ("ENEMY_HERO".equals(targetId)) {
@@ -173,7 +207,7 @@ public class CreatureEffectResolver {
 			} else if ("FRIENDLY_HERO".equals(targetId)) {
 				spellHelper.applyDamageToHero(owner, 1, events, "Bone Acolyte");
 			} else {
-				BoardCreature target = spellHelper.findCreature(owner, opponent, targetId);
+				CreatureState target = spellHelper.findCreature(owner, opponent, targetId);
 				if (target != null) {
 					spellHelper.applyDamageToCreature(target, 1, events, "Bone Acolyte");
 					if (target.getHealth() <= 0) {
@@ -189,13 +223,13 @@ public class CreatureEffectResolver {
 	}
 
 	/** When played, you take 2 damage. */
-	private void resolveRottingGiant(GamePlayerState owner, List<GameEvent> events) {
+	private void resolveRottingGiant(PlayerState owner, List<GameEvent> events) {
 		spellHelper.applyDamageToHero(owner, 2, events, "Rotting Giant");
 	}
 
 	/** When played, deal 1 damage to an enemy creature. */
-	private void resolveArcSparkbot(GamePlayerState opponent, String targetId, List<GameEvent> events) {
-		BoardCreature target = spellHelper.findCreatureOnSide(opponent, targetId);
+	private void resolveArcSparkbot(PlayerState opponent, String targetId, List<GameEvent> events) {
+		CreatureState target = spellHelper.findCreatureOnSide(opponent, targetId);
 		if (target != null) {
 			spellHelper.applyDamageToCreature(target, 1, events, "Arc Sparkbot");
 			if (target.getHealth() <= 0) {
@@ -205,64 +239,57 @@ public class CreatureEffectResolver {
 	}
 
 	/** When played, give another friendly creature Ward. */
-	private void resolvePlatingEngineer(BoardCreature self, GamePlayerState owner,
+	private void resolvePlatingEngineer(CreatureState self, PlayerState owner,
 										String targetId, List<GameEvent> events) {
-		BoardCreature target = findFriendlyTarget(owner, self, targetId);
+		CreatureState target = findFriendlyTarget(owner, self, targetId);
 		if (target != null) {
-			if (target.getKeywords() == null) {
-				target.setKeywords(new HashSet<>());
-			}
-			target.getKeywords().add(Keyword.WARD);
-			events.add(GameEvent.buff(target.getId().toString(), 0,
+			target.addKeyword(Keyword.WARD);
+			events.add(GameEvent.buff(target.getInstanceId(), 0,
 					"Plating Engineer: Ward to " + target.getCard().getName()));
 		}
 	}
 
 	/** When played, deal 2 damage to your Hero. Gain +1 Attack. */
-	private void resolveOverclockColossus(BoardCreature self, GamePlayerState owner, List<GameEvent> events) {
+	private void resolveOverclockColossus(CreatureState self, PlayerState owner, List<GameEvent> events) {
 		spellHelper.applyDamageToHero(owner, 2, events, "Overclock Colossus");
 		self.setAttack(self.getAttack() + 1);
-		events.add(GameEvent.buff(self.getId() != null ? self.getId().toString() : "self",
+		events.add(GameEvent.buff(self.getInstanceId(),
 				1, "Overclock Colossus: +1 Attack"));
 	}
 
 	// ====== START OF TURN IMPLEMENTATIONS ======
 
 	/** Start of your turn: give a random friendly creature +1/+1. */
-	private void resolveRoyalTactician(GamePlayerState owner, List<GameEvent> events) {
+	private void resolveRoyalTactician(PlayerState owner, List<GameEvent> events) {
 		if (owner.getBattlefield().isEmpty()) return;
-		int idx = (int) (Math.random() * owner.getBattlefield().size());
-		BoardCreature target = owner.getBattlefield().get(idx);
+		int idx = owner.getRandom().nextInt(owner.getBattlefield().size());
+		CreatureState target = owner.getBattlefield().get(idx);
 		target.setAttack(target.getAttack() + 1);
 		target.setHealth(target.getHealth() + 1);
 		target.setMaxHealth(target.getMaxHealth() + 1);
-		events.add(GameEvent.buff(target.getId().toString(), 1,
+		events.add(GameEvent.buff(target.getInstanceId(), 1,
 				"Royal Tactician: +1/+1 to " + target.getCard().getName()));
 	}
 
 	/** Start of your turn: return a random creature that died (cost ≤ 3) to your hand. */
-	private void resolveLichAdept(GamePlayerState owner, List<GameEvent> events) {
-		List<PlayerZoneCard> discarded = owner.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.DISCARD)
-			.filter(c -> c.getCard().getCost() <= 3)
-			.filter(c -> c.getCard().getAttack() != null) // Must be a creature
-			.toList();
-
-		if (discarded.isEmpty()) return;
-
-		int idx = (int) (Math.random() * discarded.size());
-		PlayerZoneCard revived = discarded.get(idx);
-		revived.setZone(CardZone.HAND);
-
-		long maxHandPos = owner.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.HAND)
-			.mapToInt(PlayerZoneCard::getPosition)
-			.max()
-			.orElse(-1);
-		revived.setPosition((int) maxHandPos + 1);
+	private void resolveLichAdept(PlayerState owner, List<GameEvent> events) {
+		CardPile discardPile = owner.getDiscardPile();
+		List<Integer> candidates = new ArrayList<>();
+		for (int i = 0; i < discardPile.size(); i++) {
+			Card card = discardPile.get(i);
+			if (card.getCost() <= 3 && card.getAttack() != null) { // Must be a creature
+				candidates.add(i);
+			}
+		}
+
+		if (candidates.isEmpty()) return;
+
+		int idx = owner.getRandom().nextInt(candidates.size());
+		Card revived = discardPile.removeAt(candidates.get(idx));
+		owner.getHand().add(revived);
 
 		events.add(GameEvent.cardDrawn(owner.getUserId(),
-				"Lich Adept returned " + revived.getCard().getName() + " to hand"));
+				"Lich Adept returned " + revived.getName() + " to hand"));
 	}
 
 	// ====== HELPERS ======
@@ -270,17 +297,17 @@ public class CreatureEffectResolver {
 	/**
 	 * Find a friendly creature (other than self) by instanceId, or pick a random one if no target given.
 	 */
-	private BoardCreature findFriendlyTarget(GamePlayerState owner, BoardCreature self, String targetId) {
-		if (targetId != null) {
-			return owner.getBattlefield().stream()
-				.filter(c -> c != self && c.getId() != null && c.getId().toString().equals(targetId))
-				.findFirst()
-				.orElse(null);
+	private CreatureState findFriendlyTarget(PlayerState owner, CreatureState self, String targetId) {
+		Battlefield battlefield = owner.getBattlefield();
+		int target = CreatureState.parseInstanceId(targetId);
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState c = battlefield.get(i);
+			if (c == self) continue;
+			// Auto-pick: first other friendly creature
+			if (targetId == null || c.getInstanceNumber() == target) {
+				return c;
+			}
 		}
-		// Auto-pick: first other friendly creature
-		return owner.getBattlefield().stream()
-			.filter(c -> c != self)
-			.findFirst()
-			.orElse(null);
+		return null;
 	}
 }
@@ -2,7 +2,6 @@ package com.spellfaire.spellfairebackend.game.service;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,7 +21,6 @@ import com.spellfaire.spellfairebackend.game.model.Deck;
 import com.spellfaire.spellfairebackend.game.model.DeckCard;
 import com.spellfaire.spellfairebackend.game.model.Faction;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
-import com.spellfaire.spellfairebackend.game.repo.CardRepository;
 import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
 
 /**
@@ -33,12 +31,12 @@ import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
 public class DeckService {
 
 	private final DeckRepository deckRepository;
-	private final CardRepository cardRepository;
+	private final CardCatalog cardCatalog;
 	private final UserRepository userRepository;
 
-	public DeckService(DeckRepository deckRepository, CardRepository cardRepository, UserRepository userRepository) {
+	public DeckService(DeckRepository deckRepository, CardCatalog cardCatalog, UserRepository userRepository) {
 		this.deckRepository = deckRepository;
-		this.cardRepository = cardRepository;
+		this.cardCatalog = cardCatalog;
 		this.userRepository = userRepository;
 	}
 
@@ -141,7 +139,7 @@ public class DeckService {
 	private List<ResolvedDeckCard> resolveDeckCards(CreateDeckRequest request) {
 		List<ResolvedDeckCard> resolved = new ArrayList<>();
 		for (DeckCardRequest cardRequest : request.getCards()) {
-			Card card = cardRepository.findById(UUID.fromString(cardRequest.getCardId()))
+			Card card = cardCatalog.findById(UUID.fromString(cardRequest.getCardId()))
 				.orElseThrow(() -> new IllegalArgumentException("Card not found: " + cardRequest.getCardId()));
 			resolved.add(new ResolvedDeckCard(card, cardRequest.getQuantity()));
 		}
@@ -219,19 +217,7 @@ public class DeckService {
 	 */
 	@Transactional
 	public Deck buildAutoDeck(User user, Faction faction, MagicSchool magicSchool) {
-		List<Card> creatures = cardRepository.findByCardTypeAndFaction(CardType.CREATURE, faction);
-		List<Card> spells = cardRepository.findByCardTypeAndSchool(CardType.SPELL, magicSchool)
-			.stream()
-			.sorted(Comparator.comparingInt(Card::getCost))
-			.limit(5)
-			.toList();
-
-		if (creatures.size() < 7) {
-			throw new IllegalStateException("Not enough creatures for faction " + faction);
-		}
-		if (spells.size() < 5) {
-			throw new IllegalStateException("Not enough spells for school " + magicSchool);
-		}
+		List<Card> cards = cardCatalog.autoDeckCards(faction, magicSchool);
 
 		Deck deck = new Deck();
 		deck.setUser(user);
@@ -243,11 +229,8 @@ public class DeckService {
 		deck.setCreatedAt(now);
 		deck.setUpdatedAt(now);
 
-		for (Card creature : creatures) {
-			deck.getDeckCards().add(new DeckCard(deck, creature, 2));
-		}
-		for (Card spell : spells) {
-			deck.getDeckCards().add(new DeckCard(deck, spell, 2));
+		for (Card card : cards) {
+			deck.getDeckCards().add(new DeckCard(deck, card, 2));
 		}
 
 		return deckRepository.save(deck);
@@ -0,0 +1,233 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.AiTarget;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.TargetRule;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.Trigger;
+
+/**
+ * Declarative card effect, as written in the {@code effect} field of {@code data/cards.json}.
+ *
+ * <pre>
+ * "effect": {
+ *   "trigger": "CAST", "target": "ANY_CREATURE", "ai": "FIRST_ENEMY",
+ *   "steps": [
+ *     { "op": "DAMAGE", "to": "TARGET", "amount": 1 },
+ *     { "op": "FREEZE", "to": "TARGET", "if": "ALIVE" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * Steps run in order. {@link EffectScriptCompiler} turns a script into a {@link CardEffect}.
+ */
+public class EffectScript {
+
+	public enum Op {
+		/** Deal {@code amount} damage; creatures at 0 health die after the whole step. */
+		DAMAGE,
+		/** Heal a hero for {@code amount}. */
+		HEAL,
+		/** Add {@code attack}/{@code health} (negative values weaken); creatures at 0 health die. */
+		BUFF,
+		/** Lower attack by up to {@code amount} until end of turn. */
+		WEAKEN,
+		FREEZE,
+		/** Destroy creatures, optionally only those costing at most {@code maxCost}. */
+		DESTROY,
+		/** The owner draws {@code amount} cards. */
+		DRAW,
+		/** Summon the token {@code card} as an {@code attack}/{@code health} creature with {@code keywords}. */
+		SUMMON,
+		/** Grant {@code keyword}; Charge also lets the creature attack at once. */
+		GRANT_KEYWORD,
+		/** Return a random creature costing at most {@code maxCost} from the owner's discard pile to hand. */
+		RECALL
+	}
+
+	public enum Selector {
+		/** The chosen target, resolved once against the script's {@link TargetRule}. */
+		TARGET,
+		SELF,
+		ENEMY_HERO,
+		FRIENDLY_HERO,
+		ALL_ENEMY_CREATURES,
+		/** Friendly creatures first, then enemy creatures. */
+		ALL_CREATURES,
+		OTHER_FRIENDLY_CREATURES,
+		RANDOM_ENEMY_CREATURE,
+		RANDOM_FRIENDLY_CREATURE
+	}
+
+	public enum Condition {
+		/** Per creature: still on the battlefield with health left. */
+		ALIVE,
+		/** Per creature: frozen. */
+		FROZEN,
+		/** A target was found when the effect started. */
+		TARGET_FOUND,
+		/** The owner controls another creature. */
+		CONTROLS_OTHER,
+		/** The owner controls another creature with Guard. */
+		CONTROLS_OTHER_GUARD;
+
+		boolean perCreature() {
+			return this == ALIVE || this == FROZEN;
+		}
+	}
+
+	private Trigger trigger;
+	private TargetRule target = TargetRule.NONE;
+	private boolean strictTarget;
+	private Integer targetMaxCost;
+	private AiTarget ai = AiTarget.NONE;
+	private List<Step> steps = List.of();
+
+	public Trigger getTrigger() {
+		return trigger;
+	}
+
+	public void setTrigger(Trigger trigger) {
+		this.trigger = trigger;
+	}
+
+	public TargetRule getTarget() {
+		return target;
+	}
+
+	public void setTarget(TargetRule target) {
+		this.target = target;
+	}
+
+	public boolean isStrictTarget() {
+		return strictTarget;
+	}
+
+	public void setStrictTarget(boolean strictTarget) {
+		this.strictTarget = strictTarget;
+	}
+
+	public Integer getTargetMaxCost() {
+		return targetMaxCost;
+	}
+
+	public void setTargetMaxCost(Integer targetMaxCost) {
+		this.targetMaxCost = targetMaxCost;
+	}
+
+	public AiTarget getAi() {
+		return ai;
+	}
+
+	public void setAi(AiTarget ai) {
+		this.ai = ai;
+	}
+
+	public List<Step> getSteps() {
+		return steps;
+	}
+
+	public void setSteps(List<Step> steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * One operation applied to the entities picked by a selector.
+	 */
+	public static class Step {
+		private Op op;
+		private Selector to;
+		@JsonProperty("if")
+		private Condition when;
+		private int amount;
+		private int attack;
+		private int health;
+		private Integer maxCost;
+		private String card;
+		private Keyword keyword;
+		private Set<Keyword> keywords = Set.of();
+
+		public Op getOp() {
+			return op;
+		}
+
+		public void setOp(Op op) {
+			this.op = op;
+		}
+
+		public Selector getTo() {
+			return to;
+		}
+
+		public void setTo(Selector to) {
+			this.to = to;
+		}
+
+		public Condition getWhen() {
+			return when;
+		}
+
+		public void setWhen(Condition when) {
+			this.when = when;
+		}
+
+		public int getAmount() {
+			return amount;
+		}
+
+		public void setAmount(int amount) {
+			this.amount = amount;
+		}
+
+		public int getAttack() {
+			return attack;
+		}
+
+		public void setAttack(int attack) {
+			this.attack = attack;
+		}
+
+		public int getHealth() {
+			return health;
+		}
+
+		public void setHealth(int health) {
+			this.health = health;
+		}
+
+		public Integer getMaxCost() {
+			return maxCost;
+		}
+
+		public void setMaxCost(Integer maxCost) {
+			this.maxCost = maxCost;
+		}
+
+		public String getCard() {
+			return card;
+		}
+
+		public void setCard(String card) {
+			this.card = card;
+		}
+
+		public Keyword getKeyword() {
+			return keyword;
+		}
+
+		public void setKeyword(Keyword keyword) {
+			this.keyword = keyword;
+		}
+
+		public Set<Keyword> getKeywords() {
+			return keywords;
+		}
+
+		public void setKeywords(Set<Keyword> keywords) {
+			this.keywords = keywords;
+		}
+	}
+}
@@ -0,0 +1,436 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.TargetRule;
+import com.spellfaire.spellfairebackend.game.service.EffectScript.Condition;
+import com.spellfaire.spellfairebackend.game.service.EffectScript.Op;
+import com.spellfaire.spellfairebackend.game.service.EffectScript.Selector;
+import com.spellfaire.spellfairebackend.game.service.EffectScript.Step;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CardPile;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * Compiles {@link EffectScript}s into {@link CardEffect}s.
+ *
+ * Each script is parsed and validated once, when the {@link CardEffectTable} is built; every step
+ * becomes a closure over its already-resolved operands, so resolving an effect during play runs
+ * a flat array of actions. The primitives (damage, heal, freeze, draw, ...) are the ones the
+ * handwritten resolvers use, so scripted and handwritten cards behave the same.
+ */
+@Component
+public class EffectScriptCompiler {
+
+	private final SpellEffectResolver spellHelper;
+	private final CardCatalog cardCatalog;
+	private final ObjectMapper objectMapper;
+
+	public EffectScriptCompiler(SpellEffectResolver spellHelper, CardCatalog cardCatalog, CardEffectTable effects,
+								ObjectMapper objectMapper,
+								@Value("${spellfaire.game.effects.scripted.enabled:true}") boolean enabled) {
+		this.spellHelper = spellHelper;
+		this.cardCatalog = cardCatalog;
+		this.objectMapper = objectMapper;
+		if (enabled) {
+			effects.registerScripts(this::compile);
+		}
+	}
+
+	/**
+	 * Compile the effect script stored on a card.
+	 *
+	 * @throws IllegalStateException if the script is malformed
+	 */
+	public CardEffect compile(Card card) {
+		EffectScript script;
+		try {
+			script = objectMapper.readValue(card.getEffect(), EffectScript.class);
+		} catch (IOException e) {
+			throw new IllegalStateException("Unreadable effect script for " + card.getName(), e);
+		}
+		return compile(card.getName(), script);
+	}
+
+	public CardEffect compile(String cardName, EffectScript script) {
+		if (script.getTrigger() == null || script.getTrigger() == CardEffect.Trigger.NONE) {
+			throw invalid(cardName, "missing trigger");
+		}
+		TargetRule rule = script.getTarget();
+		List<Action> actions = new ArrayList<>();
+		int burnDamage = 0;
+		for (Step step : script.getSteps()) {
+			actions.add(compileStep(cardName, step));
+			if (step.getOp() == Op.DAMAGE && (step.getTo() == Selector.ENEMY_HERO
+					|| (step.getTo() == Selector.TARGET && rule == TargetRule.ANY))) {
+				burnDamage += step.getAmount();
+			}
+		}
+		Action[] program = actions.toArray(Action[]::new);
+
+		CardEffect effect = new CardEffect(script.getTrigger(), rule, null, burnDamage, script.getAi(),
+				(self, owner, opponent, targetId, events) -> {
+					Context ctx = new Context(self, owner, opponent);
+					resolveTarget(ctx, rule, targetId);
+					for (Action action : program) {
+						action.run(ctx, events);
+					}
+				});
+
+		if (script.isStrictTarget()) {
+			Integer maxCost = script.getTargetMaxCost();
+			effect = effect.validTarget((caster, opponent, targetId) -> {
+				if (!rule.matches(caster, opponent, targetId)) {
+					return false;
+				}
+				if (maxCost == null) {
+					return true;
+				}
+				CreatureState target = spellHelper.findCreature(caster, opponent, targetId);
+				return target != null && target.getCard().getCost() <= maxCost;
+			});
+		}
+		return effect;
+	}
+
+	// ==================================================================
+	// STEPS
+	// ==================================================================
+
+	private Action compileStep(String source, Step step) {
+		if (step.getOp() == null) {
+			throw invalid(source, "step without op");
+		}
+		Condition when = step.getWhen();
+		boolean heroStep = step.getOp() == Op.HEAL
+				|| step.getTo() == Selector.ENEMY_HERO || step.getTo() == Selector.FRIENDLY_HERO;
+		if (when != null && when.perCreature() && heroStep) {
+			throw invalid(source, when + " only applies to creatures");
+		}
+
+		Action action = switch (step.getOp()) {
+			case DAMAGE -> {
+				int amount = step.getAmount();
+				Selector to = required(source, step);
+				yield (ctx, events) -> {
+					for (PlayerState hero : heroes(ctx, to)) {
+						spellHelper.applyDamageToHero(hero, amount, events, source);
+					}
+					List<CreatureState> hit = creatures(ctx, to, when);
+					for (CreatureState creature : hit) {
+						spellHelper.applyDamageToCreature(creature, amount, events, source);
+					}
+					removeDead(ctx, hit, events);
+				};
+			}
+			case HEAL -> {
+				int amount = step.getAmount();
+				Selector to = required(source, step);
+				yield (ctx, events) -> {
+					for (PlayerState hero : heroes(ctx, to)) {
+						spellHelper.healHero(hero, amount, events, source);
+					}
+				};
+			}
+			case BUFF -> {
+				int attack = step.getAttack();
+				int health = step.getHealth();
+				Selector to = required(source, step);
+				String label = source + ": " + signed(attack) + "/" + signed(health);
+				yield (ctx, events) -> {
+					List<CreatureState> buffed = creatures(ctx, to, when);
+					for (CreatureState creature : buffed) {
+						creature.setAttack(Math.max(0, creature.getAttack() + attack));
+						creature.setHealth(creature.getHealth() + health);
+						creature.setMaxHealth(Math.max(1, creature.getMaxHealth() + health));
+						events.add(GameEvent.buff(creature.getInstanceId(), attack,
+								label + " to " + creature.getCard().getName()));
+					}
+					removeDead(ctx, buffed, events);
+				};
+			}
+			case WEAKEN -> {
+				int amount = step.getAmount();
+				Selector to = required(source, step);
+				yield (ctx, events) -> {
+					for (CreatureState creature : creatures(ctx, to, when)) {
+						int debuff = Math.min(amount, creature.getAttack());
+						creature.setAttack(creature.getAttack() - debuff);
+						creature.setTemporaryAttackDebuff(creature.getTemporaryAttackDebuff() + debuff);
+						events.add(GameEvent.buff(creature.getInstanceId(), -debuff,
+								source + ": -" + debuff + " Attack this turn"));
+					}
+				};
+			}
+			case FREEZE -> {
+				Selector to = required(source, step);
+				yield (ctx, events) -> {
+					for (CreatureState creature : creatures(ctx, to, when)) {
+						spellHelper.freezeCreature(creature, events, source);
+					}
+				};
+			}
+			case DESTROY -> {
+				Selector to = required(source, step);
+				Integer maxCost = step.getMaxCost();
+				yield (ctx, events) -> {
+					for (CreatureState creature : creatures(ctx, to, when)) {
+						if (maxCost == null || creature.getCard().getCost() <= maxCost) {
+							spellHelper.killCreature(ownerOf(ctx, creature), creature, events);
+						}
+					}
+				};
+			}
+			case DRAW -> {
+				int amount = step.getAmount();
+				yield (ctx, events) -> {
+					for (int i = 0; i < amount; i++) {
+						spellHelper.drawCard(ctx.owner, events);
+					}
+				};
+			}
+			case SUMMON -> {
+				String tokenName = step.getCard();
+				if (tokenName == null) {
+					throw invalid(source, "SUMMON without card");
+				}
+				int attack = step.getAttack();
+				int health = step.getHealth();
+				Set<Keyword> keywords = Set.copyOf(step.getKeywords());
+				StringBuilder description = new StringBuilder("Summoned " + tokenName + " (" + attack + "/" + health);
+				for (Keyword keyword : keywords) {
+					description.append(' ').append(keyword.name().charAt(0)).append(keyword.name().substring(1).toLowerCase());
+				}
+				String summoned = description.append(')').toString();
+				yield (ctx, events) -> {
+					if (ctx.owner.getBattlefield().isFull()) {
+						return;
+					}
+					Card tokenCard = cardCatalog.findByName(tokenName)
+						.orElseThrow(() -> new IllegalStateException(tokenName + " token card not found"));
+					CreatureState token = CreatureState.summon(ctx.owner, tokenCard, attack, health, keywords);
+					ctx.owner.getBattlefield().add(token);
+					events.add(GameEvent.summon(token.getInstanceId(), summoned));
+				};
+			}
+			case GRANT_KEYWORD -> {
+				Keyword keyword = step.getKeyword();
+				if (keyword == null) {
+					throw invalid(source, "GRANT_KEYWORD without keyword");
+				}
+				Selector to = required(source, step);
+				yield (ctx, events) -> {
+					for (CreatureState creature : creatures(ctx, to, when)) {
+						creature.addKeyword(keyword);
+						if (keyword == Keyword.CHARGE) {
+							creature.setCanAttack(true);
+						}
+						events.add(GameEvent.buff(creature.getInstanceId(), 0,
+								source + ": " + keyword + " to " + creature.getCard().getName()));
+					}
+				};
+			}
+			case RECALL -> {
+				int maxCost = step.getMaxCost() != null ? step.getMaxCost() : Integer.MAX_VALUE;
+				yield (ctx, events) -> recall(ctx.owner, maxCost, source, events);
+			}
+		};
+
+		if (when == null || when.perCreature()) {
+			return action;
+		}
+		return (ctx, events) -> {
+			if (holds(ctx, when)) {
+				action.run(ctx, events);
+			}
+		};
+	}
+
+	// ==================================================================
+	// SELECTION
+	// ==================================================================
+
+	private void resolveTarget(Context ctx, TargetRule rule, String targetId) {
+		switch (rule) {
+			case NONE -> { }
+			case ANY -> {
+				if ("ENEMY_HERO".equals(targetId)) {
+					ctx.targetHero = ctx.opponent;
+				} else if ("FRIENDLY_HERO".equals(targetId)) {
+					ctx.targetHero = ctx.owner;
+				} else {
+					ctx.target = spellHelper.findCreature(ctx.owner, ctx.opponent, targetId);
+				}
+			}
+			case ANY_CREATURE -> ctx.target = spellHelper.findCreature(ctx.owner, ctx.opponent, targetId);
+			case ENEMY_CREATURE -> ctx.target = ctx.opponent.getBattlefield().find(targetId);
+			case FRIENDLY_CREATURE -> ctx.target = ctx.owner.getBattlefield().find(targetId);
+			case OTHER_FRIENDLY_CREATURE -> {
+				// Auto-pick the first other friendly creature when no target is given
+				Battlefield battlefield = ctx.owner.getBattlefield();
+				for (int i = 0; i < battlefield.size(); i++) {
+					CreatureState c = battlefield.get(i);
+					if (c != ctx.self && (targetId == null || c.getInstanceId().equals(targetId))) {
+						ctx.target = c;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static List<PlayerState> heroes(Context ctx, Selector to) {
+		return switch (to) {
+			case ENEMY_HERO -> List.of(ctx.opponent);
+			case FRIENDLY_HERO -> List.of(ctx.owner);
+			case TARGET -> ctx.targetHero != null ? List.of(ctx.targetHero) : List.of();
+			default -> List.of();
+		};
+	}
+
+	private static List<CreatureState> creatures(Context ctx, Selector to, Condition when) {
+		List<CreatureState> selected = switch (to) {
+			case TARGET -> ctx.target != null ? List.of(ctx.target) : List.of();
+			case SELF -> ctx.self != null ? List.of(ctx.self) : List.of();
+			case ALL_ENEMY_CREATURES -> ctx.opponent.getBattlefield().snapshot();
+			case ALL_CREATURES -> {
+				List<CreatureState> all = new ArrayList<>(ctx.owner.getBattlefield().snapshot());
+				all.addAll(ctx.opponent.getBattlefield().snapshot());
+				yield all;
+			}
+			case OTHER_FRIENDLY_CREATURES -> {
+				List<CreatureState> others = new ArrayList<>(ctx.owner.getBattlefield().snapshot());
+				others.remove(ctx.self);
+				yield others;
+			}
+			case RANDOM_ENEMY_CREATURE -> random(ctx.opponent.getBattlefield(), ctx.owner.getRandom());
+			case RANDOM_FRIENDLY_CREATURE -> random(ctx.owner.getBattlefield(), ctx.owner.getRandom());
+			case ENEMY_HERO, FRIENDLY_HERO -> List.of();
+		};
+		if (when == null || !when.perCreature() || selected.isEmpty()) {
+			return selected;
+		}
+		List<CreatureState> filtered = new ArrayList<>(selected.size());
+		for (CreatureState creature : selected) {
+			boolean matches = switch (when) {
+				case ALIVE -> creature.getHealth() > 0
+						&& (ctx.owner.getBattlefield().contains(creature) || ctx.opponent.getBattlefield().contains(creature));
+				case FROZEN -> creature.hasStatus(Status.FROZEN);
+				default -> true;
+			};
+			if (matches) {
+				filtered.add(creature);
+			}
+		}
+		return filtered;
+	}
+
+	private static List<CreatureState> random(Battlefield battlefield, RandomGenerator random) {
+		if (battlefield.isEmpty()) {
+			return List.of();
+		}
+		int idx = random.nextInt(battlefield.size());
+		return List.of(battlefield.get(idx));
+	}
+
+	private static boolean holds(Context ctx, Condition condition) {
+		return switch (condition) {
+			case TARGET_FOUND -> ctx.target != null || ctx.targetHero != null;
+			case CONTROLS_OTHER -> ctx.owner.getBattlefield().snapshot().stream()
+				.anyMatch(c -> c != ctx.self);
+			case CONTROLS_OTHER_GUARD -> ctx.owner.getBattlefield().snapshot().stream()
+				.anyMatch(c -> c != ctx.self && c.hasKeyword(Keyword.GUARD));
+			case ALIVE, FROZEN -> true;
+		};
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private void removeDead(Context ctx, List<CreatureState> creatures, List<GameEvent> events) {
+		for (CreatureState creature : creatures) {
+			if (creature.getHealth() <= 0) {
+				PlayerState owner = ownerOf(ctx, creature);
+				if (owner.getBattlefield().contains(creature)) {
+					spellHelper.killCreature(owner, creature, events);
+				}
+			}
+		}
+	}
+
+	private void recall(PlayerState owner, int maxCost, String source, List<GameEvent> events) {
+		CardPile discardPile = owner.getDiscardPile();
+		List<Integer> candidates = new ArrayList<>();
+		for (int i = 0; i < discardPile.size(); i++) {
+			Card card = discardPile.get(i);
+			if (card.getCost() <= maxCost && card.getAttack() != null) { // Must be a creature
+				candidates.add(i);
+			}
+		}
+		if (candidates.isEmpty()) return;
+
+		int idx = owner.getRandom().nextInt(candidates.size());
+		Card revived = discardPile.removeAt(candidates.get(idx));
+		owner.getHand().add(revived);
+		events.add(GameEvent.cardDrawn(owner.getUserId(),
+				source + " returned " + revived.getName() + " to hand"));
+	}
+
+	private static PlayerState ownerOf(Context ctx, CreatureState creature) {
+		return ctx.owner.getBattlefield().contains(creature) ? ctx.owner : ctx.opponent;
+	}
+
+	private static Selector required(String source, Step step) {
+		if (step.getTo() == null) {
+			throw invalid(source, step.getOp() + " without selector");
+		}
+		return step.getTo();
+	}
+
+	private static String signed(int value) {
+		return value < 0 ? String.valueOf(value) : "+" + value;
+	}
+
+	private static IllegalStateException invalid(String cardName, String reason) {
+		return new IllegalStateException("Invalid effect script for " + cardName + ": " + reason);
+	}
+
+	/**
+	 * One compiled step.
+	 */
+	@FunctionalInterface
+	private interface Action {
+		void run(Context ctx, List<GameEvent> events);
+	}
+
+	/**
+	 * Per-resolution state shared by a script's steps.
+	 */
+	private static final class Context {
+		private final CreatureState self;
+		private final PlayerState owner;
+		private final PlayerState opponent;
+		private CreatureState target;
+		private PlayerState targetHero;
+
+		private Context(CreatureState self, PlayerState owner, PlayerState opponent) {
+			this.self = self;
+			this.owner = owner;
+			this.opponent = opponent;
+		}
+	}
+}
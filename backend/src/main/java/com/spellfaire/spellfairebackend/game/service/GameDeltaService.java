@@ -0,0 +1,173 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.spellfaire.spellfairebackend.game.dto.BoardCreatureResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameDeltaResponse;
+import com.spellfaire.spellfairebackend.game.dto.GamePlayerStateDeltaResponse;
+import com.spellfaire.spellfairebackend.game.dto.GamePlayerStateResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+
+/**
+ * Turns full game responses into deltas against the version a client last saw.
+ *
+ * Keeps the last few responses of recently served games in memory; when the client's base
+ * version is not among them (evicted, other instance, restart) the full snapshot is returned.
+ */
+@Service
+public class GameDeltaService {
+
+	private final int historyDepth;
+	private final int maxGames;
+
+	// Access-ordered so the eldest entry is the least recently served game
+	private final LinkedHashMap<String, Deque<GameResponse>> history = new LinkedHashMap<>(16, 0.75f, true);
+
+	public GameDeltaService(@Value("${spellfaire.game.delta.history-depth:4}") int historyDepth,
+							@Value("${spellfaire.game.delta.max-games:1000}") int maxGames) {
+		this.historyDepth = historyDepth;
+		this.maxGames = maxGames;
+	}
+
+	/**
+	 * Remember a response as a possible base for later deltas.
+	 */
+	public void record(GameResponse response) {
+		synchronized (history) {
+			Deque<GameResponse> versions = history.computeIfAbsent(response.getId(), id -> new ArrayDeque<>());
+			if (!versions.isEmpty() && versions.peekLast().getStateVersion() >= response.getStateVersion()) {
+				return;
+			}
+			versions.addLast(response);
+			while (versions.size() > historyDepth) {
+				versions.removeFirst();
+			}
+			Iterator<Map.Entry<String, Deque<GameResponse>>> it = history.entrySet().iterator();
+			while (history.size() > maxGames && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Record the action's full response and, if the client sent its last-seen version and we still
+	 * hold it, replace the full game with a delta.
+	 */
+	public GameActionResponse encode(GameActionResponse full, Long sinceVersion) {
+		GameResponse current = full.getGame();
+		if (current == null) {
+			return full;
+		}
+		record(current);
+		if (sinceVersion == null) {
+			return full;
+		}
+
+		GameResponse base = find(current.getId(), sinceVersion);
+		if (base == null) {
+			return full;
+		}
+		GameActionResponse response = new GameActionResponse(null, full.getEvents());
+		response.setDelta(diff(base, current));
+		return response;
+	}
+
+	// ==================================================================
+	// DIFF
+	// ==================================================================
+
+	GameDeltaResponse diff(GameResponse base, GameResponse current) {
+		GameDeltaResponse delta = new GameDeltaResponse();
+		delta.setId(current.getId());
+		delta.setBaseVersion(base.getStateVersion());
+		delta.setStateVersion(current.getStateVersion());
+		delta.setCurrentPlayerId(current.getCurrentPlayerId());
+		delta.setGameStatus(current.getGameStatus());
+		delta.setCurrentPhase(current.getCurrentPhase());
+		delta.setWinnerId(current.getWinnerId());
+		delta.setTurnNumber(current.getTurnNumber());
+		delta.setPlayer1State(diff(base.getPlayer1State(), current.getPlayer1State()));
+		delta.setPlayer2State(diff(base.getPlayer2State(), current.getPlayer2State()));
+		delta.setUpdatedAt(current.getUpdatedAt());
+		return delta;
+	}
+
+	private GamePlayerStateDeltaResponse diff(GamePlayerStateResponse base, GamePlayerStateResponse current) {
+		GamePlayerStateDeltaResponse delta = new GamePlayerStateDeltaResponse();
+		delta.setHeroHealth(current.getHeroHealth());
+		delta.setMaxMana(current.getMaxMana());
+		delta.setCurrentMana(current.getCurrentMana());
+		delta.setFatigueCounter(current.getFatigueCounter());
+		delta.setDeck(changed(base.getDeck(), current.getDeck()));
+		delta.setHand(changed(base.getHand(), current.getHand()));
+		delta.setDiscardPile(changed(base.getDiscardPile(), current.getDiscardPile()));
+
+		Map<String, BoardCreatureResponse> before = new HashMap<>();
+		for (BoardCreatureResponse creature : base.getBattlefield()) {
+			before.put(creature.getInstanceId(), creature);
+		}
+		List<BoardCreatureResponse> changedCreatures = new ArrayList<>();
+		for (BoardCreatureResponse creature : current.getBattlefield()) {
+			BoardCreatureResponse previous = before.remove(creature.getInstanceId());
+			if (previous == null || !sameCreature(previous, creature)) {
+				changedCreatures.add(creature);
+			}
+		}
+		if (!changedCreatures.isEmpty()) {
+			delta.setBattlefield(changedCreatures);
+		}
+		if (!before.isEmpty()) {
+			delta.setRemovedCreatureIds(new ArrayList<>(before.keySet()));
+		}
+		return delta;
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private GameResponse find(String gameId, long version) {
+		synchronized (history) {
+			Deque<GameResponse> versions = history.get(gameId);
+			if (versions == null) {
+				return null;
+			}
+			for (GameResponse response : versions) {
+				if (response.getStateVersion() == version) {
+					return response;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static List<String> changed(List<String> base, List<String> current) {
+		return Objects.equals(base, current) ? null : current;
+	}
+
+	private static boolean sameCreature(BoardCreatureResponse a, BoardCreatureResponse b) {
+		return a.getPosition() == b.getPosition()
+				&& a.getAttack() == b.getAttack()
+				&& a.getHealth() == b.getHealth()
+				&& a.getMaxHealth() == b.getMaxHealth()
+				&& a.isCanAttack() == b.isCanAttack()
+				&& a.isHasAttackedThisTurn() == b.isHasAttackedThisTurn()
+				&& a.isFrozenBlocksAttacksThisTurn() == b.isFrozenBlocksAttacksThisTurn()
+				&& Objects.equals(a.getCardId(), b.getCardId())
+				&& Objects.equals(a.getKeywords(), b.getKeywords())
+				&& Objects.equals(a.getStatuses(), b.getStatuses());
+	}
+}
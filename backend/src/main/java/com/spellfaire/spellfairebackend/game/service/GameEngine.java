@@ -0,0 +1,493 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.GamePhase;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameAction;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * Rules engine. Runs every game action against an in-memory {@link GameState};
+ * it never touches entities or the persistence context.
+ * Player actions validate and throw {@link IllegalArgumentException};
+ * the {@code try*} variants used by the AI return null for illegal moves instead.
+ */
+@Service
+public class GameEngine {
+
+	private final SpellEffectResolver spellResolver;
+	private final CreatureEffectResolver creatureResolver;
+	private final CardEffectTable effects;
+
+	public GameEngine(SpellEffectResolver spellResolver, CreatureEffectResolver creatureResolver,
+					  CardEffectTable effects) {
+		this.spellResolver = spellResolver;
+		this.creatureResolver = creatureResolver;
+		this.effects = effects;
+	}
+
+	// ==================================================================
+	// PLAY CARD
+	// ==================================================================
+
+	public List<GameEvent> playCard(GameState game, String playerId, String cardId, String targetId) {
+		validatePlayerTurn(game, playerId);
+		validatePhase(game, GamePhase.MAIN);
+
+		PlayerState playerState = game.getPlayerState(playerId);
+		PlayerState opponentState = game.getOpponentState(playerId);
+
+		int handIndex = playerState.getHand().indexOf(cardId);
+		String error = playError(playerState, opponentState, handIndex, targetId);
+		if (error != null) {
+			throw new IllegalArgumentException(error);
+		}
+
+		List<GameEvent> events = resolvePlay(playerState, opponentState, handIndex, targetId, "Played ", "Cast ");
+		game.record(GameAction.playCard(playerId, cardId, targetId));
+
+		// Check for game over
+		events.addAll(checkGameOver(game));
+		return events;
+	}
+
+	/**
+	 * Play a card for the AI without turn checks. Returns null if the play is illegal.
+	 */
+	List<GameEvent> tryPlayCard(GameState game, String playerId, String cardId, String targetId) {
+		int handIndex = game.getPlayerState(playerId).getHand().indexOf(cardId);
+		return tryPlayAt(game, playerId, handIndex, cardId, targetId);
+	}
+
+	/**
+	 * {@link #tryPlayCard(GameState, String, String, String)} for a card ID the caller keeps parsed,
+	 * as AI search does across its playouts.
+	 */
+	List<GameEvent> tryPlayCard(GameState game, String playerId, UUID cardId, String targetId) {
+		int handIndex = game.getPlayerState(playerId).getHand().indexOf(cardId);
+		return tryPlayAt(game, playerId, handIndex, cardId.toString(), targetId);
+	}
+
+	private List<GameEvent> tryPlayAt(GameState game, String playerId, int handIndex, String cardId, String targetId) {
+		PlayerState playerState = game.getPlayerState(playerId);
+		PlayerState opponentState = game.getOpponentState(playerId);
+		if (playError(playerState, opponentState, handIndex, targetId) != null) {
+			return null;
+		}
+		List<GameEvent> events = resolvePlay(playerState, opponentState, handIndex, targetId, "AI played ", "AI cast ");
+		game.record(GameAction.playCard(playerId, cardId, targetId));
+		return events;
+	}
+
+	/**
+	 * Whether {@link #tryPlayCard} would accept the play, without making it.
+	 */
+	boolean canPlayCard(GameState game, String playerId, UUID cardId, String targetId) {
+		PlayerState playerState = game.getPlayerState(playerId);
+		int handIndex = playerState.getHand().indexOf(cardId);
+		return playError(playerState, game.getOpponentState(playerId), handIndex, targetId) == null;
+	}
+
+	private String playError(PlayerState playerState, PlayerState opponentState, int handIndex, String targetId) {
+		if (handIndex < 0) {
+			return "Card not in hand";
+		}
+		Card card = playerState.getHand().get(handIndex);
+		if (card.getCost() > playerState.getCurrentMana()) {
+			return "Not enough mana";
+		}
+		if (card.getCardType() == CardType.SPELL
+				&& !isValidSpellTarget(card, playerState, opponentState, targetId)) {
+			return "Invalid spell target";
+		}
+		if (card.getCardType() == CardType.CREATURE && playerState.getBattlefield().isFull()) {
+			return "Battlefield is full";
+		}
+		return null;
+	}
+
+	private List<GameEvent> resolvePlay(PlayerState playerState, PlayerState opponentState, int handIndex,
+										String targetId, String creatureVerb, String spellVerb) {
+		List<GameEvent> events = new ArrayList<>();
+
+		Card card = playerState.getHand().removeAt(handIndex);
+		playerState.setCurrentMana(playerState.getCurrentMana() - card.getCost());
+
+		if (card.getCardType() == CardType.CREATURE) {
+			CreatureState creature = CreatureState.summon(playerState, card,
+				card.getAttack() != null ? card.getAttack() : 0,
+				card.getHealth() != null ? card.getHealth() : 1,
+				card.getKeywords());
+			playerState.getBattlefield().add(creature);
+
+			events.add(GameEvent.cardPlayed(card.getId().toString(), creatureVerb + card.getName()));
+
+			// Resolve "When played" effects
+			events.addAll(creatureResolver.resolveWhenPlayed(creature, playerState, opponentState, targetId));
+
+		} else if (card.getCardType() == CardType.SPELL) {
+			List<DeadCreatureContext> creaturesBeforeSpell = snapshotBattlefield(playerState, opponentState);
+
+			playerState.getDiscardPile().add(card);
+			events.add(GameEvent.cardPlayed(card.getId().toString(), spellVerb + card.getName()));
+
+			// Resolve spell effect
+			events.addAll(spellResolver.resolveSpell(card, playerState, opponentState, targetId));
+			events.addAll(resolveSpellDeaths(creaturesBeforeSpell));
+		}
+
+		return events;
+	}
+
+	// ==================================================================
+	// ATTACK
+	// ==================================================================
+
+	public List<GameEvent> attack(GameState game, String playerId, String attackerId, String targetId) {
+		validatePlayerTurn(game, playerId);
+		validatePhase(game, GamePhase.MAIN);
+
+		PlayerState attackerState = game.getPlayerState(playerId);
+		PlayerState defenderState = game.getOpponentState(playerId);
+
+		CreatureState attacker = attackerState.getBattlefield().find(attackerId);
+		String error = attackError(attacker, defenderState, targetId);
+		if (error != null) {
+			throw new IllegalArgumentException(error);
+		}
+
+		List<GameEvent> events = resolveAttack(attackerState, defenderState, attacker, targetId);
+		game.record(GameAction.attack(playerId, attackerId, targetId));
+
+		// Check game over
+		events.addAll(checkGameOver(game));
+		return events;
+	}
+
+	/**
+	 * Attack for the AI without turn checks. Returns null if the attack is illegal.
+	 */
+	List<GameEvent> tryAttack(GameState game, String playerId, String attackerId, String targetId) {
+		PlayerState attackerState = game.getPlayerState(playerId);
+		PlayerState defenderState = game.getOpponentState(playerId);
+
+		CreatureState attacker = attackerState.getBattlefield().find(attackerId);
+		if (attackError(attacker, defenderState, targetId) != null) {
+			return null;
+		}
+		List<GameEvent> events = resolveAttack(attackerState, defenderState, attacker, targetId);
+		game.record(GameAction.attack(playerId, attackerId, targetId));
+		return events;
+	}
+
+	/**
+	 * Whether {@link #tryAttack} would accept the attack, without making it.
+	 */
+	boolean canAttack(GameState game, String playerId, String attackerId, String targetId) {
+		CreatureState attacker = game.getPlayerState(playerId).getBattlefield().find(attackerId);
+		return attackError(attacker, game.getOpponentState(playerId), targetId) == null;
+	}
+
+	private String attackError(CreatureState attacker, PlayerState defenderState, String targetId) {
+		if (attacker == null) {
+			return "Attacker not found";
+		}
+		if (!attacker.isCanAttack()) {
+			return "Creature cannot attack (summoning sickness)";
+		}
+		if (attacker.isHasAttackedThisTurn()) {
+			return "Creature already attacked this turn";
+		}
+		if (attacker.isFrozenBlocksAttacksThisTurn()) {
+			return "Creature is frozen";
+		}
+
+		// Enforce Guard
+		boolean enemyHasGuard = defenderState.getBattlefield().anyHasKeyword(Keyword.GUARD);
+
+		if ("ENEMY_HERO".equals(targetId)) {
+			return enemyHasGuard ? "Must attack a Guard creature first" : null;
+		}
+		CreatureState defender = defenderState.getBattlefield().find(targetId);
+		if (defender == null) {
+			return "Target creature not found";
+		}
+		if (enemyHasGuard && !defender.hasKeyword(Keyword.GUARD)) {
+			return "Must attack a Guard creature first";
+		}
+		return null;
+	}
+
+	private List<GameEvent> resolveAttack(PlayerState attackerState, PlayerState defenderState,
+										  CreatureState attacker, String targetId) {
+		List<GameEvent> events = new ArrayList<>();
+
+		if ("ENEMY_HERO".equals(targetId)) {
+			// Attack hero
+			int damage = attacker.getAttack();
+			defenderState.setHeroHealth(defenderState.getHeroHealth() - damage);
+			attacker.setHasAttackedThisTurn(true);
+
+			events.add(GameEvent.attack(attacker.getInstanceId(), "ENEMY_HERO",
+					attacker.getCard().getName() + " attacks enemy hero for " + damage));
+			events.add(GameEvent.damage(attacker.getInstanceId(), defenderState.getUserId(),
+					damage, attacker.getCard().getName() + " deals " + damage + " to hero"));
+
+			// Lifesteal
+			if (attacker.hasKeyword(Keyword.LIFESTEAL)) {
+				spellResolver.healHero(attackerState, damage, events, attacker.getCard().getName() + " (Lifesteal)");
+			}
+			return events;
+		}
+
+		// Attack creature
+		CreatureState defender = defenderState.getBattlefield().find(targetId);
+
+		events.add(GameEvent.attack(attacker.getInstanceId(), defender.getInstanceId(),
+				attacker.getCard().getName() + " attacks " + defender.getCard().getName()));
+
+		// Simultaneous damage
+		int attackerDamage = attacker.getAttack();
+		int defenderDamage = defender.getAttack();
+
+		// Apply damage to defender (respecting Ward)
+		int actualDamageToDefender = spellResolver.applyDamageToCreature(defender, attackerDamage, events,
+				attacker.getCard().getName());
+		// Apply damage to attacker (respecting Ward)
+		int actualDamageToAttacker = spellResolver.applyDamageToCreature(attacker, defenderDamage, events,
+				defender.getCard().getName());
+
+		attacker.setHasAttackedThisTurn(true);
+
+		// Lifesteal for attacker
+		if (attacker.hasKeyword(Keyword.LIFESTEAL) && actualDamageToDefender > 0) {
+			spellResolver.healHero(attackerState, actualDamageToDefender, events,
+					attacker.getCard().getName() + " (Lifesteal)");
+		}
+		// Lifesteal for defender
+		if (defender.hasKeyword(Keyword.LIFESTEAL) && actualDamageToAttacker > 0) {
+			spellResolver.healHero(defenderState, actualDamageToAttacker, events,
+					defender.getCard().getName() + " (Lifesteal)");
+		}
+
+		// Check deaths
+		if (defender.getHealth() <= 0) {
+			resolveCombatDeath(defenderState, attackerState, defender, events);
+		}
+		if (attacker.getHealth() <= 0) {
+			resolveCombatDeath(attackerState, defenderState, attacker, events);
+		}
+
+		return events;
+	}
+
+	private void resolveCombatDeath(PlayerState owner, PlayerState opponent, CreatureState creature,
+									List<GameEvent> events) {
+		// Move card to discard pile for potential resurrection
+		owner.getDiscardPile().add(creature.getCard());
+		spellResolver.killCreature(owner, creature, events);
+
+		// Death triggers
+		events.addAll(creatureResolver.resolveWhenDies(creature, owner, opponent));
+	}
+
+	// ==================================================================
+	// TURN FLOW
+	// ==================================================================
+
+	/**
+	 * End the current player's turn and run the start of the next player's turn.
+	 */
+	public List<GameEvent> endTurn(GameState game, String playerId) {
+		validatePlayerTurn(game, playerId);
+		game.record(GameAction.endTurn(playerId));
+
+		// End-of-turn: nothing specific in current rules, but placeholder for future
+
+		// Switch turns
+		String nextPlayerId = game.getCurrentPlayerId().equals(game.getPlayer1Id())
+				? game.getPlayer2Id() : game.getPlayer1Id();
+		game.setCurrentPlayerId(nextPlayerId);
+		game.setTurnNumber(game.getTurnNumber() + 1);
+
+		// Start of next player's turn
+		List<GameEvent> events = startTurn(game, game.getPlayerState(nextPlayerId));
+		events.addAll(checkGameOver(game));
+		return events;
+	}
+
+	/**
+	 * Process start of a player's turn: increment mana, refill, ready creatures, draw card.
+	 */
+	public List<GameEvent> startTurn(GameState game, PlayerState state) {
+		List<GameEvent> events = new ArrayList<>();
+
+		events.add(GameEvent.turnStart(state.getUserId(), game.getTurnNumber(),
+				"Turn " + game.getTurnNumber() + " for " + state.getUserId()));
+
+		// Increment max mana (cap at 10)
+		if (state.getMaxMana() < 10) {
+			state.setMaxMana(state.getMaxMana() + 1);
+		}
+		// Refill current mana
+		state.setCurrentMana(state.getMaxMana());
+		events.add(GameEvent.manaGain(state.getUserId(), state.getMaxMana(),
+				"Mana: " + state.getMaxMana() + "/" + state.getMaxMana()));
+
+		// Ready creatures and handle Frozen
+		Battlefield battlefield = state.getBattlefield();
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState creature = battlefield.get(i);
+			if (creature.getTemporaryAttackDebuff() > 0) {
+				creature.setAttack(creature.getAttack() + creature.getTemporaryAttackDebuff());
+				creature.setTemporaryAttackDebuff(0);
+			}
+
+			creature.setFrozenBlocksAttacksThisTurn(false);
+			if (creature.isFrozenForNextTurn()) {
+				// Frozen prevents attacking on this controller turn, then clears
+				creature.setFrozenForNextTurn(false);
+				creature.removeStatus(Status.FROZEN);
+				creature.setFrozenBlocksAttacksThisTurn(true);
+				creature.setCanAttack(false);
+			} else {
+				creature.setCanAttack(true);
+			}
+			creature.setHasAttackedThisTurn(false);
+		}
+
+		// Start-of-turn creature effects
+		events.addAll(creatureResolver.resolveStartOfTurn(state, game.opponentOf(state)));
+
+		// Draw a card
+		spellResolver.drawCard(state, events);
+
+		return events;
+	}
+
+	public List<GameEvent> surrender(GameState game, String playerId) {
+		if (game.getGameStatus() == GameStatus.FINISHED) {
+			throw new IllegalArgumentException("Game is already finished");
+		}
+
+		String winnerId = playerId.equals(game.getPlayer1Id())
+				? game.getPlayer2Id() : game.getPlayer1Id();
+
+		game.record(GameAction.surrender(playerId));
+		game.setGameStatus(GameStatus.FINISHED);
+		game.setWinnerId(winnerId);
+
+		List<GameEvent> events = new ArrayList<>();
+		events.add(GameEvent.gameOver(winnerId, playerId + " surrendered"));
+		return events;
+	}
+
+	public List<GameEvent> checkGameOver(GameState game) {
+		List<GameEvent> events = new ArrayList<>();
+		if (game.getGameStatus() == GameStatus.FINISHED) {
+			return events;
+		}
+
+		if (game.getPlayer1State().getHeroHealth() <= 0) {
+			game.setGameStatus(GameStatus.FINISHED);
+			game.setWinnerId(game.getPlayer2Id());
+			events.add(GameEvent.gameOver(game.getPlayer2Id(), "Player 1 hero defeated!"));
+		} else if (game.getPlayer2State().getHeroHealth() <= 0) {
+			game.setGameStatus(GameStatus.FINISHED);
+			game.setWinnerId(game.getPlayer1Id());
+			events.add(GameEvent.gameOver(game.getPlayer1Id(), "Player 2 hero defeated!"));
+		}
+		if (!events.isEmpty()) {
+			game.record(GameAction.gameOver());
+		}
+
+		return events;
+	}
+
+	// ==================================================================
+	// REPLAY
+	// ==================================================================
+
+	/**
+	 * Apply a step recorded by {@link GameState#startRecording()} again. Recorded steps were legal
+	 * when first applied, so on the same state with the same random sequence they are legal again;
+	 * a step that is not means the log and the state have diverged.
+	 */
+	public List<GameEvent> replay(GameState game, GameAction action) {
+		List<GameEvent> events = switch (action.kind()) {
+			case PLAY_CARD -> tryPlayCard(game, action.playerId(), action.subjectId(), action.targetId());
+			case ATTACK -> tryAttack(game, action.playerId(), action.subjectId(), action.targetId());
+			case END_TURN -> endTurn(game, action.playerId());
+			case SURRENDER -> surrender(game, action.playerId());
+			case GAME_OVER -> checkGameOver(game);
+		};
+		if (events == null) {
+			throw new IllegalStateException("Cannot replay " + action + " on game " + game.getId());
+		}
+		return events;
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private void validatePlayerTurn(GameState game, String playerId) {
+		if (game.getGameStatus() == GameStatus.FINISHED) {
+			throw new IllegalArgumentException("Game is already finished");
+		}
+		if (!game.getCurrentPlayerId().equals(playerId)) {
+			throw new IllegalArgumentException("Not your turn");
+		}
+	}
+
+	private void validatePhase(GameState game, GamePhase expected) {
+		if (game.getCurrentPhase() != expected) {
+			throw new IllegalArgumentException("Invalid phase: expected " + expected);
+		}
+	}
+
+	boolean isValidSpellTarget(Card card, PlayerState playerState, PlayerState opponentState, String targetId) {
+		return effects.effectOf(card).acceptsTarget(playerState, opponentState, targetId);
+	}
+
+	private List<DeadCreatureContext> snapshotBattlefield(PlayerState playerState, PlayerState opponentState) {
+		List<DeadCreatureContext> snapshot = new ArrayList<>();
+		for (CreatureState creature : playerState.getBattlefield().snapshot()) {
+			snapshot.add(new DeadCreatureContext(creature, playerState, opponentState));
+		}
+		for (CreatureState creature : opponentState.getBattlefield().snapshot()) {
+			snapshot.add(new DeadCreatureContext(creature, opponentState, playerState));
+		}
+		return snapshot;
+	}
+
+	private List<GameEvent> resolveSpellDeaths(List<DeadCreatureContext> beforeSpell) {
+		List<GameEvent> events = new ArrayList<>();
+		for (DeadCreatureContext entry : beforeSpell) {
+			if (!entry.owner().getBattlefield().contains(entry.creature())) {
+				entry.owner().getDiscardPile().add(entry.creature().getCard());
+				events.addAll(creatureResolver.resolveWhenDies(entry.creature(), entry.owner(), entry.opponent()));
+			}
+		}
+		return events;
+	}
+
+	private record DeadCreatureContext(
+			CreatureState creature,
+			PlayerState owner,
+			PlayerState opponent) {
+	}
+}
@@ -0,0 +1,146 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.GameLogEntry;
+import com.spellfaire.spellfairebackend.game.repo.GameLogRepository;
+import com.spellfaire.spellfairebackend.game.state.GameAction;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Append-only log of every accepted gameplay action: the rules-engine steps it applied and the
+ * events it returned, one row per state version.
+ *
+ * The saved game row is the snapshot the log builds on. Write-through mode saves it with every
+ * action, in the same transaction as the log row; write-behind mode checkpoints it periodically
+ * while log rows are written as actions are accepted, so a game loaded after a crash is brought
+ * up to date by {@link #recover} replaying the entries past its saved state version.
+ */
+@Service
+public class GameEventLog {
+
+	private static final TypeReference<List<GameAction>> ACTIONS = new TypeReference<>() { };
+	private static final TypeReference<List<GameEvent>> EVENTS = new TypeReference<>() { };
+
+	private final GameLogRepository gameLogRepository;
+	private final GameEngine gameEngine;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final Counter replayed;
+
+	public GameEventLog(GameLogRepository gameLogRepository, GameEngine gameEngine, ObjectMapper objectMapper,
+						MeterRegistry meterRegistry,
+						@Value("${spellfaire.game.log.enabled:true}") boolean enabled) {
+		this.gameLogRepository = gameLogRepository;
+		this.gameEngine = gameEngine;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.replayed = Counter.builder("spellfaire.game.log.replayed")
+			.description("Logged actions replayed onto a game loaded behind its log")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Run a gameplay action while recording the steps it applies, then append them and its
+	 * events at the state's new version. Call inside the state store's action, after the bump.
+	 */
+	public GameActionResponse record(GameState state, Function<GameState, GameActionResponse> action) {
+		if (!enabled) {
+			return action.apply(state);
+		}
+		state.startRecording();
+		GameActionResponse response;
+		List<GameAction> actions;
+		try {
+			response = action.apply(state);
+		} finally {
+			actions = state.stopRecording();
+		}
+		append(state, actions, response != null ? response.getEvents() : List.of());
+		return response;
+	}
+
+	/**
+	 * Append an entry for the state's current version.
+	 */
+	public void append(GameState state, List<GameAction> actions, List<GameEvent> events) {
+		if (!enabled) {
+			return;
+		}
+		gameLogRepository.save(new GameLogEntry(state.getId(), state.getStateVersion(), state.getTurnNumber(),
+				write(actions), write(events != null ? events : List.of()), Instant.now()));
+	}
+
+	/**
+	 * Replay the logged actions past the state's version onto it.
+	 * Returns the number of entries replayed.
+	 */
+	public int recover(GameState state) {
+		if (!enabled) {
+			return 0;
+		}
+		List<GameLogEntry> tail = gameLogRepository
+			.findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(state.getId(), state.getStateVersion());
+		for (GameLogEntry entry : tail) {
+			apply(state, entry);
+		}
+		replayed.increment(tail.size());
+		return tail.size();
+	}
+
+	/**
+	 * Replay one entry's steps and advance the state to its version.
+	 */
+	public void apply(GameState state, GameLogEntry entry) {
+		if (entry.getStateVersion() != state.getStateVersion() + 1) {
+			throw new IllegalStateException("Game " + state.getId() + " is at version " + state.getStateVersion()
+					+ " but the next log entry is " + entry.getStateVersion());
+		}
+		for (GameAction action : actions(entry)) {
+			gameEngine.replay(state, action);
+		}
+		state.setStateVersion(entry.getStateVersion());
+		state.setUpdatedAt(entry.getCreatedAt());
+	}
+
+	public List<GameAction> actions(GameLogEntry entry) {
+		return read(entry.getActions(), ACTIONS);
+	}
+
+	public List<GameEvent> events(GameLogEntry entry) {
+		return read(entry.getEvents(), EVENTS);
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private String write(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Cannot write game log entry", e);
+		}
+	}
+
+	private <T> T read(String json, TypeReference<T> type) {
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Cannot read game log entry", e);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-game single-writer mailbox. Actions on one game run strictly one after another in
+ * submission order; different games run in parallel on virtual threads with no shared lock.
+ *
+ * A mailbox exists only while it has queued work, so idle games cost nothing.
+ */
+@Component
+public class GameMailbox {
+
+	// Game currently being processed by this thread, so nested calls run inline instead of deadlocking
+	private static final ThreadLocal<UUID> CURRENT_GAME = new ThreadLocal<>();
+
+	private final ConcurrentHashMap<UUID, Queue<FutureTask<?>>> mailboxes = new ConcurrentHashMap<>();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	/**
+	 * Run an action in the game's mailbox and wait for its result.
+	 * Exceptions thrown by the action are rethrown unchanged to the caller.
+	 */
+	public <T> T execute(UUID gameId, Supplier<T> action) {
+		if (gameId.equals(CURRENT_GAME.get())) {
+			return action.get();
+		}
+
+		FutureTask<T> task = new FutureTask<>(action::get);
+		mailboxes.compute(gameId, (id, queue) -> {
+			if (queue == null) {
+				// First message for an idle game: start its drainer
+				queue = new ArrayDeque<>();
+				executor.execute(() -> drain(id));
+			}
+			queue.add(task);
+			return queue;
+		});
+		return await(task);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.close();
+	}
+
+	int mailboxCount() {
+		return mailboxes.size();
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private void drain(UUID gameId) {
+		CURRENT_GAME.set(gameId);
+		try {
+			FutureTask<?> next;
+			while ((next = poll(gameId)) != null) {
+				next.run();
+			}
+		} finally {
+			CURRENT_GAME.remove();
+		}
+	}
+
+	/**
+	 * Take the next task, removing the mailbox once it is empty so a later submit starts a new drainer.
+	 */
+	private FutureTask<?> poll(UUID gameId) {
+		FutureTask<?>[] next = new FutureTask<?>[1];
+		mailboxes.computeIfPresent(gameId, (id, queue) -> {
+			next[0] = queue.poll();
+			return next[0] == null ? null : queue;
+		});
+		return next[0];
+	}
+
+	private static <T> T await(FutureTask<T> task) {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for game action", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters for gameplay actions and AI turns.
+ *
+ * Every action gets a latency histogram, a count of the events it produced, and a count of the
+ * exceptions it threw by type. Meters are created once per action name and cached, so recording
+ * costs two clock reads and a few atomic adds.
+ */
+@Component
+public class GameMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, ActionMeters> actions = new ConcurrentHashMap<>();
+	private final Map<AiDifficulty, Timer> aiTurns = new ConcurrentHashMap<>();
+
+	public GameMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Run a gameplay action and record its latency, its events (if it returned a response) or the
+	 * type of exception it threw, which is rethrown unchanged.
+	 */
+	public GameActionResponse record(String action, Supplier<GameActionResponse> body) {
+		ActionMeters meters = actions.computeIfAbsent(action, this::actionMeters);
+		long start = System.nanoTime();
+		try {
+			GameActionResponse response = body.get();
+			if (response != null && response.getEvents() != null) {
+				meters.events.increment(response.getEvents().size());
+			}
+			return response;
+		} catch (RuntimeException e) {
+			Counter.builder("spellfaire.game.action.errors")
+				.description("Gameplay actions that failed, by exception type")
+				.tag("action", action)
+				.tag("exception", e.getClass().getSimpleName())
+				.register(meterRegistry)
+				.increment();
+			throw e;
+		} finally {
+			meters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Record how long the AI took to choose and play its moves for one turn.
+	 */
+	public void recordAiTurn(AiDifficulty difficulty, long nanos) {
+		AiDifficulty key = difficulty != null ? difficulty : AiDifficulty.NORMAL;
+		aiTurns.computeIfAbsent(key, d -> Timer.builder("spellfaire.game.ai.turn")
+				.description("Time the AI spent playing one turn")
+				.tag("difficulty", d.name())
+				.publishPercentileHistogram()
+				.register(meterRegistry))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private ActionMeters actionMeters(String action) {
+		return new ActionMeters(
+				Timer.builder("spellfaire.game.action")
+					.description("Latency of a gameplay action, including loading and saving the game")
+					.tag("action", action)
+					.publishPercentileHistogram()
+					.register(meterRegistry),
+				Counter.builder("spellfaire.game.events")
+					.description("Game events produced by gameplay actions")
+					.tag("action", action)
+					.register(meterRegistry));
+	}
+
+	private record ActionMeters(Timer latency, Counter events) {
+	}
+}
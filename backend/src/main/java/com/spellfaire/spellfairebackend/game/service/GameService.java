@@ -3,11 +3,11 @@ package com.spellfaire.spellfairebackend.game.service;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +16,6 @@ import com.spellfaire.spellfairebackend.game.dto.BoardCreatureResponse;
 import com.spellfaire.spellfairebackend.game.dto.CreateGameRequest;
 import com.spellfaire.spellfairebackend.game.dto.GamePlayerStateResponse;
 import com.spellfaire.spellfairebackend.game.dto.GameResponse;
-import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardZone;
 import com.spellfaire.spellfairebackend.game.model.Deck;
@@ -28,6 +27,13 @@ import com.spellfaire.spellfairebackend.game.model.GameStatus;
 import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
 import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
 import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CardPile;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameRandom;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.GameStateMapper;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
 
 /**
  * Service for game-related operations.
@@ -38,17 +44,22 @@ public class GameService {
 
 	private final GameRepository gameRepository;
 	private final DeckRepository deckRepository;
-	private final Random random;
+	private final GameStateMapper gameStateMapper;
+	private final GameStateStore gameStateStore;
 
-	public GameService(GameRepository gameRepository, DeckRepository deckRepository) {
+	public GameService(GameRepository gameRepository, DeckRepository deckRepository,
+					   GameStateMapper gameStateMapper, GameStateStore gameStateStore) {
 		this.gameRepository = gameRepository;
 		this.deckRepository = deckRepository;
-		this.random = new Random();
+		this.gameStateMapper = gameStateMapper;
+		this.gameStateStore = gameStateStore;
 	}
 
 	/**
 	 * Create a new game.
-	 * Sets up initial game state including shuffled decks and initial hands.
+	 * Sets up initial game state including shuffled decks and initial hands, drawn from a fresh
+	 * {@link GameRandom}. Its seed stays on the server; in a game between two players neither may
+	 * learn it, or they could predict each other's draws.
 	 */
 	@Transactional
 	public GameResponse createGame(String player1Id, CreateGameRequest request) {
@@ -62,6 +73,7 @@ public class GameService {
 
 		Game game = new Game();
 		game.setPlayer1Id(player1Id);
+		GameRandom random = new GameRandom(ThreadLocalRandom.current().nextLong());
 
 		// Handle AI or player 2
 		if (request.getPlayer2Id() == null || "AI".equalsIgnoreCase(request.getPlayer2Id())) {
@@ -84,7 +96,7 @@ public class GameService {
 			}
 
 			// Initialize player 2 state
-			initializePlayerState(game.getPlayer2State(), request.getPlayer2Id(), player2Deck, false);
+			initializePlayerState(game.getPlayer2State(), request.getPlayer2Id(), player2Deck, false, random);
 		}
 
 		// Randomly determine who goes first
@@ -92,7 +104,9 @@ public class GameService {
 		game.setCurrentPlayerId(player1First ? player1Id : game.getPlayer2Id());
 
 		// Initialize player 1 state
-		initializePlayerState(game.getPlayer1State(), player1Id, player1Deck, player1First);
+		initializePlayerState(game.getPlayer1State(), player1Id, player1Deck, player1First, random);
+		game.setRngSeed(random.getSeed());
+		game.setRngPosition(random.getPosition());
 
 		game.setGameStatus(GameStatus.SETUP);
 		game.setCurrentPhase(GamePhase.MAIN);
@@ -132,16 +146,23 @@ public class GameService {
 	 */
 	@Transactional(readOnly = true)
 	public Optional<GameResponse> getGameById(UUID gameId) {
-		return gameRepository.findById(gameId)
+		Optional<GameState> active = gameStateStore.find(gameId);
+		if (active.isPresent()) {
+			return active.map(this::toGameResponse);
+		}
+		return gameRepository.findGraphById(gameId)
 			.map(this::toGameResponse);
 	}
 
 	/**
 	 * Initialize a player's game state with shuffled deck and initial hand.
 	 */
-	private void initializePlayerState(GamePlayerState state, String userId, Deck deck, boolean goesFirst) {
+	private void initializePlayerState(GamePlayerState state, String userId, Deck deck, boolean goesFirst,
+									   GameRandom random) {
 		state.setUserId(userId);
 		state.setDeckId(deck.getId().toString());
+		state.setFaction(deck.getFaction());
+		state.setMagicSchool(deck.getMagicSchool());
 		state.setHeroHealth(25);
 		state.setMaxMana(1);
 		state.setCurrentMana(1);
@@ -186,8 +207,17 @@ public class GameService {
 
 	/**
 	 * Map Game entity to GameResponse DTO (package-visible for GameplayService).
+	 * Prefers the in-memory state when the game is active in write-behind mode.
 	 */
 	public GameResponse toGameResponse(Game game) {
+		return toGameResponse(gameStateStore.find(game.getId())
+			.orElseGet(() -> gameStateMapper.toState(game)));
+	}
+
+	/**
+	 * Map in-memory GameState to GameResponse DTO.
+	 */
+	public GameResponse toGameResponse(GameState game) {
 		GameResponse response = new GameResponse();
 		response.setId(game.getId().toString());
 		response.setPlayer1Id(game.getPlayer1Id());
@@ -197,6 +227,7 @@ public class GameService {
 		response.setCurrentPhase(game.getCurrentPhase());
 		response.setWinnerId(game.getWinnerId());
 		response.setTurnNumber(game.getTurnNumber());
+		response.setStateVersion(game.getStateVersion());
 		response.setPlayer1State(toPlayerStateResponse(game.getPlayer1State()));
 		response.setPlayer2State(toPlayerStateResponse(game.getPlayer2State()));
 		response.setCreatedAt(game.getCreatedAt());
@@ -205,61 +236,48 @@ public class GameService {
 	}
 
 	/**
-	 * Map GamePlayerState entity to GamePlayerStateResponse DTO.
+	 * Map PlayerState to GamePlayerStateResponse DTO.
 	 */
-	private GamePlayerStateResponse toPlayerStateResponse(GamePlayerState state) {
-		if (state == null) {
-			return null;
-		}
-
+	private GamePlayerStateResponse toPlayerStateResponse(PlayerState state) {
 		GamePlayerStateResponse response = new GamePlayerStateResponse();
 		response.setUserId(state.getUserId());
 		response.setDeckId(state.getDeckId());
-		if (state.getDeckId() != null) {
-			try {
-				deckRepository.findById(UUID.fromString(state.getDeckId())).ifPresent(deck -> {
-					response.setFaction(deck.getFaction());
-					response.setMagicSchool(deck.getMagicSchool());
-				});
-			} catch (IllegalArgumentException ignored) {
-				// Keep faction/school unset when deck ID is malformed.
-			}
-		}
+		response.setFaction(state.getFaction());
+		response.setMagicSchool(state.getMagicSchool());
 		response.setHeroHealth(state.getHeroHealth());
 		response.setMaxMana(state.getMaxMana());
 		response.setCurrentMana(state.getCurrentMana());
 		response.setFatigueCounter(state.getFatigueCounter());
 
-		// Separate zone cards by zone type
-		response.setDeck(state.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.DECK)
-			.map(c -> c.getCard().getId().toString())
-			.collect(Collectors.toList()));
-
-		response.setHand(state.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.HAND)
-			.map(c -> c.getCard().getId().toString())
-			.collect(Collectors.toList()));
-
-		response.setDiscardPile(state.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.DISCARD)
-			.map(c -> c.getCard().getId().toString())
-			.collect(Collectors.toList()));
+		response.setDeck(toCardIds(state.getDeck()));
+		response.setHand(toCardIds(state.getHand()));
+		response.setDiscardPile(toCardIds(state.getDiscardPile()));
 
 		// Map battlefield creatures
-		response.setBattlefield(state.getBattlefield().stream()
-			.map(this::toBoardCreatureResponse)
-			.collect(Collectors.toList()));
+		Battlefield battlefield = state.getBattlefield();
+		List<BoardCreatureResponse> creatures = new ArrayList<>(battlefield.size());
+		for (int i = 0; i < battlefield.size(); i++) {
+			creatures.add(toBoardCreatureResponse(battlefield.get(i), i));
+		}
+		response.setBattlefield(creatures);
 
 		return response;
 	}
 
+	private List<String> toCardIds(CardPile pile) {
+		List<String> ids = new ArrayList<>(pile.size());
+		for (int i = 0; i < pile.size(); i++) {
+			ids.add(pile.get(i).getId().toString());
+		}
+		return ids;
+	}
+
 	/**
-	 * Map BoardCreature entity to BoardCreatureResponse DTO.
+	 * Map CreatureState to BoardCreatureResponse DTO.
 	 */
-	private BoardCreatureResponse toBoardCreatureResponse(BoardCreature creature) {
+	private BoardCreatureResponse toBoardCreatureResponse(CreatureState creature, int position) {
 		BoardCreatureResponse response = new BoardCreatureResponse();
-		response.setInstanceId(creature.getId().toString());
+		response.setInstanceId(creature.getInstanceId());
 		response.setCardId(creature.getCard().getId().toString());
 		response.setAttack(creature.getAttack());
 		response.setHealth(creature.getHealth());
@@ -267,9 +285,9 @@ public class GameService {
 		response.setCanAttack(creature.isCanAttack());
 		response.setHasAttackedThisTurn(creature.isHasAttackedThisTurn());
 		response.setFrozenBlocksAttacksThisTurn(creature.isFrozenBlocksAttacksThisTurn());
-		response.setKeywords(creature.getKeywords());
-		response.setStatuses(creature.getStatuses());
-		response.setPosition(creature.getPosition());
+		response.setKeywords(new HashSet<>(creature.getKeywords()));
+		response.setStatuses(new HashSet<>(creature.getStatuses()));
+		response.setPosition(position);
 		return response;
 	}
 }
@@ -0,0 +1,476 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spellfaire.spellfairebackend.game.config.StatementCounter;
+import com.spellfaire.spellfairebackend.game.model.Game;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.GameStateMapper;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Owns the persistence boundary for gameplay actions.
+ *
+ * In write-through mode (default) every action loads the game, runs, and saves it in one transaction.
+ * In write-behind mode active games stay in a bounded in-memory store and actions neither load nor
+ * save the game graph; with the {@link GameEventLog} enabled each still inserts its one game_log row.
+ * Dirty games are checkpointed every flush interval, and immediately at turn end, game over or
+ * eviction. Actions since the last checkpoint are replayed from the log when the game is next
+ * loaded, so a crash loses none of them (without the log, which leaves actions no statements at
+ * all, up to one flush interval).
+ *
+ * Either way, actions on one game are serialized through its {@link GameMailbox}. Other app instances
+ * are detected through the game's version column: a write-through action that loses the race is
+ * replayed against the fresh row up to max-attempts times, and a write-behind checkpoint that finds
+ * the row moved on drops its stale in-memory copy.
+ */
+@Service
+public class GameStateStore {
+
+	private static final Logger log = LoggerFactory.getLogger(GameStateStore.class);
+
+	private final GameRepository gameRepository;
+	private final GameStateMapper gameStateMapper;
+	private final GameMailbox gameMailbox;
+	private final GameEventLog gameEventLog;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean writeBehind;
+	private final int maxActiveGames;
+	private final int maxAttempts;
+	private final Counter conflicts;
+	private final Counter retries;
+	private final DistributionSummary statements;
+	private final DistributionSummary loadSize;
+
+	// Access-ordered so the eldest entry is the least recently used game
+	private final LinkedHashMap<UUID, ActiveGame> activeGames = new LinkedHashMap<>(16, 0.75f, true);
+
+	public GameStateStore(GameRepository gameRepository, GameStateMapper gameStateMapper,
+						  GameMailbox gameMailbox, GameEventLog gameEventLog,
+						  PlatformTransactionManager transactionManager,
+						  MeterRegistry meterRegistry,
+						  @Value("${spellfaire.game.write-behind.enabled:false}") boolean writeBehind,
+						  @Value("${spellfaire.game.write-behind.max-active-games:1000}") int maxActiveGames,
+						  @Value("${spellfaire.game.optimistic-lock.max-attempts:3}") int maxAttempts) {
+		this.gameRepository = gameRepository;
+		this.gameStateMapper = gameStateMapper;
+		this.gameMailbox = gameMailbox;
+		this.gameEventLog = gameEventLog;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.writeBehind = writeBehind;
+		this.maxActiveGames = maxActiveGames;
+		this.maxAttempts = maxAttempts;
+		this.conflicts = Counter.builder("spellfaire.game.optimistic.conflicts")
+			.description("Game saves rejected because another writer changed the row")
+			.register(meterRegistry);
+		this.retries = Counter.builder("spellfaire.game.optimistic.retries")
+			.description("Gameplay actions replayed after a version conflict")
+			.register(meterRegistry);
+		this.statements = DistributionSummary.builder("spellfaire.game.statements")
+			.description("SQL statements issued to create a game or apply one action to it")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.loadSize = DistributionSummary.builder("spellfaire.game.load.size")
+			.description("Cards and creatures in a game loaded from the database")
+			.baseUnit("entities")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("spellfaire.game.active", this, GameStateStore::activeGameCount)
+			.description("Games held in memory by write-behind mode")
+			.register(meterRegistry);
+		Gauge.builder("spellfaire.game.mailboxes", gameMailbox, GameMailbox::mailboxCount)
+			.description("Games with actions queued or running")
+			.register(meterRegistry);
+	}
+
+	// ==================================================================
+	// ACTIONS
+	// ==================================================================
+
+	/**
+	 * Insert a newly created game and, in write-behind mode, keep it active. Inside a caller's
+	 * transaction the game becomes active only once that commits, so a rollback leaves no
+	 * in-memory game behind for a row that was never written.
+	 */
+	public void create(GameState state) {
+		Instant now = Instant.now();
+		state.setCreatedAt(now);
+		state.setUpdatedAt(now);
+		long statementsBefore = StatementCounter.current();
+		transactionTemplate.executeWithoutResult(tx -> {
+			Game game = new Game();
+			gameStateMapper.applyTo(state, game);
+			game = gameRepository.save(game);
+			state.setId(game.getId());
+			state.setVersion(game.getVersion());
+		});
+		statements.record(StatementCounter.current() - statementsBefore);
+
+		if (writeBehind && state.getGameStatus() != GameStatus.FINISHED) {
+			ActiveGame active = new ActiveGame(state);
+			active.flushedRevision = active.revision;
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						register(active);
+					}
+				});
+			} else {
+				register(active);
+			}
+		}
+	}
+
+	/**
+	 * Run an action against a game's state and persist the result according to the configured mode.
+	 * The action works on a copy that replaces the game's state only if it returns normally, so an
+	 * exception thrown halfway through leaves the state untouched.
+	 */
+	public <T> T update(UUID gameId, Function<GameState, T> action) {
+		return update(gameId, action, result -> { });
+	}
+
+	/**
+	 * Like {@link #update(UUID, Function)}, then hand the result to {@code afterSave} once it is
+	 * persisted, still inside the game's mailbox so callbacks observe actions in order.
+	 */
+	public <T> T update(UUID gameId, Function<GameState, T> action, Consumer<T> afterSave) {
+		return gameMailbox.execute(gameId, () -> {
+			long statementsBefore = StatementCounter.current();
+			T result;
+			try {
+				result = process(gameId, action);
+			} finally {
+				statements.record(StatementCounter.current() - statementsBefore);
+			}
+			afterSave.accept(result);
+			return result;
+		});
+	}
+
+	/**
+	 * A private copy of a game's current state, for work that should hold neither the game nor a
+	 * transaction while it runs, such as planning the AI's turn. Changes to it are not saved.
+	 */
+	public GameState read(UUID gameId) {
+		if (writeBehind) {
+			ActiveGame active = activate(gameId);
+			synchronized (active) {
+				return active.state.copy();
+			}
+		}
+		return loaded(transactionTemplate.execute(tx -> gameStateMapper.toState(loadGame(gameId))));
+	}
+
+	/**
+	 * A copy of an active game's in-memory state, if write-behind mode holds one.
+	 * Readers should prefer it over the database row, which may lag by one flush interval.
+	 */
+	public Optional<GameState> find(UUID gameId) {
+		if (!writeBehind || gameId == null) {
+			return Optional.empty();
+		}
+		ActiveGame active;
+		synchronized (activeGames) {
+			active = activeGames.get(gameId);
+		}
+		if (active == null) {
+			return Optional.empty();
+		}
+		// Taken under the game's lock so a reader never sees an action half-applied
+		synchronized (active) {
+			return Optional.of(active.state.copy());
+		}
+	}
+
+	private <T> T process(UUID gameId, Function<GameState, T> action) {
+		if (!writeBehind) {
+			return processWriteThrough(gameId, action);
+		}
+
+		ActiveGame active = activate(gameId);
+		boolean checkpoint;
+		boolean finished;
+		T result;
+		synchronized (active) {
+			GameState next = active.state.copy();
+			result = applyAction(next, action);
+			finished = next.getGameStatus() == GameStatus.FINISHED;
+			checkpoint = active.evicted || finished || next.getTurnNumber() != active.state.getTurnNumber();
+			active.state = next;
+			active.revision++;
+		}
+
+		if (checkpoint) {
+			flush(active);
+			retire(active);
+		}
+		return result;
+	}
+
+	/**
+	 * Load, run and save in one transaction. Actions are pure functions of the loaded state,
+	 * so on a version conflict the whole transaction is simply replayed against the fresh row.
+	 */
+	private <T> T processWriteThrough(UUID gameId, Function<GameState, T> action) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return transactionTemplate.execute(tx -> {
+					Game game = loadGame(gameId);
+					GameState state = loaded(gameStateMapper.toState(game));
+					T result = applyAction(state, action);
+					gameStateMapper.applyTo(state, game);
+					gameRepository.save(game);
+					return result;
+				});
+			} catch (OptimisticLockingFailureException e) {
+				conflicts.increment();
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+				retries.increment();
+				log.debug("Version conflict on game {}, retrying (attempt {})", gameId, attempt + 1);
+			}
+		}
+	}
+
+	// ==================================================================
+	// CHECKPOINTING
+	// ==================================================================
+
+	/**
+	 * Checkpoint every dirty active game.
+	 */
+	@Scheduled(fixedDelayString = "${spellfaire.game.write-behind.flush-interval-ms:1000}")
+	public void flushDirty() {
+		if (!writeBehind) {
+			return;
+		}
+		for (ActiveGame active : snapshot()) {
+			if (active.isDirty()) {
+				flush(active);
+			}
+			retire(active);
+		}
+	}
+
+	@PreDestroy
+	public void flushAll() {
+		flushDirty();
+	}
+
+	int activeGameCount() {
+		synchronized (activeGames) {
+			return activeGames.size();
+		}
+	}
+
+	/**
+	 * Save the game's current state. Flushes of one game are serialized, so a scheduled flush and
+	 * a turn-end checkpoint never both save from the same row version; whichever comes second
+	 * finds the game clean or saves on top of the first. A game whose flush fails stays
+	 * registered and dirty, so the next scheduled flush retries it.
+	 */
+	private void flush(ActiveGame active) {
+		synchronized (active.flushLock) {
+			if (!active.isDirty()) {
+				return;
+			}
+			try {
+				transactionTemplate.executeWithoutResult(tx -> {
+					Game game = loadGame(active.id);
+					long revision;
+					synchronized (active) {
+						if (!Objects.equals(active.state.getVersion(), game.getVersion())) {
+							throw new OptimisticLockingFailureException(
+								"Game " + game.getId() + " was changed by another writer");
+						}
+						revision = active.revision;
+						gameStateMapper.applyTo(active.state, game);
+					}
+					// Flush here so the bumped version is known before the state is touched again
+					gameRepository.saveAndFlush(game);
+					synchronized (active) {
+						active.state.setVersion(game.getVersion());
+						active.flushedRevision = revision;
+					}
+				});
+			} catch (OptimisticLockingFailureException e) {
+				// Another instance owns this game now; its row wins and the next action reloads it
+				conflicts.increment();
+				log.warn("Dropping stale in-memory state of game {}", active.id);
+				release(active);
+			} catch (RuntimeException e) {
+				log.error("Failed to checkpoint game {}", active.id, e);
+				synchronized (activeGames) {
+					// Put back if it was retired meanwhile, so its changes are not lost
+					activeGames.putIfAbsent(active.id, active);
+				}
+			}
+		}
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private <T> T applyAction(GameState state, Function<GameState, T> action) {
+		// Bumped up front so the response built inside the action carries the new version
+		long stateVersion = state.getStateVersion();
+		state.setStateVersion(stateVersion + 1);
+		T result;
+		try {
+			result = action.apply(state);
+		} catch (RuntimeException e) {
+			state.setStateVersion(stateVersion);
+			throw e;
+		}
+		state.setUpdatedAt(Instant.now());
+		return result;
+	}
+
+	private ActiveGame activate(UUID gameId) {
+		synchronized (activeGames) {
+			ActiveGame active = activeGames.get(gameId);
+			if (active != null) {
+				return active;
+			}
+		}
+
+		GameState state = loaded(transactionTemplate.execute(tx -> gameStateMapper.toState(loadGame(gameId))));
+		int replayed = gameEventLog.recover(state);
+		ActiveGame loaded = new ActiveGame(state);
+		if (replayed > 0) {
+			// The row lagged its log; the recovered state goes out with the next checkpoint
+			loaded.revision++;
+		}
+		synchronized (activeGames) {
+			// Another request may have loaded the same game meanwhile
+			ActiveGame existing = activeGames.get(gameId);
+			if (existing != null) {
+				return existing;
+			}
+		}
+		register(loaded);
+		return loaded;
+	}
+
+	private void register(ActiveGame active) {
+		List<ActiveGame> evicted = new ArrayList<>();
+		synchronized (activeGames) {
+			activeGames.put(active.id, active);
+			// Evicted games leave only once flushed, until then they are still the ones actions use
+			Iterator<ActiveGame> it = activeGames.values().iterator();
+			for (int excess = activeGames.size() - maxActiveGames; excess > 0 && it.hasNext(); excess--) {
+				ActiveGame eldest = it.next();
+				if (eldest != active) {
+					evicted.add(eldest);
+				}
+			}
+		}
+
+		for (ActiveGame eldest : evicted) {
+			synchronized (eldest) {
+				eldest.evicted = true;
+			}
+			flush(eldest);
+			retire(eldest);
+		}
+	}
+
+	/**
+	 * Drop an evicted or finished game from memory once everything it holds is saved.
+	 */
+	private void retire(ActiveGame active) {
+		synchronized (activeGames) {
+			synchronized (active) {
+				boolean done = active.evicted || active.state.getGameStatus() == GameStatus.FINISHED;
+				if (done && !active.isDirty()) {
+					activeGames.remove(active.id, active);
+				}
+			}
+		}
+	}
+
+	private void release(ActiveGame active) {
+		synchronized (activeGames) {
+			activeGames.remove(active.id, active);
+		}
+	}
+
+	private List<ActiveGame> snapshot() {
+		synchronized (activeGames) {
+			return new ArrayList<>(activeGames.values());
+		}
+	}
+
+	/**
+	 * Record how much of the game came from the database.
+	 */
+	private GameState loaded(GameState state) {
+		int size = 0;
+		for (PlayerState player : List.of(state.getPlayer1State(), state.getPlayer2State())) {
+			size += player.getDeck().size() + player.getHand().size() + player.getDiscardPile().size()
+					+ player.getBattlefield().size();
+		}
+		loadSize.record(size);
+		return state;
+	}
+
+	private Game loadGame(UUID gameId) {
+		return gameRepository.findGraphById(gameId)
+			.orElseThrow(() -> new IllegalArgumentException("Game not found"));
+	}
+
+	/**
+	 * An active game and its checkpoint bookkeeping. Guarded by its own monitor, apart from
+	 * {@code flushLock}.
+	 */
+	private static class ActiveGame {
+		private final UUID id;
+		// Held for a whole flush, outside the monitor, so actions keep running while it saves
+		private final Object flushLock = new Object();
+		private GameState state;
+		private long revision;
+		private volatile long flushedRevision;
+		private boolean evicted;
+
+		private ActiveGame(GameState state) {
+			this.id = state.getId();
+			this.state = state;
+		}
+
+		private synchronized boolean isDirty() {
+			return revision != flushedRevision;
+		}
+	}
+}
@@ -0,0 +1,277 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes game updates to subscribed clients (players and spectators) over server-sent events.
+ *
+ * Emitters are async, so an idle subscriber holds no request thread; it costs one map entry
+ * and an open socket until it disconnects or times out and the client reconnects.
+ *
+ * Events are written on a small pool of its own, never on the thread that publishes them (the
+ * game's mailbox) or the heartbeat's. Each subscriber has a bounded queue of events waiting to be
+ * written, drained in order by one task at a time; a client too slow to keep its queue from
+ * filling up is dropped, and reconnects with a fresh snapshot.
+ *
+ * The last few updates of recently active games are also kept for clients that poll with the
+ * state version they last saw instead of holding a stream open, and every published state is
+ * offered to {@link GameDeltaService} as a base for later deltas, including the AI's turns,
+ * which no request returns.
+ */
+@Service
+public class GameUpdateBroadcaster {
+
+	public static final String STATE_EVENT = "game-state";
+	public static final String UPDATE_EVENT = "game-update";
+
+	private static final Logger log = LoggerFactory.getLogger(GameUpdateBroadcaster.class);
+
+	private final long timeoutMs;
+	private final int backlogDepth;
+	private final int backlogGames;
+	private final int sendQueue;
+	private final Executor sender;
+	private final GameDeltaService gameDeltaService;
+	private final ConcurrentHashMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	// Access-ordered so the eldest entry is the least recently updated game
+	private final LinkedHashMap<UUID, Deque<GameActionResponse>> backlog = new LinkedHashMap<>(16, 0.75f, true);
+
+	@Autowired
+	public GameUpdateBroadcaster(@Value("${spellfaire.game.stream.timeout-ms:1800000}") long timeoutMs,
+								 @Value("${spellfaire.game.stream.backlog-depth:8}") int backlogDepth,
+								 @Value("${spellfaire.game.stream.backlog-games:1000}") int backlogGames,
+								 @Value("${spellfaire.game.stream.send-threads:2}") int sendThreads,
+								 @Value("${spellfaire.game.stream.send-queue:32}") int sendQueue,
+								 GameDeltaService gameDeltaService) {
+		this(timeoutMs, backlogDepth, backlogGames, sendQueue, pool(sendThreads), gameDeltaService);
+	}
+
+	GameUpdateBroadcaster(long timeoutMs, int backlogDepth, int backlogGames, int sendQueue, Executor sender,
+						  GameDeltaService gameDeltaService) {
+		this.timeoutMs = timeoutMs;
+		this.backlogDepth = backlogDepth;
+		this.backlogGames = backlogGames;
+		this.sendQueue = sendQueue;
+		this.sender = sender;
+		this.gameDeltaService = gameDeltaService;
+	}
+
+	/**
+	 * Subscribe to a game, starting with a snapshot of its current state.
+	 */
+	public SseEmitter subscribe(UUID gameId, GameResponse snapshot) {
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		Subscriber subscriber = new Subscriber(gameId, emitter);
+		subscribers.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+		emitter.onCompletion(() -> unsubscribe(subscriber));
+		emitter.onTimeout(() -> unsubscribe(subscriber));
+		emitter.onError(error -> unsubscribe(subscriber));
+
+		subscriber.offer(SseEmitter.event().name(STATE_EVENT).data(snapshot));
+		return emitter;
+	}
+
+	/**
+	 * Push the result of an action to every subscriber of the game. Returns once the update is
+	 * queued; it is written to the clients asynchronously.
+	 */
+	public void publish(UUID gameId, GameActionResponse update) {
+		remember(gameId, update);
+		if (update.getGame() != null) {
+			gameDeltaService.record(update.getGame());
+		}
+
+		Set<Subscriber> emitters = subscribers.get(gameId);
+		if (emitters == null) {
+			return;
+		}
+		for (Subscriber subscriber : emitters) {
+			subscriber.offer(SseEmitter.event().name(UPDATE_EVENT).data(update));
+		}
+	}
+
+	/**
+	 * Updates of the game published after the given state version, oldest first.
+	 * Only the last few are kept, so a client that fell further behind should reload the game.
+	 */
+	public List<GameActionResponse> updatesSince(UUID gameId, long sinceVersion) {
+		synchronized (backlog) {
+			Deque<GameActionResponse> updates = backlog.get(gameId);
+			if (updates == null) {
+				return List.of();
+			}
+			return updates.stream()
+				.filter(update -> update.getGame().getStateVersion() > sinceVersion)
+				.toList();
+		}
+	}
+
+	/**
+	 * Keep idle streams alive through proxies and find clients that went away without closing.
+	 * The pings are queued like updates, so a stalled client only fills its own queue.
+	 */
+	@Scheduled(fixedDelayString = "${spellfaire.game.stream.heartbeat-ms:25000}")
+	public void heartbeat() {
+		subscribers.forEach((gameId, emitters) -> {
+			for (Subscriber subscriber : emitters) {
+				subscriber.offer(SseEmitter.event().comment("ping"));
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (sender instanceof ExecutorService service) {
+			service.shutdownNow();
+		}
+	}
+
+	int subscriberCount(UUID gameId) {
+		Set<Subscriber> emitters = subscribers.get(gameId);
+		return emitters == null ? 0 : emitters.size();
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private void remember(UUID gameId, GameActionResponse update) {
+		if (update.getGame() == null) {
+			return;
+		}
+		synchronized (backlog) {
+			Deque<GameActionResponse> updates = backlog.computeIfAbsent(gameId, id -> new ArrayDeque<>());
+			updates.addLast(update);
+			while (updates.size() > backlogDepth) {
+				updates.removeFirst();
+			}
+			Iterator<Map.Entry<UUID, Deque<GameActionResponse>>> it = backlog.entrySet().iterator();
+			while (backlog.size() > backlogGames && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	private void unsubscribe(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.gameId, (id, emitters) -> {
+			emitters.remove(subscriber);
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+
+	private static ExecutorService pool(int threads) {
+		AtomicInteger count = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "game-stream-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * One client's stream and the events waiting to be written to it.
+	 * At most one drain task per subscriber is queued or running, so events go out in order.
+	 */
+	private final class Subscriber {
+
+		private final UUID gameId;
+		private final SseEmitter emitter;
+		private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+		private boolean draining;
+		private boolean closed;
+
+		Subscriber(UUID gameId, SseEmitter emitter) {
+			this.gameId = gameId;
+			this.emitter = emitter;
+		}
+
+		void offer(SseEmitter.SseEventBuilder event) {
+			boolean full;
+			synchronized (this) {
+				if (closed) {
+					return;
+				}
+				full = queue.size() >= sendQueue;
+				if (!full) {
+					queue.addLast(event);
+					if (draining) {
+						return;
+					}
+					draining = true;
+				}
+			}
+			if (full) {
+				log.debug("Dropping subscriber of game {}: {} events behind", gameId, sendQueue);
+				close();
+				emitter.complete();
+				return;
+			}
+			try {
+				sender.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				// Shutting down
+				close();
+				emitter.complete();
+			}
+		}
+
+		private void drain() {
+			while (true) {
+				SseEmitter.SseEventBuilder event;
+				synchronized (this) {
+					event = queue.pollFirst();
+					if (event == null || closed) {
+						draining = false;
+						return;
+					}
+				}
+				try {
+					emitter.send(event);
+				} catch (IOException | IllegalStateException e) {
+					// Client disconnected or emitter already completed
+					log.debug("Dropping subscriber of game {}: {}", gameId, e.getMessage());
+					close();
+					emitter.completeWithError(e);
+					return;
+				}
+			}
+		}
+
+		private void close() {
+			synchronized (this) {
+				closed = true;
+				queue.clear();
+			}
+			unsubscribe(this);
+		}
+	}
+}
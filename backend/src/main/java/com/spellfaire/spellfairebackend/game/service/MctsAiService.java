@@ -0,0 +1,455 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.TargetRule;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Monte Carlo tree search AI opponent.
+ *
+ * Each decision of the AI's turn is searched within a share of the per-turn time budget of the
+ * game's {@link AiDifficulty}. A search runs one tree per fork-join worker (root parallelism) and
+ * merges their root visit counts. Every playout works on a copy of the game in which the hidden
+ * cards are dealt at random: the opponent's hand and deck are shuffled together and the AI's own
+ * deck is reshuffled. The tree covers the AI's own moves up to ending the turn; the playout then
+ * finishes the turn and a few more with the {@link AiService} heuristic for both sides and scores
+ * the result. A zero budget plays the heuristic alone.
+ */
+@Service
+public class MctsAiService {
+
+	private static final Logger log = LoggerFactory.getLogger(MctsAiService.class);
+
+	private static final String AI_PLAYER_ID = "AI";
+	private static final double EXPLORATION = Math.sqrt(2);
+	private static final long MIN_SEARCH_NANOS = 5_000_000;
+
+	private final GameEngine gameEngine;
+	private final AiService heuristic;
+	private final CardEffectTable effects;
+	private final Map<AiDifficulty, Long> budgetsMs = new EnumMap<>(AiDifficulty.class);
+	private final int rolloutTurns;
+	private final ForkJoinPool pool;
+
+	public MctsAiService(GameEngine gameEngine, AiService heuristic, CardEffectTable effects,
+						 @Value("${spellfaire.game.ai.budget-ms.easy:0}") long easyBudgetMs,
+						 @Value("${spellfaire.game.ai.budget-ms.normal:300}") long normalBudgetMs,
+						 @Value("${spellfaire.game.ai.budget-ms.hard:1500}") long hardBudgetMs,
+						 @Value("${spellfaire.game.ai.rollout-turns:4}") int rolloutTurns,
+						 @Value("${spellfaire.game.ai.parallelism:0}") int parallelism) {
+		this.gameEngine = gameEngine;
+		this.heuristic = heuristic;
+		this.effects = effects;
+		this.budgetsMs.put(AiDifficulty.EASY, easyBudgetMs);
+		this.budgetsMs.put(AiDifficulty.NORMAL, normalBudgetMs);
+		this.budgetsMs.put(AiDifficulty.HARD, hardBudgetMs);
+		this.rolloutTurns = rolloutTurns;
+		this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		pool.shutdownNow();
+	}
+
+	/**
+	 * Execute a full AI turn, searching each move within the game's difficulty budget.
+	 * Returns all game events that occurred during the AI's actions.
+	 */
+	public List<GameEvent> executeTurn(GameState game) {
+		AiDifficulty difficulty = game.getAiDifficulty() != null ? game.getAiDifficulty() : AiDifficulty.NORMAL;
+		long budgetMs = budgetsMs.get(difficulty);
+		if (budgetMs <= 0) {
+			return heuristic.executeTurn(game, AI_PLAYER_ID);
+		}
+
+		List<GameEvent> events = new ArrayList<>();
+		long deadline = System.nanoTime() + budgetMs * 1_000_000;
+		while (isAiTurn(game)) {
+			if (legalMoves(game, AI_PLAYER_ID).size() == 1) {
+				break; // Only ending the turn is left
+			}
+			long remaining = deadline - System.nanoTime();
+			if (remaining < MIN_SEARCH_NANOS) {
+				events.addAll(heuristic.executeTurn(game, AI_PLAYER_ID));
+				break;
+			}
+
+			// Each move may spend half of what is left, so later moves still get a search
+			Move best;
+			try {
+				best = search(game, AI_PLAYER_ID, System.nanoTime() + remaining / 2);
+			} catch (IllegalStateException e) {
+				log.warn("AI search failed for game {}, finishing the turn heuristically", game.getId(), e);
+				events.addAll(heuristic.executeTurn(game, AI_PLAYER_ID));
+				break;
+			}
+			if (best.kind() == MoveKind.END_TURN) {
+				break;
+			}
+			events.addAll(apply(game, AI_PLAYER_ID, best));
+			events.addAll(gameEngine.checkGameOver(game));
+		}
+		return events;
+	}
+
+	// ==================================================================
+	// SEARCH
+	// ==================================================================
+
+	/**
+	 * Search the given player's best next move until the deadline ({@link System#nanoTime()}).
+	 * The game itself is only read.
+	 */
+	Move search(GameState game, String playerId, long deadlineNanos) {
+		List<Callable<Node>> workers = new ArrayList<>();
+		for (int i = 0; i < pool.getParallelism(); i++) {
+			workers.add(() -> grow(game, playerId, deadlineNanos));
+		}
+
+		Map<Move, Node> merged = new HashMap<>();
+		try {
+			for (Future<Node> worker : pool.invokeAll(workers)) {
+				for (Node child : worker.get().children) {
+					Node total = merged.computeIfAbsent(child.move, move -> new Node(move));
+					total.visits += child.visits;
+					total.wins += child.wins;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("AI search interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("AI search failed", e.getCause());
+		}
+
+		Node best = null;
+		for (Node node : merged.values()) {
+			if (best == null || node.visits > best.visits
+					|| (node.visits == best.visits && node.wins > best.wins)) {
+				best = node;
+			}
+		}
+		return best != null ? best.move : Move.END_TURN;
+	}
+
+	/**
+	 * Grow one tree from the game until the deadline; at least one playout always runs.
+	 */
+	private Node grow(GameState game, String playerId, long deadlineNanos) {
+		Random random = ThreadLocalRandom.current();
+		Node root = new Node(null);
+		do {
+			playout(root, determinize(game, playerId, random), playerId, random);
+		} while (System.nanoTime() < deadlineNanos);
+		return root;
+	}
+
+	private void playout(Node root, GameState state, String playerId, Random random) {
+		List<Node> path = new ArrayList<>();
+		path.add(root);
+		Node node = root;
+		boolean turnOver = false;
+
+		// Selection and expansion over the player's own moves this turn
+		while (!turnOver && state.getGameStatus() == GameStatus.IN_PROGRESS) {
+			List<Move> legal = legalMoves(state, playerId);
+			List<Move> untried = new ArrayList<>(legal);
+			for (Node child : node.children) {
+				untried.remove(child.move);
+			}
+
+			if (!untried.isEmpty()) {
+				node = node.expand(untried.get(random.nextInt(untried.size())));
+				path.add(node);
+				turnOver = play(state, playerId, node.move);
+				break;
+			}
+			node = node.select(legal);
+			path.add(node);
+			turnOver = play(state, playerId, node.move);
+		}
+
+		double value = rollout(state, playerId, turnOver);
+		for (Node visited : path) {
+			visited.visits++;
+			visited.wins += value;
+		}
+	}
+
+	/**
+	 * Finish the turn, then play a few more turns with the heuristic for both sides.
+	 */
+	private double rollout(GameState state, String playerId, boolean turnOver) {
+		if (!turnOver && state.getGameStatus() == GameStatus.IN_PROGRESS) {
+			heuristic.executeTurn(state, playerId);
+			gameEngine.checkGameOver(state);
+		}
+		for (int turn = 0; turn < rolloutTurns && state.getGameStatus() == GameStatus.IN_PROGRESS; turn++) {
+			gameEngine.endTurn(state, state.getCurrentPlayerId());
+			if (state.getGameStatus() == GameStatus.IN_PROGRESS) {
+				heuristic.executeTurn(state, state.getCurrentPlayerId());
+				gameEngine.checkGameOver(state);
+			}
+		}
+		return evaluate(state, playerId);
+	}
+
+	/**
+	 * Score a position for the player between 0 (lost) and 1 (won).
+	 */
+	static double evaluate(GameState state, String playerId) {
+		if (state.getGameStatus() == GameStatus.FINISHED) {
+			return playerId.equals(state.getWinnerId()) ? 1 : 0;
+		}
+		PlayerState self = state.getPlayerState(playerId);
+		PlayerState opponent = state.getOpponentState(playerId);
+		double score = self.getHeroHealth() - opponent.getHeroHealth()
+				+ 0.5 * (boardValue(self) - boardValue(opponent))
+				+ self.getHand().size() - opponent.getHand().size();
+		return 1 / (1 + Math.exp(-score / 10));
+	}
+
+	private static int boardValue(PlayerState state) {
+		int value = 0;
+		for (CreatureState creature : state.getBattlefield().snapshot()) {
+			value += creature.getAttack() + creature.getHealth();
+		}
+		return value;
+	}
+
+	/**
+	 * Copy of the game with the cards the player cannot see dealt at random. The copy's random
+	 * stream is reseeded from the search's own, so playouts cannot see the real game's coming
+	 * draws and rolls.
+	 */
+	static GameState determinize(GameState game, String playerId, Random random) {
+		GameState state = game.copy();
+		state.getRandom().reset(random.nextLong(), 0);
+
+		List<Card> ownDeck = state.getPlayerState(playerId).getDeck().toList();
+		Collections.shuffle(ownDeck, random);
+		state.getPlayerState(playerId).getDeck().clear();
+		ownDeck.forEach(state.getPlayerState(playerId).getDeck()::add);
+
+		PlayerState opponent = state.getOpponentState(playerId);
+		List<Card> unseen = opponent.getHand().toList();
+		unseen.addAll(opponent.getDeck().toList());
+		Collections.shuffle(unseen, random);
+		int handSize = opponent.getHand().size();
+		opponent.getHand().clear();
+		opponent.getDeck().clear();
+		for (int i = 0; i < unseen.size(); i++) {
+			(i < handSize ? opponent.getHand() : opponent.getDeck()).add(unseen.get(i));
+		}
+		return state;
+	}
+
+	// ==================================================================
+	// MOVES
+	// ==================================================================
+
+	enum MoveKind {
+		PLAY,
+		ATTACK,
+		END_TURN
+	}
+
+	enum TargetKind {
+		NONE,
+		ENEMY_HERO,
+		FRIENDLY_HERO,
+		ENEMY_CREATURE,
+		FRIENDLY_CREATURE
+	}
+
+	/**
+	 * A move, with creatures named by board position rather than instance ID so the same move
+	 * carries over between playouts whose summons got different IDs.
+	 */
+	record Move(MoveKind kind, UUID cardId, int attacker, TargetKind target, int targetIndex) {
+
+		static final Move END_TURN = new Move(MoveKind.END_TURN, null, -1, TargetKind.NONE, -1);
+
+		String targetId(PlayerState self, PlayerState opponent) {
+			return switch (target) {
+				case NONE -> null;
+				case ENEMY_HERO -> "ENEMY_HERO";
+				case FRIENDLY_HERO -> "FRIENDLY_HERO";
+				case ENEMY_CREATURE -> opponent.getBattlefield().get(targetIndex).getInstanceId();
+				case FRIENDLY_CREATURE -> self.getBattlefield().get(targetIndex).getInstanceId();
+			};
+		}
+	}
+
+	/**
+	 * Every legal move of the player, ending the turn last.
+	 */
+	List<Move> legalMoves(GameState state, String playerId) {
+		PlayerState self = state.getPlayerState(playerId);
+		PlayerState opponent = state.getOpponentState(playerId);
+		List<Move> moves = new ArrayList<>();
+
+		Set<UUID> seen = new HashSet<>();
+		for (Card card : self.getHand().toList()) {
+			if (card.getId() == null || !seen.add(card.getId())) {
+				continue;
+			}
+			UUID cardId = card.getId();
+			for (Move move : playsOf(card, cardId, self, opponent)) {
+				if (gameEngine.canPlayCard(state, playerId, cardId, move.targetId(self, opponent))) {
+					moves.add(move);
+				}
+			}
+		}
+
+		Battlefield board = self.getBattlefield();
+		for (int i = 0; i < board.size(); i++) {
+			String attackerId = board.get(i).getInstanceId();
+			List<Move> attacks = new ArrayList<>();
+			attacks.add(new Move(MoveKind.ATTACK, null, i, TargetKind.ENEMY_HERO, -1));
+			for (int j = 0; j < opponent.getBattlefield().size(); j++) {
+				attacks.add(new Move(MoveKind.ATTACK, null, i, TargetKind.ENEMY_CREATURE, j));
+			}
+			for (Move attack : attacks) {
+				if (gameEngine.canAttack(state, playerId, attackerId, attack.targetId(self, opponent))) {
+					moves.add(attack);
+				}
+			}
+		}
+
+		moves.add(Move.END_TURN);
+		return moves;
+	}
+
+	/**
+	 * Ways to play the card: once per target its effect accepts, or once untargeted.
+	 */
+	private List<Move> playsOf(Card card, UUID cardId, PlayerState self, PlayerState opponent) {
+		CardEffect effect = effects.effectOf(card);
+		TargetRule rule = effect.target();
+		List<Move> plays = new ArrayList<>();
+		if (rule != TargetRule.NONE) {
+			if (rule == TargetRule.ANY) {
+				plays.add(new Move(MoveKind.PLAY, cardId, -1, TargetKind.ENEMY_HERO, -1));
+				plays.add(new Move(MoveKind.PLAY, cardId, -1, TargetKind.FRIENDLY_HERO, -1));
+			}
+			if (rule != TargetRule.FRIENDLY_CREATURE && rule != TargetRule.OTHER_FRIENDLY_CREATURE) {
+				for (int i = 0; i < opponent.getBattlefield().size(); i++) {
+					plays.add(new Move(MoveKind.PLAY, cardId, -1, TargetKind.ENEMY_CREATURE, i));
+				}
+			}
+			if (rule != TargetRule.ENEMY_CREATURE) {
+				for (int i = 0; i < self.getBattlefield().size(); i++) {
+					plays.add(new Move(MoveKind.PLAY, cardId, -1, TargetKind.FRIENDLY_CREATURE, i));
+				}
+			}
+			plays.removeIf(play -> !effect.acceptsTarget(self, opponent, play.targetId(self, opponent)));
+		}
+		if (plays.isEmpty()) {
+			plays.add(new Move(MoveKind.PLAY, cardId, -1, TargetKind.NONE, -1));
+		}
+		return plays;
+	}
+
+	private List<GameEvent> apply(GameState state, String playerId, Move move) {
+		PlayerState self = state.getPlayerState(playerId);
+		PlayerState opponent = state.getOpponentState(playerId);
+		String targetId = move.targetId(self, opponent);
+		List<GameEvent> events = switch (move.kind()) {
+			case PLAY -> gameEngine.tryPlayCard(state, playerId, move.cardId(), targetId);
+			case ATTACK -> gameEngine.tryAttack(state, playerId,
+					self.getBattlefield().get(move.attacker()).getInstanceId(), targetId);
+			case END_TURN -> List.of();
+		};
+		if (events == null) {
+			throw new IllegalStateException("AI chose an illegal move: " + move);
+		}
+		return events;
+	}
+
+	/**
+	 * Play a legal move in a playout; returns whether the player's turn is over.
+	 */
+	private boolean play(GameState state, String playerId, Move move) {
+		if (move.kind() == MoveKind.END_TURN) {
+			return true;
+		}
+		apply(state, playerId, move);
+		gameEngine.checkGameOver(state);
+		return state.getGameStatus() != GameStatus.IN_PROGRESS;
+	}
+
+	private static boolean isAiTurn(GameState game) {
+		return game.getGameStatus() == GameStatus.IN_PROGRESS && AI_PLAYER_ID.equals(game.getCurrentPlayerId());
+	}
+
+	/**
+	 * Search tree node; each worker owns its own tree, so nodes are not shared between threads.
+	 */
+	private static final class Node {
+		private final Move move;
+		private final List<Node> children = new ArrayList<>();
+		private int visits;
+		private double wins;
+
+		private Node(Move move) {
+			this.move = move;
+		}
+
+		private Node expand(Move childMove) {
+			Node child = new Node(childMove);
+			children.add(child);
+			return child;
+		}
+
+		/**
+		 * UCB1 over the children whose move is legal in this playout.
+		 */
+		private Node select(List<Move> legal) {
+			Node best = null;
+			double bestScore = Double.NEGATIVE_INFINITY;
+			double logVisits = Math.log(visits);
+			for (Node child : children) {
+				if (!legal.contains(child.move)) {
+					continue;
+				}
+				double score = child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+				if (score > bestScore) {
+					bestScore = score;
+					best = child;
+				}
+			}
+			return best;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.spellfaire.spellfairebackend.game.state.GameAction;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.Replay;
+
+/**
+ * A replay indexed for seeking. Playing it through once keeps a copy of the state at the start of
+ * every turn, so the state at any turn is one copy away and the state at any version is one copy
+ * plus at most a turn's worth of steps.
+ */
+public class ReplayPlayback {
+
+	private final GameEngine gameEngine;
+	private final Replay replay;
+
+	// Parallel, ascending: the snapshot taken at the start of each turn and where it sits in the replay
+	private final List<GameState> snapshots = new ArrayList<>();
+	private int[] turns = new int[16];
+	private int[] stepIndexes = new int[16];
+
+	public ReplayPlayback(GameEngine gameEngine, Replay replay) {
+		this.gameEngine = gameEngine;
+		this.replay = replay;
+
+		GameState state = replay.opening().copy();
+		snapshot(state, 0);
+		List<List<GameAction>> steps = replay.steps();
+		for (int i = 0; i < steps.size(); i++) {
+			int turn = state.getTurnNumber();
+			apply(state, steps.get(i));
+			if (state.getTurnNumber() != turn) {
+				snapshot(state, i + 1);
+			}
+		}
+		turns = Arrays.copyOf(turns, snapshots.size());
+		stepIndexes = Arrays.copyOf(stepIndexes, snapshots.size());
+	}
+
+	public Replay getReplay() {
+		return replay;
+	}
+
+	/**
+	 * The last turn reached.
+	 */
+	public int lastTurn() {
+		return turns[turns.length - 1];
+	}
+
+	/**
+	 * A copy of the state at the start of the given turn.
+	 */
+	public GameState atTurn(int turn) {
+		if (turn < turns[0] || turn > lastTurn()) {
+			throw new IllegalArgumentException("Replay covers turns " + turns[0] + " to " + lastTurn());
+		}
+		return snapshots.get(floor(turns, turn)).copy();
+	}
+
+	/**
+	 * A copy of the state at the given state version.
+	 */
+	public GameState atVersion(long stateVersion) {
+		long first = replay.opening().getStateVersion();
+		if (stateVersion < first || stateVersion > replay.finalVersion()) {
+			throw new IllegalArgumentException("Replay covers versions " + first + " to " + replay.finalVersion());
+		}
+		int target = (int) (stateVersion - first);
+		int snapshot = floor(stepIndexes, target);
+		GameState state = snapshots.get(snapshot).copy();
+		for (int i = stepIndexes[snapshot]; i < target; i++) {
+			apply(state, replay.steps().get(i));
+		}
+		return state;
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private void apply(GameState state, List<GameAction> step) {
+		for (GameAction action : step) {
+			gameEngine.replay(state, action);
+		}
+		state.setStateVersion(state.getStateVersion() + 1);
+	}
+
+	private void snapshot(GameState state, int stepIndex) {
+		int index = snapshots.size();
+		if (index == turns.length) {
+			turns = Arrays.copyOf(turns, index * 2);
+			stepIndexes = Arrays.copyOf(stepIndexes, index * 2);
+		}
+		snapshots.add(state.copy());
+		turns[index] = state.getTurnNumber();
+		stepIndexes[index] = stepIndex;
+	}
+
+	// Index of the last element not greater than the key; values are ascending and start at or below it
+	private static int floor(int[] values, int key) {
+		int found = Arrays.binarySearch(values, key);
+		return found >= 0 ? found : -found - 2;
+	}
+}
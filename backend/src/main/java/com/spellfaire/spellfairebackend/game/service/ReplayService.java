@@ -0,0 +1,160 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spellfaire.spellfairebackend.game.model.Game;
+import com.spellfaire.spellfairebackend.game.model.GameLogEntry;
+import com.spellfaire.spellfairebackend.game.model.GameReplay;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.repo.GameLogRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameReplayRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.state.GameAction;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.Replay;
+import com.spellfaire.spellfairebackend.game.state.ReplayCodec;
+
+/**
+ * Replays of finished games, for export and for playback at any turn.
+ *
+ * A game's opening is saved when it is created. The first time the finished game's replay is
+ * asked for, the steps in its log are added and the replay is stored complete, so each game is
+ * assembled from its log once. Replays being played back are kept indexed in memory, least
+ * recently used evicted first.
+ */
+@Service
+public class ReplayService {
+
+	private final GameReplayRepository gameReplayRepository;
+	private final GameRepository gameRepository;
+	private final GameLogRepository gameLogRepository;
+	private final GameEventLog gameEventLog;
+	private final GameEngine gameEngine;
+	private final ReplayCodec replayCodec;
+	private final boolean enabled;
+	private final int cacheSize;
+
+	// Access-ordered so the eldest entry is the least recently played replay
+	private final LinkedHashMap<UUID, ReplayPlayback> playbacks = new LinkedHashMap<>(16, 0.75f, true);
+
+	public ReplayService(GameReplayRepository gameReplayRepository, GameRepository gameRepository,
+						 GameLogRepository gameLogRepository, GameEventLog gameEventLog, GameEngine gameEngine,
+						 ReplayCodec replayCodec,
+						 @Value("${spellfaire.game.log.enabled:true}") boolean enabled,
+						 @Value("${spellfaire.game.replay.cache-size:64}") int cacheSize) {
+		this.gameReplayRepository = gameReplayRepository;
+		this.gameRepository = gameRepository;
+		this.gameLogRepository = gameLogRepository;
+		this.gameEventLog = gameEventLog;
+		this.gameEngine = gameEngine;
+		this.replayCodec = replayCodec;
+		this.enabled = enabled;
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Save a new game's opening state. Replays are built from the game log, so there is nothing
+	 * to save while it is disabled.
+	 */
+	public void recordOpening(GameState state) {
+		if (!enabled) {
+			return;
+		}
+		byte[] data = replayCodec.encode(new Replay(state, List.of()));
+		gameReplayRepository.save(new GameReplay(state.getId(), data, Instant.now()));
+	}
+
+	/**
+	 * The finished game's replay in {@link ReplayCodec} form, or empty if none was recorded.
+	 */
+	@Transactional
+	public Optional<byte[]> export(UUID gameId) {
+		return complete(gameId).map(GameReplay::getData);
+	}
+
+	/**
+	 * The finished game's state at the start of the given turn, or empty if no replay was recorded.
+	 */
+	@Transactional
+	public Optional<GameState> stateAtTurn(UUID gameId, int turn) {
+		return playback(gameId).map(playback -> playback.atTurn(turn));
+	}
+
+	/**
+	 * The finished game's state at the given state version, or empty if no replay was recorded.
+	 */
+	@Transactional
+	public Optional<GameState> stateAtVersion(UUID gameId, long stateVersion) {
+		return playback(gameId).map(playback -> playback.atVersion(stateVersion));
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private Optional<ReplayPlayback> playback(UUID gameId) {
+		synchronized (playbacks) {
+			ReplayPlayback cached = playbacks.get(gameId);
+			if (cached != null) {
+				return Optional.of(cached);
+			}
+		}
+		Optional<ReplayPlayback> playback = complete(gameId)
+			.map(replay -> new ReplayPlayback(gameEngine, replayCodec.decode(replay.getData())));
+		playback.ifPresent(built -> {
+			synchronized (playbacks) {
+				playbacks.put(gameId, built);
+				Iterator<Map.Entry<UUID, ReplayPlayback>> it = playbacks.entrySet().iterator();
+				while (playbacks.size() > cacheSize && it.hasNext()) {
+					it.next();
+					it.remove();
+				}
+			}
+		});
+		return playback;
+	}
+
+	/**
+	 * The game's complete replay, adding the logged steps to its opening the first time.
+	 */
+	private Optional<GameReplay> complete(UUID gameId) {
+		Optional<GameReplay> found = gameReplayRepository.findById(gameId);
+		if (found.isEmpty() || found.get().isComplete()) {
+			return found;
+		}
+		Game game = gameRepository.findById(gameId)
+			.orElseThrow(() -> new IllegalArgumentException("Game not found"));
+		if (game.getGameStatus() != GameStatus.FINISHED) {
+			throw new IllegalArgumentException("Game is not finished");
+		}
+
+		GameReplay replay = found.get();
+		GameState opening = replayCodec.decode(replay.getData()).opening();
+		List<GameLogEntry> entries = gameLogRepository
+			.findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(gameId, opening.getStateVersion());
+		List<List<GameAction>> steps = new ArrayList<>(entries.size());
+		for (GameLogEntry entry : entries) {
+			if (entry.getStateVersion() != opening.getStateVersion() + steps.size() + 1) {
+				throw new IllegalStateException("Game " + gameId + " log is missing version "
+						+ (opening.getStateVersion() + steps.size() + 1));
+			}
+			steps.add(gameEventLog.actions(entry));
+		}
+		if (opening.getStateVersion() + steps.size() != game.getStateVersion()) {
+			throw new IllegalStateException("Game " + gameId + " log ends before version " + game.getStateVersion());
+		}
+		replay.complete(replayCodec.encode(new Replay(opening, steps)), Instant.now());
+		return Optional.of(gameReplayRepository.save(replay));
+	}
+}
@@ -1,34 +1,37 @@
 package com.spellfaire.spellfairebackend.game.service;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
 import com.spellfaire.spellfairebackend.game.dto.GameEvent;
-import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
-import com.spellfaire.spellfairebackend.game.model.CardType;
-import com.spellfaire.spellfairebackend.game.model.CardZone;
-import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
 import com.spellfaire.spellfairebackend.game.model.Keyword;
-import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
 import com.spellfaire.spellfairebackend.game.model.Status;
-import com.spellfaire.spellfairebackend.game.repo.CardRepository;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.AiTarget;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.TargetRule;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.Trigger;
+import com.spellfaire.spellfairebackend.game.state.CardPile;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
 
 /**
  * Resolves spell effects for all 24 spells in the game.
- * Hardcoded by card name for deterministic and clear behavior.
+ * Each spell registers its handler and targeting metadata in the {@link CardEffectTable} once,
+ * at construction; casting a spell is a table lookup.
  */
 @Service
 public class SpellEffectResolver {
 
-	private final CardRepository cardRepository;
+	private final CardCatalog cardCatalog;
+	private final CardEffectTable effects;
 
-	public SpellEffectResolver(CardRepository cardRepository) {
-		this.cardRepository = cardRepository;
+	public SpellEffectResolver(CardCatalog cardCatalog, CardEffectTable effects) {
+		this.cardCatalog = cardCatalog;
+		this.effects = effects;
+		registerEffects();
 	}
 
 	/**
@@ -40,77 +43,124 @@ public class SpellEffectResolver {
 	 * @param targetId       optional target identifier (creature instanceId, "ENEMY_HERO", "FRIENDLY_HERO")
 	 * @return list of game events produced
 	 */
-	public List<GameEvent> resolveSpell(Card spellCard, GamePlayerState casterState,
-										GamePlayerState opponentState, String targetId) {
+	public List<GameEvent> resolveSpell(Card spellCard, PlayerState casterState,
+										PlayerState opponentState, String targetId) {
 		List<GameEvent> events = new ArrayList<>();
-		String spellName = spellCard.getName();
-
-		switch (spellName) {
-			// === FIRE SPELLS ===
-			case "Ember Bolt" -> resolveEmberBolt(casterState, opponentState, targetId, events);
-			case "Searing Ping" -> resolveSearingPing(opponentState, events);
-			case "Flame Javelin" -> resolveFlameJavelin(casterState, opponentState, targetId, events);
-			case "Combust" -> resolveCombust(casterState, opponentState, targetId, events);
-			case "Inferno Sweep" -> resolveInfernoSweep(casterState, opponentState, events);
-			case "Final Spark" -> resolveFinalSpark(opponentState, events);
-
-			// === FROST SPELLS ===
-			case "Ice Shard" -> resolveIceShard(casterState, opponentState, targetId, events);
-			case "Frost Shield" -> resolveFrostShield(casterState, targetId, events);
-			case "Cold Snap" -> resolveColdSnap(opponentState, events);
-			case "Shatter" -> resolveShatter(casterState, opponentState, targetId, events);
-			case "Glacial Binding" -> resolveGlacialBinding(opponentState, targetId, events);
-			case "Deep Winter" -> resolveDeepWinter(casterState, opponentState, events);
-
-			// === NATURE SPELLS ===
-			case "Mend" -> resolveMend(casterState, events);
-			case "Vine Whip" -> resolveVineWhip(casterState, opponentState, targetId, events);
-			case "Sproutling" -> resolveSproutlingSpell(casterState, events);
-			case "Growth" -> resolveGrowth(casterState, targetId, events);
-			case "Bramble Wall" -> resolveBrambleWallSpell(casterState, events);
-			case "Renewal" -> resolveRenewal(casterState, events);
-
-			// === SHADOW SPELLS ===
-			case "Dark Touch" -> resolveDarkTouch(casterState, opponentState, targetId, events);
-			case "Wither" -> resolveWither(opponentState, targetId, events);
-			case "Siphon Life" -> resolveSiphonLife(casterState, opponentState, events);
-			case "Grim Bargain" -> resolveGrimBargain(casterState, targetId, events);
-			case "Haunting Fog" -> resolveHauntingFog(opponentState, events);
-			case "Void Snare" -> resolveVoidSnare(casterState, opponentState, targetId, events);
-
-			default -> events.add(GameEvent.spellResolved(spellCard.getId().toString(),
-					"Unknown spell: " + spellName));
+		CardEffect effect = effects.effectOf(spellCard);
+
+		if (effect.firesOn(Trigger.CAST)) {
+			effect.handler().resolve(null, casterState, opponentState, targetId, events);
+		} else {
+			events.add(GameEvent.spellResolved(spellCard.getId().toString(),
+					"Unknown spell: " + spellCard.getName()));
 		}
 
 		return events;
 	}
 
+	private void registerEffects() {
+		// === FIRE SPELLS ===
+		effects.register("Ember Bolt", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveEmberBolt(caster, opponent, targetId, events))
+				.targets(TargetRule.ANY, AiTarget.FINISH_OR_FACE).burn(2));
+		effects.register("Searing Ping", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveSearingPing(opponent, events)));
+		effects.register("Flame Javelin", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveFlameJavelin(caster, opponent, targetId, events))
+				.targets(TargetRule.ANY_CREATURE, AiTarget.FIRST_ENEMY));
+		effects.register("Combust", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveCombust(caster, opponent, targetId, events))
+				.targets(TargetRule.ANY_CREATURE, AiTarget.FIRST_ENEMY).burn(2));
+		effects.register("Inferno Sweep", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveInfernoSweep(caster, opponent, events)));
+		effects.register("Final Spark", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveFinalSpark(opponent, events))
+				.burn(7));
+
+		// === FROST SPELLS ===
+		effects.register("Ice Shard", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveIceShard(caster, opponent, targetId, events))
+				.targets(TargetRule.ANY_CREATURE, AiTarget.FIRST_ENEMY));
+		effects.register("Frost Shield", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveFrostShield(caster, targetId, events))
+				.targets(TargetRule.FRIENDLY_CREATURE, AiTarget.FIRST_FRIENDLY));
+		effects.register("Cold Snap", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveColdSnap(opponent, events)));
+		effects.register("Shatter", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveShatter(caster, opponent, targetId, events))
+				.targets(TargetRule.ANY_CREATURE, AiTarget.FROZEN_ENEMY));
+		effects.register("Glacial Binding", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveGlacialBinding(opponent, targetId, events))
+				.targets(TargetRule.ENEMY_CREATURE, AiTarget.STRONGEST_ENEMY));
+		effects.register("Deep Winter", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveDeepWinter(caster, opponent, events)));
+
+		// === NATURE SPELLS ===
+		effects.register("Mend", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveMend(caster, events)));
+		effects.register("Vine Whip", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveVineWhip(caster, opponent, targetId, events))
+				.targets(TargetRule.ENEMY_CREATURE, AiTarget.FIRST_ENEMY));
+		effects.register("Sproutling", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveSproutlingSpell(caster, events)));
+		effects.register("Growth", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveGrowth(caster, targetId, events))
+				.targets(TargetRule.FRIENDLY_CREATURE, AiTarget.FIRST_FRIENDLY));
+		effects.register("Bramble Wall", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveBrambleWallSpell(caster, events)));
+		effects.register("Renewal", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveRenewal(caster, events)));
+
+		// === SHADOW SPELLS ===
+		effects.register("Dark Touch", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveDarkTouch(caster, opponent, targetId, events))
+				.targets(TargetRule.ANY, AiTarget.FINISH_OR_FACE).strictTarget().burn(1));
+		effects.register("Wither", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveWither(opponent, targetId, events))
+				.targets(TargetRule.ENEMY_CREATURE, AiTarget.STRONGEST_ENEMY).strictTarget());
+		effects.register("Siphon Life", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveSiphonLife(caster, opponent, events))
+				.burn(3));
+		effects.register("Grim Bargain", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveGrimBargain(caster, targetId, events))
+				.targets(TargetRule.FRIENDLY_CREATURE, AiTarget.WEAKEST_FRIENDLY).strictTarget());
+		effects.register("Haunting Fog", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveHauntingFog(opponent, events)));
+		effects.register("Void Snare", CardEffect.onCast((self, caster, opponent, targetId, events) ->
+				resolveVoidSnare(caster, opponent, targetId, events))
+				.targets(TargetRule.ENEMY_CREATURE, AiTarget.COSTLIEST_ENEMY_UP_TO_5)
+				.validTarget((caster, opponent, targetId) -> {
+					CreatureState target = opponent.getBattlefield().find(targetId);
+					return target != null && target.getCard().getCost() <= 5;
+				}));
+	}
+
 	// ====== FIRE ======
 
 	/** Deal 2 damage to any target. */
-	private void resolveEmberBolt(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveEmberBolt(PlayerState caster, PlayerState opponent,
 								  String targetId, List<GameEvent> events) {
 		dealDamageToTarget(caster, opponent, targetId, 2, "Ember Bolt", events);
 	}
 
 	/** Deal 1 damage to all enemy creatures. */
-	private void resolveSearingPing(GamePlayerState opponent, List<GameEvent> events) {
-		List<BoardCreature> toRemove = new ArrayList<>();
-		for (BoardCreature c : new ArrayList<>(opponent.getBattlefield())) {
+	private void resolveSearingPing(PlayerState opponent, List<GameEvent> events) {
+		List<CreatureState> toRemove = new ArrayList<>();
+		for (CreatureState c : opponent.getBattlefield().snapshot()) {
 			int damage = applyDamageToCreature(c, 1, events, "Searing Ping");
 			if (c.getHealth() <= 0) {
 				toRemove.add(c);
 			}
 		}
-		for (BoardCreature c : toRemove) {
+		for (CreatureState c : toRemove) {
 			killCreature(opponent, c, events);
 		}
 	}
 
 	/** Deal 4 damage to a creature. */
-	private void resolveFlameJavelin(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveFlameJavelin(PlayerState caster, PlayerState opponent,
 									 String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreature(caster, opponent, targetId);
+		CreatureState target = findCreature(caster, opponent, targetId);
 		if (target != null) {
 			applyDamageToCreature(target, 4, events, "Flame Javelin");
 			if (target.getHealth() <= 0) {
@@ -120,9 +170,9 @@ public class SpellEffectResolver {
 	}
 
 	/** Deal 3 damage to a creature and 2 damage to the enemy Hero. */
-	private void resolveCombust(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveCombust(PlayerState caster, PlayerState opponent,
 								String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreature(caster, opponent, targetId);
+		CreatureState target = findCreature(caster, opponent, targetId);
 		if (target != null) {
 			applyDamageToCreature(target, 3, events, "Combust");
 			if (target.getHealth() <= 0) {
@@ -133,35 +183,35 @@ public class SpellEffectResolver {
 	}
 
 	/** Deal 2 damage to all creatures. */
-	private void resolveInfernoSweep(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveInfernoSweep(PlayerState caster, PlayerState opponent,
 									  List<GameEvent> events) {
-		List<BoardCreature> toRemove = new ArrayList<>();
+		List<CreatureState> toRemove = new ArrayList<>();
 
-		for (BoardCreature c : new ArrayList<>(caster.getBattlefield())) {
+		for (CreatureState c : caster.getBattlefield().snapshot()) {
 			applyDamageToCreature(c, 2, events, "Inferno Sweep");
 			if (c.getHealth() <= 0) toRemove.add(c);
 		}
-		for (BoardCreature c : new ArrayList<>(opponent.getBattlefield())) {
+		for (CreatureState c : opponent.getBattlefield().snapshot()) {
 			applyDamageToCreature(c, 2, events, "Inferno Sweep");
 			if (c.getHealth() <= 0) toRemove.add(c);
 		}
 
-		for (BoardCreature c : toRemove) {
+		for (CreatureState c : toRemove) {
 			killCreatureFromEitherSide(caster, opponent, c, events);
 		}
 	}
 
 	/** Deal 7 damage to the enemy Hero. */
-	private void resolveFinalSpark(GamePlayerState opponent, List<GameEvent> events) {
+	private void resolveFinalSpark(PlayerState opponent, List<GameEvent> events) {
 		applyDamageToHero(opponent, 7, events, "Final Spark");
 	}
 
 	// ====== FROST ======
 
 	/** Deal 1 damage to a creature. Freeze it. */
-	private void resolveIceShard(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveIceShard(PlayerState caster, PlayerState opponent,
 								 String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreature(caster, opponent, targetId);
+		CreatureState target = findCreature(caster, opponent, targetId);
 		if (target != null) {
 			applyDamageToCreature(target, 1, events, "Ice Shard");
 			if (target.getHealth() <= 0) {
@@ -173,27 +223,27 @@ public class SpellEffectResolver {
 	}
 
 	/** Give a friendly creature +0/+3. */
-	private void resolveFrostShield(GamePlayerState caster, String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(caster, targetId);
+	private void resolveFrostShield(PlayerState caster, String targetId, List<GameEvent> events) {
+		CreatureState target = findCreatureOnSide(caster, targetId);
 		if (target != null) {
 			target.setHealth(target.getHealth() + 3);
 			target.setMaxHealth(target.getMaxHealth() + 3);
-			events.add(GameEvent.buff(target.getId().toString(), 0, "Frost Shield: +0/+3"));
+			events.add(GameEvent.buff(target.getInstanceId(), 0, "Frost Shield: +0/+3"));
 		}
 	}
 
 	/** Freeze all enemy creatures. */
-	private void resolveColdSnap(GamePlayerState opponent, List<GameEvent> events) {
-		for (BoardCreature c : opponent.getBattlefield()) {
+	private void resolveColdSnap(PlayerState opponent, List<GameEvent> events) {
+		for (CreatureState c : opponent.getBattlefield().snapshot()) {
 			freezeCreature(c, events, "Cold Snap");
 		}
 	}
 
 	/** Deal 5 damage to a Frozen creature. */
-	private void resolveShatter(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveShatter(PlayerState caster, PlayerState opponent,
 								String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreature(caster, opponent, targetId);
-		if (target != null && target.getStatuses() != null && target.getStatuses().contains(Status.FROZEN)) {
+		CreatureState target = findCreature(caster, opponent, targetId);
+		if (target != null && target.hasStatus(Status.FROZEN)) {
 			applyDamageToCreature(target, 5, events, "Shatter");
 			if (target.getHealth() <= 0) {
 				killCreatureFromEitherSide(caster, opponent, target, events);
@@ -202,8 +252,8 @@ public class SpellEffectResolver {
 	}
 
 	/** Freeze an enemy creature. It takes 3 damage. */
-	private void resolveGlacialBinding(GamePlayerState opponent, String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(opponent, targetId);
+	private void resolveGlacialBinding(PlayerState opponent, String targetId, List<GameEvent> events) {
+		CreatureState target = findCreatureOnSide(opponent, targetId);
 		if (target != null) {
 			freezeCreature(target, events, "Glacial Binding");
 			applyDamageToCreature(target, 3, events, "Glacial Binding");
@@ -214,14 +264,14 @@ public class SpellEffectResolver {
 	}
 
 	/** Draw 2 cards. Freeze a random enemy creature. */
-	private void resolveDeepWinter(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveDeepWinter(PlayerState caster, PlayerState opponent,
 								   List<GameEvent> events) {
 		drawCard(caster, events);
 		drawCard(caster, events);
 
 		if (!opponent.getBattlefield().isEmpty()) {
-			int idx = (int) (Math.random() * opponent.getBattlefield().size());
-			BoardCreature target = opponent.getBattlefield().get(idx);
+			int idx = opponent.getRandom().nextInt(opponent.getBattlefield().size());
+			CreatureState target = opponent.getBattlefield().get(idx);
 			freezeCreature(target, events, "Deep Winter");
 		}
 	}
@@ -229,14 +279,14 @@ public class SpellEffectResolver {
 	// ====== NATURE ======
 
 	/** Heal your Hero for 3. */
-	private void resolveMend(GamePlayerState caster, List<GameEvent> events) {
+	private void resolveMend(PlayerState caster, List<GameEvent> events) {
 		healHero(caster, 3, events, "Mend");
 	}
 
 	/** Deal 2 damage to an enemy creature. If it survives, freeze it. */
-	private void resolveVineWhip(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveVineWhip(PlayerState caster, PlayerState opponent,
 								 String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(opponent, targetId);
+		CreatureState target = findCreatureOnSide(opponent, targetId);
 		if (target != null) {
 			applyDamageToCreature(target, 2, events, "Vine Whip");
 			if (target.getHealth() <= 0) {
@@ -248,40 +298,40 @@ public class SpellEffectResolver {
 	}
 
 	/** Summon a 1/1 Sproutling creature. */
-	private void resolveSproutlingSpell(GamePlayerState caster, List<GameEvent> events) {
-		if (caster.getBattlefield().size() >= 6) return;
-		Card sproutlingCard = cardRepository.findByName("Sproutling")
+	private void resolveSproutlingSpell(PlayerState caster, List<GameEvent> events) {
+		if (caster.getBattlefield().isFull()) return;
+		Card sproutlingCard = cardCatalog.findByName("Sproutling")
 			.orElseThrow(() -> new IllegalStateException("Sproutling token card not found"));
-		BoardCreature token = createTokenCreature(caster, sproutlingCard, 1, 1, Set.of());
+		CreatureState token = createTokenCreature(caster, sproutlingCard, 1, 1, Set.of());
 		caster.getBattlefield().add(token);
-		events.add(GameEvent.summon(token.getId() != null ? token.getId().toString() : "token",
+		events.add(GameEvent.summon(token.getInstanceId(),
 				"Summoned Sproutling (1/1)"));
 	}
 
 	/** Give a friendly creature +2/+2. */
-	private void resolveGrowth(GamePlayerState caster, String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(caster, targetId);
+	private void resolveGrowth(PlayerState caster, String targetId, List<GameEvent> events) {
+		CreatureState target = findCreatureOnSide(caster, targetId);
 		if (target != null) {
 			target.setAttack(target.getAttack() + 2);
 			target.setHealth(target.getHealth() + 2);
 			target.setMaxHealth(target.getMaxHealth() + 2);
-			events.add(GameEvent.buff(target.getId().toString(), 2, "Growth: +2/+2"));
+			events.add(GameEvent.buff(target.getInstanceId(), 2, "Growth: +2/+2"));
 		}
 	}
 
 	/** Summon a 0/6 creature with Guard. */
-	private void resolveBrambleWallSpell(GamePlayerState caster, List<GameEvent> events) {
-		if (caster.getBattlefield().size() >= 6) return;
-		Card brambleCard = cardRepository.findByName("Bramble Wall")
+	private void resolveBrambleWallSpell(PlayerState caster, List<GameEvent> events) {
+		if (caster.getBattlefield().isFull()) return;
+		Card brambleCard = cardCatalog.findByName("Bramble Wall")
 			.orElseThrow(() -> new IllegalStateException("Bramble Wall token card not found"));
-		BoardCreature token = createTokenCreature(caster, brambleCard, 0, 6, Set.of(Keyword.GUARD));
+		CreatureState token = createTokenCreature(caster, brambleCard, 0, 6, Set.of(Keyword.GUARD));
 		caster.getBattlefield().add(token);
-		events.add(GameEvent.summon(token.getId() != null ? token.getId().toString() : "token",
+		events.add(GameEvent.summon(token.getInstanceId(),
 				"Summoned Bramble Wall (0/6 Guard)"));
 	}
 
 	/** Heal your Hero for 6. Draw a card. */
-	private void resolveRenewal(GamePlayerState caster, List<GameEvent> events) {
+	private void resolveRenewal(PlayerState caster, List<GameEvent> events) {
 		healHero(caster, 6, events, "Renewal");
 		drawCard(caster, events);
 	}
@@ -289,34 +339,34 @@ public class SpellEffectResolver {
 	// ====== SHADOW ======
 
 	/** Deal 1 damage to any target. Heal your Hero for 1. */
-	private void resolveDarkTouch(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveDarkTouch(PlayerState caster, PlayerState opponent,
 								  String targetId, List<GameEvent> events) {
 		dealDamageToTarget(caster, opponent, targetId, 1, "Dark Touch", events);
 		healHero(caster, 1, events, "Dark Touch");
 	}
 
 	/** Give an enemy creature -2 Attack this turn. */
-	private void resolveWither(GamePlayerState opponent, String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(opponent, targetId);
+	private void resolveWither(PlayerState opponent, String targetId, List<GameEvent> events) {
+		CreatureState target = findCreatureOnSide(opponent, targetId);
 		if (target != null) {
 			int debuffAmount = Math.min(2, target.getAttack());
 			target.setAttack(target.getAttack() - debuffAmount);
 			target.setTemporaryAttackDebuff(target.getTemporaryAttackDebuff() + debuffAmount);
-			events.add(GameEvent.buff(target.getId().toString(), -debuffAmount,
+			events.add(GameEvent.buff(target.getInstanceId(), -debuffAmount,
 					"Wither: -" + debuffAmount + " Attack this turn"));
 		}
 	}
 
 	/** Deal 3 damage to the enemy Hero. Heal your Hero for 3. */
-	private void resolveSiphonLife(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveSiphonLife(PlayerState caster, PlayerState opponent,
 								   List<GameEvent> events) {
 		applyDamageToHero(opponent, 3, events, "Siphon Life");
 		healHero(caster, 3, events, "Siphon Life");
 	}
 
 	/** Destroy one of your creatures. Draw 2 cards. */
-	private void resolveGrimBargain(GamePlayerState caster, String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(caster, targetId);
+	private void resolveGrimBargain(PlayerState caster, String targetId, List<GameEvent> events) {
+		CreatureState target = findCreatureOnSide(caster, targetId);
 		if (target != null) {
 			killCreature(caster, target, events);
 			drawCard(caster, events);
@@ -325,26 +375,26 @@ public class SpellEffectResolver {
 	}
 
 	/** Give all enemy creatures -1/-1. */
-	private void resolveHauntingFog(GamePlayerState opponent, List<GameEvent> events) {
-		List<BoardCreature> toRemove = new ArrayList<>();
-		for (BoardCreature c : new ArrayList<>(opponent.getBattlefield())) {
+	private void resolveHauntingFog(PlayerState opponent, List<GameEvent> events) {
+		List<CreatureState> toRemove = new ArrayList<>();
+		for (CreatureState c : opponent.getBattlefield().snapshot()) {
 			c.setAttack(Math.max(0, c.getAttack() - 1));
 			c.setHealth(c.getHealth() - 1);
 			c.setMaxHealth(Math.max(1, c.getMaxHealth() - 1));
-			events.add(GameEvent.buff(c.getId().toString(), -1, "Haunting Fog: -1/-1"));
+			events.add(GameEvent.buff(c.getInstanceId(), -1, "Haunting Fog: -1/-1"));
 			if (c.getHealth() <= 0) {
 				toRemove.add(c);
 			}
 		}
-		for (BoardCreature c : toRemove) {
+		for (CreatureState c : toRemove) {
 			killCreature(opponent, c, events);
 		}
 	}
 
 	/** Destroy an enemy creature with cost 5 or less. */
-	private void resolveVoidSnare(GamePlayerState caster, GamePlayerState opponent,
+	private void resolveVoidSnare(PlayerState caster, PlayerState opponent,
 								  String targetId, List<GameEvent> events) {
-		BoardCreature target = findCreatureOnSide(opponent, targetId);
+		CreatureState target = findCreatureOnSide(opponent, targetId);
 		if (target != null && target.getCard().getCost() <= 5) {
 			killCreature(opponent, target, events);
 			events.add(GameEvent.spellResolved(target.getCard().getId().toString(),
@@ -357,14 +407,14 @@ public class SpellEffectResolver {
 	/**
 	 * Deal damage to a target identifier ("ENEMY_HERO", "FRIENDLY_HERO", or creature instanceId).
 	 */
-	private void dealDamageToTarget(GamePlayerState caster, GamePlayerState opponent,
+	private void dealDamageToTarget(PlayerState caster, PlayerState opponent,
 									String targetId, int damage, String source, List<GameEvent> events) {
 		if ("ENEMY_HERO".equals(targetId)) {
 			applyDamageToHero(opponent, damage, events, source);
 		} else if ("FRIENDLY_HERO".equals(targetId)) {
 			applyDamageToHero(caster, damage, events, source);
 		} else {
-			BoardCreature target = findCreature(caster, opponent, targetId);
+			CreatureState target = findCreature(caster, opponent, targetId);
 			if (target != null) {
 				applyDamageToCreature(target, damage, events, source);
 				if (target.getHealth() <= 0) {
@@ -377,15 +427,15 @@ public class SpellEffectResolver {
 	/**
 	 * Apply damage to a creature, respecting Ward.
 	 */
-	int applyDamageToCreature(BoardCreature creature, int damage, List<GameEvent> events, String source) {
-		if (creature.getKeywords() != null && creature.getKeywords().contains(Keyword.WARD)) {
-			creature.getKeywords().remove(Keyword.WARD);
-			events.add(GameEvent.buff(creature.getId() != null ? creature.getId().toString() : "creature",
+	int applyDamageToCreature(CreatureState creature, int damage, List<GameEvent> events, String source) {
+		if (creature.hasKeyword(Keyword.WARD)) {
+			creature.removeKeyword(Keyword.WARD);
+			events.add(GameEvent.buff(creature.getInstanceId(),
 					0, source + ": Ward absorbed damage"));
 			return 0;
 		}
 		creature.setHealth(creature.getHealth() - damage);
-		events.add(GameEvent.damage(source, creature.getId() != null ? creature.getId().toString() : "creature",
+		events.add(GameEvent.damage(source, creature.getInstanceId(),
 				damage, source + " deals " + damage + " damage to " + creature.getCard().getName()));
 		return damage;
 	}
@@ -393,7 +443,7 @@ public class SpellEffectResolver {
 	/**
 	 * Apply damage to a hero.
 	 */
-	void applyDamageToHero(GamePlayerState state, int damage, List<GameEvent> events, String source) {
+	void applyDamageToHero(PlayerState state, int damage, List<GameEvent> events, String source) {
 		state.setHeroHealth(state.getHeroHealth() - damage);
 		events.add(GameEvent.damage(source, state.getUserId(), damage,
 				source + " deals " + damage + " damage to hero"));
@@ -402,7 +452,7 @@ public class SpellEffectResolver {
 	/**
 	 * Heal a hero (capped at 25).
 	 */
-	void healHero(GamePlayerState state, int amount, List<GameEvent> events, String source) {
+	void healHero(PlayerState state, int amount, List<GameEvent> events, String source) {
 		int before = state.getHeroHealth();
 		state.setHeroHealth(Math.min(25, state.getHeroHealth() + amount));
 		int healed = state.getHeroHealth() - before;
@@ -415,30 +465,27 @@ public class SpellEffectResolver {
 	/**
 	 * Freeze a creature.
 	 */
-	void freezeCreature(BoardCreature creature, List<GameEvent> events, String source) {
-		if (creature.getStatuses() == null) {
-			creature.setStatuses(new HashSet<>());
-		}
-		creature.getStatuses().add(Status.FROZEN);
+	void freezeCreature(CreatureState creature, List<GameEvent> events, String source) {
+		creature.addStatus(Status.FROZEN);
 		creature.setFrozenForNextTurn(true);
-		events.add(GameEvent.freeze(creature.getId() != null ? creature.getId().toString() : "creature",
+		events.add(GameEvent.freeze(creature.getInstanceId(),
 				source + " freezes " + creature.getCard().getName()));
 	}
 
 	/**
 	 * Kill a creature and remove it from its owner's battlefield.
 	 */
-	void killCreature(GamePlayerState owner, BoardCreature creature, List<GameEvent> events) {
+	void killCreature(PlayerState owner, CreatureState creature, List<GameEvent> events) {
 		owner.getBattlefield().remove(creature);
-		events.add(GameEvent.death(creature.getId() != null ? creature.getId().toString() : "creature",
+		events.add(GameEvent.death(creature.getInstanceId(),
 				creature.getCard().getName() + " died"));
 	}
 
 	/**
 	 * Kill a creature, looking on both sides to find the owner.
 	 */
-	private void killCreatureFromEitherSide(GamePlayerState caster, GamePlayerState opponent,
-											BoardCreature creature, List<GameEvent> events) {
+	private void killCreatureFromEitherSide(PlayerState caster, PlayerState opponent,
+											CreatureState creature, List<GameEvent> events) {
 		if (caster.getBattlefield().contains(creature)) {
 			killCreature(caster, creature, events);
 		} else {
@@ -449,13 +496,10 @@ public class SpellEffectResolver {
 	/**
 	 * Draw a card for a player. Handles fatigue if deck is empty, and hand-size cap.
 	 */
-	void drawCard(GamePlayerState state, List<GameEvent> events) {
-		List<PlayerZoneCard> deckCards = state.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.DECK)
-			.sorted((a, b) -> Integer.compare(a.getPosition(), b.getPosition()))
-			.toList();
+	void drawCard(PlayerState state, List<GameEvent> events) {
+		CardPile deck = state.getDeck();
 
-		if (deckCards.isEmpty()) {
+		if (deck.isEmpty()) {
 			// Fatigue
 			state.setFatigueCounter(state.getFatigueCounter() + 1);
 			int fatigueDamage = state.getFatigueCounter();
@@ -465,65 +509,43 @@ public class SpellEffectResolver {
 			return;
 		}
 
-		PlayerZoneCard topCard = deckCards.get(0);
+		Card topCard = deck.removeAt(0);
 
 		// Check hand limit
-		long handSize = state.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.HAND)
-			.count();
-
-		if (handSize >= 10) {
+		if (state.getHand().size() >= 10) {
 			// Card burned
-			state.getZoneCards().remove(topCard);
 			events.add(GameEvent.cardDrawn(state.getUserId(),
-					"Card burned (hand full): " + topCard.getCard().getName()));
+					"Card burned (hand full): " + topCard.getName()));
 			return;
 		}
 
 		// Move to hand
-		topCard.setZone(CardZone.HAND);
-		long maxHandPos = state.getZoneCards().stream()
-			.filter(c -> c.getZone() == CardZone.HAND)
-			.mapToInt(PlayerZoneCard::getPosition)
-			.max()
-			.orElse(-1);
-		topCard.setPosition((int) maxHandPos + 1);
+		state.getHand().add(topCard);
 
 		events.add(GameEvent.cardDrawn(state.getUserId(),
-				"Drew " + topCard.getCard().getName()));
+				"Drew " + topCard.getName()));
 	}
 
 	/**
 	 * Find a creature by instanceId on either player's battlefield.
 	 */
-	BoardCreature findCreature(GamePlayerState caster, GamePlayerState opponent, String instanceId) {
-		if (instanceId == null) return null;
-		for (BoardCreature c : caster.getBattlefield()) {
-			if (c.getId() != null && c.getId().toString().equals(instanceId)) return c;
-		}
-		for (BoardCreature c : opponent.getBattlefield()) {
-			if (c.getId() != null && c.getId().toString().equals(instanceId)) return c;
-		}
-		return null;
+	CreatureState findCreature(PlayerState caster, PlayerState opponent, String instanceId) {
+		CreatureState creature = caster.getBattlefield().find(instanceId);
+		return creature != null ? creature : opponent.getBattlefield().find(instanceId);
 	}
 
 	/**
 	 * Find a creature by instanceId on a specific side.
 	 */
-	BoardCreature findCreatureOnSide(GamePlayerState state, String instanceId) {
-		if (instanceId == null) return null;
-		for (BoardCreature c : state.getBattlefield()) {
-			if (c.getId() != null && c.getId().toString().equals(instanceId)) return c;
-		}
-		return null;
+	CreatureState findCreatureOnSide(PlayerState state, String instanceId) {
+		return state.getBattlefield().find(instanceId);
 	}
 
 	/**
 	 * Create a token creature (not from hand — summoned by a spell).
 	 */
-	private BoardCreature createTokenCreature(GamePlayerState owner, Card tokenCard,
-											  int attack, int health, Set<Keyword> keywords) {
-		int position = owner.getBattlefield().size();
-		return new BoardCreature(owner, tokenCard, attack, health, keywords, position);
+	private CreatureState createTokenCreature(PlayerState owner, Card tokenCard, int attack, int health,
+											  Set<Keyword> keywords) {
+		return CreatureState.summon(owner, tokenCard, attack, health, keywords);
 	}
 }
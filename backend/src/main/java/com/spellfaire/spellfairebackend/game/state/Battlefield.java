@@ -0,0 +1,111 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+
+/**
+ * The six creature slots of one player, kept compact (no gaps) in board order.
+ */
+public class Battlefield {
+
+	public static final int MAX_SLOTS = 6;
+
+	private final CreatureState[] slots = new CreatureState[MAX_SLOTS];
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean isFull() {
+		return size == MAX_SLOTS;
+	}
+
+	public CreatureState get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return slots[index];
+	}
+
+	public void add(CreatureState creature) {
+		if (isFull()) {
+			throw new IllegalStateException("Battlefield is full");
+		}
+		slots[size++] = creature;
+	}
+
+	public boolean remove(CreatureState creature) {
+		int index = indexOf(creature);
+		if (index < 0) return false;
+		System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+		slots[--size] = null;
+		return true;
+	}
+
+	public boolean contains(CreatureState creature) {
+		return indexOf(creature) >= 0;
+	}
+
+	/**
+	 * Replace the creatures with copies of those on another battlefield.
+	 */
+	public void copyFrom(Battlefield other) {
+		for (int i = 0; i < MAX_SLOTS; i++) {
+			slots[i] = i < other.size ? other.slots[i].copy() : null;
+		}
+		size = other.size;
+	}
+
+	/**
+	 * Find a creature by instance ID, or null.
+	 */
+	public CreatureState find(String instanceId) {
+		int number = CreatureState.parseInstanceId(instanceId);
+		return number >= 0 ? find(number) : null;
+	}
+
+	public CreatureState find(int instanceId) {
+		for (int i = 0; i < size; i++) {
+			if (slots[i].getInstanceNumber() == instanceId) {
+				return slots[i];
+			}
+		}
+		return null;
+	}
+
+	public boolean anyHasKeyword(Keyword keyword) {
+		for (int i = 0; i < size; i++) {
+			if (slots[i].hasKeyword(keyword)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Copy of the current creatures in board order, safe to iterate while the board changes.
+	 */
+	public List<CreatureState> snapshot() {
+		List<CreatureState> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(slots[i]);
+		}
+		return list;
+	}
+
+	private int indexOf(CreatureState creature) {
+		for (int i = 0; i < size; i++) {
+			if (slots[i] == creature) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
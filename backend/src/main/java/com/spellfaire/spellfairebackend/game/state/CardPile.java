@@ -0,0 +1,130 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+
+/**
+ * Array-backed ordered pile of cards (deck, hand or discard).
+ * Index 0 is the top of the deck, the leftmost hand card, or the oldest discard.
+ * Copies share the backing array until either side next changes, so forking a pile is O(1).
+ */
+public class CardPile {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private Card[] cards;
+	private int size;
+	// Set once the array is shared with a copy; only ever goes from false to true while shared,
+	// and the first write after it gives this pile its own array
+	private boolean shared;
+
+	public CardPile() {
+		this.cards = new Card[DEFAULT_CAPACITY];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public Card get(int index) {
+		checkIndex(index);
+		return cards[index];
+	}
+
+	public void add(Card card) {
+		if (size == cards.length) {
+			cards = Arrays.copyOf(cards, cards.length * 2);
+			shared = false;
+		} else {
+			ensureOwned();
+		}
+		cards[size++] = card;
+	}
+
+	public Card removeAt(int index) {
+		checkIndex(index);
+		ensureOwned();
+		Card removed = cards[index];
+		System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+		cards[--size] = null;
+		return removed;
+	}
+
+	/**
+	 * Index of the first card with the given card ID, or -1.
+	 */
+	public int indexOf(String cardId) {
+		if (cardId == null) return -1;
+		UUID id;
+		try {
+			id = UUID.fromString(cardId);
+		} catch (IllegalArgumentException e) {
+			return -1;
+		}
+		return indexOf(id);
+	}
+
+	public int indexOf(UUID cardId) {
+		for (int i = 0; i < size; i++) {
+			if (cardId.equals(cards[i].getId())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Replace the contents with those of another pile. Cards are immutable and shared;
+	 * the backing array is shared too until either pile changes.
+	 */
+	public void copyFrom(CardPile other) {
+		if (!other.shared) {
+			other.shared = true;
+		}
+		cards = other.cards;
+		size = other.size;
+		shared = true;
+	}
+
+	public void clear() {
+		if (shared) {
+			cards = new Card[DEFAULT_CAPACITY];
+			shared = false;
+		} else {
+			Arrays.fill(cards, 0, size, null);
+		}
+		size = 0;
+	}
+
+	/**
+	 * Copy of the pile contents in order.
+	 */
+	public List<Card> toList() {
+		List<Card> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(cards[i]);
+		}
+		return list;
+	}
+
+	private void ensureOwned() {
+		if (shared) {
+			cards = cards.clone();
+			shared = false;
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+	}
+}
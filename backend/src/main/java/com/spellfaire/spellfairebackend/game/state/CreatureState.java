@@ -0,0 +1,243 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+
+/**
+ * A creature instance on the battlefield, detached from persistence.
+ * The instance ID is a number assigned by the engine when the creature is summoned, unique
+ * within its game; clients see it in decimal, and the persistence layer maps it to a row UUID.
+ * Keywords and statuses are bit masks of enum ordinals, so a creature is a handful of
+ * primitives and copies in constant time.
+ */
+public class CreatureState {
+
+	private final int instanceId;
+	private String instanceKey;  // Decimal instanceId, formatted on first use
+	private final Card card;
+	private int attack;
+	private int temporaryAttackDebuff;
+	private int health;
+	private int maxHealth;
+	private boolean canAttack;
+	private boolean hasAttackedThisTurn;
+	private boolean frozenForNextTurn;
+	private boolean frozenBlocksAttacksThisTurn;
+	private int keywords;
+	private int statuses;
+
+	public CreatureState(int instanceId, Card card, int attack, int health, Set<Keyword> keywords) {
+		this.instanceId = instanceId;
+		this.card = card;
+		this.attack = attack;
+		this.health = health;
+		this.maxHealth = health;
+		if (keywords != null) {
+			for (Keyword keyword : keywords) {
+				this.keywords |= bit(keyword);
+			}
+		}
+		this.canAttack = hasKeyword(Keyword.CHARGE);
+	}
+
+	/**
+	 * Create a freshly summoned creature with the next instance ID of its owner's game.
+	 * The IDs are a plain counter rather than random, so summoning costs AI playouts nothing,
+	 * replays reproduce them, and they give away nothing about the game's random sequence.
+	 */
+	public static CreatureState summon(PlayerState owner, Card card, int attack, int health,
+									   Set<Keyword> keywords) {
+		return new CreatureState(owner.nextInstanceId(), card, attack, health, keywords);
+	}
+
+	/**
+	 * Parse an instance ID as sent by a client, or -1 if it is not one (such as a hero target).
+	 */
+	public static int parseInstanceId(String instanceId) {
+		if (instanceId == null || instanceId.isEmpty() || instanceId.length() > 9) return -1;
+		int value = 0;
+		for (int i = 0; i < instanceId.length(); i++) {
+			char c = instanceId.charAt(i);
+			if (c < '0' || c > '9') return -1;
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Independent copy with the same instance ID, for searches that play ahead on a cloned state.
+	 */
+	public CreatureState copy() {
+		CreatureState copy = new CreatureState(instanceId, card, attack, health, null);
+		copy.instanceKey = instanceKey;
+		copy.temporaryAttackDebuff = temporaryAttackDebuff;
+		copy.maxHealth = maxHealth;
+		copy.canAttack = canAttack;
+		copy.hasAttackedThisTurn = hasAttackedThisTurn;
+		copy.frozenForNextTurn = frozenForNextTurn;
+		copy.frozenBlocksAttacksThisTurn = frozenBlocksAttacksThisTurn;
+		copy.keywords = keywords;
+		copy.statuses = statuses;
+		return copy;
+	}
+
+	/**
+	 * The instance ID as clients and game events name the creature.
+	 */
+	public String getInstanceId() {
+		if (instanceKey == null) {
+			instanceKey = Integer.toString(instanceId);
+		}
+		return instanceKey;
+	}
+
+	public int getInstanceNumber() {
+		return instanceId;
+	}
+
+	public Card getCard() {
+		return card;
+	}
+
+	public int getAttack() {
+		return attack;
+	}
+
+	public void setAttack(int attack) {
+		this.attack = attack;
+	}
+
+	public int getTemporaryAttackDebuff() {
+		return temporaryAttackDebuff;
+	}
+
+	public void setTemporaryAttackDebuff(int temporaryAttackDebuff) {
+		this.temporaryAttackDebuff = temporaryAttackDebuff;
+	}
+
+	public int getHealth() {
+		return health;
+	}
+
+	public void setHealth(int health) {
+		this.health = health;
+	}
+
+	public int getMaxHealth() {
+		return maxHealth;
+	}
+
+	public void setMaxHealth(int maxHealth) {
+		this.maxHealth = maxHealth;
+	}
+
+	public boolean isCanAttack() {
+		return canAttack;
+	}
+
+	public void setCanAttack(boolean canAttack) {
+		this.canAttack = canAttack;
+	}
+
+	public boolean isHasAttackedThisTurn() {
+		return hasAttackedThisTurn;
+	}
+
+	public void setHasAttackedThisTurn(boolean hasAttackedThisTurn) {
+		this.hasAttackedThisTurn = hasAttackedThisTurn;
+	}
+
+	public boolean isFrozenForNextTurn() {
+		return frozenForNextTurn;
+	}
+
+	public void setFrozenForNextTurn(boolean frozenForNextTurn) {
+		this.frozenForNextTurn = frozenForNextTurn;
+	}
+
+	public boolean isFrozenBlocksAttacksThisTurn() {
+		return frozenBlocksAttacksThisTurn;
+	}
+
+	public void setFrozenBlocksAttacksThisTurn(boolean frozenBlocksAttacksThisTurn) {
+		this.frozenBlocksAttacksThisTurn = frozenBlocksAttacksThisTurn;
+	}
+
+	/**
+	 * Copy of the creature's keywords; change them with {@link #addKeyword} and {@link #removeKeyword}.
+	 */
+	public Set<Keyword> getKeywords() {
+		return unmask(keywords, Keyword.class);
+	}
+
+	public boolean hasKeyword(Keyword keyword) {
+		return (keywords & bit(keyword)) != 0;
+	}
+
+	public void addKeyword(Keyword keyword) {
+		keywords |= bit(keyword);
+	}
+
+	public void removeKeyword(Keyword keyword) {
+		keywords &= ~bit(keyword);
+	}
+
+	/**
+	 * Copy of the creature's statuses; change them with {@link #addStatus} and {@link #removeStatus}.
+	 */
+	public Set<Status> getStatuses() {
+		return unmask(statuses, Status.class);
+	}
+
+	public boolean hasStatus(Status status) {
+		return (statuses & bit(status)) != 0;
+	}
+
+	public void addStatus(Status status) {
+		statuses |= bit(status);
+	}
+
+	public void removeStatus(Status status) {
+		statuses &= ~bit(status);
+	}
+
+	/**
+	 * Keywords as a bit mask of {@link Keyword} ordinals.
+	 */
+	public int getKeywordMask() {
+		return keywords;
+	}
+
+	public void setKeywordMask(int keywordMask) {
+		this.keywords = keywordMask;
+	}
+
+	/**
+	 * Statuses as a bit mask of {@link Status} ordinals.
+	 */
+	public int getStatusMask() {
+		return statuses;
+	}
+
+	public void setStatusMask(int statusMask) {
+		this.statuses = statusMask;
+	}
+
+	private static int bit(Enum<?> value) {
+		return 1 << value.ordinal();
+	}
+
+	private static <E extends Enum<E>> Set<E> unmask(int mask, Class<E> type) {
+		EnumSet<E> values = EnumSet.noneOf(type);
+		for (E value : type.getEnumConstants()) {
+			if ((mask & bit(value)) != 0) {
+				values.add(value);
+			}
+		}
+		return values;
+	}
+}
@@ -0,0 +1,39 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+/**
+ * One rules-engine step applied to a game, as recorded while {@link GameState#startRecording()}
+ * is active. Together with the game's seed, the steps applied since a saved state replay the
+ * game exactly; AI moves are recorded as the plays and attacks the AI chose.
+ *
+ * {@code subjectId} is the card ID of a play or the instance ID of an attacker.
+ */
+public record GameAction(Kind kind, String playerId, String subjectId, String targetId) {
+
+	public enum Kind {
+		PLAY_CARD,
+		ATTACK,
+		END_TURN,
+		SURRENDER,
+		GAME_OVER  // A game-over check that finished the game
+	}
+
+	public static GameAction playCard(String playerId, String cardId, String targetId) {
+		return new GameAction(Kind.PLAY_CARD, playerId, cardId, targetId);
+	}
+
+	public static GameAction attack(String playerId, String attackerId, String targetId) {
+		return new GameAction(Kind.ATTACK, playerId, attackerId, targetId);
+	}
+
+	public static GameAction endTurn(String playerId) {
+		return new GameAction(Kind.END_TURN, playerId, null, null);
+	}
+
+	public static GameAction surrender(String playerId) {
+		return new GameAction(Kind.SURRENDER, playerId, null, null);
+	}
+
+	public static GameAction gameOver() {
+		return new GameAction(Kind.GAME_OVER, null, null, null);
+	}
+}
@@ -0,0 +1,56 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of every random decision in one game: deck shuffles, the first player and random targets.
+ *
+ * A counter-based SplitMix64 generator whose whole state is the game's seed and the number of
+ * values drawn so far, so it is persisted with the game, copied with it for AI search, and never
+ * shared between games. Draws the same sequence as {@code new SplittableRandom(seed).nextLong()};
+ * replaying a game's actions from its seed therefore reproduces it exactly. The generator is
+ * invertible, so its raw values must never reach a client: one of them gives away the seed and with
+ * it every future shuffle.
+ */
+public final class GameRandom implements RandomGenerator {
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private long seed;
+	private long position;  // Values drawn so far
+
+	public GameRandom(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Continue the sequence of {@code seed} after {@code position} values, as when a saved game
+	 * is loaded.
+	 */
+	public void reset(long seed, long position) {
+		this.seed = seed;
+		this.position = position;
+	}
+
+	public GameRandom copy() {
+		GameRandom copy = new GameRandom(seed);
+		copy.position = position;
+		return copy;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public long getPosition() {
+		return position;
+	}
+
+	@Override
+	public long nextLong() {
+		long z = seed + ++position * GOLDEN_GAMMA;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,254 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+import com.spellfaire.spellfairebackend.game.model.GamePhase;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+
+/**
+ * Authoritative in-memory state of a game that the rules engine runs against.
+ * Holds no JPA entities other than immutable {@link com.spellfaire.spellfairebackend.game.model.Card}
+ * references; it is mapped to and from the entity graph only at persistence boundaries
+ * by {@link GameStateMapper}.
+ */
+public class GameState {
+
+	private UUID id;
+	private Long version;  // Row version this state was loaded or last flushed at
+	private String player1Id;
+	private String player2Id;
+	private String currentPlayerId;
+	private GameStatus gameStatus;
+	private GamePhase currentPhase;
+	private String winnerId;
+	private int turnNumber;
+	private long stateVersion;  // Bumped by every applied action, unlike the row version
+	private AiDifficulty aiDifficulty;
+	private Instant createdAt;
+	private Instant updatedAt;
+
+	private final GameRandom random;
+	private int nextInstanceId = 1;  // Instance ID of the next creature summoned
+	private List<GameAction> recorded;  // Steps applied since startRecording(); null when not recording
+	private final PlayerState player1State;
+	private final PlayerState player2State;
+
+	public GameState() {
+		this(new GameRandom(0), new PlayerState(), new PlayerState());
+	}
+
+	private GameState(GameRandom random, PlayerState player1State, PlayerState player2State) {
+		this.random = random;
+		this.player1State = player1State;
+		this.player2State = player2State;
+		player1State.attach(this);
+		player2State.attach(this);
+		this.gameStatus = GameStatus.SETUP;
+		this.currentPhase = GamePhase.MAIN;
+	}
+
+	/**
+	 * Deep copy the AI can play ahead on without touching this state.
+	 */
+	public GameState copy() {
+		GameState copy = new GameState(random.copy(), player1State.copy(), player2State.copy());
+		copy.id = id;
+		copy.version = version;
+		copy.player1Id = player1Id;
+		copy.player2Id = player2Id;
+		copy.currentPlayerId = currentPlayerId;
+		copy.gameStatus = gameStatus;
+		copy.currentPhase = currentPhase;
+		copy.winnerId = winnerId;
+		copy.turnNumber = turnNumber;
+		copy.nextInstanceId = nextInstanceId;
+		copy.stateVersion = stateVersion;
+		copy.aiDifficulty = aiDifficulty;
+		copy.createdAt = createdAt;
+		copy.updatedAt = updatedAt;
+		return copy;
+	}
+
+	/**
+	 * Record the rules-engine steps applied from now on, until {@link #stopRecording()}.
+	 * Copies never record, so AI search pays nothing for it.
+	 */
+	public void startRecording() {
+		recorded = new ArrayList<>();
+	}
+
+	/**
+	 * Stop recording and return the steps applied since {@link #startRecording()}.
+	 */
+	public List<GameAction> stopRecording() {
+		List<GameAction> actions = recorded != null ? recorded : List.of();
+		recorded = null;
+		return actions;
+	}
+
+	/**
+	 * Called by the rules engine for every step it applies.
+	 */
+	public void record(GameAction action) {
+		if (recorded != null) {
+			recorded.add(action);
+		}
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public void setId(UUID id) {
+		this.id = id;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public String getPlayer1Id() {
+		return player1Id;
+	}
+
+	public void setPlayer1Id(String player1Id) {
+		this.player1Id = player1Id;
+	}
+
+	public String getPlayer2Id() {
+		return player2Id;
+	}
+
+	public void setPlayer2Id(String player2Id) {
+		this.player2Id = player2Id;
+	}
+
+	public String getCurrentPlayerId() {
+		return currentPlayerId;
+	}
+
+	public void setCurrentPlayerId(String currentPlayerId) {
+		this.currentPlayerId = currentPlayerId;
+	}
+
+	public GameStatus getGameStatus() {
+		return gameStatus;
+	}
+
+	public void setGameStatus(GameStatus gameStatus) {
+		this.gameStatus = gameStatus;
+	}
+
+	public GamePhase getCurrentPhase() {
+		return currentPhase;
+	}
+
+	public void setCurrentPhase(GamePhase currentPhase) {
+		this.currentPhase = currentPhase;
+	}
+
+	public String getWinnerId() {
+		return winnerId;
+	}
+
+	public void setWinnerId(String winnerId) {
+		this.winnerId = winnerId;
+	}
+
+	public int getTurnNumber() {
+		return turnNumber;
+	}
+
+	public void setTurnNumber(int turnNumber) {
+		this.turnNumber = turnNumber;
+	}
+
+	public long getStateVersion() {
+		return stateVersion;
+	}
+
+	public void setStateVersion(long stateVersion) {
+		this.stateVersion = stateVersion;
+	}
+
+	public AiDifficulty getAiDifficulty() {
+		return aiDifficulty;
+	}
+
+	public void setAiDifficulty(AiDifficulty aiDifficulty) {
+		this.aiDifficulty = aiDifficulty;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(Instant createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(Instant updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	/**
+	 * This game's random source; seed it with {@link GameRandom#reset} before dealing.
+	 */
+	public GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Take the instance ID for a newly summoned creature.
+	 */
+	public int nextInstanceId() {
+		return nextInstanceId++;
+	}
+
+	/**
+	 * Instance ID the next summoned creature will get; every creature in the game has a lower one.
+	 */
+	public int getNextInstanceId() {
+		return nextInstanceId;
+	}
+
+	public void setNextInstanceId(int nextInstanceId) {
+		this.nextInstanceId = nextInstanceId;
+	}
+
+	public PlayerState getPlayer1State() {
+		return player1State;
+	}
+
+	public PlayerState getPlayer2State() {
+		return player2State;
+	}
+
+	public PlayerState getPlayerState(String playerId) {
+		if (player1Id.equals(playerId)) return player1State;
+		if (player2Id.equals(playerId)) return player2State;
+		throw new IllegalArgumentException("Player not in game");
+	}
+
+	public PlayerState getOpponentState(String playerId) {
+		if (player1Id.equals(playerId)) return player2State;
+		if (player2Id.equals(playerId)) return player1State;
+		throw new IllegalArgumentException("Player not in game");
+	}
+
+	public PlayerState opponentOf(PlayerState state) {
+		return state == player1State ? player2State : player1State;
+	}
+}
@@ -0,0 +1,422 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.spellfaire.spellfairebackend.game.model.BoardCreature;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardZone;
+import com.spellfaire.spellfairebackend.game.model.Game;
+import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
+import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+
+/**
+ * Maps between the persisted {@link Game} entity graph and the in-memory {@link GameState}.
+ * Zones are stored either as normalized rows or, in zone-blob mode, as one {@link ZoneCodec}
+ * column per player. Reading accepts both, so switching modes migrates games on their next save.
+ * Relational write-back reuses existing zone-card and creature rows wherever possible so that
+ * Hibernate only flushes the rows an action actually changed.
+ */
+@Component
+public class GameStateMapper {
+
+	/** Marks a card that has no row in its pile yet. */
+	static final int NO_POSITION = Integer.MIN_VALUE;
+
+	private final ZoneCodec zoneCodec;
+	private final CardCatalog cardCatalog;
+	private final boolean zoneBlob;
+
+	public GameStateMapper(ZoneCodec zoneCodec, CardCatalog cardCatalog,
+						   @Value("${spellfaire.game.zone-blob.enabled:false}") boolean zoneBlob) {
+		this.zoneCodec = zoneCodec;
+		this.cardCatalog = cardCatalog;
+		this.zoneBlob = zoneBlob;
+	}
+
+	// ==================================================================
+	// ENTITY -> STATE
+	// ==================================================================
+
+	public GameState toState(Game game) {
+		GameState state = new GameState();
+		state.setId(game.getId());
+		state.setVersion(game.getVersion());
+		state.setPlayer1Id(game.getPlayer1Id());
+		state.setPlayer2Id(game.getPlayer2Id());
+		state.setCurrentPlayerId(game.getCurrentPlayerId());
+		state.setGameStatus(game.getGameStatus());
+		state.setCurrentPhase(game.getCurrentPhase());
+		state.setWinnerId(game.getWinnerId());
+		state.setTurnNumber(game.getTurnNumber());
+		state.setStateVersion(game.getStateVersion());
+		state.getRandom().reset(game.getRngSeed(), game.getRngPosition());
+		state.setNextInstanceId(Math.max(1, game.getNextInstanceId()));
+		state.setAiDifficulty(game.getAiDifficulty());
+		state.setCreatedAt(game.getCreatedAt());
+		state.setUpdatedAt(game.getUpdatedAt());
+
+		Map<UUID, Card> blobCards = resolveBlobCards(game.getPlayer1State(), game.getPlayer2State());
+		readPlayer(game.getPlayer1State(), state, state.getPlayer1State(), blobCards);
+		readPlayer(game.getPlayer2State(), state, state.getPlayer2State(), blobCards);
+		return state;
+	}
+
+	private void readPlayer(GamePlayerState entity, GameState game, PlayerState state, Map<UUID, Card> blobCards) {
+		state.setUserId(entity.getUserId());
+		state.setDeckId(entity.getDeckId());
+		state.setFaction(entity.getFaction());
+		state.setMagicSchool(entity.getMagicSchool());
+		state.setHeroHealth(entity.getHeroHealth());
+		state.setMaxMana(entity.getMaxMana());
+		state.setCurrentMana(entity.getCurrentMana());
+		state.setFatigueCounter(entity.getFatigueCounter());
+
+		if (entity.getZonesBlob() != null) {
+			zoneCodec.decode(entity.getZonesBlob(), state, blobCards);
+			return;
+		}
+
+		List<PlayerZoneCard> zoneCards = new ArrayList<>(entity.getZoneCards());
+		zoneCards.sort(Comparator.comparingInt(PlayerZoneCard::getPosition));
+		for (PlayerZoneCard zoneCard : zoneCards) {
+			pileFor(state, zoneCard.getZone()).add(zoneCard.getCard());
+		}
+
+		List<BoardCreature> creatures = new ArrayList<>(entity.getBattlefield());
+		creatures.sort(Comparator.comparingInt(BoardCreature::getPosition));
+		for (BoardCreature entityCreature : creatures) {
+			CreatureState creature = new CreatureState(instanceId(game, entityCreature.getId()), entityCreature.getCard(),
+					entityCreature.getAttack(), entityCreature.getHealth(), entityCreature.getKeywords());
+			creature.setTemporaryAttackDebuff(entityCreature.getTemporaryAttackDebuff());
+			creature.setMaxHealth(entityCreature.getMaxHealth());
+			creature.setCanAttack(entityCreature.isCanAttack());
+			creature.setHasAttackedThisTurn(entityCreature.isHasAttackedThisTurn());
+			creature.setFrozenForNextTurn(entityCreature.isFrozenForNextTurn());
+			creature.setFrozenBlocksAttacksThisTurn(entityCreature.isFrozenBlocksAttacksThisTurn());
+			if (entityCreature.getStatuses() != null) {
+				entityCreature.getStatuses().forEach(creature::addStatus);
+			}
+			state.getBattlefield().add(creature);
+		}
+	}
+
+	// ==================================================================
+	// STATE -> ENTITY
+	// ==================================================================
+
+	/**
+	 * Write the state back onto the (managed or new) entity graph in place.
+	 * The game ID is never copied; it is owned by the persistence layer.
+	 */
+	public void applyTo(GameState state, Game game) {
+		game.setPlayer1Id(state.getPlayer1Id());
+		game.setPlayer2Id(state.getPlayer2Id());
+		game.setCurrentPlayerId(state.getCurrentPlayerId());
+		game.setGameStatus(state.getGameStatus());
+		game.setCurrentPhase(state.getCurrentPhase());
+		game.setWinnerId(state.getWinnerId());
+		game.setTurnNumber(state.getTurnNumber());
+		game.setStateVersion(state.getStateVersion());
+		game.setRngSeed(state.getRandom().getSeed());
+		game.setRngPosition(state.getRandom().getPosition());
+		game.setNextInstanceId(state.getNextInstanceId());
+		game.setAiDifficulty(state.getAiDifficulty());
+		game.setCreatedAt(state.getCreatedAt());
+		game.setUpdatedAt(state.getUpdatedAt());
+
+		writePlayer(state.getPlayer1State(), game.getPlayer1State(), game.getId());
+		writePlayer(state.getPlayer2State(), game.getPlayer2State(), game.getId());
+	}
+
+	private void writePlayer(PlayerState state, GamePlayerState entity, UUID gameId) {
+		entity.setUserId(state.getUserId());
+		entity.setDeckId(state.getDeckId());
+		entity.setFaction(state.getFaction());
+		entity.setMagicSchool(state.getMagicSchool());
+		entity.setHeroHealth(state.getHeroHealth());
+		entity.setMaxMana(state.getMaxMana());
+		entity.setCurrentMana(state.getCurrentMana());
+		entity.setFatigueCounter(state.getFatigueCounter());
+
+		if (zoneBlob) {
+			// Rows can only be left from relational mode, i.e. when there is no blob yet; a game
+			// already in blob mode must not touch its lazy collections, each of which costs a SELECT
+			boolean migrating = entity.getZonesBlob() == null;
+			entity.setZonesBlob(zoneCodec.encode(state));
+			if (migrating) {
+				// Orphan removal drops the rows
+				entity.getZoneCards().clear();
+				entity.getBattlefield().clear();
+			}
+			return;
+		}
+
+		entity.setZonesBlob(null);
+		writeZoneCards(state, entity);
+		writeBattlefield(state, entity, gameId);
+	}
+
+	private void writeZoneCards(PlayerState state, GamePlayerState entity) {
+		CardPile[] piles = { state.getDeck(), state.getHand(), state.getDiscardPile() };
+		CardZone[] zones = { CardZone.DECK, CardZone.HAND, CardZone.DISCARD };
+		List<PlayerZoneCard> existing = entity.getZoneCards();
+		boolean[] used = new boolean[existing.size()];
+		PlayerZoneCard[][] matched = new PlayerZoneCard[piles.length][];
+		int total = 0;
+
+		// Rows already in the pile's zone, taken in order where possible so they can keep their positions
+		for (int z = 0; z < piles.length; z++) {
+			matched[z] = new PlayerZoneCard[piles[z].size()];
+			total += piles[z].size();
+			int last = Integer.MIN_VALUE;
+			for (int i = 0; i < piles[z].size(); i++) {
+				int after = -1;
+				int any = -1;
+				for (int j = 0; j < existing.size(); j++) {
+					PlayerZoneCard row = existing.get(j);
+					if (used[j] || row.getZone() != zones[z] || !sameCard(row.getCard(), piles[z].get(i))) continue;
+					if (row.getPosition() > last
+							&& (after < 0 || row.getPosition() < existing.get(after).getPosition())) {
+						after = j;
+					}
+					if (any < 0 || row.getPosition() < existing.get(any).getPosition()) {
+						any = j;
+					}
+				}
+				int j = after >= 0 ? after : any;
+				if (j < 0) continue;
+				used[j] = true;
+				matched[z][i] = existing.get(j);
+				if (j == after) last = existing.get(j).getPosition();
+			}
+		}
+
+		// Cards that changed zone take any remaining row for the card
+		for (int z = 0; z < piles.length; z++) {
+			for (int i = 0; i < piles[z].size(); i++) {
+				if (matched[z][i] != null) continue;
+				for (int j = 0; j < existing.size(); j++) {
+					if (used[j] || !sameCard(existing.get(j).getCard(), piles[z].get(i))) continue;
+					used[j] = true;
+					matched[z][i] = existing.get(j);
+					break;
+				}
+			}
+		}
+
+		List<PlayerZoneCard> desired = new ArrayList<>(total);
+		for (int z = 0; z < piles.length; z++) {
+			int[] old = new int[piles[z].size()];
+			for (int i = 0; i < old.length; i++) {
+				PlayerZoneCard row = matched[z][i];
+				old[i] = row != null && row.getZone() == zones[z] ? row.getPosition() : NO_POSITION;
+			}
+			int[] positions = positions(old);
+			for (int i = 0; i < old.length; i++) {
+				PlayerZoneCard row = matched[z][i];
+				if (row == null) {
+					row = new PlayerZoneCard(entity, piles[z].get(i), zones[z], positions[i]);
+				} else {
+					if (row.getZone() != zones[z]) row.setZone(zones[z]);
+					if (row.getPosition() != positions[i]) row.setPosition(positions[i]);
+				}
+				desired.add(row);
+			}
+		}
+
+		if (!sameElements(existing, desired)) {
+			existing.clear();
+			existing.addAll(desired);
+		}
+	}
+
+	private void writeBattlefield(PlayerState state, GamePlayerState entity, UUID gameId) {
+		Battlefield battlefield = state.getBattlefield();
+		List<BoardCreature> existing = entity.getBattlefield();
+		List<BoardCreature> desired = new ArrayList<>(battlefield.size());
+
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState creature = battlefield.get(i);
+			UUID rowId = rowId(gameId, creature.getInstanceNumber());
+			BoardCreature row = findRow(existing, rowId);
+			if (row == null) {
+				row = new BoardCreature(entity, creature.getCard(), creature.getAttack(), creature.getHealth(),
+						new HashSet<>(creature.getKeywords()), i);
+				row.setId(rowId);
+			}
+			row.setAttack(creature.getAttack());
+			row.setTemporaryAttackDebuff(creature.getTemporaryAttackDebuff());
+			row.setHealth(creature.getHealth());
+			row.setMaxHealth(creature.getMaxHealth());
+			row.setCanAttack(creature.isCanAttack());
+			row.setHasAttackedThisTurn(creature.isHasAttackedThisTurn());
+			row.setFrozenForNextTurn(creature.isFrozenForNextTurn());
+			row.setFrozenBlocksAttacksThisTurn(creature.isFrozenBlocksAttacksThisTurn());
+			row.setKeywords(syncSet(row.getKeywords(), creature.getKeywords()));
+			row.setStatuses(syncSet(row.getStatuses(), creature.getStatuses()));
+			row.setPosition(i);
+			desired.add(row);
+		}
+
+		if (!sameElements(existing, desired)) {
+			existing.clear();
+			existing.addAll(desired);
+		}
+	}
+
+	// ==================================================================
+	// HELPERS
+	// ==================================================================
+
+	/**
+	 * Resolve every card referenced by either player's zone blob from the catalog.
+	 * Unknown IDs are left out, so decoding fails loudly on them.
+	 */
+	private Map<UUID, Card> resolveBlobCards(GamePlayerState player1, GamePlayerState player2) {
+		if (player1.getZonesBlob() == null && player2.getZonesBlob() == null) {
+			return Map.of();
+		}
+		Set<UUID> cardIds = new HashSet<>();
+		if (player1.getZonesBlob() != null) zoneCodec.collectCardIds(player1.getZonesBlob(), cardIds);
+		if (player2.getZonesBlob() != null) zoneCodec.collectCardIds(player2.getZonesBlob(), cardIds);
+
+		Map<UUID, Card> cards = new HashMap<>();
+		for (UUID cardId : cardIds) {
+			cardCatalog.findById(cardId).ifPresent(card -> cards.put(cardId, card));
+		}
+		return cards;
+	}
+
+	private static CardPile pileFor(PlayerState state, CardZone zone) {
+		return switch (zone) {
+			case DECK -> state.getDeck();
+			case HAND -> state.getHand();
+			case DISCARD -> state.getDiscardPile();
+		};
+	}
+
+	/**
+	 * Positions for one pile that leave as many rows as possible where they are, so drawing from the
+	 * front of the deck rewrites only the drawn card's row. {@code old} holds each card's current
+	 * position in the pile, or {@link #NO_POSITION} for a card new to it. The longest run of old
+	 * positions still in increasing order is kept and the other cards go into the gaps around it;
+	 * only when a gap is too small is the pile renumbered from 0.
+	 */
+	static int[] positions(int[] old) {
+		int n = old.length;
+		int[] length = new int[n];
+		int[] previous = new int[n];
+		int best = -1;
+		for (int i = 0; i < n; i++) {
+			if (old[i] == NO_POSITION) continue;
+			length[i] = 1;
+			previous[i] = -1;
+			for (int j = 0; j < i; j++) {
+				if (old[j] != NO_POSITION && old[j] < old[i] && length[j] + 1 > length[i]) {
+					length[i] = length[j] + 1;
+					previous[i] = j;
+				}
+			}
+			if (best < 0 || length[i] > length[best]) best = i;
+		}
+		boolean[] keep = new boolean[n];
+		for (int i = best; i >= 0; i = previous[i]) {
+			keep[i] = true;
+		}
+
+		int[] positions = new int[n];
+		int i = 0;
+		while (i < n) {
+			if (keep[i]) {
+				positions[i] = old[i];
+				i++;
+				continue;
+			}
+			int start = i;
+			while (i < n && !keep[i]) i++;
+			int count = i - start;
+			long low = start > 0 ? positions[start - 1] : i < n ? (long) old[i] - count - 1 : -1;
+			long high = i < n ? old[i] : low + count + 1;
+			if (high - low - 1 < count || low + 1 <= NO_POSITION || low + count >= Integer.MAX_VALUE) {
+				for (int k = 0; k < n; k++) positions[k] = k;
+				return positions;
+			}
+			for (int k = 0; k < count; k++) {
+				positions[start + k] = (int) (low + 1 + k);
+			}
+		}
+		return positions;
+	}
+
+	private static boolean sameCard(Card a, Card b) {
+		return a == b || (a.getId() != null && a.getId().equals(b.getId()));
+	}
+
+	private static BoardCreature findRow(List<BoardCreature> rows, UUID rowId) {
+		for (BoardCreature row : rows) {
+			if (rowId.equals(row.getId())) {
+				return row;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Row ID of a creature: its instance ID folded into the game's ID, so rows of different games
+	 * never collide and the instance ID can be read back from the row.
+	 */
+	public static UUID rowId(UUID gameId, int instanceId) {
+		if (gameId == null) {
+			throw new IllegalStateException("Creatures can only be saved for a game that has an ID");
+		}
+		return new UUID(gameId.getMostSignificantBits(), gameId.getLeastSignificantBits() ^ instanceId);
+	}
+
+	/**
+	 * Instance ID a creature row was saved for. A row from before instance IDs were numbered gets
+	 * a new one, and is replaced by a row under the new ID on the next save.
+	 */
+	static int instanceId(GameState game, UUID rowId) {
+		UUID gameId = game.getId();
+		if (gameId != null && rowId.getMostSignificantBits() == gameId.getMostSignificantBits()) {
+			long instanceId = rowId.getLeastSignificantBits() ^ gameId.getLeastSignificantBits();
+			if (instanceId > 0 && instanceId < game.getNextInstanceId()) {
+				return (int) instanceId;
+			}
+		}
+		return game.nextInstanceId();
+	}
+
+	/**
+	 * Update a persistent set in place (keeps Hibernate from recreating the collection table rows).
+	 */
+	private static <E> Set<E> syncSet(Set<E> target, Set<E> source) {
+		if (target == null) {
+			return new HashSet<>(source);
+		}
+		if (!target.equals(source)) {
+			target.retainAll(source);
+			target.addAll(source);
+		}
+		return target;
+	}
+
+	private static <E> boolean sameElements(List<E> a, List<E> b) {
+		if (a.size() != b.size()) return false;
+		for (int i = 0; i < a.size(); i++) {
+			if (a.get(i) != b.get(i)) return false;
+		}
+		return true;
+	}
+}
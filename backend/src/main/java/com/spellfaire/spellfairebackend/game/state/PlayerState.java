@@ -0,0 +1,155 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+
+/**
+ * One player's side of a {@link GameState}: hero, mana, card piles and battlefield.
+ */
+public class PlayerState {
+
+	private String userId;
+	private String deckId;
+	private Faction faction;
+	private MagicSchool magicSchool;
+	private int heroHealth;
+	private int maxMana;
+	private int currentMana;
+	private int fatigueCounter;
+
+	private final CardPile deck = new CardPile();
+	private final CardPile hand = new CardPile();
+	private final CardPile discardPile = new CardPile();
+	private final Battlefield battlefield = new Battlefield();
+	private GameState game;  // Owning game, whose random source and instance IDs both players share
+
+	public PlayerState() {
+		this.heroHealth = 25;
+	}
+
+	void attach(GameState game) {
+		this.game = game;
+	}
+
+	/**
+	 * Deep copy of this player's side; cards are shared, creatures and piles are not.
+	 */
+	public PlayerState copy() {
+		PlayerState copy = new PlayerState();
+		copy.userId = userId;
+		copy.deckId = deckId;
+		copy.faction = faction;
+		copy.magicSchool = magicSchool;
+		copy.heroHealth = heroHealth;
+		copy.maxMana = maxMana;
+		copy.currentMana = currentMana;
+		copy.fatigueCounter = fatigueCounter;
+		copy.deck.copyFrom(deck);
+		copy.hand.copyFrom(hand);
+		copy.discardPile.copyFrom(discardPile);
+		copy.battlefield.copyFrom(battlefield);
+		return copy;
+	}
+
+	/**
+	 * Random source of the game this side belongs to, for effects that pick at random.
+	 * A side built outside a game gets a generator of its own.
+	 */
+	public GameRandom getRandom() {
+		return game().getRandom();
+	}
+
+	/**
+	 * Take the instance ID for a creature summoned on this side, from the game's shared sequence.
+	 */
+	public int nextInstanceId() {
+		return game().nextInstanceId();
+	}
+
+	private GameState game() {
+		if (game == null) {
+			game = new GameState();
+		}
+		return game;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	public String getDeckId() {
+		return deckId;
+	}
+
+	public void setDeckId(String deckId) {
+		this.deckId = deckId;
+	}
+
+	public Faction getFaction() {
+		return faction;
+	}
+
+	public void setFaction(Faction faction) {
+		this.faction = faction;
+	}
+
+	public MagicSchool getMagicSchool() {
+		return magicSchool;
+	}
+
+	public void setMagicSchool(MagicSchool magicSchool) {
+		this.magicSchool = magicSchool;
+	}
+
+	public int getHeroHealth() {
+		return heroHealth;
+	}
+
+	public void setHeroHealth(int heroHealth) {
+		this.heroHealth = heroHealth;
+	}
+
+	public int getMaxMana() {
+		return maxMana;
+	}
+
+	public void setMaxMana(int maxMana) {
+		this.maxMana = maxMana;
+	}
+
+	public int getCurrentMana() {
+		return currentMana;
+	}
+
+	public void setCurrentMana(int currentMana) {
+		this.currentMana = currentMana;
+	}
+
+	public int getFatigueCounter() {
+		return fatigueCounter;
+	}
+
+	public void setFatigueCounter(int fatigueCounter) {
+		this.fatigueCounter = fatigueCounter;
+	}
+
+	public CardPile getDeck() {
+		return deck;
+	}
+
+	public CardPile getHand() {
+		return hand;
+	}
+
+	public CardPile getDiscardPile() {
+		return discardPile;
+	}
+
+	public Battlefield getBattlefield() {
+		return battlefield;
+	}
+}
@@ -0,0 +1,19 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.util.List;
+
+/**
+ * A game as its opening state plus the steps of every action played from it, in order:
+ * step {@code i} takes the game from state version {@code opening + i} to {@code opening + i + 1}.
+ * Replaying them with the opening's seed reproduces the game exactly.
+ */
+public record Replay(GameState opening, List<List<GameAction>> steps) {
+
+	public Replay {
+		steps = List.copyOf(steps);
+	}
+
+	public long finalVersion() {
+		return opening.getStateVersion() + steps.size();
+	}
+}
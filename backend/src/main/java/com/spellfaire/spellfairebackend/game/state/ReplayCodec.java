@@ -0,0 +1,265 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import org.springframework.stereotype.Component;
+
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.GamePhase;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+
+/**
+ * Versioned binary codec for a {@link Replay}, stored deflated on {@code game_replays}
+ * and served as-is by the replay export.
+ *
+ * Format version 1 (big-endian, then deflated):
+ * <pre>
+ * byte    version
+ * opening UUID id, long stateVersion, long createdAt (epoch millis), long rng seed,
+ *         long rng position, ref player1Id, ref player2Id, ref currentPlayerId, ref winnerId,
+ *         byte status, byte phase, int turnNumber, byte aiDifficulty (0 = none, else ordinal + 1)
+ * 2 x     ref userId, ref deckId, byte faction, byte school (both as aiDifficulty), int heroHealth, int maxMana,
+ *         int currentMana, int fatigueCounter, u16 length, {@link ZoneCodec} blob
+ * int     step count
+ * n x     u16 action count, n x (byte kind, ref playerId, ref subjectId, ref targetId)
+ * </pre>
+ * A ref is a tag byte: 0 for null, 1 followed by a UUID, 2 followed by a modified-UTF-8 string.
+ * Enums are stored by ordinal, so new constants must be appended; reordering them requires a new
+ * format version.
+ */
+@Component
+public class ReplayCodec {
+
+	public static final byte VERSION = 1;
+
+	private static final int REF_NULL = 0;
+	private static final int REF_UUID = 1;
+	private static final int REF_STRING = 2;
+
+	private final ZoneCodec zoneCodec;
+	private final CardCatalog cardCatalog;
+
+	public ReplayCodec(ZoneCodec zoneCodec, CardCatalog cardCatalog) {
+		this.zoneCodec = zoneCodec;
+		this.cardCatalog = cardCatalog;
+	}
+
+	// ==================================================================
+	// ENCODE
+	// ==================================================================
+
+	public byte[] encode(Replay replay) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+			out.writeByte(VERSION);
+			writeOpening(out, replay.opening());
+			out.writeInt(replay.steps().size());
+			for (List<GameAction> step : replay.steps()) {
+				out.writeShort(step.size());
+				for (GameAction action : step) {
+					out.writeByte(action.kind().ordinal());
+					writeRef(out, action.playerId());
+					writeRef(out, action.subjectId());
+					writeRef(out, action.targetId());
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deflater.end();
+		}
+		return bytes.toByteArray();
+	}
+
+	private void writeOpening(DataOutputStream out, GameState state) throws IOException {
+		writeUuid(out, state.getId());
+		out.writeLong(state.getStateVersion());
+		out.writeLong(state.getCreatedAt() != null ? state.getCreatedAt().toEpochMilli() : 0);
+		out.writeLong(state.getRandom().getSeed());
+		out.writeLong(state.getRandom().getPosition());
+		writeRef(out, state.getPlayer1Id());
+		writeRef(out, state.getPlayer2Id());
+		writeRef(out, state.getCurrentPlayerId());
+		writeRef(out, state.getWinnerId());
+		out.writeByte(state.getGameStatus().ordinal());
+		out.writeByte(state.getCurrentPhase().ordinal());
+		out.writeInt(state.getTurnNumber());
+		writeEnum(out, state.getAiDifficulty());
+		writePlayer(out, state.getPlayer1State());
+		writePlayer(out, state.getPlayer2State());
+	}
+
+	private void writePlayer(DataOutputStream out, PlayerState player) throws IOException {
+		writeRef(out, player.getUserId());
+		writeRef(out, player.getDeckId());
+		writeEnum(out, player.getFaction());
+		writeEnum(out, player.getMagicSchool());
+		out.writeInt(player.getHeroHealth());
+		out.writeInt(player.getMaxMana());
+		out.writeInt(player.getCurrentMana());
+		out.writeInt(player.getFatigueCounter());
+		byte[] zones = zoneCodec.encode(player);
+		out.writeShort(zones.length);
+		out.write(zones);
+	}
+
+	// ==================================================================
+	// DECODE
+	// ==================================================================
+
+	public Replay decode(byte[] data) {
+		try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+			byte version = in.readByte();
+			if (version != VERSION) {
+				throw new IllegalStateException("Unsupported replay version: " + version);
+			}
+			GameState opening = readOpening(in);
+			int stepCount = in.readInt();
+			List<List<GameAction>> steps = new ArrayList<>(stepCount);
+			for (int i = 0; i < stepCount; i++) {
+				int actionCount = in.readUnsignedShort();
+				List<GameAction> step = new ArrayList<>(actionCount);
+				for (int j = 0; j < actionCount; j++) {
+					GameAction.Kind kind = GameAction.Kind.values()[in.readUnsignedByte()];
+					step.add(new GameAction(kind, readRef(in), readRef(in), readRef(in)));
+				}
+				steps.add(step);
+			}
+			return new Replay(opening, steps);
+		} catch (EOFException | ZipException e) {
+			throw new IllegalStateException("Truncated or corrupt replay", e);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private GameState readOpening(DataInputStream in) throws IOException {
+		GameState state = new GameState();
+		state.setId(readUuid(in));
+		state.setStateVersion(in.readLong());
+		long createdAt = in.readLong();
+		state.setCreatedAt(createdAt != 0 ? Instant.ofEpochMilli(createdAt) : null);
+		long seed = in.readLong();
+		state.getRandom().reset(seed, in.readLong());
+		state.setPlayer1Id(readRef(in));
+		state.setPlayer2Id(readRef(in));
+		state.setCurrentPlayerId(readRef(in));
+		state.setWinnerId(readRef(in));
+		state.setGameStatus(GameStatus.values()[in.readUnsignedByte()]);
+		state.setCurrentPhase(GamePhase.values()[in.readUnsignedByte()]);
+		state.setTurnNumber(in.readInt());
+		state.setAiDifficulty(readEnum(in, AiDifficulty.values()));
+		state.setUpdatedAt(state.getCreatedAt());
+
+		byte[] zones1 = readPlayer(in, state.getPlayer1State());
+		byte[] zones2 = readPlayer(in, state.getPlayer2State());
+		Set<UUID> cardIds = new HashSet<>();
+		zoneCodec.collectCardIds(zones1, cardIds);
+		zoneCodec.collectCardIds(zones2, cardIds);
+		Map<UUID, Card> cards = new HashMap<>();
+		for (UUID cardId : cardIds) {
+			cardCatalog.findById(cardId).ifPresent(card -> cards.put(cardId, card));
+		}
+		zoneCodec.decode(zones1, state.getPlayer1State(), cards);
+		zoneCodec.decode(zones2, state.getPlayer2State(), cards);
+		return state;
+	}
+
+	private static byte[] readPlayer(DataInputStream in, PlayerState player) throws IOException {
+		player.setUserId(readRef(in));
+		player.setDeckId(readRef(in));
+		player.setFaction(readEnum(in, Faction.values()));
+		player.setMagicSchool(readEnum(in, MagicSchool.values()));
+		player.setHeroHealth(in.readInt());
+		player.setMaxMana(in.readInt());
+		player.setCurrentMana(in.readInt());
+		player.setFatigueCounter(in.readInt());
+		byte[] zones = new byte[in.readUnsignedShort()];
+		in.readFully(zones);
+		return zones;
+	}
+
+	// ==================================================================
+	// HELPERS
+	// ==================================================================
+
+	// IDs are almost always UUIDs; "AI" and the hero targets fall back to strings
+	private static void writeRef(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeByte(REF_NULL);
+			return;
+		}
+		UUID uuid = parseUuid(value);
+		if (uuid != null) {
+			out.writeByte(REF_UUID);
+			writeUuid(out, uuid);
+		} else {
+			out.writeByte(REF_STRING);
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readRef(DataInputStream in) throws IOException {
+		int tag = in.readUnsignedByte();
+		return switch (tag) {
+			case REF_NULL -> null;
+			case REF_UUID -> readUuid(in).toString();
+			case REF_STRING -> in.readUTF();
+			default -> throw new IllegalStateException("Unknown replay ref tag: " + tag);
+		};
+	}
+
+	// Only the canonical form, so decoding gives back the exact string
+	private static UUID parseUuid(String value) {
+		if (value.length() != 36) {
+			return null;
+		}
+		try {
+			UUID uuid = UUID.fromString(value);
+			return uuid.toString().equals(value) ? uuid : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+		out.writeByte(value != null ? value.ordinal() + 1 : 0);
+	}
+
+	private static <E extends Enum<E>> E readEnum(DataInputStream in, E[] values) throws IOException {
+		int ordinal = in.readUnsignedByte();
+		return ordinal != 0 ? values[ordinal - 1] : null;
+	}
+
+	private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+		out.writeLong(id.getMostSignificantBits());
+		out.writeLong(id.getLeastSignificantBits());
+	}
+
+	private static UUID readUuid(DataInputStream in) throws IOException {
+		return new UUID(in.readLong(), in.readLong());
+	}
+}
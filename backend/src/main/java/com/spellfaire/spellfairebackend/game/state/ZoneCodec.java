@@ -0,0 +1,201 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+
+/**
+ * Versioned binary codec for a player's deck, hand, discard pile and battlefield,
+ * stored as a single column on {@code game_player_states}.
+ *
+ * Format version 2 (big-endian):
+ * <pre>
+ * byte    version
+ * 3 x     u16 count, count x card UUID        (deck, hand, discard; in pile order)
+ * byte    creature count
+ * n x     int instance ID, card UUID, int attack, int temporaryAttackDebuff,
+ *         int health, int maxHealth, byte flags, int keyword mask, int status mask
+ * </pre>
+ * Version 1 stored each instance ID as a UUID; its creatures are given new instance IDs when read.
+ * Keyword and status masks use enum ordinals, so new constants must be appended;
+ * reordering them requires a new format version.
+ */
+@Component
+public class ZoneCodec {
+
+	public static final byte VERSION = 2;
+
+	private static final byte UUID_INSTANCE_IDS_VERSION = 1;
+
+	private static final int UUID_BYTES = 16;
+	private static final int CREATURE_BYTES = 4 + UUID_BYTES + 4 * 4 + 1 + 2 * 4;
+
+	private static final int FLAG_CAN_ATTACK = 1;
+	private static final int FLAG_HAS_ATTACKED = 1 << 1;
+	private static final int FLAG_FROZEN_NEXT_TURN = 1 << 2;
+	private static final int FLAG_FROZEN_BLOCKS = 1 << 3;
+
+	// ==================================================================
+	// ENCODE
+	// ==================================================================
+
+	public byte[] encode(PlayerState state) {
+		Battlefield battlefield = state.getBattlefield();
+		int cards = state.getDeck().size() + state.getHand().size() + state.getDiscardPile().size();
+		ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * 2 + cards * UUID_BYTES + 1
+				+ battlefield.size() * CREATURE_BYTES);
+
+		buffer.put(VERSION);
+		writePile(buffer, state.getDeck());
+		writePile(buffer, state.getHand());
+		writePile(buffer, state.getDiscardPile());
+
+		buffer.put((byte) battlefield.size());
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState creature = battlefield.get(i);
+			buffer.putInt(creature.getInstanceNumber());
+			writeUuid(buffer, creature.getCard().getId());
+			buffer.putInt(creature.getAttack());
+			buffer.putInt(creature.getTemporaryAttackDebuff());
+			buffer.putInt(creature.getHealth());
+			buffer.putInt(creature.getMaxHealth());
+			buffer.put(flags(creature));
+			buffer.putInt(creature.getKeywordMask());
+			buffer.putInt(creature.getStatusMask());
+		}
+		return buffer.array();
+	}
+
+	// ==================================================================
+	// DECODE
+	// ==================================================================
+
+	/**
+	 * Collect every card ID referenced by a blob so callers can resolve them in one lookup.
+	 */
+	public void collectCardIds(byte[] blob, Set<UUID> cardIds) {
+		ByteBuffer buffer = open(blob);
+		int instanceBytes = instanceBytes(blob[0]);
+		for (int pile = 0; pile < 3; pile++) {
+			int count = Short.toUnsignedInt(buffer.getShort());
+			for (int i = 0; i < count; i++) {
+				cardIds.add(readUuid(buffer));
+			}
+		}
+		int creatures = Byte.toUnsignedInt(buffer.get());
+		for (int i = 0; i < creatures; i++) {
+			buffer.position(buffer.position() + instanceBytes);
+			cardIds.add(readUuid(buffer));
+			buffer.position(buffer.position() + CREATURE_BYTES - 4 - UUID_BYTES);
+		}
+	}
+
+	/**
+	 * Decode a blob into the (empty) piles and battlefield of the given player state.
+	 * The state's game must already have its instance ID sequence, for version 1 creatures to draw from.
+	 */
+	public void decode(byte[] blob, PlayerState state, Map<UUID, Card> cards) {
+		ByteBuffer buffer = open(blob);
+		boolean uuidInstanceIds = blob[0] == UUID_INSTANCE_IDS_VERSION;
+		try {
+			readPile(buffer, state.getDeck(), cards);
+			readPile(buffer, state.getHand(), cards);
+			readPile(buffer, state.getDiscardPile(), cards);
+
+			int creatures = Byte.toUnsignedInt(buffer.get());
+			for (int i = 0; i < creatures; i++) {
+				int instanceId;
+				if (uuidInstanceIds) {
+					readUuid(buffer);
+					instanceId = state.nextInstanceId();
+				} else {
+					instanceId = buffer.getInt();
+				}
+				Card card = card(cards, readUuid(buffer));
+				int attack = buffer.getInt();
+				int temporaryAttackDebuff = buffer.getInt();
+				int health = buffer.getInt();
+				int maxHealth = buffer.getInt();
+				int flags = buffer.get();
+				int keywordMask = buffer.getInt();
+				int statusMask = buffer.getInt();
+
+				CreatureState creature = new CreatureState(instanceId, card, attack, health, null);
+				creature.setKeywordMask(keywordMask);
+				creature.setStatusMask(statusMask);
+				creature.setTemporaryAttackDebuff(temporaryAttackDebuff);
+				creature.setMaxHealth(maxHealth);
+				creature.setCanAttack((flags & FLAG_CAN_ATTACK) != 0);
+				creature.setHasAttackedThisTurn((flags & FLAG_HAS_ATTACKED) != 0);
+				creature.setFrozenForNextTurn((flags & FLAG_FROZEN_NEXT_TURN) != 0);
+				creature.setFrozenBlocksAttacksThisTurn((flags & FLAG_FROZEN_BLOCKS) != 0);
+				state.getBattlefield().add(creature);
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IllegalStateException("Truncated zone blob", e);
+		}
+	}
+
+	// ==================================================================
+	// HELPERS
+	// ==================================================================
+
+	private static ByteBuffer open(byte[] blob) {
+		ByteBuffer buffer = ByteBuffer.wrap(blob);
+		byte version = buffer.get();
+		if (version != VERSION && version != UUID_INSTANCE_IDS_VERSION) {
+			throw new IllegalStateException("Unsupported zone blob version: " + version);
+		}
+		return buffer;
+	}
+
+	private static int instanceBytes(byte version) {
+		return version == UUID_INSTANCE_IDS_VERSION ? UUID_BYTES : 4;
+	}
+
+	private static void writePile(ByteBuffer buffer, CardPile pile) {
+		buffer.putShort((short) pile.size());
+		for (int i = 0; i < pile.size(); i++) {
+			writeUuid(buffer, pile.get(i).getId());
+		}
+	}
+
+	private static void readPile(ByteBuffer buffer, CardPile pile, Map<UUID, Card> cards) {
+		int count = Short.toUnsignedInt(buffer.getShort());
+		for (int i = 0; i < count; i++) {
+			pile.add(card(cards, readUuid(buffer)));
+		}
+	}
+
+	private static Card card(Map<UUID, Card> cards, UUID id) {
+		Card card = cards.get(id);
+		if (card == null) {
+			throw new IllegalStateException("Unknown card in zone blob: " + id);
+		}
+		return card;
+	}
+
+	private static void writeUuid(ByteBuffer buffer, UUID id) {
+		buffer.putLong(id.getMostSignificantBits());
+		buffer.putLong(id.getLeastSignificantBits());
+	}
+
+	private static UUID readUuid(ByteBuffer buffer) {
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+
+	private static byte flags(CreatureState creature) {
+		int flags = 0;
+		if (creature.isCanAttack()) flags |= FLAG_CAN_ATTACK;
+		if (creature.isHasAttackedThisTurn()) flags |= FLAG_HAS_ATTACKED;
+		if (creature.isFrozenForNextTurn()) flags |= FLAG_FROZEN_NEXT_TURN;
+		if (creature.isFrozenBlocksAttacksThisTurn()) flags |= FLAG_FROZEN_BLOCKS;
+		return (byte) flags;
+	}
+}
@@ -2,9 +2,13 @@ package com.spellfaire.spellfairebackend.security;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -12,7 +16,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.spellfaire.spellfairebackend.auth.service.JwtService;
 
 import jakarta.servlet.FilterChain;
@@ -22,9 +25,15 @@ import jakarta.servlet.http.HttpServletResponse;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+	private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+	private static final Pattern GAME_STREAM = Pattern.compile("/api/games/([0-9a-fA-F-]{36})/stream");
+
+	private final JwtVerificationCache jwtVerificationCache;
 	private final JwtService jwtService;
+	private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
-	public JwtAuthenticationFilter(JwtService jwtService) {
+	public JwtAuthenticationFilter(JwtVerificationCache jwtVerificationCache, JwtService jwtService) {
+		this.jwtVerificationCache = jwtVerificationCache;
 		this.jwtService = jwtService;
 	}
 
@@ -39,21 +48,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+			authenticateStream(request, path);
 			filterChain.doFilter(request, response);
 			return;
 		}
 
 		String token = authHeader.substring("Bearer ".length()).trim();
 		try {
-			DecodedJWT jwt = jwtService.verify(token);
-			String userId = jwt.getSubject();
-
-			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-					userId,
-					null,
-					List.of(new SimpleGrantedAuthority("ROLE_USER")));
-			authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-			SecurityContextHolder.getContext().setAuthentication(authentication);
+			authenticate(request, jwtVerificationCache.verify(token));
 		} catch (JWTVerificationException ignored) {
 			// Invalid token: treat as anonymous.
 		}
@@ -61,6 +63,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * EventSource cannot set headers, so a game stream may instead carry a stream token for
+	 * that game in its {@code token} parameter. Accepted nowhere else.
+	 */
+	private void authenticateStream(HttpServletRequest request, String path) {
+		String token = request.getParameter("token");
+		if (token == null || !"GET".equalsIgnoreCase(request.getMethod())) {
+			return;
+		}
+		Matcher stream = GAME_STREAM.matcher(path);
+		if (!stream.matches()) {
+			return;
+		}
+		try {
+			authenticate(request, jwtService.verifyStreamToken(token, UUID.fromString(stream.group(1))));
+		} catch (JWTVerificationException | IllegalArgumentException ignored) {
+			// Invalid token or game ID: treat as anonymous.
+		}
+	}
+
+	private void authenticate(HttpServletRequest request, String userId) {
+		UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+				userId,
+				null,
+				USER_AUTHORITIES);
+		authentication.setDetails(detailsSource.buildDetails(request));
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+
 	private static boolean shouldSkip(String path, String method) {
 		if (!"POST".equalsIgnoreCase(method)) {
 			return false;
@@ -0,0 +1,152 @@
+package com.spellfaire.spellfairebackend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.spellfaire.spellfairebackend.auth.service.JwtService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers which access tokens verified, and for whom, until they expire, so a client sending
+ * the same token on every request pays for the signature check once.
+ *
+ * Entries are keyed by the token's SHA-256, never the token itself, and are dropped at the token's
+ * {@code exp}; tokens without one are verified every time. Access tokens cannot be revoked before
+ * they expire, so a cached result is exactly what verifying again would return.
+ * The least recently used entry is evicted once {@code max-entries} is reached; 0 disables the cache.
+ *
+ * Entries are spread by hash over up to {@value #MAX_STRIPES} stripes, each an LRU map under its own
+ * lock holding an equal share of the entries, so requests with different tokens rarely wait on one
+ * another. Eviction is thus least recently used per stripe; caches too small to split keep one stripe.
+ */
+@Component
+public class JwtVerificationCache {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	});
+
+	static final int MAX_STRIPES = 16;
+	private static final int MIN_STRIPE_ENTRIES = 64;
+
+	private final JwtService jwtService;
+	private final int maxEntries;
+	private final Stripe[] stripes;
+	private final Counter hits;
+	private final Counter misses;
+
+	public JwtVerificationCache(JwtService jwtService, MeterRegistry meterRegistry,
+								@Value("${spellfaire.security.jwt.cache.max-entries:10000}") int maxEntries) {
+		this.jwtService = jwtService;
+		this.maxEntries = maxEntries;
+		int stripeCount = Integer.highestOneBit(Math.clamp(maxEntries / MIN_STRIPE_ENTRIES, 1, MAX_STRIPES));
+		this.stripes = new Stripe[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			// Spread the remainder so the stripes add up to maxEntries
+			stripes[i] = new Stripe(maxEntries / stripeCount + (i < maxEntries % stripeCount ? 1 : 0));
+		}
+		this.hits = Counter.builder("spellfaire.security.jwt.cache")
+			.description("Access tokens checked against the verification cache")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.misses = Counter.builder("spellfaire.security.jwt.cache")
+			.description("Access tokens checked against the verification cache")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		Gauge.builder("spellfaire.security.jwt.cache.size", this, JwtVerificationCache::size)
+			.description("Verified access tokens cached")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * The subject of a valid token, verifying it unless it verified before and has not expired.
+	 */
+	public String verify(String token) throws JWTVerificationException {
+		if (maxEntries <= 0) {
+			return jwtService.verify(token).getSubject();
+		}
+		String key = sha256(token);
+		Stripe stripe = stripeFor(key);
+		long now = System.currentTimeMillis();
+		synchronized (stripe) {
+			Verified cached = stripe.get(key);
+			if (cached != null) {
+				if (now < cached.expiresAt()) {
+					hits.increment();
+					return cached.subject();
+				}
+				stripe.remove(key);
+			}
+		}
+
+		misses.increment();
+		DecodedJWT jwt = jwtService.verify(token);
+		Date expiresAt = jwt.getExpiresAt();
+		if (expiresAt != null && expiresAt.getTime() > now && jwt.getSubject() != null) {
+			synchronized (stripe) {
+				stripe.put(key, new Verified(jwt.getSubject(), expiresAt.getTime()));
+			}
+		}
+		return jwt.getSubject();
+	}
+
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	int stripeCount() {
+		return stripes.length;
+	}
+
+	private Stripe stripeFor(String key) {
+		int hash = key.hashCode();
+		return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+	}
+
+	private static String sha256(String token) {
+		byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+	}
+
+	private record Verified(String subject, long expiresAt) {
+	}
+
+	// Access-ordered so the eldest entry is the stripe's least recently presented token
+	private static final class Stripe extends LinkedHashMap<String, Verified> {
+
+		private final int capacity;
+
+		Stripe(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Verified> eldest) {
+			return size() > capacity;
+		}
+	}
+}
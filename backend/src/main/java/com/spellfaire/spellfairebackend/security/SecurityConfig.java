@@ -14,14 +14,20 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 public class SecurityConfig {
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter)
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter,
+			@Value("${server.port:8080}") int serverPort,
+			@Value("${management.server.port:-1}") int managementPort,
+			@Value("${spellfaire.security.metrics.public:false}") boolean publicMetrics)
 			throws Exception {
 		return http
 				.csrf(csrf -> csrf.disable())
@@ -29,19 +35,39 @@ public class SecurityConfig {
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.authorizeHttpRequests(auth -> auth
 						.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+						// Streams (SSE) were authorized on the initial request; later dispatches carry no token
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.requestMatchers(HttpMethod.POST,
 								"/api/auth/register",
 								"/api/auth/login",
 								"/api/auth/refresh",
 								"/api/auth/logout").permitAll()
+						.requestMatchers(HttpMethod.GET, publicActuatorPaths(publicMetrics)).permitAll()
+						.requestMatchers(onManagementPort(serverPort, managementPort)).permitAll()
 						.anyRequest().authenticated())
 				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 				.build();
 	}
 
+	private static String[] publicActuatorPaths(boolean publicMetrics) {
+		return publicMetrics
+				? new String[] { "/actuator/health", "/actuator/prometheus" }
+				: new String[] { "/actuator/health" };
+	}
+
+	/**
+	 * Prometheus scrapes without a token, so actuator endpoints are open only on the separate
+	 * management port, which must not be published. Scraping through the public port needs
+	 * spellfaire.security.metrics.public=true.
+	 */
+	private static RequestMatcher onManagementPort(int serverPort, int managementPort) {
+		boolean separate = managementPort > 0 && managementPort != serverPort;
+		return request -> separate && request.getLocalPort() == managementPort;
+	}
+
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${spellfaire.security.password.bcrypt-strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 
 	@Bean
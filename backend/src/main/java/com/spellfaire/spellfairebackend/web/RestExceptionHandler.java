@@ -3,6 +3,7 @@ package com.spellfaire.spellfairebackend.web;
 import java.time.Instant;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -23,6 +24,11 @@ public class RestExceptionHandler {
 		return build(HttpStatus.BAD_REQUEST, message, request);
 	}
 
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ApiError> handleConflict(OptimisticLockingFailureException ex, HttpServletRequest request) {
+		return build(HttpStatus.CONFLICT, "Game was updated concurrently, please retry", request);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ApiError> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
 		String message = ex.getBindingResult().getFieldErrors().stream()
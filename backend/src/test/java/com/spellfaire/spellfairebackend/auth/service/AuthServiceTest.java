@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,7 +20,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.spellfaire.spellfairebackend.auth.dto.LoginRequest;
@@ -34,7 +34,7 @@ class AuthServiceTest {
 	private UserRepository userRepository;
 
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
 
 	@Mock
 	private JwtService jwtService;
@@ -65,7 +65,7 @@ class AuthServiceTest {
 		request.setPassword("password-123");
 
 		when(userRepository.existsByEmail("player@example.com")).thenReturn(false);
-		when(passwordEncoder.encode("password-123")).thenReturn("encoded-password");
+		when(passwordHasher.encode("password-123")).thenReturn("encoded-password");
 
 		when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
 			User persisted = invocation.getArgument(0);
@@ -117,10 +117,53 @@ class AuthServiceTest {
 		request.setPassword("wrong-password");
 
 		when(userRepository.findByEmail("player@example.com")).thenReturn(Optional.of(existingUser));
-		when(passwordEncoder.matches("wrong-password", "hashed")).thenReturn(false);
+		when(passwordHasher.matches("wrong-password", "hashed")).thenReturn(false);
 
 		ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> authService.login(request));
 
 		assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
 	}
+
+	@Test
+	void loginRehashesAPasswordStoredAtAnotherCost() {
+		LoginRequest request = new LoginRequest();
+		request.setEmail("player@example.com");
+		request.setPassword("password-123");
+
+		when(userRepository.findByEmail("player@example.com")).thenReturn(Optional.of(existingUser));
+		when(passwordHasher.matches("password-123", "hashed")).thenReturn(true);
+		when(passwordHasher.needsRehash("hashed")).thenReturn(true);
+		when(passwordHasher.encode("password-123")).thenReturn("rehashed");
+		when(jwtService.createAccessToken(existingUser)).thenReturn("access-token");
+		RefreshToken refreshToken = new RefreshToken();
+		refreshToken.setUser(existingUser);
+		when(refreshTokenService.issueForUser(existingUser))
+				.thenReturn(new RefreshTokenService.IssuedRefreshToken("raw-refresh-token", refreshToken));
+
+		authService.login(request);
+
+		assertEquals("rehashed", existingUser.getPasswordHash());
+		verify(userRepository).save(existingUser);
+	}
+
+	@Test
+	void loginKeepsAHashAtTheConfiguredCost() {
+		LoginRequest request = new LoginRequest();
+		request.setEmail("player@example.com");
+		request.setPassword("password-123");
+
+		when(userRepository.findByEmail("player@example.com")).thenReturn(Optional.of(existingUser));
+		when(passwordHasher.matches("password-123", "hashed")).thenReturn(true);
+		when(passwordHasher.needsRehash("hashed")).thenReturn(false);
+		when(jwtService.createAccessToken(existingUser)).thenReturn("access-token");
+		RefreshToken refreshToken = new RefreshToken();
+		refreshToken.setUser(existingUser);
+		when(refreshTokenService.issueForUser(existingUser))
+				.thenReturn(new RefreshTokenService.IssuedRefreshToken("raw-refresh-token", refreshToken));
+
+		authService.login(request);
+
+		assertEquals("hashed", existingUser.getPasswordHash());
+		verify(userRepository, never()).save(any(User.class));
+	}
 }
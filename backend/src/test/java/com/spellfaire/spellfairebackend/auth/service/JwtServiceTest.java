@@ -16,7 +16,7 @@ class JwtServiceTest {
 
 	@Test
 	void createAndVerifyAccessTokenIncludesExpectedClaims() {
-		JwtService jwtService = new JwtService("unit-test-secret", "spellfaire-test", 3600);
+		JwtService jwtService = new JwtService("unit-test-secret", "spellfaire-test", 3600, 60);
 
 		User user = new User();
 		user.setId(UUID.randomUUID());
@@ -35,7 +35,7 @@ class JwtServiceTest {
 
 	@Test
 	void verifyRejectsTamperedToken() {
-		JwtService jwtService = new JwtService("unit-test-secret", "spellfaire-test", 3600);
+		JwtService jwtService = new JwtService("unit-test-secret", "spellfaire-test", 3600, 60);
 
 		User user = new User();
 		user.setId(UUID.randomUUID());
@@ -56,8 +56,8 @@ class JwtServiceTest {
 		user.setEmail("jwt.tester@example.com");
 		user.setUsername("JwtTester");
 
-		JwtService issuerA = new JwtService("unit-test-secret", "issuer-a", 3600);
-		JwtService issuerB = new JwtService("unit-test-secret", "issuer-b", 3600);
+		JwtService issuerA = new JwtService("unit-test-secret", "issuer-a", 3600, 60);
+		JwtService issuerB = new JwtService("unit-test-secret", "issuer-b", 3600, 60);
 
 		String token = issuerA.createAccessToken(user);
 
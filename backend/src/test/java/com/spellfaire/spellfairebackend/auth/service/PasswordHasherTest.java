@@ -0,0 +1,93 @@
+package com.spellfaire.spellfairebackend.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHasherTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private PasswordHasher hasher;
+
+	@AfterEach
+	void shutdown() {
+		hasher.shutdown();
+	}
+
+	@Test
+	void hashesAndChecksOnThePoolAndRecordsLatency() {
+		hasher = new PasswordHasher(new BCryptPasswordEncoder(4), registry, 4, 1, 1);
+
+		String hash = hasher.encode("password-123");
+
+		assertTrue(hasher.matches("password-123", hash));
+		assertFalse(hasher.matches("wrong-password", hash));
+		assertEquals(1, registry.get("spellfaire.security.password.hash").tag("operation", "encode").timer().count());
+		assertEquals(2, registry.get("spellfaire.security.password.hash").tag("operation", "matches").timer().count());
+		assertEquals(3, registry.get("spellfaire.security.password.wait").timer().count());
+	}
+
+	@Test
+	void needsRehashWhenTheStoredCostDiffers() {
+		hasher = new PasswordHasher(new BCryptPasswordEncoder(5), registry, 5, 1, 1);
+
+		assertFalse(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("password-123")));
+		assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("password-123")));
+		assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(6).encode("password-123")));
+		assertFalse(hasher.needsRehash("not-a-bcrypt-hash"));
+		assertFalse(hasher.needsRehash(null));
+	}
+
+	@Test
+	void refusesWith429WhenEveryWorkerIsBusyAndTheQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "hash:" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encodedPassword.equals(encode(rawPassword));
+			}
+		};
+		hasher = new PasswordHasher(blocking, registry, 10, 1, 1);
+
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("second"));
+		while (registry.get("spellfaire.security.password.queued").gauge().value() < 1) {
+			Thread.onSpinWait();
+		}
+
+		ResponseStatusException refused = assertThrows(ResponseStatusException.class, () -> hasher.encode("third"));
+
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, refused.getStatusCode());
+		assertEquals(1, registry.get("spellfaire.security.password.rejected").counter().count());
+		release.countDown();
+		assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+		assertEquals("hash:second", queued.get(5, TimeUnit.SECONDS));
+	}
+}
@@ -3,13 +3,18 @@ package com.spellfaire.spellfairebackend.auth.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,11 +23,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.spellfaire.spellfairebackend.auth.model.RefreshToken;
 import com.spellfaire.spellfairebackend.auth.model.User;
 import com.spellfaire.spellfairebackend.auth.repo.RefreshTokenRepository;
+import com.spellfaire.spellfairebackend.auth.repo.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 class RefreshTokenServiceTest {
@@ -30,13 +38,16 @@ class RefreshTokenServiceTest {
 	@Mock
 	private RefreshTokenRepository refreshTokenRepository;
 
+	@Mock
+	private UserRepository userRepository;
+
 	private RefreshTokenService refreshTokenService;
 
 	private User user;
 
 	@BeforeEach
 	void setUp() {
-		refreshTokenService = new RefreshTokenService(refreshTokenRepository, 3600);
+		refreshTokenService = new RefreshTokenService(refreshTokenRepository, userRepository, 3600, 100, 2);
 
 		user = new User();
 		user.setId(UUID.randomUUID());
@@ -93,6 +104,79 @@ class RefreshTokenServiceTest {
 		verify(refreshTokenRepository, never()).findByTokenHash(any());
 	}
 
+	@Test
+	void rotateOfARecentlyIssuedTokenSkipsTheLookup() {
+		when(refreshTokenRepository.save(any(RefreshToken.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		RefreshTokenService.IssuedRefreshToken issued = refreshTokenService.issueForUser(user);
+		when(refreshTokenRepository.revokeIfActive(eq(issued.persisted().getTokenHash()), any(), any())).thenReturn(1);
+		when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+
+		RefreshTokenService.IssuedRefreshToken rotated = refreshTokenService.rotate(issued.rawToken());
+
+		assertEquals(user, rotated.persisted().getUser());
+		verify(refreshTokenRepository, never()).findByTokenHash(any());
+		verify(refreshTokenRepository).revokeIfActive(eq(issued.persisted().getTokenHash()),
+				eq(rotated.persisted().getTokenHash()), any());
+		assertEquals(1, refreshTokenService.cachedCount());
+	}
+
+	@Test
+	void rotateOfALookedUpTokenKeepsTheUserLoadedWithIt() {
+		RefreshToken existing = tokenForUser(user);
+		when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(existing));
+		when(refreshTokenRepository.revokeIfActive(any(), any(), any())).thenReturn(1);
+		when(refreshTokenRepository.save(any(RefreshToken.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		RefreshTokenService.IssuedRefreshToken rotated = refreshTokenService.rotate("stored-token");
+
+		assertSame(user, rotated.persisted().getUser());
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	void rotateRejectsATokenAlreadyRotatedElsewhere() {
+		when(refreshTokenRepository.save(any(RefreshToken.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		RefreshTokenService.IssuedRefreshToken issued = refreshTokenService.issueForUser(user);
+		when(refreshTokenRepository.revokeIfActive(any(), any(), any())).thenReturn(0);
+
+		ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+				() -> refreshTokenService.rotate(issued.rawToken()));
+
+		assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+		verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+		assertEquals(0, refreshTokenService.cachedCount());
+	}
+
+	@Test
+	void revokeIfPresentRevokesInOneStatementAndForgetsTheToken() {
+		when(refreshTokenRepository.save(any(RefreshToken.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		RefreshTokenService.IssuedRefreshToken issued = refreshTokenService.issueForUser(user);
+
+		refreshTokenService.revokeIfPresent(issued.rawToken());
+
+		verify(refreshTokenRepository).revokeIfActive(eq(issued.persisted().getTokenHash()), eq(null), any());
+		verify(refreshTokenRepository, never()).findByTokenHash(any());
+		assertEquals(0, refreshTokenService.cachedCount());
+	}
+
+	@Test
+	void purgeDeletesExpiredTokensChunkByChunk() {
+		List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+		List<UUID> last = List.of(UUID.randomUUID());
+		when(refreshTokenRepository.findExpiredIds(any(Instant.class), any(Pageable.class)))
+				.thenReturn(first)
+				.thenReturn(last);
+
+		assertEquals(3, refreshTokenService.purgeExpired());
+
+		verify(refreshTokenRepository).deleteAllByIdInBatch(first);
+		verify(refreshTokenRepository).deleteAllByIdInBatch(last);
+	}
+
 	private static RefreshToken tokenForUser(User user) {
 		RefreshToken token = new RefreshToken();
 		token.setUser(user);
@@ -36,6 +36,7 @@ import com.spellfaire.spellfairebackend.game.model.MagicSchool;
 import com.spellfaire.spellfairebackend.game.repo.CardRepository;
 import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
 import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -65,6 +66,9 @@ class GameControllerIT {
 	@Autowired
 	private CardRepository cardRepository;
 
+	@Autowired
+	private CardCatalog cardCatalog;
+
 	@Autowired
 	private DeckRepository deckRepository;
 
@@ -77,6 +81,7 @@ class GameControllerIT {
 		deckRepository.deleteAll();
 		cardRepository.deleteAll();
 		seedCardPool();
+		cardCatalog.reload();
 	}
 
 	@Test
@@ -0,0 +1,304 @@
+package com.spellfaire.spellfairebackend.game;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.spellfaire.spellfairebackend.auth.model.User;
+import com.spellfaire.spellfairebackend.auth.repo.UserRepository;
+import com.spellfaire.spellfairebackend.game.dto.AttackRequest;
+import com.spellfaire.spellfairebackend.game.dto.CreateAiGameRequest;
+import com.spellfaire.spellfairebackend.game.dto.PlayCardRequest;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.repo.CardRepository;
+import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.service.AiTurnScheduler;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+import com.spellfaire.spellfairebackend.game.service.GameService;
+import com.spellfaire.spellfairebackend.game.service.GameStateStore;
+import com.spellfaire.spellfairebackend.game.service.GameplayService;
+import com.spellfaire.spellfairebackend.game.state.CardPile;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the game-graph fetch plan: loading a game must cost a constant number of statements,
+ * no matter how many cards and creatures it holds, and an action must write only the rows it
+ * changes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class GameRepositoryIT {
+
+	// Game + both states, zone cards, board creatures, their keywords and statuses, card keywords
+	private static final long MAX_LOAD_STATEMENTS = 8;
+
+	// A surrender's writes in the same transaction: INSERT game_log (the action and its events)
+	// and UPDATE games (status, winner, versions). Neither player's state or zones change. The
+	// opening game_log entry and game_replays row are written at creation, outside the window.
+	private static final long SURRENDER_WRITE_STATEMENTS = 2;
+
+	// Playing a creature: INSERT game_log, UPDATE games, UPDATE the player's state (mana),
+	// DELETE the card's player_zone_cards row and INSERT its board_creatures row. The other hand
+	// rows keep their positions. The seeded cards have no keywords, so no collection rows.
+	private static final long PLAY_CREATURE_WRITE_STATEMENTS = 5;
+
+	// Attacking the enemy hero: INSERT game_log, UPDATE games, UPDATE the defender's state
+	// (hero health) and UPDATE the attacker's board_creatures row (has attacked).
+	private static final long ATTACK_HERO_WRITE_STATEMENTS = 4;
+
+	// Ending the turn: INSERT game_log, UPDATE games (current player, turn), UPDATE the next
+	// player's state (mana) and UPDATE the one player_zone_cards row it draws; the rest of its
+	// deck keeps its positions. The next player has no creatures to ready.
+	private static final long END_TURN_WRITE_STATEMENTS = 4;
+
+	@Container
+	@SuppressWarnings("resource")
+	private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4")
+			.withDatabaseName("spellfaire_test")
+			.withUsername("test")
+			.withPassword("test");
+
+	@DynamicPropertySource
+	static void configureDatasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+		registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+	}
+
+	@Autowired
+	private CardRepository cardRepository;
+
+	@Autowired
+	private CardCatalog cardCatalog;
+
+	@Autowired
+	private DeckRepository deckRepository;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameplayService gameplayService;
+
+	@Autowired
+	private GameStateStore gameStateStore;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	// AI turns would run their own statements inside the measured window
+	@MockitoBean
+	private AiTurnScheduler aiTurnScheduler;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		gameRepository.deleteAll();
+		deckRepository.deleteAll();
+		cardRepository.deleteAll();
+		userRepository.deleteAll();
+		seedCardPool();
+		cardCatalog.reload();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void getGameByIdLoadsGraphInBoundedStatements() {
+		UUID gameId = createAiGame();
+
+		statistics.clear();
+		assertTrue(gameService.getGameById(gameId).isPresent());
+
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue(statements <= MAX_LOAD_STATEMENTS, "getGameById ran " + statements + " statements");
+	}
+
+	@Test
+	void gameplayActionLoadsGraphInBoundedStatements() {
+		User user = saveUser();
+		UUID gameId = createAiGame(user);
+
+		statistics.clear();
+		gameplayService.surrender(gameId, user.getId().toString());
+
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue(statements <= MAX_LOAD_STATEMENTS + SURRENDER_WRITE_STATEMENTS,
+				"surrender ran " + statements + " statements");
+	}
+
+	@Test
+	void playCardWritesOnlyTheRowsItChanges() {
+		User user = saveUser();
+		UUID gameId = createAiGame(user);
+		String playerId = user.getId().toString();
+		Card creature = arrangeTurn(gameId, playerId, state -> {
+			PlayerState player = state.getPlayerState(playerId);
+			int index = indexOfCreature(player.getHand());
+			if (index < 0) {
+				player.getHand().add(player.getDeck().removeAt(indexOfCreature(player.getDeck())));
+				index = player.getHand().size() - 1;
+			}
+			return player.getHand().get(index);
+		});
+		PlayCardRequest request = new PlayCardRequest();
+		request.setCardId(creature.getId().toString());
+
+		statistics.clear();
+		gameplayService.playCard(gameId, playerId, request);
+
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue(statements <= MAX_LOAD_STATEMENTS + PLAY_CREATURE_WRITE_STATEMENTS,
+				"playCard ran " + statements + " statements");
+	}
+
+	@Test
+	void attackWritesOnlyTheRowsItChanges() {
+		User user = saveUser();
+		UUID gameId = createAiGame(user);
+		String playerId = user.getId().toString();
+		CreatureState attacker = arrangeTurn(gameId, playerId, state -> {
+			PlayerState player = state.getPlayerState(playerId);
+			Card card = player.getDeck().removeAt(indexOfCreature(player.getDeck()));
+			CreatureState creature = CreatureState.summon(player, card, card.getAttack(), card.getHealth(),
+					Set.of());
+			creature.setCanAttack(true);
+			player.getBattlefield().add(creature);
+			return creature;
+		});
+		AttackRequest request = new AttackRequest();
+		request.setAttackerInstanceId(attacker.getInstanceId());
+		request.setTargetId("ENEMY_HERO");
+
+		statistics.clear();
+		gameplayService.attack(gameId, playerId, request);
+
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue(statements <= MAX_LOAD_STATEMENTS + ATTACK_HERO_WRITE_STATEMENTS,
+				"attack ran " + statements + " statements");
+	}
+
+	@Test
+	void endTurnWithADrawWritesOnlyTheRowsItChanges() {
+		User user = saveUser();
+		UUID gameId = createAiGame(user);
+		String playerId = user.getId().toString();
+		arrangeTurn(gameId, playerId, state -> null);
+
+		statistics.clear();
+		gameplayService.endTurn(gameId, playerId);
+
+		long statements = statistics.getPrepareStatementCount();
+		assertTrue(statements <= MAX_LOAD_STATEMENTS + END_TURN_WRITE_STATEMENTS,
+				"endTurn ran " + statements + " statements");
+	}
+
+	/**
+	 * Make it the player's turn with full mana, then apply the setup and save it, outside the
+	 * measured window.
+	 */
+	private <T> T arrangeTurn(UUID gameId, String playerId, Function<GameState, T> setup) {
+		return gameStateStore.update(gameId, state -> {
+			state.setCurrentPlayerId(playerId);
+			state.getPlayerState(playerId).setMaxMana(10);
+			state.getPlayerState(playerId).setCurrentMana(10);
+			return setup.apply(state);
+		});
+	}
+
+	private static int indexOfCreature(CardPile pile) {
+		for (int i = 0; i < pile.size(); i++) {
+			if (pile.get(i).getCardType() == CardType.CREATURE) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private UUID createAiGame() {
+		return createAiGame(saveUser());
+	}
+
+	private UUID createAiGame(User user) {
+		CreateAiGameRequest request = new CreateAiGameRequest();
+		request.setFaction(Faction.KINGDOM);
+		request.setMagicSchool(MagicSchool.FIRE);
+		String gameId = gameplayService.createAiGame(user.getId().toString(), request).getGame().getId();
+		return UUID.fromString(gameId);
+	}
+
+	private User saveUser() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		User user = new User();
+		user.setEmail("it-" + suffix + "@example.com");
+		user.setUsername("it_" + suffix);
+		user.setPasswordHash("not-a-real-hash");
+		user.setCreatedAt(Instant.now());
+		return userRepository.save(user);
+	}
+
+	private void seedCardPool() {
+		List<Card> cards = new ArrayList<>();
+
+		for (Faction faction : Faction.values()) {
+			for (int index = 1; index <= 7; index++) {
+				Card card = new Card();
+				card.setName("IT " + faction.name() + " Creature " + index + " " + UUID.randomUUID());
+				card.setCardType(CardType.CREATURE);
+				card.setCost(index);
+				card.setAttack(1 + index);
+				card.setHealth(2 + index);
+				card.setFaction(faction);
+				cards.add(card);
+			}
+		}
+
+		for (MagicSchool school : MagicSchool.values()) {
+			for (int index = 1; index <= 6; index++) {
+				Card card = new Card();
+				card.setName("IT " + school.name() + " Spell " + index + " " + UUID.randomUUID());
+				card.setCardType(CardType.SPELL);
+				card.setCost(index);
+				card.setSchool(school);
+				cards.add(card);
+			}
+		}
+
+		cardRepository.saveAll(cards);
+	}
+}
@@ -11,10 +11,10 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,325 +23,358 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.spellfaire.spellfairebackend.game.dto.AttackRequest;
-import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
 import com.spellfaire.spellfairebackend.game.dto.GameEvent;
-import com.spellfaire.spellfairebackend.game.dto.PlayCardRequest;
-import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
-import com.spellfaire.spellfairebackend.game.model.CardZone;
 import com.spellfaire.spellfairebackend.game.model.Faction;
-import com.spellfaire.spellfairebackend.game.model.Game;
-import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
 import com.spellfaire.spellfairebackend.game.model.Keyword;
-import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
 
 @ExtendWith(MockitoExtension.class)
 class AiServiceTest {
 
+	private static final AtomicInteger INSTANCE_IDS = new AtomicInteger(1000);
+
 	@Mock
-	private GameplayService gameplayService;
+	private GameEngine gameEngine;
 
 	private AiService aiService;
 
 	@BeforeEach
 	void setUp() {
-		aiService = new AiService(gameplayService);
+		CardCatalog cardCatalog = CardCatalog.of(List.of());
+		CardEffectTable effects = new CardEffectTable(cardCatalog);
+		new CreatureEffectResolver(new SpellEffectResolver(cardCatalog, effects), effects);
+		aiService = new AiService(gameEngine, effects);
 	}
 
 	@Test
 	void executeTurnUsesLethalBurnAndStopsBeforeAttacksWhenHeroFalls() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 		humanState.setHeroHealth(2);
 
 		Card emberBolt = spell("Ember Bolt", 1);
 		aiState.setCurrentMana(10);
-		aiState.getZoneCards().add(new PlayerZoneCard(aiState, emberBolt, CardZone.HAND, 0));
+		aiState.getHand().add(emberBolt);
 
-		BoardCreature attacker = creature(aiState, "Attacker", 4, 4, 2, Set.of());
+		CreatureState attacker = creature(aiState, "Attacker", 4, 4, 2, Set.of());
 		attacker.setCanAttack(true);
 		aiState.getBattlefield().add(attacker);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.playCardInternal(any(Game.class), any(String.class), any(PlayCardRequest.class)))
+		when(gameEngine.tryPlayCard(any(GameState.class), any(String.class), any(String.class), any()))
 			.thenAnswer(invocation -> {
 				humanState.setHeroHealth(0);
-				return new GameActionResponse(null, List.of(GameEvent.spellResolved("spell", "burn")));
+				return List.of(GameEvent.spellResolved("spell", "burn"));
 			});
 
 		List<GameEvent> events = aiService.executeTurn(game);
 
-		ArgumentCaptor<PlayCardRequest> playCaptor = ArgumentCaptor.forClass(PlayCardRequest.class);
-		verify(gameplayService).playCardInternal(any(Game.class), any(String.class), playCaptor.capture());
-		assertEquals("ENEMY_HERO", playCaptor.getValue().getTargetId());
-		verify(gameplayService, never()).attackInternal(any(Game.class), any(String.class), any(AttackRequest.class));
+		ArgumentCaptor<String> targetCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine).tryPlayCard(any(GameState.class), any(String.class), any(String.class), targetCaptor.capture());
+		assertEquals("ENEMY_HERO", targetCaptor.getValue());
+		verify(gameEngine, never()).tryAttack(any(GameState.class), any(String.class), any(String.class), any());
 		assertFalse(events.isEmpty());
 	}
 
 	@Test
 	void executeTurnAttacksGuardCreatureWhenGuardExists() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
-		BoardCreature attacker = creature(aiState, "Attacker", 3, 3, 2, Set.of());
+		CreatureState attacker = creature(aiState, "Attacker", 3, 3, 2, Set.of());
 		attacker.setCanAttack(true);
 		aiState.getBattlefield().add(attacker);
 
-		BoardCreature guard = creature(humanState, "Guard", 1, 2, 2, Set.of(Keyword.GUARD));
-		BoardCreature nonGuard = creature(humanState, "Non Guard", 1, 1, 1, Set.of());
+		CreatureState guard = creature(humanState, "Guard", 1, 2, 2, Set.of(Keyword.GUARD));
+		CreatureState nonGuard = creature(humanState, "Non Guard", 1, 1, 1, Set.of());
 		humanState.getBattlefield().add(guard);
 		humanState.getBattlefield().add(nonGuard);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.attackInternal(any(Game.class), any(String.class), any(AttackRequest.class)))
-			.thenReturn(new GameActionResponse(null, new ArrayList<>()));
+		when(gameEngine.tryAttack(any(GameState.class), any(String.class), any(String.class), any()))
+			.thenReturn(new ArrayList<>());
 
 		aiService.executeTurn(game);
 
-		ArgumentCaptor<AttackRequest> attackCaptor = ArgumentCaptor.forClass(AttackRequest.class);
-		verify(gameplayService).attackInternal(any(Game.class), any(String.class), attackCaptor.capture());
-		assertEquals(guard.getId().toString(), attackCaptor.getValue().getTargetId());
+		ArgumentCaptor<String> attackCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine).tryAttack(any(GameState.class), any(String.class), any(String.class), attackCaptor.capture());
+		assertEquals(guard.getInstanceId(), attackCaptor.getValue());
 	}
 
 	@Test
 	void executeTurnPrefersValueTradeOverFaceWhenNoGuard() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 		humanState.setHeroHealth(25);
 
-		BoardCreature attacker = creature(aiState, "Attacker", 4, 5, 2, Set.of());
+		CreatureState attacker = creature(aiState, "Attacker", 4, 5, 2, Set.of());
 		attacker.setCanAttack(true);
 		aiState.getBattlefield().add(attacker);
 
-		BoardCreature highValueTarget = creature(humanState, "Value Target", 3, 4, 5, Set.of());
+		CreatureState highValueTarget = creature(humanState, "Value Target", 3, 4, 5, Set.of());
 		humanState.getBattlefield().add(highValueTarget);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.attackInternal(any(Game.class), any(String.class), any(AttackRequest.class)))
-			.thenReturn(new GameActionResponse(null, new ArrayList<>()));
+		when(gameEngine.tryAttack(any(GameState.class), any(String.class), any(String.class), any()))
+			.thenReturn(new ArrayList<>());
 
 		aiService.executeTurn(game);
 
-		ArgumentCaptor<AttackRequest> attackCaptor = ArgumentCaptor.forClass(AttackRequest.class);
-		verify(gameplayService).attackInternal(any(Game.class), any(String.class), attackCaptor.capture());
-		assertEquals(highValueTarget.getId().toString(), attackCaptor.getValue().getTargetId());
+		ArgumentCaptor<String> attackCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine).tryAttack(any(GameState.class), any(String.class), any(String.class), attackCaptor.capture());
+		assertEquals(highValueTarget.getInstanceId(), attackCaptor.getValue());
 	}
 
 	@Test
 	void executeTurnGoesFaceWhenNoCreaturesToTrade() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
-		BoardCreature attacker = creature(aiState, "Attacker", 3, 3, 2, Set.of());
+		CreatureState attacker = creature(aiState, "Attacker", 3, 3, 2, Set.of());
 		attacker.setCanAttack(true);
 		aiState.getBattlefield().add(attacker);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.attackInternal(any(Game.class), any(String.class), any(AttackRequest.class)))
-			.thenReturn(new GameActionResponse(null, new ArrayList<>()));
+		when(gameEngine.tryAttack(any(GameState.class), any(String.class), any(String.class), any()))
+			.thenReturn(new ArrayList<>());
 
 		List<GameEvent> events = aiService.executeTurn(game);
 
-		ArgumentCaptor<AttackRequest> attackCaptor = ArgumentCaptor.forClass(AttackRequest.class);
-		verify(gameplayService).attackInternal(any(Game.class), any(String.class), attackCaptor.capture());
-		assertEquals("ENEMY_HERO", attackCaptor.getValue().getTargetId());
+		ArgumentCaptor<String> attackCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine).tryAttack(any(GameState.class), any(String.class), any(String.class), attackCaptor.capture());
+		assertEquals("ENEMY_HERO", attackCaptor.getValue());
 		assertNotNull(events);
 	}
 
 	@Test
 	void executeTurnSkipsFrozenAndAlreadyAttackedCreatures() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
-		BoardCreature frozen = creature(aiState, "Frozen", 3, 3, 2, Set.of());
+		CreatureState frozen = creature(aiState, "Frozen", 3, 3, 2, Set.of());
 		frozen.setCanAttack(true);
 		frozen.setFrozenBlocksAttacksThisTurn(true);
-		BoardCreature spent = creature(aiState, "Spent", 3, 3, 2, Set.of());
+		CreatureState spent = creature(aiState, "Spent", 3, 3, 2, Set.of());
 		spent.setCanAttack(true);
 		spent.setHasAttackedThisTurn(true);
 		aiState.getBattlefield().add(frozen);
 		aiState.getBattlefield().add(spent);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
 
 		aiService.executeTurn(game);
 
-		verify(gameplayService, never()).attackInternal(any(Game.class), any(String.class), any(AttackRequest.class));
+		verify(gameEngine, never()).tryAttack(any(GameState.class), any(String.class), any(String.class), any());
 	}
 
 	@Test
 	void executeTurnPrefersTradeUpWhenNoValueTradeExists() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
-		BoardCreature attacker = creature(aiState, "Attacker", 4, 3, 2, Set.of());
+		CreatureState attacker = creature(aiState, "Attacker", 4, 3, 2, Set.of());
 		attacker.setCanAttack(true);
 		aiState.getBattlefield().add(attacker);
 
-		BoardCreature tradeUpTarget = creature(humanState, "Trade Up", 6, 4, 7, Set.of());
+		CreatureState tradeUpTarget = creature(humanState, "Trade Up", 6, 4, 7, Set.of());
 		humanState.getBattlefield().add(tradeUpTarget);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.attackInternal(any(Game.class), any(String.class), any(AttackRequest.class)))
-			.thenReturn(new GameActionResponse(null, new ArrayList<>()));
+		when(gameEngine.tryAttack(any(GameState.class), any(String.class), any(String.class), any()))
+			.thenReturn(new ArrayList<>());
 
 		aiService.executeTurn(game);
 
-		ArgumentCaptor<AttackRequest> attackCaptor = ArgumentCaptor.forClass(AttackRequest.class);
-		verify(gameplayService, times(1)).attackInternal(any(Game.class), any(String.class), attackCaptor.capture());
-		assertEquals(tradeUpTarget.getId().toString(), attackCaptor.getValue().getTargetId());
+		ArgumentCaptor<String> attackCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine, times(1)).tryAttack(any(GameState.class), any(String.class), any(String.class), attackCaptor.capture());
+		assertEquals(tradeUpTarget.getInstanceId(), attackCaptor.getValue());
 	}
 
 	@Test
 	void executeTurnPlayPhaseSkipsCreatureWhenBattlefieldFullAndPlaysSpell() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
 		for (int i = 0; i < 6; i++) {
-			BoardCreature fullSlot = creature(aiState, "Filled " + i, 1, 1, 1, Set.of());
+			CreatureState fullSlot = creature(aiState, "Filled " + i, 1, 1, 1, Set.of());
 			fullSlot.setCanAttack(false);
 			aiState.getBattlefield().add(fullSlot);
 		}
 
 		Card creatureCard = spellAsCreature("Big Creature", 8);
 		Card spellCard = spell("Dark Touch", 1);
-		aiState.getZoneCards().add(new PlayerZoneCard(aiState, creatureCard, CardZone.HAND, 0));
-		aiState.getZoneCards().add(new PlayerZoneCard(aiState, spellCard, CardZone.HAND, 1));
+		aiState.getHand().add(creatureCard);
+		aiState.getHand().add(spellCard);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.playCardInternal(any(Game.class), any(String.class), any(PlayCardRequest.class)))
+		when(gameEngine.tryPlayCard(any(GameState.class), any(String.class), any(String.class), any()))
 				.thenAnswer(invocation -> {
-					PlayCardRequest req = invocation.getArgument(2);
-					String playedId = req.getCardId();
-					aiState.getZoneCards().stream()
-							.filter(c -> c.getZone() == CardZone.HAND)
-							.filter(c -> c.getCard().getId().toString().equals(playedId))
-							.findFirst()
-							.ifPresent(c -> c.setZone(CardZone.DISCARD));
+					String playedId = invocation.getArgument(2);
+					aiState.getDiscardPile().add(aiState.getHand().removeAt(aiState.getHand().indexOf(playedId)));
 					aiState.setCurrentMana(0);
-					return new GameActionResponse(null, List.of(GameEvent.spellResolved("s", "played")));
+					return List.of(GameEvent.spellResolved("s", "played"));
 				});
 
 		aiService.executeTurn(game);
 
-		ArgumentCaptor<PlayCardRequest> playCaptor = ArgumentCaptor.forClass(PlayCardRequest.class);
-		verify(gameplayService, times(1)).playCardInternal(any(Game.class), any(String.class), playCaptor.capture());
-		assertEquals(spellCard.getId().toString(), playCaptor.getValue().getCardId());
+		ArgumentCaptor<String> cardCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine, times(1)).tryPlayCard(any(GameState.class), any(String.class), cardCaptor.capture(), any());
+		assertEquals(spellCard.getId().toString(), cardCaptor.getValue());
 	}
 
 	@Test
 	void executeTurnPlayPhaseRetriesAfterNullThenPlaysNextCard() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
 		Card highCost = spell("Combust", 4);
 		Card lowCost = spell("Ember Bolt", 1);
-		aiState.getZoneCards().add(new PlayerZoneCard(aiState, highCost, CardZone.HAND, 0));
-		aiState.getZoneCards().add(new PlayerZoneCard(aiState, lowCost, CardZone.HAND, 1));
+		aiState.getHand().add(highCost);
+		aiState.getHand().add(lowCost);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.playCardInternal(any(Game.class), any(String.class), any(PlayCardRequest.class)))
+		when(gameEngine.tryPlayCard(any(GameState.class), any(String.class), any(String.class), any()))
 				.thenAnswer(invocation -> {
-					PlayCardRequest req = invocation.getArgument(2);
-					if (req.getCardId().equals(highCost.getId().toString())) {
+					String playedId = invocation.getArgument(2);
+					if (playedId.equals(highCost.getId().toString())) {
 						return null;
 					}
-					aiState.getZoneCards().stream()
-							.filter(c -> c.getZone() == CardZone.HAND)
-							.filter(c -> c.getCard().getId().toString().equals(lowCost.getId().toString()))
-							.findFirst()
-							.ifPresent(c -> c.setZone(CardZone.DISCARD));
+					aiState.getDiscardPile().add(aiState.getHand().removeAt(aiState.getHand().indexOf(playedId)));
 					aiState.setCurrentMana(0);
-					return new GameActionResponse(null, List.of(GameEvent.spellResolved("s", "played low")));
+					return List.of(GameEvent.spellResolved("s", "played low"));
 				});
 
 		aiService.executeTurn(game);
 
-		ArgumentCaptor<PlayCardRequest> playCaptor = ArgumentCaptor.forClass(PlayCardRequest.class);
-		verify(gameplayService, times(2)).playCardInternal(any(Game.class), any(String.class), playCaptor.capture());
-		List<PlayCardRequest> requests = playCaptor.getAllValues();
-		assertEquals(highCost.getId().toString(), requests.get(0).getCardId());
-		assertEquals(lowCost.getId().toString(), requests.get(1).getCardId());
+		ArgumentCaptor<String> cardCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine, times(2)).tryPlayCard(any(GameState.class), any(String.class), cardCaptor.capture(), any());
+		List<String> playedIds = cardCaptor.getAllValues();
+		assertEquals(highCost.getId().toString(), playedIds.get(0));
+		assertEquals(lowCost.getId().toString(), playedIds.get(1));
 	}
 
 	@Test
 	void executeTurnRecalculatesGuardAfterFirstAttack() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 
-		BoardCreature attackerOne = creature(aiState, "Attacker 1", 3, 3, 2, Set.of());
+		CreatureState attackerOne = creature(aiState, "Attacker 1", 3, 3, 2, Set.of());
 		attackerOne.setCanAttack(true);
-		BoardCreature attackerTwo = creature(aiState, "Attacker 2", 3, 3, 2, Set.of());
+		CreatureState attackerTwo = creature(aiState, "Attacker 2", 3, 3, 2, Set.of());
 		attackerTwo.setCanAttack(true);
 		aiState.getBattlefield().add(attackerOne);
 		aiState.getBattlefield().add(attackerTwo);
 
-		BoardCreature guard = creature(humanState, "Guard", 1, 2, 2, Set.of(Keyword.GUARD));
+		CreatureState guard = creature(humanState, "Guard", 1, 2, 2, Set.of(Keyword.GUARD));
 		humanState.getBattlefield().add(guard);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.attackInternal(any(Game.class), any(String.class), any(AttackRequest.class)))
+		when(gameEngine.tryAttack(any(GameState.class), any(String.class), any(String.class), any()))
 				.thenAnswer(invocation -> {
-					AttackRequest req = invocation.getArgument(2);
-					if (req.getTargetId().equals(guard.getId().toString())) {
+					String targetId = invocation.getArgument(3);
+					if (targetId.equals(guard.getInstanceId())) {
 						humanState.getBattlefield().remove(guard);
 					}
-					return new GameActionResponse(null, List.of(GameEvent.attack("a", req.getTargetId(), "attack")));
+					return List.of(GameEvent.attack("a", targetId, "attack"));
 				});
 
 		aiService.executeTurn(game);
 
-		ArgumentCaptor<AttackRequest> attackCaptor = ArgumentCaptor.forClass(AttackRequest.class);
-		verify(gameplayService, times(2)).attackInternal(any(Game.class), any(String.class), attackCaptor.capture());
-		List<AttackRequest> attacks = attackCaptor.getAllValues();
-		assertEquals(guard.getId().toString(), attacks.get(0).getTargetId());
-		assertEquals("ENEMY_HERO", attacks.get(1).getTargetId());
+		ArgumentCaptor<String> attackCaptor = ArgumentCaptor.forClass(String.class);
+		verify(gameEngine, times(2)).tryAttack(any(GameState.class), any(String.class), any(String.class), attackCaptor.capture());
+		List<String> attacks = attackCaptor.getAllValues();
+		assertEquals(guard.getInstanceId(), attacks.get(0));
+		assertEquals("ENEMY_HERO", attacks.get(1));
 	}
 
 	@Test
 	void executeTurnSkipsLethalWhenBurnSpellTooExpensiveThenAttacks() {
-		Game game = new Game();
-		GamePlayerState aiState = state("AI");
-		GamePlayerState humanState = state("human");
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
 		humanState.setHeroHealth(6);
 		aiState.setCurrentMana(3);
 
 		Card finalSpark = spell("Final Spark", 6);
-		aiState.getZoneCards().add(new PlayerZoneCard(aiState, finalSpark, CardZone.HAND, 0));
+		aiState.getHand().add(finalSpark);
 
-		BoardCreature attacker = creature(aiState, "Attacker", 4, 4, 2, Set.of());
+		CreatureState attacker = creature(aiState, "Attacker", 4, 4, 2, Set.of());
 		attacker.setCanAttack(true);
 		aiState.getBattlefield().add(attacker);
 
-		when(gameplayService.getPlayerState(game, "AI")).thenReturn(aiState);
-		when(gameplayService.getOpponentState(game, "AI")).thenReturn(humanState);
-		when(gameplayService.attackInternal(any(Game.class), any(String.class), any(AttackRequest.class)))
-				.thenReturn(new GameActionResponse(null, List.of(GameEvent.attack("a", "ENEMY_HERO", "face"))));
+		when(gameEngine.tryAttack(any(GameState.class), any(String.class), any(String.class), any()))
+				.thenReturn(List.of(GameEvent.attack("a", "ENEMY_HERO", "face")));
 
 		aiService.executeTurn(game);
 
-		verify(gameplayService, never()).playCardInternal(any(Game.class), any(String.class), any(PlayCardRequest.class));
-		verify(gameplayService, times(1)).attackInternal(any(Game.class), any(String.class), any(AttackRequest.class));
+		verify(gameEngine, never()).tryPlayCard(any(GameState.class), any(String.class), any(String.class), any());
+		verify(gameEngine, times(1)).tryAttack(any(GameState.class), any(String.class), any(String.class), any());
+	}
+
+	@Test
+	void pickAiSpellTargetPrefersFrozenCreatureForShatter() {
+		GameState game = game();
+		PlayerState aiState = game.getPlayerState("AI");
+		PlayerState humanState = game.getPlayerState("human");
+
+		CreatureState frozenTarget = creature(humanState, "Frozen Target", 2, 4, 2, Set.of());
+		frozenTarget.addStatus(Status.FROZEN);
+		humanState.getBattlefield().add(frozenTarget);
+
+		String selectedTarget = aiService.pickAiSpellTarget(spell("Shatter", 3), aiState, humanState);
+
+		assertEquals(frozenTarget.getInstanceId(), selectedTarget);
+	}
+
+	@Test
+	void pickAiSpellTargetSelectsFrozenTargetForShatter() {
+		PlayerState aiState = new PlayerState();
+		PlayerState humanState = new PlayerState();
+
+		CreatureState frozen = creature(humanState, "Frozen Target", 2, 4, 2, Set.of());
+		frozen.addStatus(Status.FROZEN);
+		humanState.getBattlefield().add(frozen);
+
+		String targetId = aiService.pickAiSpellTarget(spell("Shatter", 3), aiState, humanState);
+
+		assertEquals(frozen.getInstanceId(), targetId);
+	}
+
+	@Test
+	void pickAiSpellTargetSelectsHighestEligibleTargetForVoidSnare() {
+		PlayerState aiState = new PlayerState();
+		PlayerState humanState = new PlayerState();
+
+		CreatureState lowCost = creature(humanState, "Low", 2, 2, 3, Set.of());
+		CreatureState highestAllowed = creature(humanState, "Highest Allowed", 3, 3, 5, Set.of());
+		CreatureState tooExpensive = creature(humanState, "Too Expensive", 7, 7, 8, Set.of());
+		humanState.getBattlefield().add(lowCost);
+		humanState.getBattlefield().add(highestAllowed);
+		humanState.getBattlefield().add(tooExpensive);
+
+		String targetId = aiService.pickAiSpellTarget(spell("Void Snare", 6), aiState, humanState);
+
+		assertEquals(highestAllowed.getInstanceId(), targetId);
+	}
+
+	@Test
+	void pickAiSpellTargetForEmberBoltChoosesWeakestKillableCreature() {
+		PlayerState aiState = new PlayerState();
+		PlayerState humanState = new PlayerState();
+
+		CreatureState sturdy = creature(humanState, "Sturdy", 4, 4, 2, Set.of());
+		CreatureState weak = creature(humanState, "Weak", 1, 2, 2, Set.of());
+		humanState.getBattlefield().add(sturdy);
+		humanState.getBattlefield().add(weak);
+
+		String targetId = aiService.pickAiSpellTarget(spell("Ember Bolt", 1), aiState, humanState);
+
+		assertEquals(weak.getInstanceId(), targetId);
 	}
 
 	private static Card spellAsCreature(String name, int cost) {
@@ -356,12 +389,20 @@ class AiServiceTest {
 		return card;
 	}
 
-	private static GamePlayerState state(String userId) {
-		GamePlayerState state = new GamePlayerState();
+	private static GameState game() {
+		GameState game = new GameState();
+		game.setPlayer1Id("human");
+		game.setPlayer2Id("AI");
+		game.setCurrentPlayerId("AI");
+		initState(game.getPlayer1State(), "human");
+		initState(game.getPlayer2State(), "AI");
+		return game;
+	}
+
+	private static void initState(PlayerState state, String userId) {
 		state.setUserId(userId);
 		state.setHeroHealth(25);
 		state.setCurrentMana(10);
-		return state;
 	}
 
 	private static Card spell(String name, int cost) {
@@ -373,7 +414,7 @@ class AiServiceTest {
 		return card;
 	}
 
-	private static BoardCreature creature(GamePlayerState owner, String name, int attack, int health, int cost,
+	private static CreatureState creature(PlayerState owner, String name, int attack, int health, int cost,
 										 Set<Keyword> keywords) {
 		Card card = new Card();
 		card.setId(UUID.randomUUID());
@@ -384,9 +425,6 @@ class AiServiceTest {
 		card.setAttack(attack);
 		card.setHealth(health);
 
-		BoardCreature creature = new BoardCreature(owner, card, attack, health, new HashSet<>(keywords),
-				owner.getBattlefield().size());
-		creature.setId(UUID.randomUUID());
-		return creature;
+		return new CreatureState(INSTANCE_IDS.incrementAndGet(), card, attack, health, keywords);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AiTurnSchedulerTest {
+
+	private final ScheduledExecutorService retries = Executors.newSingleThreadScheduledExecutor();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void tearDown() {
+		retries.shutdownNow();
+	}
+
+	@Test
+	void turnRefusedByAFullPoolRunsOnALaterRetryNotOnTheCaller() throws Exception {
+		AtomicInteger offers = new AtomicInteger();
+		Executor busyTwice = command -> {
+			if (offers.incrementAndGet() <= 2) {
+				throw new RejectedExecutionException("full");
+			}
+			new Thread(command).start();
+		};
+		AiTurnScheduler scheduler = new AiTurnScheduler(busyTwice, retries, 1, 5, registry);
+		CountDownLatch ran = new CountDownLatch(1);
+		Thread caller = Thread.currentThread();
+		AtomicInteger ranOnCaller = new AtomicInteger();
+
+		scheduler.schedule(UUID.randomUUID(), () -> {
+			if (Thread.currentThread() == caller) {
+				ranOnCaller.incrementAndGet();
+			}
+			ran.countDown();
+		});
+
+		assertTrue(ran.await(5, TimeUnit.SECONDS));
+		assertEquals(0, ranOnCaller.get());
+		assertEquals(3, offers.get());
+		assertEquals(2, registry.get("spellfaire.game.ai.turn.deferred").counter().count());
+		assertEquals(0, registry.get("spellfaire.game.ai.turn.dropped").counter().count());
+	}
+
+	@Test
+	void turnIsDroppedOnceTheRetriesRunOut() throws Exception {
+		AtomicInteger offers = new AtomicInteger();
+		Executor alwaysFull = command -> {
+			offers.incrementAndGet();
+			throw new RejectedExecutionException("full");
+		};
+		AiTurnScheduler scheduler = new AiTurnScheduler(alwaysFull, retries, 1, 3, registry);
+		AtomicInteger ran = new AtomicInteger();
+
+		scheduler.schedule(UUID.randomUUID(), ran::incrementAndGet);
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (registry.get("spellfaire.game.ai.turn.dropped").counter().count() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(1, registry.get("spellfaire.game.ai.turn.dropped").counter().count());
+		assertEquals(3, registry.get("spellfaire.game.ai.turn.deferred").counter().count());
+		assertEquals(4, offers.get());
+		assertEquals(0, ran.get());
+	}
+
+	@Test
+	void turnQueuedBehindASaturatedPoolRunsOnceCapacityReturns() throws Exception {
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+		AiTurnScheduler scheduler = new AiTurnScheduler(pool, retries, 5, 1000, registry);
+		CountDownLatch release = new CountDownLatch(1);
+		scheduler.schedule(UUID.randomUUID(), () -> awaitQuietly(release));
+		scheduler.schedule(UUID.randomUUID(), () -> { });
+		UUID gameId = UUID.randomUUID();
+		CountDownLatch ran = new CountDownLatch(1);
+
+		scheduler.schedule(gameId, ran::countDown);
+		assertTrue(scheduler.isPending(gameId));
+		release.countDown();
+
+		assertTrue(ran.await(5, TimeUnit.SECONDS));
+		assertTrue(registry.get("spellfaire.game.ai.turn.deferred").counter().count() >= 1);
+		assertEquals(0, registry.get("spellfaire.game.ai.turn.dropped").counter().count());
+		pool.shutdownNow();
+	}
+
+	@Test
+	void droppedTurnIsNoLongerPendingSoItCanBeScheduledAgain() {
+		AtomicInteger offers = new AtomicInteger();
+		List<Runnable> accepted = new ArrayList<>();
+		Executor fullOnce = command -> {
+			if (offers.incrementAndGet() == 1) {
+				throw new RejectedExecutionException("full");
+			}
+			accepted.add(command);
+		};
+		AiTurnScheduler scheduler = new AiTurnScheduler(fullOnce, retries, 1, 0, registry);
+		UUID gameId = UUID.randomUUID();
+		AtomicInteger ran = new AtomicInteger();
+
+		scheduler.schedule(gameId, ran::incrementAndGet);
+		assertFalse(scheduler.isPending(gameId));
+
+		scheduler.schedule(gameId, ran::incrementAndGet);
+		scheduler.schedule(gameId, ran::incrementAndGet);
+		accepted.forEach(Runnable::run);
+
+		assertEquals(1, accepted.size());
+		assertEquals(1, ran.get());
+		assertFalse(scheduler.isPending(gameId));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.repo.CardRepository;
+
+class CardCatalogTest {
+
+	@Test
+	void lookupsUseDenseIndexesAndFilters() {
+		Card guard = card("Town Guard", CardType.CREATURE, Faction.KINGDOM, null);
+		Card bolt = card("Ember Bolt", CardType.SPELL, null, MagicSchool.FIRE);
+		Card token = card("Sproutling", CardType.CREATURE, null, null);
+		CardCatalog catalog = CardCatalog.of(List.of(guard, bolt, token));
+
+		assertEquals(3, catalog.size());
+		assertEquals(1, catalog.indexOf(bolt.getId()));
+		assertSame(bolt, catalog.get(1));
+		assertEquals(-1, catalog.indexOf(UUID.randomUUID()));
+		assertSame(token, catalog.findByName("Sproutling").orElseThrow());
+		assertSame(guard, catalog.findById(guard.getId()).orElseThrow());
+		assertEquals(List.of(guard), catalog.creatures(Faction.KINGDOM));
+		assertEquals(List.of(bolt), catalog.spells(MagicSchool.FIRE));
+		assertTrue(catalog.spells(MagicSchool.FROST).isEmpty());
+		assertThrows(UnsupportedOperationException.class, () -> catalog.all().add(guard));
+	}
+
+	@Test
+	void loadsLazilyOnceUntilReloaded() {
+		CardRepository cardRepository = mock(CardRepository.class);
+		Card guard = card("Town Guard", CardType.CREATURE, Faction.KINGDOM, null);
+		when(cardRepository.findAll()).thenReturn(List.of(guard));
+		CardCatalog catalog = new CardCatalog(cardRepository);
+
+		catalog.findById(guard.getId());
+		catalog.findByName("Town Guard");
+		verify(cardRepository, times(1)).findAll();
+
+		catalog.reload();
+		verify(cardRepository, times(2)).findAll();
+	}
+
+	private static Card card(String name, CardType cardType, Faction faction, MagicSchool school) {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName(name);
+		card.setCardType(cardType);
+		card.setFaction(faction);
+		card.setSchool(school);
+		return card;
+	}
+}
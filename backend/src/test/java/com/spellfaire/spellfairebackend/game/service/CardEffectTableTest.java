@@ -0,0 +1,64 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.AiTarget;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.TargetRule;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.Trigger;
+
+class CardEffectTableTest {
+
+	@Test
+	void effectOfResolvesCatalogCardsAndFallsBackToNameForOthers() {
+		Card emberBolt = card("Ember Bolt");
+		Card vanilla = card("Town Guard");
+		CardEffectTable effects = new CardEffectTable(CardCatalog.of(List.of(vanilla, emberBolt)));
+		CardEffect burn = CardEffect.onCast((self, owner, opponent, targetId, events) -> { })
+				.targets(TargetRule.ANY, AiTarget.FINISH_OR_FACE).burn(2);
+		effects.register("Ember Bolt", burn);
+
+		assertSame(burn, effects.effectOf(emberBolt));
+		assertSame(CardEffect.NONE, effects.effectOf(vanilla));
+		// A copy outside the catalog still resolves by name
+		assertSame(burn, effects.effectOf(card("Ember Bolt")));
+		assertEquals(Trigger.CAST, effects.effectOf(emberBolt).trigger());
+		assertEquals(2, effects.effectOf(emberBolt).burnDamage());
+	}
+
+	@Test
+	void registerRejectsDuplicateNames() {
+		CardEffectTable effects = new CardEffectTable(CardCatalog.of(List.of()));
+		effects.register("Mend", CardEffect.onCast((self, owner, opponent, targetId, events) -> { }));
+
+		assertThrows(IllegalStateException.class, () -> effects.register("Mend",
+				CardEffect.onCast((self, owner, opponent, targetId, events) -> { })));
+	}
+
+	@Test
+	void resolversRegisterEveryScriptedCard() {
+		CardCatalog cardCatalog = CardCatalog.of(List.of());
+		CardEffectTable effects = new CardEffectTable(cardCatalog);
+		new CreatureEffectResolver(new SpellEffectResolver(cardCatalog, effects), effects);
+
+		assertEquals(Trigger.CAST, effects.effectOf(card("Void Snare")).trigger());
+		assertEquals(Trigger.WHEN_PLAYED, effects.effectOf(card("Bone Acolyte")).trigger());
+		assertEquals(Trigger.WHEN_DIES, effects.effectOf(card("Grave Rat")).trigger());
+		assertEquals(Trigger.START_OF_TURN, effects.effectOf(card("Lich Adept")).trigger());
+		assertEquals(7, effects.effectOf(card("Final Spark")).burnDamage());
+	}
+
+	private static Card card(String name) {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName(name);
+		return card;
+	}
+}
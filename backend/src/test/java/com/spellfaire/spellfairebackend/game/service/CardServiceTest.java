@@ -2,41 +2,23 @@ package com.spellfaire.spellfairebackend.game.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
 import com.spellfaire.spellfairebackend.game.model.Faction;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
-import com.spellfaire.spellfairebackend.game.repo.CardRepository;
 
-@ExtendWith(MockitoExtension.class)
 class CardServiceTest {
 
-	@Mock
-	private CardRepository cardRepository;
-
-	private CardService cardService;
-
-	@BeforeEach
-	void setUp() {
-		cardService = new CardService(cardRepository);
-	}
-
 	@Test
-	void getAllCardsMapsRepositoryResult() {
+	void getAllCardsMapsCatalogCards() {
 		Card card = creatureCard("Town Guard", Faction.KINGDOM, 1, 1, 2);
-		when(cardRepository.findAll()).thenReturn(List.of(card));
+		CardService cardService = new CardService(CardCatalog.of(List.of(card)));
 
 		var result = cardService.getAllCards();
 
@@ -49,7 +31,7 @@ class CardServiceTest {
 		UUID id = UUID.randomUUID();
 		Card card = spellCard("Final Spark", MagicSchool.FIRE, 6);
 		card.setId(id);
-		when(cardRepository.findById(id)).thenReturn(Optional.of(card));
+		CardService cardService = new CardService(CardCatalog.of(List.of(card)));
 
 		var result = cardService.getCardById(id);
 
@@ -58,9 +40,11 @@ class CardServiceTest {
 	}
 
 	@Test
-	void getCreaturesByFactionUsesCorrectRepositoryFilter() {
+	void getCreaturesByFactionFiltersCatalog() {
 		Card creature = creatureCard("Shield Marshal", Faction.KINGDOM, 4, 3, 5);
-		when(cardRepository.findByCardTypeAndFaction(CardType.CREATURE, Faction.KINGDOM)).thenReturn(List.of(creature));
+		Card otherFaction = creatureCard("Wolf Pup", Faction.WILDCLAN, 1, 1, 1);
+		Card token = creatureCard("Sproutling", null, 0, 1, 1);
+		CardService cardService = new CardService(CardCatalog.of(List.of(creature, otherFaction, token)));
 
 		var result = cardService.getCreaturesByFaction(Faction.KINGDOM);
 
@@ -70,9 +54,10 @@ class CardServiceTest {
 	}
 
 	@Test
-	void getSpellsBySchoolUsesCorrectRepositoryFilter() {
+	void getSpellsBySchoolFiltersCatalog() {
 		Card spell = spellCard("Mend", MagicSchool.NATURE, 1);
-		when(cardRepository.findByCardTypeAndSchool(CardType.SPELL, MagicSchool.NATURE)).thenReturn(List.of(spell));
+		Card otherSchool = spellCard("Fire Bolt", MagicSchool.FIRE, 1);
+		CardService cardService = new CardService(CardCatalog.of(List.of(spell, otherSchool)));
 
 		var result = cardService.getSpellsBySchool(MagicSchool.NATURE);
 
@@ -15,7 +15,6 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,7 +27,6 @@ import com.spellfaire.spellfairebackend.game.model.CardType;
 import com.spellfaire.spellfairebackend.game.model.Deck;
 import com.spellfaire.spellfairebackend.game.model.Faction;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
-import com.spellfaire.spellfairebackend.game.repo.CardRepository;
 import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,15 +35,9 @@ class DeckServiceTest {
 	@Mock
 	private DeckRepository deckRepository;
 
-	@Mock
-	private CardRepository cardRepository;
-
 	@Mock
 	private UserRepository userRepository;
 
-	@InjectMocks
-	private DeckService deckService;
-
 	private User user;
 
 	@BeforeEach
@@ -72,8 +64,7 @@ class DeckServiceTest {
 				deckCardRequest(spell.getId().toString(), 1)));
 
 		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(cardRepository.findById(creature.getId())).thenReturn(Optional.of(creature));
-		when(cardRepository.findById(spell.getId())).thenReturn(Optional.of(spell));
+		DeckService deckService = deckService(List.of(creature, spell));
 
 		IllegalArgumentException exception = assertThrows(
 				IllegalArgumentException.class,
@@ -96,8 +87,7 @@ class DeckServiceTest {
 				deckCardRequest(wrongSchoolSpell.getId().toString(), 10)));
 
 		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(cardRepository.findById(creature.getId())).thenReturn(Optional.of(creature));
-		when(cardRepository.findById(wrongSchoolSpell.getId())).thenReturn(Optional.of(wrongSchoolSpell));
+		DeckService deckService = deckService(List.of(creature, wrongSchoolSpell));
 
 		IllegalArgumentException exception = assertThrows(
 				IllegalArgumentException.class,
@@ -121,8 +111,11 @@ class DeckServiceTest {
 				spellCard("Spell 5", MagicSchool.FIRE, 5),
 				spellCard("Spell 3", MagicSchool.FIRE, 3));
 
-		when(cardRepository.findByCardTypeAndFaction(CardType.CREATURE, Faction.KINGDOM)).thenReturn(creatures);
-		when(cardRepository.findByCardTypeAndSchool(CardType.SPELL, MagicSchool.FIRE)).thenReturn(spells);
+		List<Card> catalog = new ArrayList<>(creatures);
+		catalog.addAll(spells);
+		catalog.add(creatureCard("Wolf Pup", Faction.WILDCLAN));
+		catalog.add(spellCard("Shadow Drain", MagicSchool.SHADOW, 1));
+		DeckService deckService = deckService(catalog);
 		when(deckRepository.save(any(Deck.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Deck deck = deckService.buildAutoDeck(user, Faction.KINGDOM, MagicSchool.FIRE);
@@ -140,6 +133,10 @@ class DeckServiceTest {
 				.allMatch(dc -> dc.getCard().getCost() <= 5));
 	}
 
+	private DeckService deckService(List<Card> cards) {
+		return new DeckService(deckRepository, CardCatalog.of(cards), userRepository);
+	}
+
 	private static DeckCardRequest deckCardRequest(String cardId, int quantity) {
 		DeckCardRequest request = new DeckCardRequest();
 		request.setCardId(cardId);
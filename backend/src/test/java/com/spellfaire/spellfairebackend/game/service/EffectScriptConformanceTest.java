@@ -0,0 +1,292 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent.EventType;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.service.CardEffect.Trigger;
+import com.spellfaire.spellfairebackend.game.state.Battlefield;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * Runs every scripted card in {@code data/cards.json} through both the effect script and the
+ * handwritten resolver on identical boards and every possible target, and requires the same
+ * resulting state and the same state-changing events.
+ */
+class EffectScriptConformanceTest {
+
+	// Effects that pick at random; only run on boards where the pick is forced
+	private static final Set<String> RANDOM_EFFECTS = Set.of("Deep Winter", "Royal Tactician", "Lich Adept");
+
+	// Narrative events (draw and spell messages) are left out; draws show up in the compared state
+	private static final Set<EventType> COMPARED_EVENTS = EnumSet.of(
+			EventType.DAMAGE, EventType.HEAL, EventType.DEATH, EventType.BUFF,
+			EventType.FREEZE, EventType.SUMMON, EventType.FATIGUE);
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static List<Card> cards;
+	private static Engine handwritten;
+	private static Engine scripted;
+
+	@BeforeAll
+	static void loadCards() throws IOException {
+		cards = new ArrayList<>();
+		try (InputStream in = EffectScriptConformanceTest.class.getResourceAsStream("/data/cards.json")) {
+			for (JsonNode node : objectMapper.readTree(in)) {
+				JsonNode effect = ((ObjectNode) node).remove("effect");
+				Card card = objectMapper.treeToValue(node, Card.class);
+				card.setId(UUID.randomUUID());
+				if (effect != null) {
+					card.setEffect(effect.toString());
+				}
+				cards.add(card);
+			}
+		}
+		CardCatalog catalog = CardCatalog.of(cards);
+		handwritten = new Engine(catalog, false);
+		scripted = new Engine(catalog, true);
+	}
+
+	@Test
+	void everyHandwrittenEffectHasAScript() {
+		List<Card> withScripts = cards.stream().filter(card -> card.getEffect() != null).toList();
+
+		assertEquals(24, withScripts.stream().filter(card -> card.getCardType() == CardType.SPELL).count());
+		assertEquals(15, withScripts.stream().filter(card -> card.getCardType() == CardType.CREATURE).count());
+		for (Card card : cards) {
+			assertEquals(handwritten.effects.effectOf(card).trigger(), scripted.effects.effectOf(card).trigger(),
+					card.getName());
+		}
+	}
+
+	@Test
+	void scriptMetadataMatchesHandwrittenEffects() {
+		for (Card card : scripted()) {
+			CardEffect expected = handwritten.effects.effectOf(card);
+			CardEffect actual = scripted.effects.effectOf(card);
+			assertEquals(expected.target(), actual.target(), card.getName());
+			assertEquals(expected.burnDamage(), actual.burnDamage(), card.getName());
+			assertEquals(expected.aiTarget(), actual.aiTarget(), card.getName());
+
+			PlayerState caster = richBoard("caster");
+			PlayerState opponent = richBoard("opponent");
+			for (String targetId : targets(caster, opponent)) {
+				assertEquals(expected.acceptsTarget(caster, opponent, targetId),
+						actual.acceptsTarget(caster, opponent, targetId), card.getName() + " -> " + targetId);
+			}
+		}
+	}
+
+	@Test
+	void scriptsResolveLikeHandwrittenEffectsOnEveryTarget() {
+		for (Card card : scripted()) {
+			boolean random = RANDOM_EFFECTS.contains(card.getName());
+			if (!random) {
+				assertConforms(card, () -> richBoard("caster"), () -> richBoard("opponent"));
+			}
+			assertConforms(card, () -> player("caster"), () -> singleCreature("opponent"));
+			if (card.getCardType() == CardType.SPELL && !random) {
+				assertConforms(card, () -> fullBoard("caster"), () -> singleCreature("opponent"));
+			}
+		}
+	}
+
+	@Test
+	void compileRejectsMalformedScripts() {
+		EffectScript missingTrigger = new EffectScript();
+		assertThrows(IllegalStateException.class, () -> scripted.compiler.compile("Broken", missingTrigger));
+
+		Card unreadable = new Card();
+		unreadable.setName("Broken");
+		unreadable.setEffect("{\"trigger\": \"SOMETIMES\"}");
+		assertThrows(IllegalStateException.class, () -> scripted.compiler.compile(unreadable));
+	}
+
+	// ==================================================================
+	// CONFORMANCE
+	// ==================================================================
+
+	private void assertConforms(Card card, Supplier<PlayerState> owner, Supplier<PlayerState> opponent) {
+		for (String targetId : targets(owner.get(), opponent.get())) {
+			String expected = run(handwritten, card, owner.get(), opponent.get(), targetId);
+			String actual = run(scripted, card, owner.get(), opponent.get(), targetId);
+			assertEquals(expected, actual, card.getName() + " -> " + targetId);
+		}
+	}
+
+	private static String run(Engine engine, Card card, PlayerState owner, PlayerState opponent, String targetId) {
+		List<GameEvent> events;
+		Trigger trigger = engine.effects.effectOf(card).trigger();
+		if (trigger == Trigger.CAST) {
+			events = engine.spells.resolveSpell(card, owner, opponent, targetId);
+		} else {
+			CreatureState self = new CreatureState(0, card, card.getAttack(), card.getHealth(), card.getKeywords());
+			if (trigger == Trigger.WHEN_DIES) {
+				events = engine.creatures.resolveWhenDies(self, owner, opponent);
+			} else {
+				owner.getBattlefield().add(self);
+				events = trigger == Trigger.START_OF_TURN
+						? engine.creatures.resolveStartOfTurn(owner, opponent)
+						: engine.creatures.resolveWhenPlayed(self, owner, opponent, targetId);
+			}
+		}
+
+		StringBuilder out = new StringBuilder();
+		describe(owner, out);
+		describe(opponent, out);
+		for (GameEvent event : events) {
+			if (COMPARED_EVENTS.contains(event.getType())) {
+				out.append(event.getType()).append(':').append(event.getValue()).append(' ');
+			}
+		}
+		return out.toString();
+	}
+
+	private static void describe(PlayerState state, StringBuilder out) {
+		out.append(state.getUserId()).append(" hero=").append(state.getHeroHealth())
+			.append(" fatigue=").append(state.getFatigueCounter())
+			.append(" deck=").append(names(state.getDeck().toList()))
+			.append(" hand=").append(names(state.getHand().toList()))
+			.append(" discard=").append(names(state.getDiscardPile().toList()))
+			.append('\n');
+		Battlefield battlefield = state.getBattlefield();
+		for (int i = 0; i < battlefield.size(); i++) {
+			CreatureState c = battlefield.get(i);
+			out.append("  ").append(c.getCard().getName())
+				.append(' ').append(c.getAttack()).append('/').append(c.getHealth()).append('/').append(c.getMaxHealth())
+				.append(" debuff=").append(c.getTemporaryAttackDebuff())
+				.append(" keywords=").append(new TreeSet<>(c.getKeywords()))
+				.append(" statuses=").append(new TreeSet<>(c.getStatuses()))
+				.append(" canAttack=").append(c.isCanAttack())
+				.append(" frozenNext=").append(c.isFrozenForNextTurn())
+				.append('\n');
+		}
+	}
+
+	private static List<String> names(List<Card> pile) {
+		return pile.stream().map(Card::getName).toList();
+	}
+
+	private static List<String> targets(PlayerState owner, PlayerState opponent) {
+		List<String> targets = new ArrayList<>();
+		targets.add(null);
+		targets.add("ENEMY_HERO");
+		targets.add("FRIENDLY_HERO");
+		targets.add("missing");
+		for (PlayerState state : List.of(owner, opponent)) {
+			for (CreatureState c : state.getBattlefield().snapshot()) {
+				targets.add(c.getInstanceId());
+			}
+		}
+		return targets;
+	}
+
+	private static List<Card> scripted() {
+		return cards.stream().filter(card -> card.getEffect() != null).toList();
+	}
+
+	// ==================================================================
+	// BOARDS
+	// ==================================================================
+
+	/** Guard, Ward, frozen, cheap and expensive creatures, a deck, a hand and a discard pile. */
+	private static PlayerState richBoard(String userId) {
+		PlayerState state = player(userId);
+		int id = firstInstanceId(userId);
+		state.getBattlefield().add(creature(id, userId + "-guard", 1, 1, 2, Set.of(Keyword.GUARD)));
+		state.getBattlefield().add(creature(id + 1, userId + "-plain", 2, 3, 3, Set.of()));
+		state.getBattlefield().add(creature(id + 2, userId + "-ward", 4, 2, 5, Set.of(Keyword.WARD)));
+		CreatureState frozen = creature(id + 3, userId + "-frozen", 3, 3, 2, Set.of());
+		frozen.addStatus(Status.FROZEN);
+		state.getBattlefield().add(frozen);
+		state.getBattlefield().add(creature(id + 4, userId + "-big", 7, 6, 6, Set.of()));
+		return state;
+	}
+
+	private static PlayerState singleCreature(String userId) {
+		PlayerState state = player(userId);
+		state.getBattlefield().add(creature(firstInstanceId(userId), userId + "-plain", 2, 2, 3, Set.of()));
+		return state;
+	}
+
+	private static PlayerState fullBoard(String userId) {
+		PlayerState state = player(userId);
+		for (int i = 0; i < Battlefield.MAX_SLOTS; i++) {
+			state.getBattlefield().add(creature(firstInstanceId(userId) + i, userId + "-" + i, 1, 1, 1, Set.of()));
+		}
+		return state;
+	}
+
+	private static PlayerState player(String userId) {
+		PlayerState state = new PlayerState();
+		state.setUserId(userId);
+		state.setHeroHealth(20);
+		state.getDeck().add(vanilla(userId + " Deck A", 1, 1, 1));
+		state.getDeck().add(vanilla(userId + " Deck B", 2, 2, 2));
+		state.getHand().add(vanilla(userId + " Hand", 3, 3, 3));
+		state.getDiscardPile().add(vanilla(userId + " Fallen", 2, 2, 1));
+		state.getDiscardPile().add(vanilla(userId + " Fallen Giant", 6, 6, 6));
+		return state;
+	}
+
+	private static CreatureState creature(int id, String name, int cost, int attack, int health,
+										  Set<Keyword> keywords) {
+		return new CreatureState(id, vanilla(name, cost, attack, health), attack, health, keywords);
+	}
+
+	/** Each side numbers its creatures from its own base, the same way every time a board is rebuilt. */
+	private static int firstInstanceId(String userId) {
+		return "caster".equals(userId) ? 100 : 200;
+	}
+
+	private static Card vanilla(String name, int cost, int attack, int health) {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName(name);
+		card.setCardType(CardType.CREATURE);
+		card.setCost(cost);
+		card.setAttack(attack);
+		card.setHealth(health);
+		return card;
+	}
+
+	/**
+	 * Resolvers wired to their own effect table, with or without scripts.
+	 */
+	private static final class Engine {
+		private final CardEffectTable effects;
+		private final SpellEffectResolver spells;
+		private final CreatureEffectResolver creatures;
+		private final EffectScriptCompiler compiler;
+
+		private Engine(CardCatalog catalog, boolean scripts) {
+			effects = new CardEffectTable(catalog);
+			spells = new SpellEffectResolver(catalog, effects);
+			creatures = new CreatureEffectResolver(spells, effects);
+			compiler = new EffectScriptCompiler(spells, catalog, effects, objectMapper, scripts);
+		}
+	}
+}
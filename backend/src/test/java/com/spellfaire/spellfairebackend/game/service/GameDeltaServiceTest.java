@@ -0,0 +1,111 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.dto.BoardCreatureResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameDeltaResponse;
+import com.spellfaire.spellfairebackend.game.dto.GamePlayerStateDeltaResponse;
+import com.spellfaire.spellfairebackend.game.dto.GamePlayerStateResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+
+class GameDeltaServiceTest {
+
+	private final GameDeltaService service = new GameDeltaService(2, 10);
+
+	@Test
+	void encodeReturnsOnlyChangedZonesAndCreatures() {
+		GameResponse base = game(1);
+		service.record(base);
+
+		GameResponse current = game(2);
+		GamePlayerStateResponse player = current.getPlayer1State();
+		player.setHand(List.of("card-b"));
+		player.setDiscardPile(List.of("card-a"));
+		player.getBattlefield().get(0).setHealth(1);
+		player.getBattlefield().remove(1);
+
+		GameActionResponse response = service.encode(new GameActionResponse(current, List.of()), 1L);
+
+		assertNull(response.getGame());
+		GameDeltaResponse delta = response.getDelta();
+		assertEquals(1, delta.getBaseVersion());
+		assertEquals(2, delta.getStateVersion());
+		GamePlayerStateDeltaResponse playerDelta = delta.getPlayer1State();
+		assertNull(playerDelta.getDeck());
+		assertEquals(List.of("card-b"), playerDelta.getHand());
+		assertEquals(List.of("card-a"), playerDelta.getDiscardPile());
+		assertEquals(1, playerDelta.getBattlefield().size());
+		assertEquals("creature-1", playerDelta.getBattlefield().get(0).getInstanceId());
+		assertEquals(List.of("creature-2"), playerDelta.getRemovedCreatureIds());
+
+		GamePlayerStateDeltaResponse untouched = delta.getPlayer2State();
+		assertNull(untouched.getHand());
+		assertNull(untouched.getBattlefield());
+		assertNull(untouched.getRemovedCreatureIds());
+	}
+
+	@Test
+	void encodeFallsBackToFullSnapshotForUnknownVersion() {
+		service.record(game(1));
+		service.record(game(2));
+		service.record(game(3));
+
+		GameActionResponse full = new GameActionResponse(game(4), List.of());
+		GameActionResponse response = service.encode(full, 1L);
+
+		// Only the last two versions are kept
+		assertSame(full, response);
+		assertNotNull(service.encode(new GameActionResponse(game(5), List.of()), 4L).getDelta());
+	}
+
+	@Test
+	void encodeWithoutSinceVersionReturnsFullResponse() {
+		GameActionResponse full = new GameActionResponse(game(1), List.of());
+
+		assertSame(full, service.encode(full, null));
+	}
+
+	private static GameResponse game(long stateVersion) {
+		GameResponse game = new GameResponse();
+		game.setId("game-1");
+		game.setStateVersion(stateVersion);
+		game.setPlayer1State(player());
+		game.setPlayer2State(player());
+		return game;
+	}
+
+	private static GamePlayerStateResponse player() {
+		GamePlayerStateResponse player = new GamePlayerStateResponse();
+		player.setDeck(List.of("card-c", "card-d"));
+		player.setHand(List.of("card-a", "card-b"));
+		player.setDiscardPile(List.of());
+		List<BoardCreatureResponse> battlefield = new ArrayList<>();
+		battlefield.add(creature("creature-1", 0));
+		battlefield.add(creature("creature-2", 1));
+		player.setBattlefield(battlefield);
+		return player;
+	}
+
+	private static BoardCreatureResponse creature(String instanceId, int position) {
+		BoardCreatureResponse creature = new BoardCreatureResponse();
+		creature.setInstanceId(instanceId);
+		creature.setCardId("card-x");
+		creature.setAttack(2);
+		creature.setHealth(2);
+		creature.setMaxHealth(2);
+		creature.setKeywords(Set.of());
+		creature.setStatuses(Set.of());
+		creature.setPosition(position);
+		return creature;
+	}
+}
@@ -0,0 +1,242 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+@ExtendWith(MockitoExtension.class)
+class GameEngineTest {
+
+	// Clear of the instance IDs the engine hands out
+	private static final AtomicInteger INSTANCE_IDS = new AtomicInteger(1000);
+
+	@Mock
+	private SpellEffectResolver spellResolver;
+
+	@Mock
+	private CreatureEffectResolver creatureResolver;
+
+	private GameEngine gameEngine;
+
+	@BeforeEach
+	void setUp() {
+		gameEngine = new GameEngine(spellResolver, creatureResolver, new CardEffectTable(CardCatalog.of(List.of())));
+	}
+
+	@Test
+	void tryAttackBlocksHeroAttackWhenGuardExists() {
+		GameState game = baseGame();
+		PlayerState attackerState = game.getPlayer1State();
+		PlayerState defenderState = game.getPlayer2State();
+
+		CreatureState attacker = creature("Attacker", 4, 3, Set.of());
+		attacker.setCanAttack(true);
+		attackerState.getBattlefield().add(attacker);
+
+		CreatureState guard = creature("Guard", 1, 5, Set.of(Keyword.GUARD));
+		defenderState.getBattlefield().add(guard);
+
+		List<GameEvent> events = gameEngine.tryAttack(game, game.getPlayer1Id(), attacker.getInstanceId(), "ENEMY_HERO");
+
+		assertNull(events);
+		assertEquals(25, defenderState.getHeroHealth());
+		assertFalse(attacker.isHasAttackedThisTurn());
+	}
+
+	@Test
+	void startTurnConsumesFrozenForOneTurnAndRefillsMana() {
+		GameState game = baseGame();
+		game.setTurnNumber(5);
+
+		PlayerState playerState = game.getPlayer1State();
+		playerState.setMaxMana(9);
+		playerState.setCurrentMana(0);
+
+		CreatureState frozenCreature = creature("Frozen Unit", 2, 2, Set.of());
+		frozenCreature.addStatus(Status.FROZEN);
+		frozenCreature.setFrozenForNextTurn(true);
+		frozenCreature.setCanAttack(true);
+		frozenCreature.setHasAttackedThisTurn(true);
+
+		CreatureState normalCreature = creature("Normal Unit", 3, 3, Set.of());
+		normalCreature.setCanAttack(false);
+		normalCreature.setHasAttackedThisTurn(true);
+
+		playerState.getBattlefield().add(frozenCreature);
+		playerState.getBattlefield().add(normalCreature);
+
+		when(creatureResolver.resolveStartOfTurn(playerState, game.getPlayer2State()))
+				.thenReturn(Collections.emptyList());
+
+		var events = gameEngine.startTurn(game, playerState);
+
+		assertEquals(10, playerState.getMaxMana());
+		assertEquals(10, playerState.getCurrentMana());
+		assertFalse(frozenCreature.isFrozenForNextTurn());
+		assertTrue(frozenCreature.isFrozenBlocksAttacksThisTurn());
+		assertFalse(frozenCreature.hasStatus(Status.FROZEN));
+		assertFalse(frozenCreature.isCanAttack());
+		assertFalse(frozenCreature.isHasAttackedThisTurn());
+
+		game.setTurnNumber(6);
+		var secondTurnEvents = gameEngine.startTurn(game, playerState);
+		assertFalse(frozenCreature.isFrozenBlocksAttacksThisTurn());
+		assertTrue(frozenCreature.isCanAttack());
+		assertNotNull(secondTurnEvents);
+
+		assertTrue(normalCreature.isCanAttack());
+		assertFalse(normalCreature.isHasAttackedThisTurn());
+		assertNotNull(events);
+		assertTrue(events.size() >= 2);
+
+		verify(spellResolver, times(2)).drawCard(eq(playerState), anyList());
+	}
+
+	@Test
+	void tryAttackAllowsSameTurnAttackWhenFrozenIsQueuedForNextTurn() {
+		GameState game = baseGame();
+		PlayerState attackerState = game.getPlayer1State();
+		PlayerState defenderState = game.getPlayer2State();
+
+		CreatureState attacker = creature("Queued Frozen Attacker", 4, 3, Set.of());
+		attacker.setCanAttack(true);
+		attacker.setHasAttackedThisTurn(false);
+		attacker.addStatus(Status.FROZEN);
+		attacker.setFrozenForNextTurn(true);
+		attacker.setFrozenBlocksAttacksThisTurn(false);
+		attackerState.getBattlefield().add(attacker);
+
+		CreatureState defender = creature("Training Dummy", 1, 5, Set.of());
+		defenderState.getBattlefield().add(defender);
+
+		List<GameEvent> sameTurnAttack = gameEngine.tryAttack(game, game.getPlayer1Id(),
+				attacker.getInstanceId(), defender.getInstanceId());
+
+		assertNotNull(sameTurnAttack);
+		assertTrue(attacker.isHasAttackedThisTurn());
+
+		attacker.setHasAttackedThisTurn(false);
+		game.setTurnNumber(2);
+		when(creatureResolver.resolveStartOfTurn(attackerState, defenderState)).thenReturn(Collections.emptyList());
+		gameEngine.startTurn(game, attackerState);
+
+		assertTrue(attacker.isFrozenBlocksAttacksThisTurn());
+		assertFalse(attacker.isFrozenForNextTurn());
+		assertFalse(attacker.isCanAttack());
+		assertFalse(attacker.hasStatus(Status.FROZEN));
+
+		attacker.setCanAttack(true);
+		List<GameEvent> blockedTurnAttack = gameEngine.tryAttack(game, game.getPlayer1Id(),
+				attacker.getInstanceId(), "ENEMY_HERO");
+		assertNull(blockedTurnAttack);
+	}
+
+	@Test
+	void startTurnClearsTemporaryAttackDebuff() {
+		GameState game = baseGame();
+		game.setTurnNumber(2);
+
+		PlayerState playerState = game.getPlayer1State();
+		CreatureState witheredCreature = creature("Withered Unit", 1, 3, Set.of());
+		witheredCreature.setTemporaryAttackDebuff(2);
+		witheredCreature.setCanAttack(false);
+		playerState.getBattlefield().add(witheredCreature);
+
+		when(creatureResolver.resolveStartOfTurn(playerState, game.getPlayer2State()))
+				.thenReturn(Collections.emptyList());
+
+		gameEngine.startTurn(game, playerState);
+
+		assertEquals(3, witheredCreature.getAttack());
+		assertEquals(0, witheredCreature.getTemporaryAttackDebuff());
+	}
+
+	@Test
+	void playCardRejectsFullBattlefieldBeforeSpendingMana() {
+		GameState game = baseGame();
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+
+		PlayerState playerState = game.getPlayer1State();
+		playerState.setCurrentMana(10);
+		Card reserve = creature("Reserve Soldier", 2, 2, Set.of()).getCard();
+		playerState.getHand().add(reserve);
+		for (int i = 0; i < 6; i++) {
+			playerState.getBattlefield().add(creature("Existing " + i, 1, 1, Set.of()));
+		}
+
+		assertThrows(IllegalArgumentException.class,
+				() -> gameEngine.playCard(game, game.getPlayer1Id(), reserve.getId().toString(), null));
+		assertEquals(10, playerState.getCurrentMana());
+		assertEquals(1, playerState.getHand().size());
+	}
+
+	@Test
+	void checkGameOverReportsOnlyOnce() {
+		GameState game = baseGame();
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.getPlayer2State().setHeroHealth(0);
+
+		List<GameEvent> first = gameEngine.checkGameOver(game);
+		List<GameEvent> second = gameEngine.checkGameOver(game);
+
+		assertEquals(1, first.size());
+		assertEquals(GameStatus.FINISHED, game.getGameStatus());
+		assertEquals(game.getPlayer1Id(), game.getWinnerId());
+		assertTrue(second.isEmpty());
+	}
+
+	private static GameState baseGame() {
+		GameState game = new GameState();
+		game.setPlayer1Id(UUID.randomUUID().toString());
+		game.setPlayer2Id(UUID.randomUUID().toString());
+		game.setCurrentPlayerId(game.getPlayer1Id());
+
+		game.getPlayer1State().setUserId(game.getPlayer1Id());
+		game.getPlayer2State().setUserId(game.getPlayer2Id());
+		return game;
+	}
+
+	private static CreatureState creature(String name, int attack, int health, Set<Keyword> keywords) {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName(name);
+		card.setCardType(CardType.CREATURE);
+		card.setCost(2);
+		card.setAttack(attack);
+		card.setHealth(health);
+		card.setFaction(Faction.KINGDOM);
+
+		return new CreatureState(INSTANCE_IDS.incrementAndGet(), card, attack, health, keywords);
+	}
+}
@@ -0,0 +1,114 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.GameLogEntry;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.repo.GameLogRepository;
+import com.spellfaire.spellfairebackend.game.sim.Archetype;
+import com.spellfaire.spellfairebackend.game.sim.HeadlessRules;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class GameEventLogTest {
+
+	private static final HeadlessRules RULES = HeadlessRules.fromClasspath();
+
+	@Mock
+	private GameLogRepository gameLogRepository;
+
+	private final List<GameLogEntry> saved = new ArrayList<>();
+	private GameEventLog gameEventLog;
+
+	@BeforeEach
+	void setUp() {
+		gameEventLog = new GameEventLog(gameLogRepository, RULES.gameEngine(), new ObjectMapper(),
+				new SimpleMeterRegistry(), true);
+	}
+
+	@Test
+	void replayingTheLogOntoASnapshotReproducesTheGame() {
+		when(gameLogRepository.save(any())).thenAnswer(invocation -> {
+			saved.add(invocation.getArgument(0));
+			return invocation.getArgument(0);
+		});
+		GameState game = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(), RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.WILDCLAN, MagicSchool.NATURE), 3);
+		GameState snapshot = game.copy();
+
+		while (game.getGameStatus() == GameStatus.IN_PROGRESS && game.getTurnNumber() <= 16) {
+			game.setStateVersion(game.getStateVersion() + 1);
+			gameEventLog.record(game, this::playTurn);
+		}
+		when(gameLogRepository.findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(game.getId(), 0L))
+			.thenReturn(saved);
+
+		assertEquals(saved.size(), gameEventLog.recover(snapshot));
+		assertTrue(saved.size() > 10);
+		assertEquals(game.getStateVersion(), snapshot.getStateVersion());
+		assertEquals(game.getTurnNumber(), snapshot.getTurnNumber());
+		assertEquals(game.getGameStatus(), snapshot.getGameStatus());
+		assertEquals(game.getWinnerId(), snapshot.getWinnerId());
+		assertEquals(game.getRandom().getPosition(), snapshot.getRandom().getPosition());
+		assertEquals(describe(game.getPlayer1State()), describe(snapshot.getPlayer1State()));
+		assertEquals(describe(game.getPlayer2State()), describe(snapshot.getPlayer2State()));
+	}
+
+	@Test
+	void applyRejectsAnEntryThatSkipsAVersion() {
+		GameState state = new GameState();
+		GameLogEntry entry = new GameLogEntry(state.getId(), 2, 1, "[]", "[]", Instant.now());
+
+		assertThrows(IllegalStateException.class, () -> gameEventLog.apply(state, entry));
+	}
+
+	private GameActionResponse playTurn(GameState game) {
+		String playerId = game.getCurrentPlayerId();
+		List<GameEvent> events = new ArrayList<>(RULES.aiService().executeTurn(game, playerId));
+		events.addAll(RULES.gameEngine().checkGameOver(game));
+		if (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+			events.addAll(RULES.gameEngine().endTurn(game, playerId));
+		}
+		return new GameActionResponse(null, events);
+	}
+
+	private static String describe(PlayerState player) {
+		StringBuilder description = new StringBuilder()
+			.append(player.getHeroHealth()).append('/').append(player.getCurrentMana()).append('/')
+			.append(player.getMaxMana()).append(" deck ").append(player.getDeck().size())
+			.append(" discard ").append(player.getDiscardPile().size()).append(" hand");
+		for (int i = 0; i < player.getHand().size(); i++) {
+			description.append(' ').append(player.getHand().get(i).getName());
+		}
+		description.append(" board");
+		for (int i = 0; i < player.getBattlefield().size(); i++) {
+			var creature = player.getBattlefield().get(i);
+			description.append(' ').append(creature.getInstanceId()).append(':')
+				.append(creature.getAttack()).append('/').append(creature.getHealth());
+		}
+		return description.toString();
+	}
+}
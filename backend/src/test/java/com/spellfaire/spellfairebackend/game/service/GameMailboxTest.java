@@ -0,0 +1,97 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GameMailboxTest {
+
+	private final GameMailbox mailbox = new GameMailbox();
+	private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+		mailbox.shutdown();
+	}
+
+	@Test
+	void actionsOnOneGameNeverOverlap() throws Exception {
+		UUID gameId = UUID.randomUUID();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			int value = i;
+			results.add(callers.submit(() -> mailbox.execute(gameId, () -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.onSpinWait();
+				running.decrementAndGet();
+				return value;
+			})));
+		}
+
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals(i, results.get(i).get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, maxRunning.get());
+		assertEquals(0, mailbox.mailboxCount());
+	}
+
+	@Test
+	void differentGamesRunInParallel() throws Exception {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+
+		Future<Boolean> first = callers.submit(() -> mailbox.execute(UUID.randomUUID(), () -> awaitQuietly(bothStarted)));
+		Future<Boolean> second = callers.submit(() -> mailbox.execute(UUID.randomUUID(), () -> awaitQuietly(bothStarted)));
+
+		assertTrue(first.get(5, TimeUnit.SECONDS));
+		assertTrue(second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void rethrowsActionExceptionAndKeepsServingGame() {
+		UUID gameId = UUID.randomUUID();
+
+		IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+				() -> mailbox.execute(gameId, () -> {
+					throw new IllegalArgumentException("Not your turn");
+				}));
+
+		assertEquals("Not your turn", error.getMessage());
+		assertEquals("ok", mailbox.execute(gameId, () -> "ok"));
+	}
+
+	@Test
+	void nestedActionOnSameGameRunsInline() {
+		UUID gameId = UUID.randomUUID();
+
+		String result = mailbox.execute(gameId, () -> mailbox.execute(gameId, () -> "nested"));
+
+		assertEquals("nested", result);
+	}
+
+	private static boolean awaitQuietly(CountDownLatch latch) {
+		latch.countDown();
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
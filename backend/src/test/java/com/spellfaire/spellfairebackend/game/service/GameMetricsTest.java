@@ -0,0 +1,56 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GameMetricsTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final GameMetrics metrics = new GameMetrics(registry);
+
+	@Test
+	void recordTimesTheActionAndCountsItsEvents() {
+		GameActionResponse response = new GameActionResponse(new GameResponse(), List.of(
+				GameEvent.cardPlayed("card", "Played"), GameEvent.summon("creature", "Summoned")));
+
+		assertSame(response, metrics.record("playCard", () -> response));
+		metrics.record("playCard", () -> null);
+
+		assertEquals(2, registry.get("spellfaire.game.action").tag("action", "playCard").timer().count());
+		assertEquals(2, registry.get("spellfaire.game.events").tag("action", "playCard").counter().count());
+	}
+
+	@Test
+	void recordCountsFailuresByExceptionTypeAndRethrows() {
+		IllegalArgumentException failure = new IllegalArgumentException("Not your turn");
+
+		assertSame(failure, assertThrows(IllegalArgumentException.class,
+				() -> metrics.record("attack", () -> { throw failure; })));
+
+		assertEquals(1, registry.get("spellfaire.game.action.errors")
+				.tags("action", "attack", "exception", "IllegalArgumentException").counter().count());
+		assertEquals(1, registry.get("spellfaire.game.action").tag("action", "attack").timer().count());
+		assertEquals(0, registry.get("spellfaire.game.events").tag("action", "attack").counter().count());
+	}
+
+	@Test
+	void recordAiTurnTagsTheDifficulty() {
+		metrics.recordAiTurn(AiDifficulty.HARD, 1_000_000);
+		metrics.recordAiTurn(null, 2_000_000);
+
+		assertEquals(1, registry.get("spellfaire.game.ai.turn").tag("difficulty", "HARD").timer().count());
+		assertEquals(1, registry.get("spellfaire.game.ai.turn").tag("difficulty", "NORMAL").timer().count());
+	}
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.spellfaire.spellfairebackend.auth.model.User;
 import com.spellfaire.spellfairebackend.game.dto.CreateGameRequest;
@@ -31,6 +34,10 @@ import com.spellfaire.spellfairebackend.game.model.GameStatus;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
 import com.spellfaire.spellfairebackend.game.repo.DeckRepository;
 import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.state.GameStateMapper;
+import com.spellfaire.spellfairebackend.game.state.ZoneCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class GameServiceTest {
@@ -41,11 +48,18 @@ class GameServiceTest {
 	@Mock
 	private DeckRepository deckRepository;
 
+	private final CardCatalog cardCatalog = CardCatalog.of(List.of());
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	private GameService gameService;
 
 	@BeforeEach
 	void setUp() {
-		gameService = new GameService(gameRepository, deckRepository);
+		GameStateMapper gameStateMapper = new GameStateMapper(new ZoneCodec(), cardCatalog, false);
+		gameService = new GameService(gameRepository, deckRepository, gameStateMapper,
+				new GameStateStore(gameRepository, gameStateMapper, new GameMailbox(), null, transactionManager, new SimpleMeterRegistry(), false, 1000, 3));
 	}
 
 	@Test
@@ -168,6 +182,9 @@ class GameServiceTest {
 		game.setCreatedAt(Instant.now());
 		game.setUpdatedAt(Instant.now());
 		game.getPlayer1State().setUserId(playerId);
+		game.getPlayer1State().setDeckId(UUID.randomUUID().toString());
+		game.getPlayer1State().setFaction(Faction.KINGDOM);
+		game.getPlayer1State().setMagicSchool(MagicSchool.FIRE);
 		game.getPlayer2State().setUserId("AI");
 
 		when(gameRepository.findByPlayer1IdOrPlayer2IdOrderByUpdatedAtDesc(playerId, playerId))
@@ -177,12 +194,15 @@ class GameServiceTest {
 
 		assertEquals(1, responses.size());
 		assertEquals(game.getId().toString(), responses.getFirst().getId());
+		assertEquals(Faction.KINGDOM, responses.getFirst().getPlayer1State().getFaction());
+		assertEquals(MagicSchool.FIRE, responses.getFirst().getPlayer1State().getMagicSchool());
+		verify(deckRepository, never()).findById(any());
 	}
 
 	@Test
 	void getGameByIdReturnsEmptyWhenMissing() {
 		UUID gameId = UUID.randomUUID();
-		when(gameRepository.findById(gameId)).thenReturn(Optional.empty());
+		when(gameRepository.findGraphById(gameId)).thenReturn(Optional.empty());
 
 		var response = gameService.getGameById(gameId);
 
@@ -231,7 +251,7 @@ class GameServiceTest {
 		game.getPlayer1State().setDeckId("not-a-uuid");
 		game.getPlayer2State().setUserId("AI");
 
-		when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(gameId)).thenReturn(Optional.of(game));
 
 		var response = gameService.getGameById(gameId);
 
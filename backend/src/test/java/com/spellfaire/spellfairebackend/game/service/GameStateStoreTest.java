@@ -0,0 +1,403 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spellfaire.spellfairebackend.game.model.Game;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.GameStateMapper;
+import com.spellfaire.spellfairebackend.game.state.ZoneCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class GameStateStoreTest {
+
+	@Mock
+	private GameRepository gameRepository;
+
+	private final CardCatalog cardCatalog = CardCatalog.of(List.of());
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private GameEventLog gameEventLog;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void writeThroughSavesEveryAction() {
+		GameStateStore store = store(false, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(3);
+			return null;
+		});
+		store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(2);
+			return null;
+		});
+
+		verify(gameRepository, times(2)).save(game);
+		assertEquals(2, game.getPlayer1State().getCurrentMana());
+		assertEquals(2, game.getStateVersion());
+		assertTrue(store.find(game.getId()).isEmpty());
+	}
+
+	@Test
+	void writeBehindKeepsActionsInMemoryUntilFlush() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(3);
+			return null;
+		});
+		store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(2);
+			return null;
+		});
+
+		verify(gameRepository, never()).saveAndFlush(any(Game.class));
+		assertEquals(0, game.getPlayer1State().getCurrentMana());
+		assertEquals(2, store.find(game.getId()).orElseThrow().getPlayer1State().getCurrentMana());
+
+		store.flushDirty();
+		store.flushDirty();
+
+		verify(gameRepository, times(1)).saveAndFlush(game);
+		assertEquals(2, game.getPlayer1State().getCurrentMana());
+	}
+
+	@Test
+	void writeBehindCheckpointsImmediatelyWhenTurnEnds() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		store.update(game.getId(), state -> {
+			state.setTurnNumber(state.getTurnNumber() + 1);
+			return null;
+		});
+
+		verify(gameRepository, times(1)).saveAndFlush(game);
+		assertEquals(2, game.getTurnNumber());
+	}
+
+	@Test
+	void writeBehindReleasesFinishedGameAfterCheckpoint() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		store.update(game.getId(), state -> {
+			state.setGameStatus(GameStatus.FINISHED);
+			return null;
+		});
+
+		verify(gameRepository, times(1)).saveAndFlush(game);
+		assertEquals(GameStatus.FINISHED, game.getGameStatus());
+		assertEquals(0, store.activeGameCount());
+	}
+
+	@Test
+	void writeBehindEvictsLeastRecentlyUsedGameAndFlushesIt() {
+		GameStateStore store = store(true, 1);
+		Game first = game();
+		Game second = game();
+		when(gameRepository.findGraphById(first.getId())).thenReturn(Optional.of(first));
+		when(gameRepository.findGraphById(second.getId())).thenReturn(Optional.of(second));
+
+		store.update(first.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(5);
+			return null;
+		});
+		store.update(second.getId(), state -> null);
+
+		verify(gameRepository, times(1)).saveAndFlush(first);
+		assertEquals(5, first.getPlayer1State().getCurrentMana());
+		assertEquals(1, store.activeGameCount());
+		assertTrue(store.find(first.getId()).isEmpty());
+	}
+
+	@Test
+	void writeBehindKeepsAnEvictedGameWhoseCheckpointFailedUntilARetrySavesIt() {
+		GameStateStore store = store(true, 1);
+		Game first = game();
+		Game second = game();
+		when(gameRepository.findGraphById(first.getId())).thenReturn(Optional.of(first));
+		when(gameRepository.findGraphById(second.getId())).thenReturn(Optional.of(second));
+		when(gameRepository.saveAndFlush(first)).thenThrow(new IllegalStateException("database down")).thenReturn(first);
+
+		store.update(first.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(5);
+			return null;
+		});
+		store.update(second.getId(), state -> null);
+
+		// Still the copy actions use, rather than the row it failed to reach
+		assertEquals(5, store.find(first.getId()).orElseThrow().getPlayer1State().getCurrentMana());
+
+		store.flushDirty();
+
+		verify(gameRepository, times(2)).saveAndFlush(first);
+		assertEquals(5, first.getPlayer1State().getCurrentMana());
+		assertTrue(store.find(first.getId()).isEmpty());
+		assertEquals(1, store.activeGameCount());
+	}
+
+	@Test
+	void writeBehindScheduledFlushAndTurnEndCheckpointDoNotRace() throws Exception {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		CountDownLatch firstSave = new CountDownLatch(1);
+		CountDownLatch finishSave = new CountDownLatch(1);
+		AtomicInteger saves = new AtomicInteger();
+		AtomicInteger saving = new AtomicInteger();
+		AtomicBoolean overlapped = new AtomicBoolean();
+		when(gameRepository.saveAndFlush(game)).thenAnswer(invocation -> {
+			if (saving.incrementAndGet() > 1) {
+				overlapped.set(true);
+			}
+			if (saves.incrementAndGet() == 1) {
+				firstSave.countDown();
+				finishSave.await(5, TimeUnit.SECONDS);
+			}
+			// Like the version column, bumped by every save
+			Long version = game.getVersion();
+			ReflectionTestUtils.setField(game, "version", version == null ? 1L : version + 1);
+			saving.decrementAndGet();
+			return game;
+		});
+		store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(3);
+			return null;
+		});
+
+		Thread scheduled = new Thread(store::flushDirty);
+		scheduled.start();
+		assertTrue(firstSave.await(5, TimeUnit.SECONDS));
+		Thread turnEnd = new Thread(() -> store.update(game.getId(), state -> {
+			state.setTurnNumber(state.getTurnNumber() + 1);
+			return null;
+		}));
+		turnEnd.start();
+		// Give the checkpoint time to reach the flush while the scheduled one is still saving
+		for (int i = 0; i < 500 && store.find(game.getId()).orElseThrow().getTurnNumber() != 2; i++) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(100);
+		finishSave.countDown();
+		scheduled.join(5_000);
+		turnEnd.join(5_000);
+
+		// It waited for the scheduled flush instead of saving from the same row version
+		assertFalse(overlapped.get());
+		assertEquals(2, saves.get());
+		assertEquals(2, game.getTurnNumber());
+		assertEquals(0.0, meterRegistry.counter("spellfaire.game.optimistic.conflicts").count());
+		assertTrue(store.find(game.getId()).isPresent());
+	}
+
+	@Test
+	void writeBehindRejectedActionLeavesGameClean() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		assertThrows(IllegalArgumentException.class, () -> store.update(game.getId(), state -> {
+			throw new IllegalArgumentException("Not your turn");
+		}));
+		store.flushDirty();
+
+		verify(gameRepository, never()).saveAndFlush(any(Game.class));
+		assertEquals(0, store.find(game.getId()).orElseThrow().getStateVersion());
+	}
+
+	@Test
+	void writeBehindActionThatThrowsHalfwayLeavesNoPartialChange() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		assertThrows(IllegalStateException.class, () -> store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(7);
+			throw new IllegalStateException("Effect failed");
+		}));
+		store.flushDirty();
+
+		verify(gameRepository, never()).saveAndFlush(any(Game.class));
+		assertEquals(0, store.find(game.getId()).orElseThrow().getPlayer1State().getCurrentMana());
+	}
+
+	@Test
+	void writeBehindCreateInsideATransactionActivatesTheGameOnlyOnCommit() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.save(any(Game.class))).thenReturn(game);
+		GameState state = new GameStateMapper(new ZoneCodec(), cardCatalog, false).toState(game);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			store.create(state);
+			assertEquals(0, store.activeGameCount());
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertEquals(1, store.activeGameCount());
+		assertTrue(store.find(game.getId()).isPresent());
+	}
+
+	@Test
+	void writeBehindFindReturnsACopyOfTheActiveState() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		store.update(game.getId(), state -> null);
+
+		store.find(game.getId()).orElseThrow().getPlayer1State().setCurrentMana(9);
+
+		assertEquals(0, store.find(game.getId()).orElseThrow().getPlayer1State().getCurrentMana());
+	}
+
+	@Test
+	void updateThrowsWhenGameMissing() {
+		GameStateStore store = store(true, 10);
+		UUID gameId = UUID.randomUUID();
+		when(gameRepository.findGraphById(gameId)).thenReturn(Optional.empty());
+
+		assertThrows(IllegalArgumentException.class, () -> store.update(gameId, state -> null));
+	}
+
+	@Test
+	void writeThroughReplaysActionAfterVersionConflict() {
+		GameStateStore store = store(false, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		doThrow(new ObjectOptimisticLockingFailureException(Game.class, game.getId()))
+			.doReturn(game)
+			.when(gameRepository).save(game);
+
+		int[] runs = {0};
+		store.update(game.getId(), state -> {
+			runs[0]++;
+			state.getPlayer1State().setCurrentMana(3);
+			return null;
+		});
+
+		assertEquals(2, runs[0]);
+		assertEquals(3, game.getPlayer1State().getCurrentMana());
+		assertEquals(1.0, meterRegistry.counter("spellfaire.game.optimistic.conflicts").count());
+		assertEquals(1.0, meterRegistry.counter("spellfaire.game.optimistic.retries").count());
+	}
+
+	@Test
+	void writeThroughGivesUpAfterMaxAttempts() {
+		GameStateStore store = store(false, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		doThrow(new ObjectOptimisticLockingFailureException(Game.class, game.getId()))
+			.when(gameRepository).save(game);
+
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> store.update(game.getId(), state -> null));
+
+		verify(gameRepository, times(3)).save(game);
+		assertEquals(3.0, meterRegistry.counter("spellfaire.game.optimistic.conflicts").count());
+		assertEquals(2.0, meterRegistry.counter("spellfaire.game.optimistic.retries").count());
+	}
+
+	@Test
+	void writeBehindDropsStateWhenRowWasChangedElsewhere() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		store.update(game.getId(), state -> {
+			state.getPlayer1State().setCurrentMana(3);
+			return null;
+		});
+		// Another instance saved the game meanwhile
+		ReflectionTestUtils.setField(game, "version", 7L);
+		store.flushDirty();
+
+		verify(gameRepository, never()).saveAndFlush(any(Game.class));
+		assertEquals(0, game.getPlayer1State().getCurrentMana());
+		assertTrue(store.find(game.getId()).isEmpty());
+		assertEquals(1.0, meterRegistry.counter("spellfaire.game.optimistic.conflicts").count());
+	}
+
+	@Test
+	void writeBehindReplaysTheLogOntoALaggingRowAndCheckpointsIt() {
+		GameStateStore store = store(true, 10);
+		Game game = game();
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		when(gameEventLog.recover(any())).thenAnswer(invocation -> {
+			GameState state = invocation.getArgument(0);
+			state.getPlayer1State().setCurrentMana(5);
+			state.setStateVersion(4);
+			return 4;
+		});
+
+		assertEquals(5, (int) store.update(game.getId(), state -> state.getPlayer1State().getCurrentMana()));
+		store.flushDirty();
+
+		verify(gameRepository, times(1)).saveAndFlush(game);
+		assertEquals(5, game.getPlayer1State().getCurrentMana());
+		assertEquals(5, game.getStateVersion());
+	}
+
+	private GameStateStore store(boolean writeBehind, int maxActiveGames) {
+		return new GameStateStore(gameRepository, new GameStateMapper(new ZoneCodec(), cardCatalog, false), new GameMailbox(), gameEventLog,
+				transactionManager, meterRegistry, writeBehind, maxActiveGames, 3);
+	}
+
+	private static Game game() {
+		Game game = new Game();
+		game.setId(UUID.randomUUID());
+		game.setPlayer1Id(UUID.randomUUID().toString());
+		game.setPlayer2Id("AI");
+		game.setCurrentPlayerId(game.getPlayer1Id());
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.setTurnNumber(1);
+		game.getPlayer1State().setUserId(game.getPlayer1Id());
+		game.getPlayer1State().setCurrentMana(0);
+		game.getPlayer2State().setUserId("AI");
+		return game;
+	}
+}
@@ -0,0 +1,133 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GamePlayerStateResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
+
+class GameUpdateBroadcasterTest {
+
+	private final GameDeltaService gameDeltaService = new GameDeltaService(4, 10);
+	private final GameUpdateBroadcaster broadcaster = new GameUpdateBroadcaster(60_000, 2, 10, 4, Runnable::run,
+			gameDeltaService);
+
+	@Test
+	void subscribeRegistersEmitterPerGame() {
+		UUID gameId = UUID.randomUUID();
+
+		SseEmitter first = broadcaster.subscribe(gameId, new GameResponse());
+		broadcaster.subscribe(gameId, new GameResponse());
+
+		assertNotNull(first);
+		assertEquals(2, broadcaster.subscriberCount(gameId));
+		assertEquals(0, broadcaster.subscriberCount(UUID.randomUUID()));
+	}
+
+	@Test
+	void publishWithoutSubscribersIsNoOp() {
+		assertDoesNotThrow(() -> broadcaster.publish(UUID.randomUUID(),
+				new GameActionResponse(new GameResponse(), List.of())));
+	}
+
+	@Test
+	void publishDropsCompletedEmitter() {
+		UUID gameId = UUID.randomUUID();
+		SseEmitter emitter = broadcaster.subscribe(gameId, new GameResponse());
+		emitter.complete();
+
+		broadcaster.publish(gameId, new GameActionResponse(new GameResponse(), List.of()));
+
+		assertEquals(0, broadcaster.subscriberCount(gameId));
+	}
+
+	@Test
+	void publishOnlyQueuesTheSendOnTheSenderPool() {
+		List<Runnable> sends = new ArrayList<>();
+		GameUpdateBroadcaster queued = new GameUpdateBroadcaster(60_000, 2, 10, 4, sends::add, gameDeltaService);
+		UUID gameId = UUID.randomUUID();
+		queued.subscribe(gameId, new GameResponse());
+
+		queued.publish(gameId, new GameActionResponse(new GameResponse(), List.of()));
+		queued.heartbeat();
+
+		// One drain task for the snapshot, the update and the ping, still waiting to run
+		assertEquals(1, sends.size());
+		assertEquals(1, queued.subscriberCount(gameId));
+	}
+
+	@Test
+	void subscriberThatFallsTooFarBehindIsDropped() {
+		List<Runnable> sends = new ArrayList<>();
+		GameUpdateBroadcaster queued = new GameUpdateBroadcaster(60_000, 2, 10, 4, sends::add, gameDeltaService);
+		UUID gameId = UUID.randomUUID();
+		queued.subscribe(gameId, new GameResponse());
+
+		// The snapshot and three updates fill the queue; the next one overflows it
+		for (int i = 0; i < 4; i++) {
+			queued.publish(gameId, new GameActionResponse(new GameResponse(), List.of()));
+		}
+
+		assertEquals(0, queued.subscriberCount(gameId));
+	}
+
+	@Test
+	void updatesSinceReturnsRecentUpdatesAfterTheVersion() {
+		UUID gameId = UUID.randomUUID();
+		for (long version = 1; version <= 3; version++) {
+			GameResponse game = new GameResponse();
+			game.setStateVersion(version);
+			broadcaster.publish(gameId, new GameActionResponse(game, List.of()));
+		}
+
+		// Only the last two are kept
+		assertEquals(List.of(2L, 3L), versions(broadcaster.updatesSince(gameId, 0)));
+		assertEquals(List.of(3L), versions(broadcaster.updatesSince(gameId, 2)));
+		assertEquals(List.of(), broadcaster.updatesSince(gameId, 3));
+		assertEquals(List.of(), broadcaster.updatesSince(UUID.randomUUID(), 0));
+	}
+
+	@Test
+	void publishedStateBecomesABaseForDeltas() {
+		UUID gameId = UUID.randomUUID();
+		// e.g. the AI's turn, which reaches the client only through the broadcaster
+		broadcaster.publish(gameId, new GameActionResponse(game(gameId, 5), List.of()));
+
+		GameActionResponse response = gameDeltaService.encode(new GameActionResponse(game(gameId, 6), List.of()), 5L);
+
+		assertNull(response.getGame());
+		assertEquals(5, response.getDelta().getBaseVersion());
+	}
+
+	private static GameResponse game(UUID gameId, long stateVersion) {
+		GameResponse game = new GameResponse();
+		game.setId(gameId.toString());
+		game.setStateVersion(stateVersion);
+		game.setPlayer1State(player());
+		game.setPlayer2State(player());
+		return game;
+	}
+
+	private static GamePlayerStateResponse player() {
+		GamePlayerStateResponse player = new GamePlayerStateResponse();
+		player.setDeck(List.of());
+		player.setHand(List.of());
+		player.setDiscardPile(List.of());
+		player.setBattlefield(List.of());
+		return player;
+	}
+
+	private static List<Long> versions(List<GameActionResponse> updates) {
+		return updates.stream().map(update -> update.getGame().getStateVersion()).toList();
+	}
+}
@@ -1,15 +1,16 @@
 package com.spellfaire.spellfairebackend.game.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,20 +23,26 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spellfaire.spellfairebackend.auth.repo.UserRepository;
 import com.spellfaire.spellfairebackend.auth.model.User;
 import com.spellfaire.spellfairebackend.game.dto.AttackRequest;
 import com.spellfaire.spellfairebackend.game.dto.CreateAiGameRequest;
 import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
 import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.dto.GameResponse;
 import com.spellfaire.spellfairebackend.game.dto.PlayCardRequest;
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
 import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
@@ -50,8 +57,15 @@ import com.spellfaire.spellfairebackend.game.model.GameStatus;
 import com.spellfaire.spellfairebackend.game.model.Keyword;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
 import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
-import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.repo.GameLogRepository;
 import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.GameStateMapper;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+import com.spellfaire.spellfairebackend.game.state.ZoneCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class GameplayServiceTest {
@@ -68,168 +82,53 @@ class GameplayServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
-	@Mock
+	private final CardCatalog cardCatalog = CardCatalog.of(List.of());
+
 	private SpellEffectResolver spellResolver;
 
-	@Mock
 	private CreatureEffectResolver creatureResolver;
 
 	@Mock
-	private AiService aiService;
+	private MctsAiService aiPlayer;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private GameUpdateBroadcaster gameUpdateBroadcaster;
+
+	@Mock
+	private GameLogRepository gameLogRepository;
+
+	@Mock
+	private ReplayService replayService;
+
+	private final List<Runnable> scheduledAiTurns = new ArrayList<>();
+
+	private GameEngine gameEngine;
 
 	private GameplayService gameplayService;
 
 	@BeforeEach
 	void setUp() {
+		CardEffectTable effects = new CardEffectTable(cardCatalog);
+		spellResolver = spy(new SpellEffectResolver(cardCatalog, effects));
+		creatureResolver = spy(new CreatureEffectResolver(spellResolver, effects));
+		gameEngine = new GameEngine(spellResolver, creatureResolver, effects);
+		GameEventLog gameEventLog = new GameEventLog(gameLogRepository, gameEngine, new ObjectMapper(),
+				new SimpleMeterRegistry(), true);
 		gameplayService = new GameplayService(
-				gameRepository,
 				gameService,
 				deckService,
 				userRepository,
-				spellResolver,
-				creatureResolver,
-				aiService);
-	}
-
-	@Test
-	void attackInternalBlocksHeroAttackWhenGuardExists() {
-		Game game = baseGame();
-		GamePlayerState attackerState = game.getPlayer1State();
-		GamePlayerState defenderState = game.getPlayer2State();
-
-		BoardCreature attacker = creature(attackerState, "Attacker", 4, 3, Set.of());
-		attacker.setCanAttack(true);
-		attackerState.getBattlefield().add(attacker);
-
-		BoardCreature guard = creature(defenderState, "Guard", 1, 5, Set.of(Keyword.GUARD));
-		defenderState.getBattlefield().add(guard);
-
-		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
-		request.setTargetId("ENEMY_HERO");
-
-		GameActionResponse response = gameplayService.attackInternal(game, game.getPlayer1Id(), request);
-
-		assertNull(response);
-		assertEquals(25, defenderState.getHeroHealth());
-		assertFalse(attacker.isHasAttackedThisTurn());
-	}
-
-	@Test
-	void processStartOfTurnConsumesFrozenForOneTurnAndRefillsMana() {
-		Game game = baseGame();
-		game.setTurnNumber(5);
-
-		GamePlayerState playerState = game.getPlayer1State();
-		playerState.setMaxMana(9);
-		playerState.setCurrentMana(0);
-
-		BoardCreature frozenCreature = creature(playerState, "Frozen Unit", 2, 2, Set.of());
-		frozenCreature.setStatuses(new HashSet<>(Set.of(Status.FROZEN)));
-		frozenCreature.setFrozenForNextTurn(true);
-		frozenCreature.setCanAttack(true);
-		frozenCreature.setHasAttackedThisTurn(true);
-
-		BoardCreature normalCreature = creature(playerState, "Normal Unit", 3, 3, Set.of());
-		normalCreature.setStatuses(new HashSet<>());
-		normalCreature.setCanAttack(false);
-		normalCreature.setHasAttackedThisTurn(true);
-
-		playerState.getBattlefield().add(frozenCreature);
-		playerState.getBattlefield().add(normalCreature);
-
-		when(creatureResolver.resolveStartOfTurn(playerState, game.getPlayer2State()))
-				.thenReturn(Collections.emptyList());
-
-		var events = gameplayService.processStartOfTurn(game, playerState);
-
-		assertEquals(10, playerState.getMaxMana());
-		assertEquals(10, playerState.getCurrentMana());
-		assertFalse(frozenCreature.isFrozenForNextTurn());
-		assertTrue(frozenCreature.isFrozenBlocksAttacksThisTurn());
-		assertFalse(frozenCreature.getStatuses().contains(Status.FROZEN));
-		assertFalse(frozenCreature.isCanAttack());
-		assertFalse(frozenCreature.isHasAttackedThisTurn());
-
-		game.setTurnNumber(6);
-		var secondTurnEvents = gameplayService.processStartOfTurn(game, playerState);
-		assertFalse(frozenCreature.isFrozenBlocksAttacksThisTurn());
-		assertTrue(frozenCreature.isCanAttack());
-		assertNotNull(secondTurnEvents);
-
-		assertTrue(normalCreature.isCanAttack());
-		assertFalse(normalCreature.isHasAttackedThisTurn());
-		assertNotNull(events);
-		assertTrue(events.size() >= 2);
-
-		verify(spellResolver, times(2)).drawCard(eq(playerState), anyList());
-	}
-
-	@Test
-	void attackInternalAllowsSameTurnAttackWhenFrozenIsQueuedForNextTurn() {
-		Game game = baseGame();
-		GamePlayerState attackerState = game.getPlayer1State();
-		GamePlayerState defenderState = game.getPlayer2State();
-
-		BoardCreature attacker = creature(attackerState, "Queued Frozen Attacker", 4, 3, Set.of());
-		attacker.setCanAttack(true);
-		attacker.setHasAttackedThisTurn(false);
-		attacker.setStatuses(new HashSet<>(Set.of(Status.FROZEN)));
-		attacker.setFrozenForNextTurn(true);
-		attacker.setFrozenBlocksAttacksThisTurn(false);
-		attackerState.getBattlefield().add(attacker);
-
-		BoardCreature defender = creature(defenderState, "Training Dummy", 1, 5, Set.of());
-		defenderState.getBattlefield().add(defender);
-
-		AttackRequest attackNow = new AttackRequest();
-		attackNow.setAttackerInstanceId(attacker.getId().toString());
-		attackNow.setTargetId(defender.getId().toString());
-
-		GameActionResponse sameTurnAttack = gameplayService.attackInternal(game, game.getPlayer1Id(), attackNow);
-
-		assertNotNull(sameTurnAttack);
-		assertTrue(attacker.isHasAttackedThisTurn());
-
-		attacker.setHasAttackedThisTurn(false);
-		game.setTurnNumber(2);
-		when(creatureResolver.resolveStartOfTurn(attackerState, defenderState)).thenReturn(Collections.emptyList());
-		gameplayService.processStartOfTurn(game, attackerState);
-
-		assertTrue(attacker.isFrozenBlocksAttacksThisTurn());
-		assertFalse(attacker.isFrozenForNextTurn());
-		assertFalse(attacker.isCanAttack());
-		assertFalse(attacker.getStatuses().contains(Status.FROZEN));
-
-		attacker.setCanAttack(true);
-		AttackRequest blockedAttack = new AttackRequest();
-		blockedAttack.setAttackerInstanceId(attacker.getId().toString());
-		blockedAttack.setTargetId("ENEMY_HERO");
-
-		GameActionResponse blockedTurnAttack = gameplayService.attackInternal(game, game.getPlayer1Id(), blockedAttack);
-		assertNull(blockedTurnAttack);
-	}
-
-	@Test
-	void pickAiSpellTargetPrefersFrozenCreatureForShatter() {
-		GamePlayerState aiState = new GamePlayerState();
-		aiState.setUserId("AI");
-
-		GamePlayerState humanState = new GamePlayerState();
-		humanState.setUserId(UUID.randomUUID().toString());
-
-		BoardCreature frozenTarget = creature(humanState, "Frozen Target", 2, 4, Set.of());
-		frozenTarget.setStatuses(new HashSet<>(Set.of(Status.FROZEN)));
-		humanState.getBattlefield().add(frozenTarget);
-
-		Card shatter = new Card();
-		shatter.setId(UUID.randomUUID());
-		shatter.setName("Shatter");
-		shatter.setCardType(CardType.SPELL);
-
-		String selectedTarget = gameplayService.pickAiSpellTarget(shatter, aiState, humanState);
-
-		assertEquals(frozenTarget.getId().toString(), selectedTarget);
+				gameEngine,
+				new GameStateStore(gameRepository, new GameStateMapper(new ZoneCodec(), cardCatalog, false), new GameMailbox(), gameEventLog, transactionManager, new SimpleMeterRegistry(), false, 1000, 3),
+				aiPlayer,
+				new AiTurnScheduler(scheduledAiTurns::add),
+				gameUpdateBroadcaster,
+				new GameMetrics(new SimpleMeterRegistry()),
+				gameEventLog,
+				replayService);
 	}
 
 	@Test
@@ -251,15 +150,15 @@ class GameplayServiceTest {
 		PlayerZoneCard handSpell = new PlayerZoneCard(casterState, voidSnare, CardZone.HAND, 0);
 		casterState.getZoneCards().add(handSpell);
 
-		BoardCreature expensiveEnemy = creature(opponentState, "Titan Forgeguard", 7, 9, Set.of(Keyword.GUARD));
+		BoardCreature expensiveEnemy = creature(game, opponentState, "Titan Forgeguard", 7, 9, Set.of(Keyword.GUARD));
 		expensiveEnemy.getCard().setCost(8);
 		opponentState.getBattlefield().add(expensiveEnemy);
 
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(voidSnare.getId().toString());
-		request.setTargetId(expensiveEnemy.getId().toString());
+		request.setTargetId(instanceId(game, expensiveEnemy));
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -286,50 +185,26 @@ class GameplayServiceTest {
 		PlayerZoneCard handSpell = new PlayerZoneCard(casterState, darkTouch, CardZone.HAND, 0);
 		casterState.getZoneCards().add(handSpell);
 
-		BoardCreature graveRat = creature(opponentState, "Grave Rat", 1, 1, Set.of());
+		BoardCreature graveRat = creature(game, opponentState, "Grave Rat", 1, 1, Set.of());
 		opponentState.getBattlefield().add(graveRat);
 
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(darkTouch.getId().toString());
-		request.setTargetId(graveRat.getId().toString());
+		request.setTargetId(instanceId(game, graveRat));
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(spellResolver.resolveSpell(eq(darkTouch), eq(casterState), eq(opponentState), eq(graveRat.getId().toString())))
-				.thenAnswer(invocation -> {
-					opponentState.getBattlefield().remove(graveRat);
-					return new ArrayList<GameEvent>();
-				});
-		when(creatureResolver.resolveWhenDies(eq(graveRat), eq(opponentState), eq(casterState)))
-				.thenReturn(List.of(GameEvent.cardDrawn(opponentState.getUserId(), "Grave Rat trigger")));
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.playCard(game.getId(), game.getPlayer1Id(), request);
 
 		assertNotNull(response);
 		assertTrue(opponentState.getZoneCards().stream()
 				.anyMatch(card -> card.getZone() == CardZone.DISCARD && card.getCard().getId().equals(graveRat.getCard().getId())));
-		verify(creatureResolver).resolveWhenDies(eq(graveRat), eq(opponentState), eq(casterState));
-	}
-
-	@Test
-	void processStartOfTurnClearsTemporaryAttackDebuff() {
-		Game game = baseGame();
-		game.setTurnNumber(2);
-
-		GamePlayerState playerState = game.getPlayer1State();
-		BoardCreature witheredCreature = creature(playerState, "Withered Unit", 1, 3, Set.of());
-		witheredCreature.setTemporaryAttackDebuff(2);
-		witheredCreature.setCanAttack(false);
-		playerState.getBattlefield().add(witheredCreature);
-
-		when(creatureResolver.resolveStartOfTurn(playerState, game.getPlayer2State()))
-				.thenReturn(Collections.emptyList());
-
-		gameplayService.processStartOfTurn(game, playerState);
-
-		assertEquals(3, witheredCreature.getAttack());
-		assertEquals(0, witheredCreature.getTemporaryAttackDebuff());
+		assertTrue(opponentState.getBattlefield().isEmpty());
+		assertTrue(response.getEvents().stream()
+				.anyMatch(event -> event.getMessage().equals("Grave Rat: drew a card on death")));
+		verify(creatureResolver).resolveWhenDies(creatureOf(graveRat), sideOf(opponentState), sideOf(casterState));
 	}
 
 	@Test
@@ -355,11 +230,9 @@ class GameplayServiceTest {
 		request.setCardId(darkTouch.getId().toString());
 		request.setTargetId("FRIENDLY_HERO");
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(spellResolver.resolveSpell(eq(darkTouch), eq(playerState), eq(opponentState), eq("FRIENDLY_HERO")))
-			.thenReturn(new ArrayList<>());
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.playCard(game.getId(), game.getPlayer1Id(), request);
 
@@ -386,14 +259,14 @@ class GameplayServiceTest {
 		PlayerZoneCard handSpell = new PlayerZoneCard(playerState, wither, CardZone.HAND, 0);
 		playerState.getZoneCards().add(handSpell);
 
-		BoardCreature friendlyTarget = creature(playerState, "Friendly Target", 2, 2, Set.of());
+		BoardCreature friendlyTarget = creature(game, playerState, "Friendly Target", 2, 2, Set.of());
 		playerState.getBattlefield().add(friendlyTarget);
 
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(wither.getId().toString());
-		request.setTargetId(friendlyTarget.getId().toString());
+		request.setTargetId(instanceId(game, friendlyTarget));
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -401,70 +274,6 @@ class GameplayServiceTest {
 		assertEquals(CardZone.HAND, handSpell.getZone());
 	}
 
-	@Test
-	void pickAiSpellTargetSelectsFrozenTargetForShatter() {
-		GamePlayerState aiState = new GamePlayerState();
-		GamePlayerState humanState = new GamePlayerState();
-
-		BoardCreature frozen = creature(humanState, "Frozen Target", 2, 4, Set.of());
-		frozen.setStatuses(new HashSet<>(Set.of(Status.FROZEN)));
-		humanState.getBattlefield().add(frozen);
-
-		Card shatter = new Card();
-		shatter.setId(UUID.randomUUID());
-		shatter.setName("Shatter");
-		shatter.setCardType(CardType.SPELL);
-
-		String targetId = gameplayService.pickAiSpellTarget(shatter, aiState, humanState);
-
-		assertEquals(frozen.getId().toString(), targetId);
-	}
-
-	@Test
-	void pickAiSpellTargetSelectsHighestEligibleTargetForVoidSnare() {
-		GamePlayerState aiState = new GamePlayerState();
-		GamePlayerState humanState = new GamePlayerState();
-
-		BoardCreature lowCost = creature(humanState, "Low", 2, 2, Set.of());
-		lowCost.getCard().setCost(3);
-		BoardCreature highestAllowed = creature(humanState, "Highest Allowed", 3, 3, Set.of());
-		highestAllowed.getCard().setCost(5);
-		BoardCreature tooExpensive = creature(humanState, "Too Expensive", 7, 7, Set.of());
-		tooExpensive.getCard().setCost(8);
-		humanState.getBattlefield().add(lowCost);
-		humanState.getBattlefield().add(highestAllowed);
-		humanState.getBattlefield().add(tooExpensive);
-
-		Card voidSnare = new Card();
-		voidSnare.setId(UUID.randomUUID());
-		voidSnare.setName("Void Snare");
-		voidSnare.setCardType(CardType.SPELL);
-
-		String targetId = gameplayService.pickAiSpellTarget(voidSnare, aiState, humanState);
-
-		assertEquals(highestAllowed.getId().toString(), targetId);
-	}
-
-	@Test
-	void pickAiSpellTargetForEmberBoltChoosesWeakestKillableCreature() {
-		GamePlayerState aiState = new GamePlayerState();
-		GamePlayerState humanState = new GamePlayerState();
-
-		BoardCreature sturdy = creature(humanState, "Sturdy", 4, 4, Set.of());
-		BoardCreature weak = creature(humanState, "Weak", 1, 2, Set.of());
-		humanState.getBattlefield().add(sturdy);
-		humanState.getBattlefield().add(weak);
-
-		Card emberBolt = new Card();
-		emberBolt.setId(UUID.randomUUID());
-		emberBolt.setName("Ember Bolt");
-		emberBolt.setCardType(CardType.SPELL);
-
-		String targetId = gameplayService.pickAiSpellTarget(emberBolt, aiState, humanState);
-
-		assertEquals(weak.getId().toString(), targetId);
-	}
-
 	@Test
 	void createAiGameThrowsWhenUserMissing() {
 		String playerId = UUID.randomUUID().toString();
@@ -486,6 +295,7 @@ class GameplayServiceTest {
 		CreateAiGameRequest request = new CreateAiGameRequest();
 		request.setFaction(Faction.KINGDOM);
 		request.setMagicSchool(MagicSchool.FIRE);
+		request.setDifficulty(AiDifficulty.HARD);
 
 		Deck playerDeck = deck("Player Deck", user, Faction.KINGDOM, MagicSchool.FIRE);
 		Deck aiDeck = deck("AI Deck", user, Faction.WILDCLAN, MagicSchool.FROST);
@@ -500,15 +310,15 @@ class GameplayServiceTest {
 			}
 			return g;
 		});
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(creatureResolver.resolveStartOfTurn(any(GamePlayerState.class), any(GamePlayerState.class)))
-			.thenReturn(Collections.emptyList());
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.createAiGame(playerId, request);
 
 		assertNotNull(response);
 		assertNotNull(response.getEvents());
 		verify(deckService, times(2)).buildAutoDeck(any(User.class), any(Faction.class), any(MagicSchool.class));
+		verify(gameRepository).save(argThat(game -> game.getAiDifficulty() == AiDifficulty.HARD));
+		verify(replayService).recordOpening(argThat(state -> state.getTurnNumber() == 1 && state.getStateVersion() == 0));
 	}
 
 	@Test
@@ -520,7 +330,7 @@ class GameplayServiceTest {
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(UUID.randomUUID().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -536,7 +346,7 @@ class GameplayServiceTest {
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(UUID.randomUUID().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -552,14 +362,14 @@ class GameplayServiceTest {
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(UUID.randomUUID().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
 	}
 
 	@Test
-	void endTurnRunsAiThenReturnsTurnToPlayerOne() {
+	void endTurnSchedulesAiTurnWhichReturnsTurnToPlayerOne() {
 		Game game = baseGame();
 		game.setId(UUID.randomUUID());
 		game.setGameStatus(GameStatus.IN_PROGRESS);
@@ -568,18 +378,125 @@ class GameplayServiceTest {
 		game.setPlayer2Id("AI");
 		game.getPlayer2State().setUserId("AI");
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(creatureResolver.resolveStartOfTurn(any(GamePlayerState.class), any(GamePlayerState.class)))
-			.thenReturn(Collections.emptyList());
-		when(aiService.executeTurn(any(Game.class))).thenReturn(Collections.emptyList());
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
+		when(aiPlayer.executeTurn(any(GameState.class))).thenReturn(Collections.emptyList());
 
 		GameActionResponse response = gameplayService.endTurn(game.getId(), game.getPlayer1Id());
 
 		assertNotNull(response);
+		assertEquals("AI", game.getCurrentPlayerId());
+		assertEquals(2, game.getTurnNumber());
+		verify(aiPlayer, never()).executeTurn(any(GameState.class));
+		assertEquals(1, scheduledAiTurns.size());
+
+		scheduledAiTurns.getFirst().run();
+
 		assertEquals(game.getPlayer1Id(), game.getCurrentPlayerId());
 		assertEquals(3, game.getTurnNumber());
+		verify(gameUpdateBroadcaster, times(2)).publish(eq(game.getId()), any(GameActionResponse.class));
+	}
+
+	@Test
+	void staleAiPlanIsDiscardedWithoutBumpingOrLoggingThenPlannedAgain() {
+		Game game = baseGame();
+		game.setId(UUID.randomUUID());
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.setPlayer2Id("AI");
+		game.getPlayer2State().setUserId("AI");
+		game.setCurrentPlayerId("AI");
+		game.setTurnNumber(2);
+
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		AtomicInteger plans = new AtomicInteger();
+		when(aiPlayer.executeTurn(any(GameState.class))).thenAnswer(invocation -> {
+			if (plans.incrementAndGet() == 1) {
+				// Another writer moves the game on while the first plan is searched
+				game.setStateVersion(game.getStateVersion() + 1);
+			}
+			return List.of();
+		});
+
+		gameplayService.playAiTurn(game.getId());
+
+		assertEquals(2, plans.get());
+		assertEquals(2, game.getStateVersion());
+		assertEquals(game.getPlayer1Id(), game.getCurrentPlayerId());
+		verify(gameRepository, times(1)).save(game);
+		verify(gameLogRepository, times(1)).save(any());
+	}
+
+	@Test
+	void resumeAiTurnSchedulesAStalledTurnOnlyOnce() {
+		GameResponse response = new GameResponse();
+		response.setId(UUID.randomUUID().toString());
+		response.setGameStatus(GameStatus.IN_PROGRESS);
+		response.setCurrentPlayerId("AI");
+
+		gameplayService.resumeAiTurn(response);
+		gameplayService.resumeAiTurn(response);
+
+		assertEquals(1, scheduledAiTurns.size());
+	}
+
+	@Test
+	void resumeAiTurnLeavesThePlayersTurnAlone() {
+		GameResponse response = new GameResponse();
+		response.setId(UUID.randomUUID().toString());
+		response.setGameStatus(GameStatus.IN_PROGRESS);
+		response.setCurrentPlayerId("player-1");
+
+		gameplayService.resumeAiTurn(response);
+
+		assertTrue(scheduledAiTurns.isEmpty());
+	}
+
+	@Test
+	void scheduledAiTurnDoesNothingOnceTheTurnHasPassed() {
+		Game game = baseGame();
+		game.setId(UUID.randomUUID());
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.setCurrentPlayerId(game.getPlayer1Id());
+		game.setPlayer2Id("AI");
+		game.getPlayer2State().setUserId("AI");
+
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+
+		gameplayService.playAiTurn(game.getId());
+
+		verify(aiPlayer, never()).executeTurn(any(GameState.class));
+		verify(gameRepository, never()).save(any(Game.class));
+		verify(gameUpdateBroadcaster, never()).publish(any(UUID.class), any(GameActionResponse.class));
+	}
+
+	@Test
+	void aiTurnIsSearchedOutsideAnyTransactionThenAppliedToTheSavedGame() {
+		Game game = baseGame();
+		game.setId(UUID.randomUUID());
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.setPlayer2Id("AI");
+		game.getPlayer2State().setUserId("AI");
+		game.setCurrentPlayerId("AI");
+
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(aiPlayer.executeTurn(any(GameState.class))).thenAnswer(invocation -> {
+			gameEngine.surrender(invocation.getArgument(0), "AI");
+			return List.of();
+		});
+
+		gameplayService.playAiTurn(game.getId());
+
+		InOrder order = inOrder(transactionManager, aiPlayer, gameRepository);
+		order.verify(transactionManager).commit(any());
+		order.verify(aiPlayer).executeTurn(any(GameState.class));
+		order.verify(transactionManager).getTransaction(any());
+		order.verify(gameRepository).save(game);
+		order.verify(transactionManager).commit(any());
+		assertEquals(GameStatus.FINISHED, game.getGameStatus());
+		assertEquals(game.getPlayer1Id(), game.getWinnerId());
 	}
 
 	@Test
@@ -588,9 +505,9 @@ class GameplayServiceTest {
 		game.setId(UUID.randomUUID());
 		game.setGameStatus(GameStatus.IN_PROGRESS);
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.surrender(game.getId(), game.getPlayer1Id());
 
@@ -598,6 +515,10 @@ class GameplayServiceTest {
 		assertEquals(GameStatus.FINISHED, game.getGameStatus());
 		assertEquals(game.getPlayer2Id(), game.getWinnerId());
 		assertEquals(GameEvent.EventType.GAME_OVER, response.getEvents().getFirst().getType());
+		verify(gameUpdateBroadcaster).publish(game.getId(), response);
+		verify(gameLogRepository).save(argThat(entry -> entry.getGameId().equals(game.getId())
+				&& entry.getStateVersion() == 1 && entry.getActions().contains("SURRENDER")
+				&& entry.getEvents().contains("GAME_OVER")));
 	}
 
 	@Test
@@ -606,7 +527,7 @@ class GameplayServiceTest {
 		game.setId(UUID.randomUUID());
 		game.setGameStatus(GameStatus.FINISHED);
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.surrender(game.getId(), game.getPlayer1Id()));
@@ -620,15 +541,15 @@ class GameplayServiceTest {
 		game.setCurrentPhase(GamePhase.MAIN);
 
 		GamePlayerState attackerState = game.getPlayer1State();
-		BoardCreature attacker = creature(attackerState, "Sleepy", 2, 2, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Sleepy", 2, 2, Set.of());
 		attacker.setCanAttack(false);
 		attackerState.getBattlefield().add(attacker);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
 		request.setTargetId("ENEMY_HERO");
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.attack(game.getId(), game.getPlayer1Id(), request));
@@ -642,16 +563,16 @@ class GameplayServiceTest {
 		game.setCurrentPhase(GamePhase.MAIN);
 
 		GamePlayerState attackerState = game.getPlayer1State();
-		BoardCreature attacker = creature(attackerState, "Frozen", 2, 2, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Frozen", 2, 2, Set.of());
 		attacker.setCanAttack(true);
 		attacker.setFrozenBlocksAttacksThisTurn(true);
 		attackerState.getBattlefield().add(attacker);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
 		request.setTargetId("ENEMY_HERO");
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.attack(game.getId(), game.getPlayer1Id(), request));
@@ -668,23 +589,24 @@ class GameplayServiceTest {
 		GamePlayerState defenderState = game.getPlayer2State();
 		attackerState.setHeroHealth(10);
 
-		BoardCreature attacker = creature(attackerState, "Vampire", 3, 3, Set.of(Keyword.LIFESTEAL));
+		BoardCreature attacker = creature(game, attackerState, "Vampire", 3, 3, Set.of(Keyword.LIFESTEAL));
 		attacker.setCanAttack(true);
 		attackerState.getBattlefield().add(attacker);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
 		request.setTargetId("ENEMY_HERO");
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.attack(game.getId(), game.getPlayer1Id(), request);
 
 		assertNotNull(response);
 		assertEquals(22, defenderState.getHeroHealth());
-		verify(spellResolver).healHero(eq(attackerState), eq(3), anyList(), eq("Vampire (Lifesteal)"));
+		assertEquals(13, attackerState.getHeroHealth());
+		verify(spellResolver).healHero(sideOf(attackerState), eq(3), anyList(), eq("Vampire (Lifesteal)"));
 	}
 
 	@Test
@@ -697,20 +619,20 @@ class GameplayServiceTest {
 		GamePlayerState attackerState = game.getPlayer1State();
 		GamePlayerState defenderState = game.getPlayer2State();
 
-		BoardCreature attacker = creature(attackerState, "Raider", 3, 3, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Raider", 3, 3, Set.of());
 		attacker.setCanAttack(true);
 		attackerState.getBattlefield().add(attacker);
 
-		BoardCreature guard = creature(defenderState, "Defender", 1, 5, Set.of(Keyword.GUARD));
-		BoardCreature nonGuard = creature(defenderState, "Archer", 2, 2, Set.of());
+		BoardCreature guard = creature(game, defenderState, "Defender", 1, 5, Set.of(Keyword.GUARD));
+		BoardCreature nonGuard = creature(game, defenderState, "Archer", 2, 2, Set.of());
 		defenderState.getBattlefield().add(guard);
 		defenderState.getBattlefield().add(nonGuard);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
-		request.setTargetId(nonGuard.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
+		request.setTargetId(instanceId(game, nonGuard));
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.attack(game.getId(), game.getPlayer1Id(), request));
@@ -726,32 +648,20 @@ class GameplayServiceTest {
 		GamePlayerState attackerState = game.getPlayer1State();
 		GamePlayerState defenderState = game.getPlayer2State();
 
-		BoardCreature attacker = creature(attackerState, "Brute", 4, 4, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Brute", 4, 4, Set.of());
 		attacker.setCanAttack(true);
 		attackerState.getBattlefield().add(attacker);
 
-		BoardCreature defender = creature(defenderState, "Wall", 4, 4, Set.of());
+		BoardCreature defender = creature(game, defenderState, "Wall", 4, 4, Set.of());
 		defenderState.getBattlefield().add(defender);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
-		request.setTargetId(defender.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
+		request.setTargetId(instanceId(game, defender));
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(spellResolver.applyDamageToCreature(eq(defender), eq(4), anyList(), eq("Brute"))).thenAnswer(invocation -> {
-			defender.setHealth(0);
-			return 4;
-		});
-		when(spellResolver.applyDamageToCreature(eq(attacker), eq(4), anyList(), eq("Wall"))).thenAnswer(invocation -> {
-			attacker.setHealth(0);
-			return 4;
-		});
-		when(creatureResolver.resolveWhenDies(eq(defender), eq(defenderState), eq(attackerState)))
-				.thenReturn(Collections.emptyList());
-		when(creatureResolver.resolveWhenDies(eq(attacker), eq(attackerState), eq(defenderState)))
-				.thenReturn(Collections.emptyList());
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.attack(game.getId(), game.getPlayer1Id(), request);
 
@@ -760,9 +670,11 @@ class GameplayServiceTest {
 				.anyMatch(c -> c.getZone() == CardZone.DISCARD && c.getCard().getId().equals(attacker.getCard().getId())));
 		assertTrue(defenderState.getZoneCards().stream()
 				.anyMatch(c -> c.getZone() == CardZone.DISCARD && c.getCard().getId().equals(defender.getCard().getId())));
-		verify(creatureResolver).resolveWhenDies(eq(attacker), eq(attackerState), eq(defenderState));
-		verify(creatureResolver).resolveWhenDies(eq(defender), eq(defenderState), eq(attackerState));
-		verify(spellResolver, never()).healHero(eq(attackerState), eq(4), anyList(), any());
+		assertTrue(attackerState.getBattlefield().isEmpty());
+		assertTrue(defenderState.getBattlefield().isEmpty());
+		verify(creatureResolver).resolveWhenDies(creatureOf(attacker), sideOf(attackerState), sideOf(defenderState));
+		verify(creatureResolver).resolveWhenDies(creatureOf(defender), sideOf(defenderState), sideOf(attackerState));
+		verify(spellResolver, never()).healHero(sideOf(attackerState), eq(4), anyList(), any());
 	}
 
 	@Test
@@ -775,7 +687,7 @@ class GameplayServiceTest {
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(UUID.randomUUID().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -802,13 +714,13 @@ class GameplayServiceTest {
 		playerState.getZoneCards().add(handCreature);
 
 		for (int i = 0; i < 6; i++) {
-			playerState.getBattlefield().add(creature(playerState, "Existing " + i, 1, 1, Set.of()));
+			playerState.getBattlefield().add(creature(game, playerState, "Existing " + i, 1, 1, Set.of()));
 		}
 
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(creatureCard.getId().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -822,16 +734,16 @@ class GameplayServiceTest {
 		game.setCurrentPhase(GamePhase.MAIN);
 
 		GamePlayerState attackerState = game.getPlayer1State();
-		BoardCreature attacker = creature(attackerState, "Spent", 3, 2, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Spent", 3, 2, Set.of());
 		attacker.setCanAttack(true);
 		attacker.setHasAttackedThisTurn(true);
 		attackerState.getBattlefield().add(attacker);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
 		request.setTargetId("ENEMY_HERO");
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.attack(game.getId(), game.getPlayer1Id(), request));
@@ -845,15 +757,15 @@ class GameplayServiceTest {
 		game.setCurrentPhase(GamePhase.MAIN);
 
 		GamePlayerState attackerState = game.getPlayer1State();
-		BoardCreature attacker = creature(attackerState, "Hunter", 3, 3, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Hunter", 3, 3, Set.of());
 		attacker.setCanAttack(true);
 		attackerState.getBattlefield().add(attacker);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
 		request.setTargetId(UUID.randomUUID().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.attack(game.getId(), game.getPlayer1Id(), request));
@@ -870,27 +782,26 @@ class GameplayServiceTest {
 		GamePlayerState defenderState = game.getPlayer2State();
 		defenderState.setHeroHealth(12);
 
-		BoardCreature attacker = creature(attackerState, "Knight", 3, 3, Set.of());
+		BoardCreature attacker = creature(game, attackerState, "Knight", 3, 3, Set.of());
 		attacker.setCanAttack(true);
 		attackerState.getBattlefield().add(attacker);
 
-		BoardCreature defender = creature(defenderState, "Leech", 2, 4, Set.of(Keyword.LIFESTEAL));
+		BoardCreature defender = creature(game, defenderState, "Leech", 2, 4, Set.of(Keyword.LIFESTEAL));
 		defenderState.getBattlefield().add(defender);
 
 		AttackRequest request = new AttackRequest();
-		request.setAttackerInstanceId(attacker.getId().toString());
-		request.setTargetId(defender.getId().toString());
+		request.setAttackerInstanceId(instanceId(game, attacker));
+		request.setTargetId(instanceId(game, defender));
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(spellResolver.applyDamageToCreature(eq(defender), eq(3), anyList(), eq("Knight"))).thenReturn(3);
-		when(spellResolver.applyDamageToCreature(eq(attacker), eq(2), anyList(), eq("Leech"))).thenReturn(2);
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.attack(game.getId(), game.getPlayer1Id(), request);
 
 		assertNotNull(response);
-		verify(spellResolver).healHero(eq(defenderState), eq(2), anyList(), eq("Leech (Lifesteal)"));
+		assertEquals(14, defenderState.getHeroHealth());
+		verify(spellResolver).healHero(sideOf(defenderState), eq(2), anyList(), eq("Leech (Lifesteal)"));
 	}
 
 	@Test
@@ -916,7 +827,7 @@ class GameplayServiceTest {
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(expensiveCreature.getId().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 
 		assertThrows(IllegalArgumentException.class,
 				() -> gameplayService.playCard(game.getId(), game.getPlayer1Id(), request));
@@ -948,18 +859,24 @@ class GameplayServiceTest {
 		PlayCardRequest request = new PlayCardRequest();
 		request.setCardId(charger.getId().toString());
 
-		when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+		when(gameRepository.findGraphById(game.getId())).thenReturn(Optional.of(game));
 		when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> invocation.getArgument(0));
-		when(gameService.toGameResponse(any(Game.class))).thenReturn(null);
-		when(creatureResolver.resolveWhenPlayed(any(BoardCreature.class), eq(playerState), eq(opponentState), any()))
-				.thenReturn(Collections.emptyList());
+		when(gameService.toGameResponse(any(GameState.class))).thenReturn(null);
 
 		GameActionResponse response = gameplayService.playCard(game.getId(), game.getPlayer1Id(), request);
 
 		assertNotNull(response);
 		assertEquals(1, playerState.getBattlefield().size());
 		assertTrue(playerState.getBattlefield().getFirst().isCanAttack());
-		verify(creatureResolver).resolveWhenPlayed(any(BoardCreature.class), eq(playerState), eq(opponentState), any());
+		verify(creatureResolver).resolveWhenPlayed(any(CreatureState.class), sideOf(playerState), sideOf(opponentState), any());
+	}
+
+	private static CreatureState creatureOf(BoardCreature creature) {
+		return argThat(state -> state != null && state.getCard() == creature.getCard());
+	}
+
+	private static PlayerState sideOf(GamePlayerState side) {
+		return argThat(state -> state != null && state.getUserId().equals(side.getUserId()));
 	}
 
 	private static Game baseGame() {
@@ -975,7 +892,7 @@ class GameplayServiceTest {
 		return game;
 	}
 
-	private static BoardCreature creature(GamePlayerState owner, String name, int attack, int health,
+	private static BoardCreature creature(Game game, GamePlayerState owner, String name, int attack, int health,
 			Set<Keyword> keywords) {
 		Card card = new Card();
 		card.setId(UUID.randomUUID());
@@ -988,10 +905,16 @@ class GameplayServiceTest {
 
 		BoardCreature creature = new BoardCreature(owner, card, attack, health, new HashSet<>(keywords),
 				owner.getBattlefield().size());
-		creature.setId(UUID.randomUUID());
+		int instanceId = Math.max(1, game.getNextInstanceId());
+		game.setNextInstanceId(instanceId + 1);
+		creature.setId(GameStateMapper.rowId(game.getId(), instanceId));
 		return creature;
 	}
 
+	private static String instanceId(Game game, BoardCreature creature) {
+		return Long.toString(creature.getId().getLeastSignificantBits() ^ game.getId().getLeastSignificantBits());
+	}
+
 	private static Deck deck(String name, User owner, Faction faction, MagicSchool school) {
 		Deck deck = new Deck();
 		deck.setId(UUID.randomUUID());
@@ -0,0 +1,176 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.service.MctsAiService.Move;
+import com.spellfaire.spellfairebackend.game.service.MctsAiService.MoveKind;
+import com.spellfaire.spellfairebackend.game.service.MctsAiService.TargetKind;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+class MctsAiServiceTest {
+
+	// Above the IDs the engine numbers its own summons with
+	private static final AtomicInteger INSTANCE_IDS = new AtomicInteger(1000);
+
+	private GameEngine gameEngine;
+	private AiService heuristic;
+	private CardEffectTable effects;
+	private MctsAiService mcts;
+
+	@BeforeEach
+	void setUp() {
+		CardCatalog cardCatalog = CardCatalog.of(List.of());
+		effects = new CardEffectTable(cardCatalog);
+		SpellEffectResolver spellResolver = new SpellEffectResolver(cardCatalog, effects);
+		CreatureEffectResolver creatureResolver = new CreatureEffectResolver(spellResolver, effects);
+		gameEngine = new GameEngine(spellResolver, creatureResolver, effects);
+		heuristic = new AiService(gameEngine, effects);
+		mcts = new MctsAiService(gameEngine, heuristic, effects, 0, 50, 100, 2, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		mcts.shutdown();
+	}
+
+	@Test
+	void executeTurnTakesLethal() {
+		GameState game = game();
+		game.setAiDifficulty(AiDifficulty.NORMAL);
+		game.getPlayer1State().setHeroHealth(3);
+		game.getPlayer1State().getBattlefield().add(creature("Ogre", 5, 5, Set.of()));
+		game.getPlayer2State().getBattlefield().add(ready(creature("Raider", 3, 3, Set.of())));
+
+		mcts.executeTurn(game);
+
+		assertEquals(GameStatus.FINISHED, game.getGameStatus());
+		assertEquals("AI", game.getWinnerId());
+	}
+
+	@Test
+	void searchOnlyReadsTheGame() {
+		GameState game = game();
+		game.getPlayer1State().getBattlefield().add(creature("Ogre", 5, 5, Set.of()));
+		game.getPlayer2State().getBattlefield().add(ready(creature("Raider", 3, 3, Set.of())));
+		game.getPlayer2State().getHand().add(card("Squire", 1, 1, 2));
+		String before = describe(game);
+
+		mcts.search(game, "AI", System.nanoTime() + 20_000_000);
+
+		assertEquals(before, describe(game));
+	}
+
+	@Test
+	void determinizedCopyDoesNotShareTheGamesRandomStream() {
+		GameState game = game();
+		game.getRandom().reset(42, 7);
+
+		GameState copy = MctsAiService.determinize(game, "AI", new Random(1));
+
+		assertNotEquals(game.getRandom().copy().nextLong(), copy.getRandom().nextLong());
+		assertEquals(7, game.getRandom().getPosition());
+	}
+
+	@Test
+	void legalMovesAttackGuardsFirst() {
+		GameState game = game();
+		game.getPlayer1State().getBattlefield().add(creature("Imp", 1, 1, Set.of()));
+		game.getPlayer1State().getBattlefield().add(creature("Wall", 0, 4, Set.of(Keyword.GUARD)));
+		game.getPlayer2State().getBattlefield().add(ready(creature("Raider", 3, 3, Set.of())));
+
+		List<Move> moves = mcts.legalMoves(game, "AI");
+
+		assertEquals(List.of(new Move(MoveKind.ATTACK, null, 0, TargetKind.ENEMY_CREATURE, 1), Move.END_TURN), moves);
+	}
+
+	@Test
+	void easyDifficultyPlaysTheHeuristicWithoutSearching() {
+		AiService mockHeuristic = mock(AiService.class);
+		MctsAiService easy = new MctsAiService(gameEngine, mockHeuristic, effects, 0, 50, 100, 2, 1);
+		GameState game = game();
+		game.setAiDifficulty(AiDifficulty.EASY);
+
+		easy.executeTurn(game);
+
+		verify(mockHeuristic).executeTurn(game, "AI");
+		easy.shutdown();
+	}
+
+	// ==================================================================
+	// HELPERS
+	// ==================================================================
+
+	private GameState game() {
+		GameState game = new GameState();
+		game.setId(UUID.randomUUID());
+		game.setPlayer1Id("human");
+		game.setPlayer2Id("AI");
+		game.setCurrentPlayerId("AI");
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.setTurnNumber(4);
+		for (PlayerState state : List.of(game.getPlayer1State(), game.getPlayer2State())) {
+			state.setUserId(state == game.getPlayer1State() ? "human" : "AI");
+			state.setHeroHealth(20);
+			state.setMaxMana(2);
+			state.setCurrentMana(2);
+			for (int i = 0; i < 5; i++) {
+				state.getDeck().add(card("Recruit " + i, 1, 1, 1));
+			}
+		}
+		return game;
+	}
+
+	private static String describe(GameState game) {
+		StringBuilder out = new StringBuilder(game.getCurrentPlayerId()).append(game.getGameStatus());
+		for (PlayerState state : List.of(game.getPlayer1State(), game.getPlayer2State())) {
+			out.append(state.getHeroHealth()).append('/').append(state.getCurrentMana())
+				.append(state.getDeck().toList()).append(state.getHand().toList());
+			for (CreatureState creature : state.getBattlefield().snapshot()) {
+				out.append(creature.getInstanceId()).append(creature.getAttack()).append(creature.getHealth())
+					.append(creature.isHasAttackedThisTurn());
+			}
+		}
+		return out.toString();
+	}
+
+	private static CreatureState ready(CreatureState creature) {
+		creature.setCanAttack(true);
+		return creature;
+	}
+
+	private static CreatureState creature(String name, int attack, int health, Set<Keyword> keywords) {
+		return new CreatureState(INSTANCE_IDS.incrementAndGet(), card(name, 1, attack, health), attack, health, keywords);
+	}
+
+	private static Card card(String name, int cost, int attack, int health) {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName(name);
+		card.setCardType(CardType.CREATURE);
+		card.setCost(cost);
+		card.setAttack(attack);
+		card.setHealth(health);
+		return card;
+	}
+}
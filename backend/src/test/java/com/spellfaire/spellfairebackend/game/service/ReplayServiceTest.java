@@ -0,0 +1,213 @@
+package com.spellfaire.spellfairebackend.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.dto.GameActionResponse;
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.Game;
+import com.spellfaire.spellfairebackend.game.model.GameLogEntry;
+import com.spellfaire.spellfairebackend.game.model.GameReplay;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.repo.GameLogRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameReplayRepository;
+import com.spellfaire.spellfairebackend.game.repo.GameRepository;
+import com.spellfaire.spellfairebackend.game.sim.Archetype;
+import com.spellfaire.spellfairebackend.game.sim.HeadlessRules;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+import com.spellfaire.spellfairebackend.game.state.ReplayCodec;
+import com.spellfaire.spellfairebackend.game.state.ZoneCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReplayServiceTest {
+
+	private static final HeadlessRules RULES = HeadlessRules.fromClasspath();
+
+	@Mock
+	private GameReplayRepository gameReplayRepository;
+
+	@Mock
+	private GameRepository gameRepository;
+
+	@Mock
+	private GameLogRepository gameLogRepository;
+
+	private final List<GameLogEntry> logged = new ArrayList<>();
+	private GameReplay opening;
+	private GameEventLog gameEventLog;
+	private ReplayService replayService;
+
+	@BeforeEach
+	void setUp() {
+		gameEventLog = new GameEventLog(gameLogRepository, RULES.gameEngine(), new ObjectMapper(),
+				new SimpleMeterRegistry(), true);
+		replayService = new ReplayService(gameReplayRepository, gameRepository, gameLogRepository, gameEventLog,
+				RULES.gameEngine(), new ReplayCodec(new ZoneCodec(), RULES.cardCatalog()), true, 4);
+	}
+
+	@Test
+	void playsAFinishedGameBackAtEveryTurnAndVersion() {
+		Map<Integer, String> turnStarts = new HashMap<>();
+		Map<Long, String> versions = new HashMap<>();
+		GameState game = playRecordedGame(turnStarts, versions);
+		GameReplay replay = stubFinished(game);
+
+		for (Map.Entry<Integer, String> turn : turnStarts.entrySet()) {
+			GameState state = replayService.stateAtTurn(game.getId(), turn.getKey()).orElseThrow();
+			assertEquals(turn.getKey(), state.getTurnNumber());
+			assertEquals(turn.getValue(), describe(state));
+		}
+		for (Map.Entry<Long, String> version : versions.entrySet()) {
+			GameState state = replayService.stateAtVersion(game.getId(), version.getKey()).orElseThrow();
+			assertEquals(version.getKey(), state.getStateVersion());
+			assertEquals(version.getValue(), describe(state));
+		}
+		GameState last = replayService.stateAtVersion(game.getId(), game.getStateVersion()).orElseThrow();
+		assertEquals(GameStatus.FINISHED, last.getGameStatus());
+		assertEquals(game.getWinnerId(), last.getWinnerId());
+		assertTrue(replay.isComplete());
+		verify(gameReplayRepository, times(2)).save(any());  // Opening, then completed once
+	}
+
+	@Test
+	void exportBuildsTheReplayOnceAndRejectsOutOfRangeTurns() {
+		GameState game = playRecordedGame(new HashMap<>(), new HashMap<>());
+		GameReplay replay = stubFinished(game);
+
+		byte[] exported = replayService.export(game.getId()).orElseThrow();
+		byte[] again = replayService.export(game.getId()).orElseThrow();
+
+		assertSame(exported, again);
+		assertSame(replay.getData(), exported);
+		verify(gameLogRepository, times(1))
+			.findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(game.getId(), 0L);
+		assertThrows(IllegalArgumentException.class, () -> replayService.stateAtTurn(game.getId(), game.getTurnNumber() + 1));
+	}
+
+	@Test
+	void exportRejectsAGameStillInProgress() {
+		GameState state = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(), RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.WILDCLAN, MagicSchool.NATURE), 2);
+		GameReplay replay = recordOpening(state);
+		Game game = new Game();
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		when(gameReplayRepository.findById(state.getId())).thenReturn(Optional.of(replay));
+		when(gameRepository.findById(state.getId())).thenReturn(Optional.of(game));
+
+		assertThrows(IllegalArgumentException.class, () -> replayService.export(state.getId()));
+		verify(gameLogRepository, never()).findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(any(), any(Long.class));
+	}
+
+	@Test
+	void exportIsEmptyWithoutARecordedReplay() {
+		GameState state = new GameState();
+		when(gameReplayRepository.findById(state.getId())).thenReturn(Optional.empty());
+
+		assertTrue(replayService.export(state.getId()).isEmpty());
+	}
+
+	// ==================================================================
+	// HELPERS
+	// ==================================================================
+
+	/**
+	 * Self-play a game to the end through the log, noting the state at every turn start and version.
+	 */
+	private GameState playRecordedGame(Map<Integer, String> turnStarts, Map<Long, String> versions) {
+		when(gameLogRepository.save(any())).thenAnswer(invocation -> {
+			logged.add(invocation.getArgument(0));
+			return invocation.getArgument(0);
+		});
+		GameState game = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(), RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.WILDCLAN, MagicSchool.NATURE), 3);
+		recordOpening(game);
+
+		while (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+			turnStarts.put(game.getTurnNumber(), describe(game));
+			versions.put(game.getStateVersion(), describe(game));
+			game.setStateVersion(game.getStateVersion() + 1);
+			gameEventLog.record(game, this::playTurn);
+		}
+		versions.put(game.getStateVersion(), describe(game));
+		return game;
+	}
+
+	private GameReplay recordOpening(GameState state) {
+		List<GameReplay> saved = new ArrayList<>();
+		when(gameReplayRepository.save(any())).thenAnswer(invocation -> {
+			saved.add(invocation.getArgument(0));
+			return invocation.getArgument(0);
+		});
+		replayService.recordOpening(state);
+		opening = saved.get(0);
+		return opening;
+	}
+
+	private GameReplay stubFinished(GameState state) {
+		Game game = new Game();
+		game.setGameStatus(GameStatus.FINISHED);
+		game.setStateVersion(state.getStateVersion());
+		when(gameReplayRepository.findById(state.getId())).thenReturn(Optional.of(opening));
+		when(gameRepository.findById(state.getId())).thenReturn(Optional.of(game));
+		when(gameLogRepository.findByGameIdAndStateVersionGreaterThanOrderByStateVersionAsc(state.getId(), 0L))
+			.thenReturn(logged);
+		return opening;
+	}
+
+	private GameActionResponse playTurn(GameState game) {
+		String playerId = game.getCurrentPlayerId();
+		List<GameEvent> events = new ArrayList<>(RULES.aiService().executeTurn(game, playerId));
+		events.addAll(RULES.gameEngine().checkGameOver(game));
+		if (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+			events.addAll(RULES.gameEngine().endTurn(game, playerId));
+		}
+		return new GameActionResponse(null, events);
+	}
+
+	private static String describe(GameState game) {
+		return game.getCurrentPlayerId() + " " + describe(game.getPlayer1State()) + " | " + describe(game.getPlayer2State());
+	}
+
+	private static String describe(PlayerState player) {
+		StringBuilder description = new StringBuilder()
+			.append(player.getHeroHealth()).append('/').append(player.getCurrentMana()).append('/')
+			.append(player.getMaxMana()).append(" deck ").append(player.getDeck().size())
+			.append(" discard ").append(player.getDiscardPile().size()).append(" hand");
+		for (int i = 0; i < player.getHand().size(); i++) {
+			description.append(' ').append(player.getHand().get(i).getName());
+		}
+		description.append(" board");
+		for (int i = 0; i < player.getBattlefield().size(); i++) {
+			var creature = player.getBattlefield().get(i);
+			description.append(' ').append(creature.getInstanceId()).append(':')
+				.append(creature.getAttack()).append('/').append(creature.getHealth());
+		}
+		return description.toString();
+	}
+}
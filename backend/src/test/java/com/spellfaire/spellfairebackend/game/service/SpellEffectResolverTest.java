@@ -5,43 +5,38 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import com.spellfaire.spellfairebackend.game.dto.GameEvent;
-import com.spellfaire.spellfairebackend.game.model.BoardCreature;
 import com.spellfaire.spellfairebackend.game.model.Card;
 import com.spellfaire.spellfairebackend.game.model.CardType;
-import com.spellfaire.spellfairebackend.game.model.CardZone;
 import com.spellfaire.spellfairebackend.game.model.Faction;
-import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
 import com.spellfaire.spellfairebackend.game.model.MagicSchool;
-import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
-import com.spellfaire.spellfairebackend.game.repo.CardRepository;
+import com.spellfaire.spellfairebackend.game.state.CreatureState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
 
 class SpellEffectResolverTest {
 
+	private static final AtomicInteger INSTANCE_IDS = new AtomicInteger(1000);
+
 	private SpellEffectResolver resolver;
-	private CardRepository cardRepository;
 
 	@BeforeEach
 	void setUp() {
-		cardRepository = Mockito.mock(CardRepository.class);
-		resolver = new SpellEffectResolver(cardRepository);
+		resolver = spellResolver(CardCatalog.of(List.of()));
 	}
 
 	@Test
 	void emberBoltDamagesEnemyHero() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		Card emberBolt = fireSpell("Ember Bolt", 1);
 		List<GameEvent> events = resolver.resolveSpell(emberBolt, caster, opponent, "ENEMY_HERO");
@@ -52,14 +47,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void iceShardFreezesSurvivingCreature() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature target = creature(opponent, "Target", 2, 3, 2);
+		CreatureState target = creature(opponent, "Target", 2, 3, 2);
 		opponent.getBattlefield().add(target);
 
 		Card iceShard = frostSpell("Ice Shard", 1);
-		List<GameEvent> events = resolver.resolveSpell(iceShard, caster, opponent, target.getId().toString());
+		List<GameEvent> events = resolver.resolveSpell(iceShard, caster, opponent, target.getInstanceId());
 
 		assertEquals(2, target.getHealth());
 		assertTrue(target.getStatuses().contains(com.spellfaire.spellfairebackend.game.model.Status.FROZEN));
@@ -68,59 +63,59 @@ class SpellEffectResolverTest {
 
 	@Test
 	void shatterOnlyAffectsFrozenCreature() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature frozen = creature(opponent, "Frozen", 2, 4, 3);
-		frozen.setStatuses(new HashSet<>(Set.of(com.spellfaire.spellfairebackend.game.model.Status.FROZEN)));
-		BoardCreature nonFrozen = creature(opponent, "Not Frozen", 2, 4, 3);
+		CreatureState frozen = creature(opponent, "Frozen", 2, 4, 3);
+		frozen.addStatus(com.spellfaire.spellfairebackend.game.model.Status.FROZEN);
+		CreatureState nonFrozen = creature(opponent, "Not Frozen", 2, 4, 3);
 		opponent.getBattlefield().add(frozen);
 		opponent.getBattlefield().add(nonFrozen);
 
 		Card shatter = frostSpell("Shatter", 4);
-		resolver.resolveSpell(shatter, caster, opponent, nonFrozen.getId().toString());
+		resolver.resolveSpell(shatter, caster, opponent, nonFrozen.getInstanceId());
 		assertTrue(opponent.getBattlefield().contains(nonFrozen));
 
-		resolver.resolveSpell(shatter, caster, opponent, frozen.getId().toString());
+		resolver.resolveSpell(shatter, caster, opponent, frozen.getInstanceId());
 		assertFalse(opponent.getBattlefield().contains(frozen));
 	}
 
 	@Test
 	void sproutlingSummonsTokenWhenSpaceAvailable() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		Card token = creatureCard("Sproutling", 1, 1, 1);
-		when(cardRepository.findByName("Sproutling")).thenReturn(java.util.Optional.of(token));
+		resolver = spellResolver(CardCatalog.of(List.of(token)));
 
 		Card sproutling = natureSpell("Sproutling", 2);
 		List<GameEvent> events = resolver.resolveSpell(sproutling, caster, opponent, null);
 
 		assertEquals(1, caster.getBattlefield().size());
-		assertEquals("Sproutling", caster.getBattlefield().getFirst().getCard().getName());
+		assertEquals("Sproutling", caster.getBattlefield().get(0).getCard().getName());
 		assertTrue(events.stream().anyMatch(e -> e.getType() == GameEvent.EventType.SUMMON));
 	}
 
 	@Test
 	void renewalHealsAndDrawsCard() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 		caster.setHeroHealth(20);
-		caster.getZoneCards().add(new PlayerZoneCard(caster, creatureCard("Deck Creature", 2, 2, 2), CardZone.DECK, 0));
+		caster.getDeck().add(creatureCard("Deck Creature", 2, 2, 2));
 
 		Card renewal = natureSpell("Renewal", 5);
 		List<GameEvent> events = resolver.resolveSpell(renewal, caster, opponent, null);
 
 		assertEquals(25, caster.getHeroHealth());
-		assertEquals(1, caster.getZoneCards().stream().filter(c -> c.getZone() == CardZone.HAND).count());
+		assertEquals(1, caster.getHand().size());
 		assertTrue(events.stream().anyMatch(e -> e.getType() == GameEvent.EventType.HEAL));
 	}
 
 	@Test
 	void applyDamageToCreatureConsumesWardAndPreventsDamage() {
-		GamePlayerState owner = playerState("owner");
-		BoardCreature warded = creature(owner, "Warded", 2, 4, 2);
-		warded.setKeywords(new HashSet<>(Set.of(com.spellfaire.spellfairebackend.game.model.Keyword.WARD)));
+		PlayerState owner = playerState("owner");
+		CreatureState warded = creature(owner, "Warded", 2, 4, 2);
+		warded.addKeyword(com.spellfaire.spellfairebackend.game.model.Keyword.WARD);
 
 		List<GameEvent> events = new java.util.ArrayList<>();
 		int damage = resolver.applyDamageToCreature(warded, 3, events, "Test Source");
@@ -133,7 +128,7 @@ class SpellEffectResolverTest {
 
 	@Test
 	void drawCardAppliesFatigueWhenDeckEmpty() {
-		GamePlayerState player = playerState("player");
+		PlayerState player = playerState("player");
 		player.setHeroHealth(10);
 		List<GameEvent> events = new java.util.ArrayList<>();
 
@@ -146,29 +141,28 @@ class SpellEffectResolverTest {
 
 	@Test
 	void drawCardBurnsWhenHandFull() {
-		GamePlayerState player = playerState("player");
+		PlayerState player = playerState("player");
 		for (int i = 0; i < 10; i++) {
-			player.getZoneCards().add(new PlayerZoneCard(player, creatureCard("Hand " + i, 1, 1, 1), CardZone.HAND, i));
+			player.getHand().add(creatureCard("Hand " + i, 1, 1, 1));
 		}
 		Card deckCard = creatureCard("Top Deck", 2, 2, 2);
-		PlayerZoneCard topDeck = new PlayerZoneCard(player, deckCard, CardZone.DECK, 0);
-		player.getZoneCards().add(topDeck);
+		player.getDeck().add(deckCard);
 
 		List<GameEvent> events = new java.util.ArrayList<>();
 		resolver.drawCard(player, events);
 
-		assertFalse(player.getZoneCards().contains(topDeck));
-		assertEquals(10, player.getZoneCards().stream().filter(c -> c.getZone() == CardZone.HAND).count());
+		assertTrue(player.getDeck().isEmpty());
+		assertEquals(10, player.getHand().size());
 		assertTrue(events.stream().anyMatch(e -> e.getMessage() != null && e.getMessage().contains("Card burned")));
 	}
 
 	@Test
 	void searingPingDamagesAllEnemyCreaturesAndKillsFragileOnes() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature survivor = creature(opponent, "Survivor", 2, 2, 2);
-		BoardCreature doomed = creature(opponent, "Doomed", 1, 1, 1);
+		CreatureState survivor = creature(opponent, "Survivor", 2, 2, 2);
+		CreatureState doomed = creature(opponent, "Doomed", 1, 1, 1);
 		opponent.getBattlefield().add(survivor);
 		opponent.getBattlefield().add(doomed);
 
@@ -181,14 +175,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void combustDamagesCreatureAndEnemyHero() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature target = creature(opponent, "Target", 2, 3, 2);
+		CreatureState target = creature(opponent, "Target", 2, 3, 2);
 		opponent.getBattlefield().add(target);
 
 		Card combust = fireSpell("Combust", 4);
-		resolver.resolveSpell(combust, caster, opponent, target.getId().toString());
+		resolver.resolveSpell(combust, caster, opponent, target.getInstanceId());
 
 		assertFalse(opponent.getBattlefield().contains(target));
 		assertEquals(23, opponent.getHeroHealth());
@@ -196,11 +190,11 @@ class SpellEffectResolverTest {
 
 	@Test
 	void infernoSweepHitsBothSidesAndKillsLowHealthCreatures() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature friendly = creature(caster, "Friendly", 2, 2, 2);
-		BoardCreature enemy = creature(opponent, "Enemy", 2, 2, 2);
+		CreatureState friendly = creature(caster, "Friendly", 2, 2, 2);
+		CreatureState enemy = creature(opponent, "Enemy", 2, 2, 2);
 		caster.getBattlefield().add(friendly);
 		opponent.getBattlefield().add(enemy);
 
@@ -213,14 +207,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void frostShieldBuffsFriendlyCreatureHealthAndMaxHealth() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature friendly = creature(caster, "Friendly", 2, 2, 2);
+		CreatureState friendly = creature(caster, "Friendly", 2, 2, 2);
 		caster.getBattlefield().add(friendly);
 
 		Card frostShield = frostSpell("Frost Shield", 2);
-		resolver.resolveSpell(frostShield, caster, opponent, friendly.getId().toString());
+		resolver.resolveSpell(frostShield, caster, opponent, friendly.getInstanceId());
 
 		assertEquals(5, friendly.getHealth());
 		assertEquals(5, friendly.getMaxHealth());
@@ -228,14 +222,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void glacialBindingFreezesThenDamagesEnemyCreature() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature enemy = creature(opponent, "Enemy", 2, 4, 2);
+		CreatureState enemy = creature(opponent, "Enemy", 2, 4, 2);
 		opponent.getBattlefield().add(enemy);
 
 		Card glacialBinding = frostSpell("Glacial Binding", 5);
-		resolver.resolveSpell(glacialBinding, caster, opponent, enemy.getId().toString());
+		resolver.resolveSpell(glacialBinding, caster, opponent, enemy.getInstanceId());
 
 		assertEquals(1, enemy.getHealth());
 		assertTrue(enemy.getStatuses().contains(com.spellfaire.spellfairebackend.game.model.Status.FROZEN));
@@ -243,8 +237,8 @@ class SpellEffectResolverTest {
 
 	@Test
 	void mendHealsHeroWithCap() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 		caster.setHeroHealth(24);
 
 		Card mend = natureSpell("Mend", 1);
@@ -255,14 +249,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void vineWhipFreezesIfTargetSurvives() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature enemy = creature(opponent, "Enemy", 2, 4, 2);
+		CreatureState enemy = creature(opponent, "Enemy", 2, 4, 2);
 		opponent.getBattlefield().add(enemy);
 
 		Card vineWhip = natureSpell("Vine Whip", 2);
-		resolver.resolveSpell(vineWhip, caster, opponent, enemy.getId().toString());
+		resolver.resolveSpell(vineWhip, caster, opponent, enemy.getInstanceId());
 
 		assertEquals(2, enemy.getHealth());
 		assertTrue(enemy.getStatuses().contains(com.spellfaire.spellfairebackend.game.model.Status.FROZEN));
@@ -270,14 +264,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void growthBuffsAttackAndHealth() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature friendly = creature(caster, "Friendly", 2, 2, 2);
+		CreatureState friendly = creature(caster, "Friendly", 2, 2, 2);
 		caster.getBattlefield().add(friendly);
 
 		Card growth = natureSpell("Growth", 3);
-		resolver.resolveSpell(growth, caster, opponent, friendly.getId().toString());
+		resolver.resolveSpell(growth, caster, opponent, friendly.getInstanceId());
 
 		assertEquals(4, friendly.getAttack());
 		assertEquals(4, friendly.getHealth());
@@ -286,15 +280,15 @@ class SpellEffectResolverTest {
 
 	@Test
 	void brambleWallDoesNotSummonWhenBattlefieldFull() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		for (int i = 0; i < 6; i++) {
 			caster.getBattlefield().add(creature(caster, "Filled" + i, 1, 1, 1));
 		}
 
 		Card brambleToken = creatureCard("Bramble Wall", 4, 0, 6);
-		when(cardRepository.findByName("Bramble Wall")).thenReturn(java.util.Optional.of(brambleToken));
+		resolver = spellResolver(CardCatalog.of(List.of(brambleToken)));
 
 		Card brambleWall = natureSpell("Bramble Wall", 4);
 		resolver.resolveSpell(brambleWall, caster, opponent, null);
@@ -304,8 +298,8 @@ class SpellEffectResolverTest {
 
 	@Test
 	void siphonLifeDamagesEnemyHeroAndHealsCaster() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 		caster.setHeroHealth(20);
 
 		Card siphonLife = shadowSpell("Siphon Life", 3);
@@ -317,15 +311,15 @@ class SpellEffectResolverTest {
 
 	@Test
 	void darkTouchDealsOneDamageToAnyTargetAndHealsCasterForOne() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 		caster.setHeroHealth(20);
 
-		BoardCreature target = creature(opponent, "Target", 3, 4, 3);
+		CreatureState target = creature(opponent, "Target", 3, 4, 3);
 		opponent.getBattlefield().add(target);
 
 		Card darkTouch = shadowSpell("Dark Touch", 1);
-		List<GameEvent> events = resolver.resolveSpell(darkTouch, caster, opponent, target.getId().toString());
+		List<GameEvent> events = resolver.resolveSpell(darkTouch, caster, opponent, target.getInstanceId());
 
 		assertEquals(3, target.getHealth());
 		assertEquals(21, caster.getHeroHealth());
@@ -335,14 +329,14 @@ class SpellEffectResolverTest {
 
 	@Test
 	void witherAppliesTemporaryTwoAttackReduction() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature enemy = creature(opponent, "Enemy", 5, 5, 4);
+		CreatureState enemy = creature(opponent, "Enemy", 5, 5, 4);
 		opponent.getBattlefield().add(enemy);
 
 		Card wither = shadowSpell("Wither", 2);
-		List<GameEvent> events = resolver.resolveSpell(wither, caster, opponent, enemy.getId().toString());
+		List<GameEvent> events = resolver.resolveSpell(wither, caster, opponent, enemy.getInstanceId());
 
 		assertEquals(3, enemy.getAttack());
 		assertEquals(2, enemy.getTemporaryAttackDebuff());
@@ -351,22 +345,22 @@ class SpellEffectResolverTest {
 
 	@Test
 	void grimBargainDestroysFriendlyCreatureAndDrawsTwoCards() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature friendly = creature(caster, "Sacrifice", 2, 2, 2);
+		CreatureState friendly = creature(caster, "Sacrifice", 2, 2, 2);
 		caster.getBattlefield().add(friendly);
 
 		Card deckCardOne = creatureCard("Deck Creature One", 2, 2, 2);
 		Card deckCardTwo = creatureCard("Deck Creature Two", 3, 3, 3);
-		caster.getZoneCards().add(new PlayerZoneCard(caster, deckCardOne, CardZone.DECK, 0));
-		caster.getZoneCards().add(new PlayerZoneCard(caster, deckCardTwo, CardZone.DECK, 1));
+		caster.getDeck().add(deckCardOne);
+		caster.getDeck().add(deckCardTwo);
 
 		Card grimBargain = shadowSpell("Grim Bargain", 4);
-		List<GameEvent> events = resolver.resolveSpell(grimBargain, caster, opponent, friendly.getId().toString());
+		List<GameEvent> events = resolver.resolveSpell(grimBargain, caster, opponent, friendly.getInstanceId());
 
 		assertFalse(caster.getBattlefield().contains(friendly));
-		long handCount = caster.getZoneCards().stream().filter(card -> card.getZone() == CardZone.HAND).count();
+		long handCount = caster.getHand().size();
 		assertEquals(2, handCount);
 		assertTrue(events.stream().anyMatch(event -> event.getType() == GameEvent.EventType.DEATH));
 		assertTrue(events.stream().filter(event -> event.getType() == GameEvent.EventType.CARD_DRAWN).count() >= 2);
@@ -374,11 +368,11 @@ class SpellEffectResolverTest {
 
 	@Test
 	void hauntingFogAppliesMinusOneMinusOneToAllEnemyCreatures() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature survivor = creature(opponent, "Survivor", 4, 4, 4);
-		BoardCreature doomed = creature(opponent, "Doomed", 1, 1, 2);
+		CreatureState survivor = creature(opponent, "Survivor", 4, 4, 4);
+		CreatureState doomed = creature(opponent, "Doomed", 1, 1, 2);
 		opponent.getBattlefield().add(survivor);
 		opponent.getBattlefield().add(doomed);
 
@@ -394,26 +388,26 @@ class SpellEffectResolverTest {
 
 	@Test
 	void voidSnareDestroysEnemyCreatureWithCostFiveOrLessOnly() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		BoardCreature lowCostTarget = creature(opponent, "Low Cost", 4, 4, 5);
-		BoardCreature highCostTarget = creature(opponent, "High Cost", 6, 6, 6);
+		CreatureState lowCostTarget = creature(opponent, "Low Cost", 4, 4, 5);
+		CreatureState highCostTarget = creature(opponent, "High Cost", 6, 6, 6);
 		opponent.getBattlefield().add(lowCostTarget);
 		opponent.getBattlefield().add(highCostTarget);
 
 		Card voidSnare = shadowSpell("Void Snare", 6);
-		resolver.resolveSpell(voidSnare, caster, opponent, lowCostTarget.getId().toString());
+		resolver.resolveSpell(voidSnare, caster, opponent, lowCostTarget.getInstanceId());
 		assertFalse(opponent.getBattlefield().contains(lowCostTarget));
 
-		resolver.resolveSpell(voidSnare, caster, opponent, highCostTarget.getId().toString());
+		resolver.resolveSpell(voidSnare, caster, opponent, highCostTarget.getInstanceId());
 		assertTrue(opponent.getBattlefield().contains(highCostTarget));
 	}
 
 	@Test
 	void unknownSpellReturnsSpellResolvedEvent() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		Card unknown = shadowSpell("Mystery Blast", 2);
 		List<GameEvent> events = resolver.resolveSpell(unknown, caster, opponent, null);
@@ -425,8 +419,8 @@ class SpellEffectResolverTest {
 
 	@Test
 	void darkTouchCanDamageFriendlyHero() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 		caster.setHeroHealth(20);
 
 		Card darkTouch = shadowSpell("Dark Touch", 1);
@@ -437,29 +431,27 @@ class SpellEffectResolverTest {
 
 	@Test
 	void deepWinterDrawsTwoAndFreezesSingleEnemyCreature() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
-		caster.getZoneCards().add(new PlayerZoneCard(caster, creatureCard("Deck One", 1, 1, 1), CardZone.DECK, 0));
-		caster.getZoneCards().add(new PlayerZoneCard(caster, creatureCard("Deck Two", 2, 2, 2), CardZone.DECK, 1));
+		caster.getDeck().add(creatureCard("Deck One", 1, 1, 1));
+		caster.getDeck().add(creatureCard("Deck Two", 2, 2, 2));
 
-		BoardCreature enemy = creature(opponent, "Enemy", 2, 3, 2);
+		CreatureState enemy = creature(opponent, "Enemy", 2, 3, 2);
 		opponent.getBattlefield().add(enemy);
 
 		Card deepWinter = frostSpell("Deep Winter", 6);
 		List<GameEvent> events = resolver.resolveSpell(deepWinter, caster, opponent, null);
 
-		assertEquals(2, caster.getZoneCards().stream().filter(c -> c.getZone() == CardZone.HAND).count());
+		assertEquals(2, caster.getHand().size());
 		assertTrue(enemy.getStatuses().contains(com.spellfaire.spellfairebackend.game.model.Status.FROZEN));
 		assertTrue(events.stream().anyMatch(event -> event.getType() == GameEvent.EventType.FREEZE));
 	}
 
 	@Test
 	void sproutlingThrowsWhenTokenMissing() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
-
-		when(cardRepository.findByName("Sproutling")).thenReturn(java.util.Optional.empty());
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		Card sproutling = natureSpell("Sproutling", 2);
 		assertThrows(IllegalStateException.class, () -> resolver.resolveSpell(sproutling, caster, opponent, null));
@@ -467,10 +459,8 @@ class SpellEffectResolverTest {
 
 	@Test
 	void brambleWallThrowsWhenTokenMissing() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
-
-		when(cardRepository.findByName("Bramble Wall")).thenReturn(java.util.Optional.empty());
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		Card brambleWall = natureSpell("Bramble Wall", 4);
 		assertThrows(IllegalStateException.class, () -> resolver.resolveSpell(brambleWall, caster, opponent, null));
@@ -478,19 +468,19 @@ class SpellEffectResolverTest {
 
 	@Test
 	void grimBargainNoOpsWhenTargetMissing() {
-		GamePlayerState caster = playerState("caster");
-		GamePlayerState opponent = playerState("opponent");
+		PlayerState caster = playerState("caster");
+		PlayerState opponent = playerState("opponent");
 
 		Card grimBargain = shadowSpell("Grim Bargain", 4);
 		List<GameEvent> events = resolver.resolveSpell(grimBargain, caster, opponent, UUID.randomUUID().toString());
 
 		assertTrue(events.isEmpty());
-		assertEquals(0, caster.getZoneCards().stream().filter(card -> card.getZone() == CardZone.HAND).count());
+		assertEquals(0, caster.getHand().size());
 	}
 
 	@Test
 	void drawCardAppliesIncreasingFatigueOnRepeatedEmptyDraws() {
-		GamePlayerState player = playerState("player");
+		PlayerState player = playerState("player");
 		player.setHeroHealth(10);
 		List<GameEvent> events = new java.util.ArrayList<>();
 
@@ -502,8 +492,12 @@ class SpellEffectResolverTest {
 		assertEquals(2, events.stream().filter(event -> event.getType() == GameEvent.EventType.FATIGUE).count());
 	}
 
-	private static GamePlayerState playerState(String userId) {
-		GamePlayerState state = new GamePlayerState();
+	private static SpellEffectResolver spellResolver(CardCatalog cardCatalog) {
+		return new SpellEffectResolver(cardCatalog, new CardEffectTable(cardCatalog));
+	}
+
+	private static PlayerState playerState(String userId) {
+		PlayerState state = new PlayerState();
 		state.setUserId(userId);
 		state.setHeroHealth(25);
 		return state;
@@ -561,11 +555,10 @@ class SpellEffectResolverTest {
 		return card;
 	}
 
-	private static BoardCreature creature(GamePlayerState owner, String name, int attack, int health, int cost) {
+	private static CreatureState creature(PlayerState owner, String name, int attack, int health, int cost) {
 		Card card = creatureCard(name, cost, attack, health);
-		BoardCreature creature = new BoardCreature(owner, card, attack, health, new HashSet<>(), owner.getBattlefield().size());
-		creature.setId(UUID.randomUUID());
-		assertNotNull(creature.getId());
+		CreatureState creature = new CreatureState(INSTANCE_IDS.incrementAndGet(), card, attack, health, Set.of());
+		assertNotNull(creature.getInstanceId());
 		return creature;
 	}
 
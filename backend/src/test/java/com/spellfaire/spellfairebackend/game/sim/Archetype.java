@@ -0,0 +1,30 @@
+package com.spellfaire.spellfairebackend.game.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+
+/**
+ * A deck archetype: one faction's creatures with one school's spells.
+ */
+public record Archetype(Faction faction, MagicSchool school) {
+
+	/**
+	 * Every faction paired with every school, in enum order.
+	 */
+	public static List<Archetype> all() {
+		List<Archetype> archetypes = new ArrayList<>();
+		for (Faction faction : Faction.values()) {
+			for (MagicSchool school : MagicSchool.values()) {
+				archetypes.add(new Archetype(faction, school));
+			}
+		}
+		return archetypes;
+	}
+
+	public String label() {
+		return faction + "/" + school;
+	}
+}
@@ -0,0 +1,72 @@
+package com.spellfaire.spellfairebackend.game.sim;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.service.AiService;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+import com.spellfaire.spellfairebackend.game.service.CardEffectTable;
+import com.spellfaire.spellfairebackend.game.service.CreatureEffectResolver;
+import com.spellfaire.spellfairebackend.game.service.EffectScriptCompiler;
+import com.spellfaire.spellfairebackend.game.service.GameEngine;
+import com.spellfaire.spellfairebackend.game.service.SpellEffectResolver;
+
+/**
+ * The rules engine wired by hand over a fixed card list, for tools that run without Spring or a
+ * database (the self-play simulator, benchmarks).
+ */
+public record HeadlessRules(
+		CardCatalog cardCatalog,
+		CardEffectTable effects,
+		SpellEffectResolver spellResolver,
+		CreatureEffectResolver creatureResolver,
+		GameEngine gameEngine,
+		AiService aiService) {
+
+	/**
+	 * The engine over the bundled {@code data/cards.json}, wired like the application context
+	 * with scripted effects enabled.
+	 */
+	public static HeadlessRules fromClasspath() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		CardCatalog catalog = CardCatalog.of(loadCards(objectMapper));
+		CardEffectTable effects = new CardEffectTable(catalog);
+		SpellEffectResolver spellResolver = new SpellEffectResolver(catalog, effects);
+		CreatureEffectResolver creatureResolver = new CreatureEffectResolver(spellResolver, effects);
+		new EffectScriptCompiler(spellResolver, catalog, effects, objectMapper, true);
+		GameEngine engine = new GameEngine(spellResolver, creatureResolver, effects);
+		return new HeadlessRules(catalog, effects, spellResolver, creatureResolver, engine,
+				new AiService(engine, effects));
+	}
+
+	private static List<Card> loadCards(ObjectMapper objectMapper) {
+		List<Card> cards = new ArrayList<>();
+		try (InputStream in = HeadlessRules.class.getResourceAsStream("/data/cards.json")) {
+			if (in == null) {
+				throw new IllegalStateException("Cards data file not found at: data/cards.json");
+			}
+			for (JsonNode node : objectMapper.readTree(in)) {
+				// Same binding as DataInitializer; ids come from the name so they are stable across runs
+				JsonNode effect = ((ObjectNode) node).remove("effect");
+				Card card = objectMapper.treeToValue(node, Card.class);
+				card.setId(UUID.nameUUIDFromBytes(card.getName().getBytes(StandardCharsets.UTF_8)));
+				if (effect != null && !effect.isNull()) {
+					card.setEffect(effect.toString());
+				}
+				cards.add(card);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return cards;
+	}
+}
@@ -0,0 +1,65 @@
+package com.spellfaire.spellfairebackend.game.sim;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Command-line entry point for {@link SelfPlaySimulator}; needs neither Spring nor a database.
+ *
+ * Options, all {@code --name=value}: {@code games-per-matchup} (default 40, over 256 matchups),
+ * {@code threads} (default: all cores), {@code seed}, {@code max-turns} (default 60, then a draw),
+ * {@code out} (default {@code target/self-play}) and {@code min-games-per-minute}, which fails the
+ * run when throughput drops below it. Run with {@code mvn -Pself-play compile exec:java}.
+ */
+public final class SelfPlayMain {
+
+	private SelfPlayMain() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		Map<String, String> options = parse(args);
+		int gamesPerMatchup = Integer.parseInt(options.getOrDefault("games-per-matchup", "40"));
+		int threads = Integer.parseInt(options.getOrDefault("threads", "0"));
+		long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+		int maxTurns = Integer.parseInt(options.getOrDefault("max-turns", "60"));
+		Path out = Path.of(options.getOrDefault("out", "target/self-play"));
+		double minGamesPerMinute = Double.parseDouble(options.getOrDefault("min-games-per-minute", "0"));
+
+		SelfPlaySimulator simulator = SelfPlaySimulator.fromClasspath(maxTurns);
+		SimulationReport report = simulator.run(gamesPerMatchup, threads, seed);
+		report.writeTo(out, new ObjectMapper());
+
+		System.out.printf(Locale.ROOT, "%d games in %d ms (%.0f games/min, %.1f turns on average), results in %s%n",
+				report.games(), report.elapsedMillis(), report.gamesPerMinute(), report.averageTurns(),
+				out.toAbsolutePath());
+		for (SimulationReport.ArchetypeStats archetype : report.archetypes()) {
+			System.out.printf(Locale.ROOT, "  %-22s %5.1f%%%n", archetype.archetype(), archetype.winRate() * 100);
+		}
+
+		if (report.gamesPerMinute() < minGamesPerMinute) {
+			System.err.printf(Locale.ROOT, "Throughput %.0f games/min is below the required %.0f%n",
+					report.gamesPerMinute(), minGamesPerMinute);
+			System.exit(1);
+		}
+	}
+
+	private static Map<String, String> parse(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			if (arg.isBlank()) {
+				continue;
+			}
+			int equals = arg.indexOf('=');
+			if (!arg.startsWith("--") || equals < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got " + arg);
+			}
+			options.put(arg.substring(2, equals), arg.substring(equals + 1));
+		}
+		return options;
+	}
+}
@@ -0,0 +1,254 @@
+package com.spellfaire.spellfairebackend.game.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+
+import com.spellfaire.spellfairebackend.game.dto.GameEvent;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.GamePhase;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.service.AiService;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+import com.spellfaire.spellfairebackend.game.service.GameEngine;
+import com.spellfaire.spellfairebackend.game.state.GameRandom;
+import com.spellfaire.spellfairebackend.game.state.GameState;
+import com.spellfaire.spellfairebackend.game.state.PlayerState;
+
+/**
+ * Plays the heuristic {@link AiService} against itself, entirely in memory.
+ *
+ * Every {@link Archetype} meets every other one (mirrors included) in both seats. Games are set up
+ * the way {@code GameplayService} sets up an AI game: auto-built decks, a random first player who
+ * keeps one card fewer, 25 health. Games are spread over a fork-join pool and tallied per worker,
+ * so the run scales with cores. Every game is seeded from the run's seed and its index, so two
+ * runs with one seed play exactly the same games.
+ */
+public class SelfPlaySimulator {
+
+	static final String PLAYER_1 = "P1";
+	static final String PLAYER_2 = "P2";
+
+	private final CardCatalog cardCatalog;
+	private final GameEngine gameEngine;
+	private final AiService aiService;
+	private final int maxTurns;
+	private final List<Archetype> archetypes;
+	private final List<List<Card>> decks = new ArrayList<>();
+	private final Map<String, Integer> cardIndexById = new HashMap<>();
+
+	public SelfPlaySimulator(CardCatalog cardCatalog, GameEngine gameEngine, AiService aiService, int maxTurns) {
+		this.cardCatalog = cardCatalog;
+		this.gameEngine = gameEngine;
+		this.aiService = aiService;
+		this.maxTurns = maxTurns;
+		this.archetypes = Archetype.all();
+		for (Archetype archetype : archetypes) {
+			List<Card> deck = new ArrayList<>();
+			for (Card card : cardCatalog.autoDeckCards(archetype.faction(), archetype.school())) {
+				deck.add(card);
+				deck.add(card);
+			}
+			decks.add(List.copyOf(deck));
+		}
+		for (int i = 0; i < cardCatalog.size(); i++) {
+			cardIndexById.put(cardCatalog.get(i).getId().toString(), i);
+		}
+	}
+
+	/**
+	 * A simulator over {@link HeadlessRules#fromClasspath()}.
+	 */
+	public static SelfPlaySimulator fromClasspath(int maxTurns) {
+		HeadlessRules rules = HeadlessRules.fromClasspath();
+		return new SelfPlaySimulator(rules.cardCatalog(), rules.gameEngine(), rules.aiService(), maxTurns);
+	}
+
+	/**
+	 * Play {@code gamesPerMatchup} games of every ordered archetype pairing on {@code parallelism}
+	 * threads.
+	 */
+	public SimulationReport run(int gamesPerMatchup, int parallelism, long seed) {
+		if (gamesPerMatchup < 1) {
+			throw new IllegalArgumentException("gamesPerMatchup must be positive");
+		}
+		int matchups = archetypes.size() * archetypes.size();
+		long totalGames = (long) matchups * gamesPerMatchup;
+
+		long start = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		Tally tally;
+		try {
+			tally = pool.submit(() -> LongStream.range(0, totalGames)
+					.parallel()
+					.collect(this::newTally, (t, game) -> {
+						int matchup = (int) (game / gamesPerMatchup);
+						t.add(play(matchup / archetypes.size(), matchup % archetypes.size(), seed, game));
+					}, Tally::merge))
+				.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Simulation interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Simulation failed", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+		return SimulationReport.of(archetypes, cardCatalog, tally, System.nanoTime() - start);
+	}
+
+	/**
+	 * Play one game between the archetypes at the given indexes, the first in player 1's seat.
+	 */
+	GameResult play(int archetype1, int archetype2, long seed, long gameIndex) {
+		GameState game = deal(archetypes.get(archetype1), archetypes.get(archetype2),
+				seed ^ (gameIndex * 0x9E3779B97F4A7C15L));
+
+		int[][] plays = new int[2][cardCatalog.size()];
+		while (game.getGameStatus() == GameStatus.IN_PROGRESS && game.getTurnNumber() <= maxTurns) {
+			String playerId = game.getCurrentPlayerId();
+			int[] playerPlays = plays[PLAYER_1.equals(playerId) ? 0 : 1];
+			for (GameEvent event : aiService.executeTurn(game, playerId)) {
+				if (event.getType() == GameEvent.EventType.CARD_PLAYED) {
+					Integer index = cardIndexById.get(event.getSourceId());
+					if (index != null) {
+						playerPlays[index]++;
+					}
+				}
+			}
+			gameEngine.checkGameOver(game);
+			if (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+				gameEngine.endTurn(game, playerId);
+			}
+		}
+
+		int winner = 0;
+		if (game.getGameStatus() == GameStatus.FINISHED) {
+			winner = PLAYER_1.equals(game.getWinnerId()) ? 1 : PLAYER_2.equals(game.getWinnerId()) ? 2 : 0;
+		}
+		return new GameResult(archetype1, archetype2, winner, Math.min(game.getTurnNumber(), maxTurns), plays);
+	}
+
+	/**
+	 * A new game between auto-built decks of the two archetypes, the first in player 1's seat,
+	 * with the first turn started. Every random decision of the game comes from {@code seed}.
+	 */
+	public GameState deal(Archetype archetype1, Archetype archetype2, long seed) {
+		GameState game = new GameState();
+		GameRandom random = game.getRandom();
+		random.reset(seed, 0);
+		game.setId(new UUID(random.nextLong(), random.nextLong()));
+		game.setPlayer1Id(PLAYER_1);
+		game.setPlayer2Id(PLAYER_2);
+		boolean player1First = random.nextBoolean();
+		game.setCurrentPlayerId(player1First ? PLAYER_1 : PLAYER_2);
+		initializePlayerState(game.getPlayer1State(), PLAYER_1, archetype1, decks.get(archetypes.indexOf(archetype1)),
+				player1First, random);
+		initializePlayerState(game.getPlayer2State(), PLAYER_2, archetype2, decks.get(archetypes.indexOf(archetype2)),
+				!player1First, random);
+		game.setGameStatus(GameStatus.IN_PROGRESS);
+		game.setCurrentPhase(GamePhase.MAIN);
+		game.setTurnNumber(1);
+
+		gameEngine.startTurn(game, game.getPlayerState(game.getCurrentPlayerId()));
+		gameEngine.checkGameOver(game);
+		return game;
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private Tally newTally() {
+		return new Tally(archetypes.size(), cardCatalog.size());
+	}
+
+	private static void initializePlayerState(PlayerState state, String userId, Archetype archetype,
+											  List<Card> deck, boolean goesFirst, RandomGenerator random) {
+		state.setUserId(userId);
+		state.setFaction(archetype.faction());
+		state.setMagicSchool(archetype.school());
+		state.setHeroHealth(25);
+		state.setMaxMana(0);
+		state.setCurrentMana(0);
+		state.setFatigueCounter(0);
+
+		List<Card> cards = new ArrayList<>(deck);
+		Collections.shuffle(cards, random);
+		int initialHandSize = goesFirst ? 3 : 4;
+		for (int i = 0; i < cards.size(); i++) {
+			if (i < initialHandSize) {
+				state.getHand().add(cards.get(i));
+			} else {
+				state.getDeck().add(cards.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Outcome of one game. {@code winner} is 1 or 2 for a seat, 0 for a draw at the turn limit;
+	 * {@code plays} counts each card's plays by catalog index, per seat.
+	 */
+	record GameResult(int archetype1, int archetype2, int winner, int turns, int[][] plays) {
+	}
+
+	/**
+	 * Running totals of one worker. Merged pairwise once all games are played.
+	 */
+	static final class Tally {
+		final int[][][] outcomes;
+		final long[][] turns;
+		final long[] cardPlays;
+		final long[] cardGames;
+		final long[] cardWins;
+
+		Tally(int archetypes, int cards) {
+			outcomes = new int[archetypes][archetypes][3];
+			turns = new long[archetypes][archetypes];
+			cardPlays = new long[cards];
+			cardGames = new long[cards];
+			cardWins = new long[cards];
+		}
+
+		void add(GameResult result) {
+			outcomes[result.archetype1()][result.archetype2()][result.winner()]++;
+			turns[result.archetype1()][result.archetype2()] += result.turns();
+			for (int seat = 0; seat < 2; seat++) {
+				int[] plays = result.plays()[seat];
+				boolean won = result.winner() == seat + 1;
+				for (int card = 0; card < plays.length; card++) {
+					if (plays[card] > 0) {
+						cardPlays[card] += plays[card];
+						cardGames[card]++;
+						if (won) {
+							cardWins[card]++;
+						}
+					}
+				}
+			}
+		}
+
+		void merge(Tally other) {
+			for (int a = 0; a < outcomes.length; a++) {
+				for (int b = 0; b < outcomes.length; b++) {
+					for (int w = 0; w < 3; w++) {
+						outcomes[a][b][w] += other.outcomes[a][b][w];
+					}
+					turns[a][b] += other.turns[a][b];
+				}
+			}
+			for (int card = 0; card < cardPlays.length; card++) {
+				cardPlays[card] += other.cardPlays[card];
+				cardGames[card] += other.cardGames[card];
+				cardWins[card] += other.cardWins[card];
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.spellfaire.spellfairebackend.game.sim;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator.GameResult;
+
+class SelfPlaySimulatorTest {
+
+	private static SelfPlaySimulator simulator;
+
+	@BeforeAll
+	static void setUp() {
+		simulator = SelfPlaySimulator.fromClasspath(60);
+	}
+
+	@Test
+	void everyMatchupIsPlayedAndEveryGameIsCounted() {
+		SimulationReport report = simulator.run(2, 2, 7);
+
+		assertEquals(256 * 2, report.games());
+		assertEquals(256, report.matchups().size());
+		assertEquals(16, report.archetypes().size());
+		for (SimulationReport.ArchetypeStats archetype : report.archetypes()) {
+			assertEquals(32 * 2, archetype.games(), archetype.archetype());
+		}
+		long wins = report.archetypes().stream().mapToLong(SimulationReport.ArchetypeStats::wins).sum();
+		long draws = report.matchups().stream().mapToLong(SimulationReport.MatchupStats::draws).sum();
+		assertEquals(report.games(), wins + draws);
+		assertFalse(report.cards().isEmpty());
+		assertTrue(report.averageTurns() > 1);
+	}
+
+	@Test
+	void gameEndsWithAWinnerOrAtTheTurnLimit() {
+		GameResult result = simulator.play(0, 15, 7, 0);
+
+		assertTrue(result.winner() == 1 || result.winner() == 2 || result.turns() == 60);
+		int played = 0;
+		for (int[] seat : result.plays()) {
+			for (int plays : seat) {
+				played += plays;
+			}
+		}
+		assertTrue(played > 0);
+	}
+
+	@Test
+	void sameSeedPlaysTheSameGame() {
+		for (long gameIndex = 0; gameIndex < 20; gameIndex++) {
+			GameResult first = simulator.play(3, 12, 11, gameIndex);
+			GameResult second = simulator.play(3, 12, 11, gameIndex);
+
+			assertEquals(first.winner(), second.winner());
+			assertEquals(first.turns(), second.turns());
+			assertArrayEquals(first.plays(), second.plays());
+		}
+	}
+
+	@Test
+	void writeToProducesJsonAndCsvFiles(@TempDir Path directory) throws IOException {
+		SimulationReport report = simulator.run(1, 1, 3);
+
+		report.writeTo(directory, new ObjectMapper());
+
+		assertEquals(report.games(), new ObjectMapper().readTree(directory.resolve("summary.json").toFile())
+				.get("games").asLong());
+		List<String> matchups = Files.readAllLines(directory.resolve("matchups.csv"));
+		assertEquals("archetype,opponent,games,wins,losses,draws,win_rate,average_turns", matchups.get(0));
+		assertEquals(257, matchups.size());
+		assertEquals(17, Files.readAllLines(directory.resolve("archetypes.csv")).size());
+		assertEquals(report.cards().size() + 1, Files.readAllLines(directory.resolve("cards.csv")).size());
+	}
+}
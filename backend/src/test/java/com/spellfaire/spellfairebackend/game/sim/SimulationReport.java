@@ -0,0 +1,150 @@
+package com.spellfaire.spellfairebackend.game.sim;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator.Tally;
+
+/**
+ * Results of a {@link SelfPlaySimulator} run: throughput, win rates per archetype and per
+ * matchup, and how often each card was played and how often the side that played it won.
+ *
+ * Win rates count draws as games not won.
+ */
+public record SimulationReport(
+		long games,
+		long elapsedMillis,
+		double gamesPerMinute,
+		double averageTurns,
+		List<ArchetypeStats> archetypes,
+		List<MatchupStats> matchups,
+		List<CardStats> cards) {
+
+	/** One archetype over all its games, in either seat. */
+	public record ArchetypeStats(String archetype, long games, long wins, long draws, double winRate) {
+	}
+
+	/** One ordered pairing, {@code archetype} in player 1's seat. */
+	public record MatchupStats(String archetype, String opponent, long games, long wins, long losses, long draws,
+							   double winRate, double averageTurns) {
+	}
+
+	/** One card: total plays, games it was played in, and how many of those its side won. */
+	public record CardStats(String card, String cardType, long plays, long games, long wins, double winRate) {
+	}
+
+	static SimulationReport of(List<Archetype> archetypes, CardCatalog cardCatalog, Tally tally, long elapsedNanos) {
+		int n = archetypes.size();
+		long[] archetypeGames = new long[n];
+		long[] archetypeWins = new long[n];
+		long[] archetypeDraws = new long[n];
+		long games = 0;
+		long turns = 0;
+
+		List<MatchupStats> matchups = new ArrayList<>();
+		for (int a = 0; a < n; a++) {
+			for (int b = 0; b < n; b++) {
+				int[] outcome = tally.outcomes[a][b];
+				long played = outcome[0] + outcome[1] + outcome[2];
+				if (played == 0) {
+					continue;
+				}
+				games += played;
+				turns += tally.turns[a][b];
+				matchups.add(new MatchupStats(archetypes.get(a).label(), archetypes.get(b).label(), played,
+						outcome[1], outcome[2], outcome[0], ratio(outcome[1], played),
+						ratio(tally.turns[a][b], played)));
+
+				archetypeGames[a] += played;
+				archetypeWins[a] += outcome[1];
+				archetypeDraws[a] += outcome[0];
+				archetypeGames[b] += played;
+				archetypeWins[b] += outcome[2];
+				archetypeDraws[b] += outcome[0];
+			}
+		}
+
+		List<ArchetypeStats> archetypeStats = new ArrayList<>();
+		for (int a = 0; a < n; a++) {
+			archetypeStats.add(new ArchetypeStats(archetypes.get(a).label(), archetypeGames[a], archetypeWins[a],
+					archetypeDraws[a], ratio(archetypeWins[a], archetypeGames[a])));
+		}
+
+		List<CardStats> cards = new ArrayList<>();
+		for (int i = 0; i < tally.cardPlays.length; i++) {
+			if (tally.cardGames[i] == 0) {
+				continue;
+			}
+			Card card = cardCatalog.get(i);
+			cards.add(new CardStats(card.getName(), card.getCardType().name(), tally.cardPlays[i],
+					tally.cardGames[i], tally.cardWins[i], ratio(tally.cardWins[i], tally.cardGames[i])));
+		}
+		cards.sort(Comparator.comparingDouble(CardStats::winRate).reversed());
+
+		long elapsedMillis = elapsedNanos / 1_000_000;
+		double gamesPerMinute = elapsedNanos > 0 ? games * 60e9 / elapsedNanos : 0;
+		return new SimulationReport(games, elapsedMillis, gamesPerMinute, ratio(turns, games),
+				archetypeStats, matchups, cards);
+	}
+
+	/**
+	 * Write {@code summary.json} with the whole report, plus {@code archetypes.csv},
+	 * {@code matchups.csv} and {@code cards.csv}, into the directory (created if missing).
+	 */
+	public void writeTo(Path directory, ObjectMapper objectMapper) throws IOException {
+		Files.createDirectories(directory);
+		objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+			.writeValue(directory.resolve("summary.json").toFile(), this);
+
+		try (Writer out = Files.newBufferedWriter(directory.resolve("archetypes.csv"))) {
+			out.write("archetype,games,wins,draws,win_rate\n");
+			for (ArchetypeStats row : archetypes) {
+				out.write(String.join(",", row.archetype(), Long.toString(row.games()), Long.toString(row.wins()),
+						Long.toString(row.draws()), format(row.winRate())) + "\n");
+			}
+		}
+		try (Writer out = Files.newBufferedWriter(directory.resolve("matchups.csv"))) {
+			out.write("archetype,opponent,games,wins,losses,draws,win_rate,average_turns\n");
+			for (MatchupStats row : matchups) {
+				out.write(String.join(",", row.archetype(), row.opponent(), Long.toString(row.games()),
+						Long.toString(row.wins()), Long.toString(row.losses()), Long.toString(row.draws()),
+						format(row.winRate()), format(row.averageTurns())) + "\n");
+			}
+		}
+		try (Writer out = Files.newBufferedWriter(directory.resolve("cards.csv"))) {
+			out.write("card,card_type,plays,games,wins,win_rate\n");
+			for (CardStats row : cards) {
+				out.write(String.join(",", quote(row.card()), row.cardType(), Long.toString(row.plays()),
+						Long.toString(row.games()), Long.toString(row.wins()), format(row.winRate())) + "\n");
+			}
+		}
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private static double ratio(long count, long total) {
+		return total == 0 ? 0 : (double) count / total;
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.4f", value);
+	}
+
+	private static String quote(String value) {
+		return value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+				? '"' + value.replace("\"", "\"\"") + '"'
+				: value;
+	}
+}
@@ -0,0 +1,51 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+
+class GameRandomTest {
+
+	@Test
+	void drawsTheSplittableRandomSequence() {
+		GameRandom random = new GameRandom(42);
+		SplittableRandom reference = new SplittableRandom(42);
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(reference.nextLong(), random.nextLong());
+		}
+		assertEquals(100, random.getPosition());
+	}
+
+	@Test
+	void resetContinuesASavedSequence() {
+		GameRandom original = new GameRandom(7);
+		for (int i = 0; i < 5; i++) {
+			original.nextInt(10);
+		}
+
+		GameRandom loaded = new GameRandom(0);
+		loaded.reset(original.getSeed(), original.getPosition());
+		GameRandom copy = original.copy();
+
+		long next = original.nextLong();
+		assertEquals(next, loaded.nextLong());
+		assertEquals(next, copy.nextLong());
+	}
+
+	@Test
+	void summoningDrawsNoRandomValues() {
+		GameState game = new GameState();
+		game.getRandom().reset(42, 0);
+
+		CreatureState creature = CreatureState.summon(game.getPlayer1State(), new Card(), 1, 1, Set.of());
+
+		assertEquals("1", creature.getInstanceId());
+		assertEquals(0, game.getRandom().getPosition());
+	}
+}
@@ -0,0 +1,308 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.BoardCreature;
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.CardType;
+import com.spellfaire.spellfairebackend.game.model.CardZone;
+import com.spellfaire.spellfairebackend.game.model.Game;
+import com.spellfaire.spellfairebackend.game.model.GamePlayerState;
+import com.spellfaire.spellfairebackend.game.model.GameStatus;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.PlayerZoneCard;
+import com.spellfaire.spellfairebackend.game.model.Status;
+import com.spellfaire.spellfairebackend.game.service.CardCatalog;
+
+class GameStateMapperTest {
+
+	private GameStateMapper mapper;
+
+	@BeforeEach
+	void setUp() {
+		mapper = new GameStateMapper(new ZoneCodec(), CardCatalog.of(List.of()), false);
+	}
+
+	@Test
+	void toStateOrdersPilesAndBattlefieldByPosition() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		Card first = card("First");
+		Card second = card("Second");
+		Card inHand = card("In Hand");
+		player.getZoneCards().add(new PlayerZoneCard(player, second, CardZone.DECK, 1));
+		player.getZoneCards().add(new PlayerZoneCard(player, inHand, CardZone.HAND, 0));
+		player.getZoneCards().add(new PlayerZoneCard(player, first, CardZone.DECK, 0));
+
+		BoardCreature right = creature(game, player, "Right", 1);
+		BoardCreature left = creature(game, player, "Left", 0);
+		left.setStatuses(new HashSet<>(Set.of(Status.FROZEN)));
+		player.getBattlefield().add(right);
+		player.getBattlefield().add(left);
+
+		GameState state = mapper.toState(game);
+		PlayerState playerState = state.getPlayer1State();
+
+		assertEquals(2, playerState.getDeck().size());
+		assertSame(first, playerState.getDeck().get(0));
+		assertSame(second, playerState.getDeck().get(1));
+		assertSame(inHand, playerState.getHand().get(0));
+		assertEquals(left.getId(), rowId(game, playerState.getBattlefield().get(0)));
+		assertTrue(playerState.getBattlefield().get(0).hasStatus(Status.FROZEN));
+		assertEquals(right.getId(), rowId(game, playerState.getBattlefield().get(1)));
+	}
+
+	@Test
+	void applyToReusesExistingRowsAndOnlyMovesPlayedCard() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		PlayerZoneCard deckRow = new PlayerZoneCard(player, card("Deck Card"), CardZone.DECK, 0);
+		PlayerZoneCard handRow = new PlayerZoneCard(player, card("Hand Card"), CardZone.HAND, 0);
+		PlayerZoneCard playedRow = new PlayerZoneCard(player, card("Played Card"), CardZone.HAND, 1);
+		player.getZoneCards().add(deckRow);
+		player.getZoneCards().add(handRow);
+		player.getZoneCards().add(playedRow);
+
+		GameState state = mapper.toState(game);
+		PlayerState playerState = state.getPlayer1State();
+		playerState.getDiscardPile().add(playerState.getHand().removeAt(1));
+		playerState.setCurrentMana(4);
+		state.setGameStatus(GameStatus.IN_PROGRESS);
+
+		mapper.applyTo(state, game);
+
+		assertEquals(3, player.getZoneCards().size());
+		assertSame(deckRow, player.getZoneCards().get(0));
+		assertSame(handRow, player.getZoneCards().get(1));
+		assertSame(playedRow, player.getZoneCards().get(2));
+		assertEquals(CardZone.DISCARD, playedRow.getZone());
+		assertEquals(0, playedRow.getPosition());
+		assertEquals(4, player.getCurrentMana());
+		assertEquals(GameStatus.IN_PROGRESS, game.getGameStatus());
+	}
+
+	@Test
+	void drawingFromTheFrontOfTheDeckOnlyMovesTheDrawnRow() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		PlayerZoneCard[] deckRows = new PlayerZoneCard[5];
+		for (int i = 0; i < deckRows.length; i++) {
+			deckRows[i] = new PlayerZoneCard(player, card("Deck " + i), CardZone.DECK, i);
+			player.getZoneCards().add(deckRows[i]);
+		}
+		PlayerZoneCard handRow = new PlayerZoneCard(player, card("Hand Card"), CardZone.HAND, 0);
+		player.getZoneCards().add(handRow);
+
+		GameState state = mapper.toState(game);
+		PlayerState playerState = state.getPlayer1State();
+		playerState.getHand().add(playerState.getDeck().removeAt(0));
+		mapper.applyTo(state, game);
+
+		assertEquals(CardZone.HAND, deckRows[0].getZone());
+		assertEquals(1, deckRows[0].getPosition());
+		assertEquals(0, handRow.getPosition());
+		for (int i = 1; i < deckRows.length; i++) {
+			assertEquals(CardZone.DECK, deckRows[i].getZone());
+			assertEquals(i, deckRows[i].getPosition());
+		}
+
+		// The sparse positions still read back in pile order
+		PlayerState reread = mapper.toState(game).getPlayer1State();
+		assertSame(deckRows[1].getCard(), reread.getDeck().get(0));
+		assertSame(deckRows[0].getCard(), reread.getHand().get(1));
+	}
+
+	@Test
+	void positionsKeepOrderedRowsAndFitNewOnesInTheGaps() {
+		int none = GameStateMapper.NO_POSITION;
+		assertArrayEquals(new int[] { 1, 2, 3 }, GameStateMapper.positions(new int[] { 1, 2, 3 }));
+		assertArrayEquals(new int[] { 0, 1, 2 }, GameStateMapper.positions(new int[] { 0, 1, none }));
+		assertArrayEquals(new int[] { 3, 4, 5 }, GameStateMapper.positions(new int[] { none, 4, 5 }));
+		assertArrayEquals(new int[] { 0, 1, 5 }, GameStateMapper.positions(new int[] { 0, none, 5 }));
+		assertArrayEquals(new int[] { 0, 1 }, GameStateMapper.positions(new int[] { none, none }));
+		// A row out of order moves into the gap after its neighbour; with no gap the pile is renumbered
+		assertArrayEquals(new int[] { 0, 2, 3 }, GameStateMapper.positions(new int[] { 0, 2, 1 }));
+		assertArrayEquals(new int[] { 0, 1, 2 }, GameStateMapper.positions(new int[] { 1, none, 2 }));
+	}
+
+	@Test
+	void applyToUpdatesSurvivorsAndAddsSummonedCreatureWithInstanceId() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		BoardCreature dying = creature(game, player, "Dying", 0);
+		BoardCreature survivor = creature(game, player, "Survivor", 1);
+		player.getBattlefield().add(dying);
+		player.getBattlefield().add(survivor);
+
+		GameState state = mapper.toState(game);
+		PlayerState playerState = state.getPlayer1State();
+		playerState.getBattlefield().remove(playerState.getBattlefield().get(0));
+		CreatureState survivorState = playerState.getBattlefield().get(0);
+		survivorState.setHealth(1);
+		survivorState.addKeyword(Keyword.WARD);
+		CreatureState summoned = CreatureState.summon(playerState, card("Summoned"), 2, 2, Set.of(Keyword.CHARGE));
+		playerState.getBattlefield().add(summoned);
+
+		mapper.applyTo(state, game);
+
+		assertEquals(2, player.getBattlefield().size());
+		assertSame(survivor, player.getBattlefield().get(0));
+		assertEquals(0, survivor.getPosition());
+		assertEquals(1, survivor.getHealth());
+		assertTrue(survivor.getKeywords().contains(Keyword.WARD));
+		BoardCreature summonedRow = player.getBattlefield().get(1);
+		assertEquals(rowId(game, summoned), summonedRow.getId());
+		assertEquals(4, game.getNextInstanceId());
+		assertEquals(1, summonedRow.getPosition());
+		assertTrue(summonedRow.isCanAttack());
+	}
+
+	@Test
+	void creaturesSavedUnderRandomIdsAreNumberedAndTheirRowsReplaced() {
+		Game game = baseGame();
+		game.setNextInstanceId(0);
+		GamePlayerState player = game.getPlayer1State();
+		BoardCreature legacy = new BoardCreature(player, card("Legacy"), 2, 2, new HashSet<>(), 0);
+		legacy.setId(UUID.randomUUID());
+		player.getBattlefield().add(legacy);
+
+		GameState state = mapper.toState(game);
+		CreatureState creature = state.getPlayer1State().getBattlefield().get(0);
+		assertEquals("1", creature.getInstanceId());
+
+		mapper.applyTo(state, game);
+
+		assertEquals(1, player.getBattlefield().size());
+		assertEquals(rowId(game, creature), player.getBattlefield().get(0).getId());
+		assertEquals(2, game.getNextInstanceId());
+	}
+
+	@Test
+	void blobModeStoresZonesInOneColumnAndDropsRelationalRows() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		Card deckCard = card("Deck Card");
+		player.getZoneCards().add(new PlayerZoneCard(player, deckCard, CardZone.DECK, 0));
+		BoardCreature creature = creature(game, player, "On Board", 0);
+		player.getBattlefield().add(creature);
+		GameStateMapper blobMapper = new GameStateMapper(new ZoneCodec(),
+				CardCatalog.of(List.of(deckCard, creature.getCard())), true);
+
+		GameState state = blobMapper.toState(game);
+		state.getPlayer1State().getBattlefield().get(0).addStatus(Status.FROZEN);
+		blobMapper.applyTo(state, game);
+
+		assertNotNull(player.getZonesBlob());
+		assertTrue(player.getZoneCards().isEmpty());
+		assertTrue(player.getBattlefield().isEmpty());
+
+		GameState reloaded = blobMapper.toState(game);
+		PlayerState playerState = reloaded.getPlayer1State();
+
+		assertSame(deckCard, playerState.getDeck().get(0));
+		assertEquals(creature.getId(), rowId(game, playerState.getBattlefield().get(0)));
+		assertTrue(playerState.getBattlefield().get(0).hasStatus(Status.FROZEN));
+	}
+
+	@Test
+	void blobModeLeavesTheRelationalCollectionsAloneOnceMigrated() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		Card handCard = card("Hand Card");
+		PlayerState source = new PlayerState();
+		source.getHand().add(handCard);
+		player.setZonesBlob(new ZoneCodec().encode(source));
+		// Stand-ins for uninitialized lazy collections: any access would load them
+		player.setZoneCards(untouchable());
+		player.setBattlefield(untouchable());
+		GameStateMapper blobMapper = new GameStateMapper(new ZoneCodec(), CardCatalog.of(List.of(handCard)), true);
+
+		GameState state = blobMapper.toState(game);
+		state.getPlayer1State().setCurrentMana(3);
+		blobMapper.applyTo(state, game);
+
+		assertEquals(3, player.getCurrentMana());
+		assertSame(handCard, blobMapper.toState(game).getPlayer1State().getHand().get(0));
+	}
+
+	@Test
+	void relationalModeMigratesBlobBackToRows() {
+		Game game = baseGame();
+		GamePlayerState player = game.getPlayer1State();
+		Card handCard = card("Hand Card");
+		PlayerState source = new PlayerState();
+		source.getHand().add(handCard);
+		player.setZonesBlob(new ZoneCodec().encode(source));
+		GameStateMapper relationalMapper = new GameStateMapper(new ZoneCodec(), CardCatalog.of(List.of(handCard)), false);
+
+		relationalMapper.applyTo(relationalMapper.toState(game), game);
+
+		assertNull(player.getZonesBlob());
+		assertEquals(1, player.getZoneCards().size());
+		assertSame(handCard, player.getZoneCards().get(0).getCard());
+		assertEquals(CardZone.HAND, player.getZoneCards().get(0).getZone());
+	}
+
+	private static Game baseGame() {
+		Game game = new Game();
+		game.setId(UUID.randomUUID());
+		game.setNextInstanceId(1);
+		game.setPlayer1Id(UUID.randomUUID().toString());
+		game.setPlayer2Id(UUID.randomUUID().toString());
+		game.setCurrentPlayerId(game.getPlayer1Id());
+		game.getPlayer1State().setUserId(game.getPlayer1Id());
+		game.getPlayer2State().setUserId(game.getPlayer2Id());
+		return game;
+	}
+
+	private static <T> List<T> untouchable() {
+		return new AbstractList<>() {
+			@Override
+			public T get(int index) {
+				throw new AssertionError("collection loaded");
+			}
+
+			@Override
+			public int size() {
+				throw new AssertionError("collection loaded");
+			}
+		};
+	}
+
+	private static Card card(String name) {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName(name);
+		card.setCardType(CardType.CREATURE);
+		card.setCost(2);
+		card.setAttack(2);
+		card.setHealth(2);
+		return card;
+	}
+
+	private static BoardCreature creature(Game game, GamePlayerState owner, String name, int position) {
+		int instanceId = game.getNextInstanceId();
+		game.setNextInstanceId(instanceId + 1);
+		BoardCreature creature = new BoardCreature(owner, card(name), 2, 2, new HashSet<>(), position);
+		creature.setId(GameStateMapper.rowId(game.getId(), instanceId));
+		return creature;
+	}
+
+	private static UUID rowId(Game game, CreatureState creature) {
+		return GameStateMapper.rowId(game.getId(), creature.getInstanceNumber());
+	}
+}
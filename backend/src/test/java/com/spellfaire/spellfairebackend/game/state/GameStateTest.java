@@ -0,0 +1,120 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+
+class GameStateTest {
+
+	@Test
+	void copyIsIndependentOfTheOriginal() {
+		GameState original = game();
+		GameState copy = original.copy();
+
+		PlayerState copied = copy.getPlayer1State();
+		copied.getHand().add(copied.getDeck().removeAt(0));
+		copied.getDiscardPile().clear();
+		CreatureState creature = copied.getBattlefield().get(0);
+		creature.setHealth(1);
+		creature.addStatus(Status.FROZEN);
+		creature.removeKeyword(Keyword.GUARD);
+		copy.setTurnNumber(9);
+
+		PlayerState source = original.getPlayer1State();
+		assertEquals(3, source.getDeck().size());
+		assertEquals(1, source.getHand().size());
+		assertEquals(1, source.getDiscardPile().size());
+		assertEquals(4, source.getBattlefield().get(0).getHealth());
+		assertFalse(source.getBattlefield().get(0).hasStatus(Status.FROZEN));
+		assertTrue(source.getBattlefield().get(0).hasKeyword(Keyword.GUARD));
+		assertEquals(2, original.getTurnNumber());
+
+		assertEquals(2, copied.getDeck().size());
+		assertEquals(2, copied.getHand().size());
+		assertTrue(copied.getDiscardPile().isEmpty());
+	}
+
+	@Test
+	void originalChangesDoNotLeakIntoCopies() {
+		GameState original = game();
+		GameState copy = original.copy();
+		Card top = original.getPlayer1State().getDeck().get(0);
+
+		original.getPlayer1State().getDeck().removeAt(0);
+		original.getPlayer1State().getHand().add(top);
+
+		assertEquals(3, copy.getPlayer1State().getDeck().size());
+		assertSame(top, copy.getPlayer1State().getDeck().get(0));
+		assertEquals(1, copy.getPlayer1State().getHand().size());
+	}
+
+	@Test
+	void playersShareTheInstanceIdsAndCopiesContinueThemIndependently() {
+		GameState original = game();
+		GameState copy = original.copy();
+
+		assertEquals(2, original.getPlayer2State().nextInstanceId());
+		assertEquals(3, original.getPlayer1State().nextInstanceId());
+		assertEquals(2, copy.getPlayer1State().nextInstanceId());
+		assertEquals("1", copy.getPlayer1State().getBattlefield().get(0).getInstanceId());
+	}
+
+	@Test
+	void copyDrawsTheSameRandomValuesIndependently() {
+		GameState original = game();
+		original.getRandom().reset(99, 3);
+		GameState copy = original.copy();
+
+		assertSame(copy.getRandom(), copy.getPlayer2State().getRandom());
+		long next = copy.getRandom().nextLong();
+		assertEquals(3, original.getRandom().getPosition());
+		assertEquals(next, original.getPlayer1State().getRandom().nextLong());
+	}
+
+	@Test
+	void creatureKeywordsAndStatusesAreMasks() {
+		CreatureState creature = CreatureState.summon(new PlayerState(), card(), 2, 2, Set.of(Keyword.WARD, Keyword.CHARGE));
+		creature.addStatus(Status.FROZEN);
+
+		assertTrue(creature.isCanAttack());
+		assertEquals(Set.of(Keyword.WARD, Keyword.CHARGE), creature.getKeywords());
+		assertEquals(Set.of(Status.FROZEN), creature.getStatuses());
+		assertEquals(1 << Keyword.WARD.ordinal() | 1 << Keyword.CHARGE.ordinal(), creature.getKeywordMask());
+
+		creature.getKeywords().clear();
+		assertTrue(creature.hasKeyword(Keyword.WARD));
+		creature.removeStatus(Status.FROZEN);
+		assertEquals(0, creature.getStatusMask());
+	}
+
+	private static GameState game() {
+		GameState game = new GameState();
+		game.setPlayer1Id("p1");
+		game.setPlayer2Id("p2");
+		game.setTurnNumber(2);
+		PlayerState state = game.getPlayer1State();
+		for (int i = 0; i < 3; i++) {
+			state.getDeck().add(card());
+		}
+		state.getHand().add(card());
+		state.getDiscardPile().add(card());
+		state.getBattlefield().add(CreatureState.summon(state, card(), 3, 4, Set.of(Keyword.GUARD)));
+		return game;
+	}
+
+	private static Card card() {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		return card;
+	}
+}
@@ -0,0 +1,91 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.AiDifficulty;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+import com.spellfaire.spellfairebackend.game.sim.Archetype;
+import com.spellfaire.spellfairebackend.game.sim.HeadlessRules;
+import com.spellfaire.spellfairebackend.game.sim.SelfPlaySimulator;
+
+class ReplayCodecTest {
+
+	private static final HeadlessRules RULES = HeadlessRules.fromClasspath();
+
+	private final ZoneCodec zoneCodec = new ZoneCodec();
+	private final ReplayCodec codec = new ReplayCodec(zoneCodec, RULES.cardCatalog());
+
+	@Test
+	void roundTripsTheOpeningAndSteps() {
+		GameState opening = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(), RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.WILDCLAN, MagicSchool.NATURE), 5);
+		opening.setPlayer2Id("AI");
+		opening.getPlayer2State().setUserId("AI");
+		opening.setAiDifficulty(AiDifficulty.HARD);
+		opening.setCreatedAt(Instant.ofEpochMilli(1_700_000_000_000L));
+		String playerId = opening.getPlayer1Id();
+		String cardId = opening.getPlayer1State().getHand().get(0).getId().toString();
+		String attackerId = UUID.randomUUID().toString();
+		List<List<GameAction>> steps = List.of(
+			List.of(GameAction.playCard(playerId, cardId, null), GameAction.attack(playerId, attackerId, "ENEMY_HERO")),
+			List.of(GameAction.endTurn(playerId)),
+			List.of(),
+			List.of(GameAction.surrender("AI"), GameAction.gameOver()));
+
+		byte[] data = codec.encode(new Replay(opening, steps));
+		Replay decoded = codec.decode(data);
+
+		assertEquals(steps, decoded.steps());
+		assertEquals(opening.getStateVersion() + 4, decoded.finalVersion());
+		GameState state = decoded.opening();
+		assertEquals(opening.getId(), state.getId());
+		assertEquals("AI", state.getPlayer2Id());
+		assertEquals(opening.getCurrentPlayerId(), state.getCurrentPlayerId());
+		assertNull(state.getWinnerId());
+		assertEquals(opening.getGameStatus(), state.getGameStatus());
+		assertEquals(opening.getTurnNumber(), state.getTurnNumber());
+		assertEquals(AiDifficulty.HARD, state.getAiDifficulty());
+		assertEquals(opening.getCreatedAt(), state.getCreatedAt());
+		assertEquals(opening.getRandom().getSeed(), state.getRandom().getSeed());
+		assertEquals(opening.getRandom().getPosition(), state.getRandom().getPosition());
+		assertEquals("AI", state.getPlayer2State().getUserId());
+		assertEquals(Faction.WILDCLAN, state.getPlayer2State().getFaction());
+		assertEquals(MagicSchool.FIRE, state.getPlayer1State().getMagicSchool());
+		assertEquals(opening.getPlayer1State().getHeroHealth(), state.getPlayer1State().getHeroHealth());
+		assertEquals(opening.getPlayer2State().getCurrentMana(), state.getPlayer2State().getCurrentMana());
+		assertArrayEquals(zoneCodec.encode(opening.getPlayer1State()), zoneCodec.encode(state.getPlayer1State()));
+		assertArrayEquals(zoneCodec.encode(opening.getPlayer2State()), zoneCodec.encode(state.getPlayer2State()));
+	}
+
+	@Test
+	void deflatesTheOpeningWellBelowItsRawSize() {
+		GameState opening = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(), RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.KINGDOM, MagicSchool.FIRE), 9);
+		int zones = zoneCodec.encode(opening.getPlayer1State()).length + zoneCodec.encode(opening.getPlayer2State()).length;
+
+		byte[] data = codec.encode(new Replay(opening, List.of()));
+
+		assertTrue(data.length < zones / 2, data.length + " bytes for " + zones + " bytes of zones");
+	}
+
+	@Test
+	void rejectsATruncatedReplay() {
+		GameState opening = new SelfPlaySimulator(RULES.cardCatalog(), RULES.gameEngine(), RULES.aiService(), 60)
+			.deal(new Archetype(Faction.KINGDOM, MagicSchool.FIRE), new Archetype(Faction.WILDCLAN, MagicSchool.NATURE), 1);
+		byte[] data = codec.encode(new Replay(opening, List.of(List.of(GameAction.gameOver()))));
+
+		assertThrows(IllegalStateException.class, () -> codec.decode(Arrays.copyOf(data, data.length / 2)));
+	}
+}
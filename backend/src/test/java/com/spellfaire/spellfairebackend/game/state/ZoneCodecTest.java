@@ -0,0 +1,122 @@
+package com.spellfaire.spellfairebackend.game.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.spellfaire.spellfairebackend.game.model.Card;
+import com.spellfaire.spellfairebackend.game.model.Keyword;
+import com.spellfaire.spellfairebackend.game.model.Status;
+
+class ZoneCodecTest {
+
+	private final ZoneCodec codec = new ZoneCodec();
+
+	@Test
+	void roundTripsPilesAndCreatureState() {
+		Card deckCard = card();
+		Card handCard = card();
+		Card discarded = card();
+		Card creatureCard = card();
+
+		PlayerState source = new PlayerState();
+		source.getDeck().add(deckCard);
+		source.getDeck().add(deckCard);
+		source.getHand().add(handCard);
+		source.getDiscardPile().add(discarded);
+		CreatureState creature = CreatureState.summon(source, creatureCard, 3, 5, Set.of(Keyword.GUARD, Keyword.WARD));
+		creature.setHealth(2);
+		creature.setTemporaryAttackDebuff(1);
+		creature.setHasAttackedThisTurn(true);
+		creature.setFrozenForNextTurn(true);
+		creature.addStatus(Status.FROZEN);
+		source.getBattlefield().add(creature);
+
+		byte[] blob = codec.encode(source);
+
+		Set<UUID> cardIds = new HashSet<>();
+		codec.collectCardIds(blob, cardIds);
+		assertEquals(Set.of(deckCard.getId(), handCard.getId(), discarded.getId(), creatureCard.getId()), cardIds);
+
+		PlayerState decoded = new PlayerState();
+		codec.decode(blob, decoded, Map.of(deckCard.getId(), deckCard, handCard.getId(), handCard,
+				discarded.getId(), discarded, creatureCard.getId(), creatureCard));
+
+		assertEquals(2, decoded.getDeck().size());
+		assertSame(handCard, decoded.getHand().get(0));
+		assertSame(discarded, decoded.getDiscardPile().get(0));
+		CreatureState restored = decoded.getBattlefield().get(0);
+		assertEquals(creature.getInstanceId(), restored.getInstanceId());
+		assertSame(creatureCard, restored.getCard());
+		assertEquals(3, restored.getAttack());
+		assertEquals(1, restored.getTemporaryAttackDebuff());
+		assertEquals(2, restored.getHealth());
+		assertEquals(5, restored.getMaxHealth());
+		assertFalse(restored.isCanAttack());
+		assertTrue(restored.isHasAttackedThisTurn());
+		assertTrue(restored.isFrozenForNextTurn());
+		assertFalse(restored.isFrozenBlocksAttacksThisTurn());
+		assertEquals(Set.of(Keyword.GUARD, Keyword.WARD), restored.getKeywords());
+		assertTrue(restored.hasStatus(Status.FROZEN));
+	}
+
+	@Test
+	void rejectsUnknownVersion() {
+		byte[] blob = codec.encode(new PlayerState());
+		blob[0] = 99;
+
+		assertThrows(IllegalStateException.class, () -> codec.decode(blob, new PlayerState(), Map.of()));
+	}
+
+	@Test
+	void numbersTheCreaturesOfVersionOneBlobs() {
+		Card creatureCard = card();
+		UUID instanceId = UUID.randomUUID();
+		ByteBuffer blob = ByteBuffer.allocate(1 + 3 * 2 + 1 + 2 * 16 + 4 * 4 + 1 + 2 * 4);
+		blob.put((byte) 1).putShort((short) 0).putShort((short) 0).putShort((short) 0).put((byte) 1);
+		blob.putLong(instanceId.getMostSignificantBits()).putLong(instanceId.getLeastSignificantBits());
+		blob.putLong(creatureCard.getId().getMostSignificantBits()).putLong(creatureCard.getId().getLeastSignificantBits());
+		blob.putInt(3).putInt(0).putInt(5).putInt(5).put((byte) 1).putInt(0).putInt(0);
+
+		Set<UUID> cardIds = new HashSet<>();
+		codec.collectCardIds(blob.array(), cardIds);
+		assertEquals(Set.of(creatureCard.getId()), cardIds);
+
+		GameState game = new GameState();
+		game.setNextInstanceId(7);
+		codec.decode(blob.array(), game.getPlayer1State(), Map.of(creatureCard.getId(), creatureCard));
+
+		CreatureState restored = game.getPlayer1State().getBattlefield().get(0);
+		assertEquals("7", restored.getInstanceId());
+		assertSame(creatureCard, restored.getCard());
+		assertEquals(5, restored.getHealth());
+		assertTrue(restored.isCanAttack());
+		assertEquals(8, game.getNextInstanceId());
+	}
+
+	@Test
+	void rejectsUnknownCard() {
+		PlayerState source = new PlayerState();
+		source.getHand().add(card());
+		byte[] blob = codec.encode(source);
+
+		assertThrows(IllegalStateException.class, () -> codec.decode(blob, new PlayerState(), Map.of()));
+	}
+
+	private static Card card() {
+		Card card = new Card();
+		card.setId(UUID.randomUUID());
+		card.setName("Card");
+		return card;
+	}
+}
@@ -0,0 +1,68 @@
+package com.spellfaire.spellfairebackend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects request latencies per endpoint from all virtual players and summarizes them.
+ */
+final class LatencyRecorder {
+
+	private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+	void record(String endpoint, long nanos, boolean ok) {
+		samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, ok);
+	}
+
+	/**
+	 * One row per endpoint, in name order, with throughput over the given wall-clock time.
+	 */
+	List<EndpointReport> report(double elapsedSeconds) {
+		List<EndpointReport> rows = new ArrayList<>();
+		for (Map.Entry<String, Samples> entry : new TreeMap<>(samples).entrySet()) {
+			rows.add(entry.getValue().report(entry.getKey(), elapsedSeconds));
+		}
+		return rows;
+	}
+
+	/** Latency summary of one endpoint; times in milliseconds. */
+	record EndpointReport(String endpoint, int requests, int errors, double requestsPerSecond,
+						  double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+	}
+
+	private static final class Samples {
+		private long[] nanos = new long[1024];
+		private int count;
+		private int errors;
+
+		synchronized void add(long value, boolean ok) {
+			if (count == nanos.length) {
+				nanos = Arrays.copyOf(nanos, count * 2);
+			}
+			nanos[count++] = value;
+			if (!ok) {
+				errors++;
+			}
+		}
+
+		synchronized EndpointReport report(String endpoint, double elapsedSeconds) {
+			long[] sorted = Arrays.copyOf(nanos, count);
+			Arrays.sort(sorted);
+			return new EndpointReport(endpoint, count, errors, count / elapsedSeconds,
+					percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+					percentile(sorted, 1.0));
+		}
+
+		private static double percentile(long[] sorted, double quantile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(quantile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1e6;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.spellfaire.spellfairebackend.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spellfaire.spellfairebackend.SpellfaireBackendApplication;
+import com.spellfaire.spellfairebackend.loadtest.LatencyRecorder.EndpointReport;
+
+/**
+ * End-to-end load test of one backend node.
+ *
+ * Starts the application on a random port against a Testcontainers MySQL (or the database given
+ * by {@code --jdbc-url}), registers {@code users} virtual players who each play {@code games}
+ * full AI games concurrently over HTTP, and reports games per minute and latency percentiles per
+ * endpoint to stdout and {@code report.json}. Needs no network once the MySQL image is pulled.
+ *
+ * Options, all {@code --name=value}: {@code users} (default 50), {@code games} (per user,
+ * default 2), {@code difficulty} (default EASY, the heuristic AI), {@code jdbc-url},
+ * {@code db-user}, {@code db-password}, {@code out} (default {@code target/load-test}).
+ * Run with {@code mvn -Pload-test test-compile exec:exec}.
+ */
+public final class LoadTestMain {
+
+	private LoadTestMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = parse(args);
+		int users = Integer.parseInt(options.getOrDefault("users", "50"));
+		int games = Integer.parseInt(options.getOrDefault("games", "2"));
+		String difficulty = options.getOrDefault("difficulty", "EASY");
+		Path out = Path.of(options.getOrDefault("out", "target/load-test"));
+
+		MySQLContainer<?> mysql = null;
+		String jdbcUrl = options.get("jdbc-url");
+		String dbUser = options.getOrDefault("db-user", "root");
+		String dbPassword = options.getOrDefault("db-password", "");
+		if (jdbcUrl == null) {
+			mysql = new MySQLContainer<>("mysql:8.4")
+					.withDatabaseName("spellfaire_load")
+					.withUsername("load")
+					.withPassword("load");
+			mysql.start();
+			jdbcUrl = mysql.getJdbcUrl();
+			dbUser = mysql.getUsername();
+			dbPassword = mysql.getPassword();
+		}
+
+		ConfigurableApplicationContext app = new SpringApplicationBuilder(SpellfaireBackendApplication.class)
+				.run("--server.port=0",
+						"--spring.datasource.url=" + jdbcUrl,
+						"--spring.datasource.username=" + dbUser,
+						"--spring.datasource.password=" + dbPassword,
+						"--logging.level.root=WARN");
+		try {
+			String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+			Report report = run(baseUrl, users, games, difficulty);
+			print(report);
+
+			Files.createDirectories(out);
+			new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT)
+				.writeValue(out.resolve("report.json").toFile(), report);
+			System.out.println("Report written to " + out.resolve("report.json").toAbsolutePath());
+		} finally {
+			app.close();
+			if (mysql != null) {
+				mysql.stop();
+			}
+		}
+	}
+
+	/** Outcome of a run; latencies per endpoint in milliseconds. */
+	record Report(int users, int gamesPerUser, String difficulty, int gamesCompleted, int gamesAbandoned,
+				  double elapsedSeconds, double gamesPerMinute, List<EndpointReport> endpoints) {
+	}
+
+	static Report run(String baseUrl, int users, int games, String difficulty) throws Exception {
+		HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+		ObjectMapper objectMapper = new ObjectMapper();
+		LatencyRecorder recorder = new LatencyRecorder();
+		AtomicInteger completed = new AtomicInteger();
+		AtomicInteger abandoned = new AtomicInteger();
+
+		VirtualPlayer first = new VirtualPlayer(httpClient, objectMapper, recorder, baseUrl, difficulty);
+		if (!first.register(0)) {
+			throw new IllegalStateException("Could not register a user at " + baseUrl);
+		}
+		Map<String, JsonNode> cards = first.fetchCards();
+
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> players = new ArrayList<>();
+			for (int i = 1; i <= users; i++) {
+				int index = i;
+				players.add(executor.submit(() -> {
+					VirtualPlayer player = new VirtualPlayer(httpClient, objectMapper, recorder, baseUrl, difficulty);
+					if (!player.register(index)) {
+						abandoned.addAndGet(games);
+						return null;
+					}
+					for (int game = 0; game < games; game++) {
+						(player.playGame(cards) ? completed : abandoned).incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			for (Future<?> player : players) {
+				player.get();
+			}
+		}
+		double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+		return new Report(users, games, difficulty, completed.get(), abandoned.get(), elapsedSeconds,
+				completed.get() * 60 / elapsedSeconds, recorder.report(elapsedSeconds));
+	}
+
+	private static void print(Report report) {
+		System.out.printf(Locale.ROOT, "%d users x %d %s games: %d completed, %d abandoned in %.1f s (%.1f games/min)%n",
+				report.users(), report.gamesPerUser(), report.difficulty(), report.gamesCompleted(),
+				report.gamesAbandoned(), report.elapsedSeconds(), report.gamesPerMinute());
+		System.out.printf(Locale.ROOT, "%-14s %8s %7s %9s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+		for (EndpointReport row : report.endpoints()) {
+			System.out.printf(Locale.ROOT, "%-14s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+					row.endpoint(), row.requests(), row.errors(), row.requestsPerSecond(),
+					row.p50Ms(), row.p90Ms(), row.p99Ms(), row.maxMs());
+		}
+	}
+
+	private static Map<String, String> parse(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			if (arg.isBlank()) {
+				continue;
+			}
+			int equals = arg.indexOf('=');
+			if (!arg.startsWith("--") || equals < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got " + arg);
+			}
+			options.put(arg.substring(2, equals), arg.substring(equals + 1));
+		}
+		return options;
+	}
+}
@@ -0,0 +1,243 @@
+package com.spellfaire.spellfairebackend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spellfaire.spellfairebackend.game.model.Faction;
+import com.spellfaire.spellfairebackend.game.model.MagicSchool;
+
+/**
+ * One simulated user: registers, then plays whole games against the AI through the public API.
+ *
+ * Each turn it plays the creatures it can afford, attacks with every ready creature (into a Guard
+ * if there is one, otherwise the enemy hero) and ends the turn, then polls for the AI's turn.
+ * Spells are left in hand, since choosing their targets would need the rules on the client.
+ */
+final class VirtualPlayer {
+
+	private static final long POLL_INTERVAL_MS = 100;
+	private static final long TURN_TIMEOUT_MS = 60_000;
+
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper;
+	private final LatencyRecorder recorder;
+	private final String baseUrl;
+	private final String difficulty;
+
+	private String accessToken;
+	private String userId;
+
+	VirtualPlayer(HttpClient httpClient, ObjectMapper objectMapper, LatencyRecorder recorder, String baseUrl,
+				  String difficulty) {
+		this.httpClient = httpClient;
+		this.objectMapper = objectMapper;
+		this.recorder = recorder;
+		this.baseUrl = baseUrl;
+		this.difficulty = difficulty;
+	}
+
+	/**
+	 * Register a fresh account. Returns false if registration failed.
+	 */
+	boolean register(int index) throws IOException, InterruptedException {
+		String name = "load" + index + "_" + Long.toString(ThreadLocalRandom.current().nextLong() & 0xffffffL, 36);
+		JsonNode auth = send("register", post("/api/auth/register", Map.of(
+				"email", name + "@load.test",
+				"username", name,
+				"password", "load-test-password")));
+		if (auth == null) {
+			return false;
+		}
+		accessToken = auth.get("accessToken").asText();
+		userId = auth.get("user").get("id").asText();
+		return true;
+	}
+
+	/**
+	 * The cost and type of every card, keyed by id.
+	 */
+	Map<String, JsonNode> fetchCards() throws IOException, InterruptedException {
+		JsonNode cards = send("cards", get("/api/cards"));
+		Map<String, JsonNode> byId = new HashMap<>();
+		if (cards != null) {
+			for (JsonNode card : cards) {
+				byId.put(card.get("id").asText(), card);
+			}
+		}
+		return byId;
+	}
+
+	/**
+	 * Play one game to the end. Returns false if it had to be abandoned.
+	 */
+	boolean playGame(Map<String, JsonNode> cards) throws IOException, InterruptedException {
+		Faction[] factions = Faction.values();
+		MagicSchool[] schools = MagicSchool.values();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		JsonNode created = send("createAiGame", post("/api/games/ai", Map.of(
+				"faction", factions[random.nextInt(factions.length)].name(),
+				"magicSchool", schools[random.nextInt(schools.length)].name(),
+				"difficulty", difficulty)));
+		if (created == null) {
+			return false;
+		}
+		JsonNode game = created.get("game");
+		String gameId = game.get("id").asText();
+
+		while ("IN_PROGRESS".equals(game.get("gameStatus").asText())) {
+			game = userId.equals(game.get("currentPlayerId").asText())
+					? playTurn(gameId, game, cards)
+					: awaitTurn(gameId, game);
+			if (game == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// ==================================================================
+	// INTERNAL HELPERS
+	// ==================================================================
+
+	private JsonNode playTurn(String gameId, JsonNode game, Map<String, JsonNode> cards)
+			throws IOException, InterruptedException {
+		String path = "/api/games/" + gameId;
+
+		Set<String> rejected = new HashSet<>();
+		String cardId;
+		while ((cardId = affordableCreature(game, cards, rejected)) != null) {
+			JsonNode action = send("playCard", post(path + "/play-card", Map.of("cardId", cardId)));
+			if (action == null) {
+				rejected.add(cardId);
+				continue;
+			}
+			game = action.get("game");
+			if (!isMyTurn(game)) {
+				return game;
+			}
+		}
+
+		rejected.clear();
+		String attackerId;
+		while ((attackerId = readyAttacker(game, rejected)) != null) {
+			JsonNode action = send("attack", post(path + "/attack", Map.of(
+					"attackerInstanceId", attackerId,
+					"targetId", attackTarget(game))));
+			if (action == null) {
+				rejected.add(attackerId);
+				continue;
+			}
+			game = action.get("game");
+			if (!isMyTurn(game)) {
+				return game;
+			}
+		}
+
+		JsonNode ended = send("endTurn", post(path + "/end-turn", null));
+		return ended != null ? ended.get("game") : null;
+	}
+
+	/**
+	 * Poll for updates until the turn comes back or the game ends.
+	 */
+	private JsonNode awaitTurn(String gameId, JsonNode game) throws IOException, InterruptedException {
+		long deadline = System.currentTimeMillis() + TURN_TIMEOUT_MS;
+		while (System.currentTimeMillis() < deadline) {
+			Thread.sleep(POLL_INTERVAL_MS);
+			JsonNode updates = send("updates", get("/api/games/" + gameId + "/updates?sinceVersion="
+					+ game.get("stateVersion").asLong()));
+			if (updates != null && !updates.isEmpty()) {
+				game = updates.get(updates.size() - 1).get("game");
+				if (isMyTurn(game) || !"IN_PROGRESS".equals(game.get("gameStatus").asText())) {
+					return game;
+				}
+			}
+		}
+		return null;
+	}
+
+	private boolean isMyTurn(JsonNode game) {
+		return "IN_PROGRESS".equals(game.get("gameStatus").asText())
+				&& userId.equals(game.get("currentPlayerId").asText());
+	}
+
+	private static String affordableCreature(JsonNode game, Map<String, JsonNode> cards, Set<String> rejected) {
+		JsonNode self = game.get("player1State");
+		if (self.get("battlefield").size() >= 6) {
+			return null;
+		}
+		int mana = self.get("currentMana").asInt();
+		for (JsonNode id : self.get("hand")) {
+			JsonNode card = cards.get(id.asText());
+			if (card != null && "CREATURE".equals(card.get("cardType").asText())
+					&& card.get("cost").asInt() <= mana && !rejected.contains(id.asText())) {
+				return id.asText();
+			}
+		}
+		return null;
+	}
+
+	private static String readyAttacker(JsonNode game, Set<String> rejected) {
+		for (JsonNode creature : game.get("player1State").get("battlefield")) {
+			if (creature.get("canAttack").asBoolean() && !creature.get("hasAttackedThisTurn").asBoolean()
+					&& !creature.get("frozenBlocksAttacksThisTurn").asBoolean()
+					&& creature.get("attack").asInt() > 0
+					&& !rejected.contains(creature.get("instanceId").asText())) {
+				return creature.get("instanceId").asText();
+			}
+		}
+		return null;
+	}
+
+	private static String attackTarget(JsonNode game) {
+		for (JsonNode creature : game.get("player2State").get("battlefield")) {
+			for (JsonNode keyword : creature.get("keywords")) {
+				if ("GUARD".equals(keyword.asText())) {
+					return creature.get("instanceId").asText();
+				}
+			}
+		}
+		return "ENEMY_HERO";
+	}
+
+	private HttpRequest get(String path) {
+		return authorized(path).GET().build();
+	}
+
+	private HttpRequest post(String path, Object body) throws IOException {
+		HttpRequest.BodyPublisher publisher = body == null
+				? HttpRequest.BodyPublishers.noBody()
+				: HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+		return authorized(path).header("Content-Type", "application/json").POST(publisher).build();
+	}
+
+	private HttpRequest.Builder authorized(String path) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+		if (accessToken != null) {
+			builder.header("Authorization", "Bearer " + accessToken);
+		}
+		return builder;
+	}
+
+	/**
+	 * Send the request and record its latency under the endpoint name.
+	 * Returns the parsed body, or null for a non-2xx status.
+	 */
+	private JsonNode send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		boolean ok = response.statusCode() / 100 == 2;
+		recorder.record(endpoint, System.nanoTime() - start, ok);
+		return ok ? objectMapper.readTree(response.body()) : null;
+	}
+}
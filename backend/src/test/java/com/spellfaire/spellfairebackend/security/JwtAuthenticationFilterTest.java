@@ -8,6 +8,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.UUID;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,7 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.spellfaire.spellfairebackend.auth.service.JwtService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +44,8 @@ class JwtAuthenticationFilterTest {
 
 	@Test
 	void skipsAuthPathsWithoutCallingJwtVerifier() throws Exception {
-		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(new JwtVerificationCache(jwtService, new SimpleMeterRegistry(), 100),
+				jwtService);
 		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
 
 		filter.doFilter(request, new MockHttpServletResponse(), filterChain);
@@ -52,7 +56,8 @@ class JwtAuthenticationFilterTest {
 
 	@Test
 	void keepsAnonymousWhenAuthorizationHeaderIsMissing() throws Exception {
-		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(new JwtVerificationCache(jwtService, new SimpleMeterRegistry(), 100),
+				jwtService);
 		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games");
 
 		filter.doFilter(request, new MockHttpServletResponse(), filterChain);
@@ -63,7 +68,8 @@ class JwtAuthenticationFilterTest {
 
 	@Test
 	void setsSecurityContextForValidBearerToken() throws Exception {
-		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(new JwtVerificationCache(jwtService, new SimpleMeterRegistry(), 100),
+				jwtService);
 		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games");
 		request.addHeader("Authorization", "Bearer valid-token");
 
@@ -78,4 +84,43 @@ class JwtAuthenticationFilterTest {
 		assertNotNull(authentication);
 		assertEquals("user-123", authentication.getPrincipal());
 	}
+
+	@Test
+	void acceptsAStreamTokenOnlyOnThatGamesStream() throws Exception {
+		JwtService realJwtService = new JwtService("test-secret", "spellfaire-test", 3600, 60);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+				new JwtVerificationCache(realJwtService, new SimpleMeterRegistry(), 100), realJwtService);
+		UUID gameId = UUID.randomUUID();
+		String token = realJwtService.createStreamToken("user-123", gameId);
+
+		MockHttpServletRequest otherGame = new MockHttpServletRequest("GET", "/api/games/" + UUID.randomUUID() + "/stream");
+		otherGame.setParameter("token", token);
+		filter.doFilter(otherGame, new MockHttpServletResponse(), filterChain);
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+		MockHttpServletRequest otherPath = new MockHttpServletRequest("GET", "/api/games/" + gameId);
+		otherPath.setParameter("token", token);
+		filter.doFilter(otherPath, new MockHttpServletResponse(), filterChain);
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+		MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/games/" + gameId + "/stream");
+		stream.setParameter("token", token);
+		filter.doFilter(stream, new MockHttpServletResponse(), filterChain);
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertNotNull(authentication);
+		assertEquals("user-123", authentication.getPrincipal());
+	}
+
+	@Test
+	void rejectsAStreamTokenAsABearerToken() throws Exception {
+		JwtService realJwtService = new JwtService("test-secret", "spellfaire-test", 3600, 60);
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+				new JwtVerificationCache(realJwtService, new SimpleMeterRegistry(), 100), realJwtService);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/games");
+		request.addHeader("Authorization", "Bearer " + realJwtService.createStreamToken("user-123", UUID.randomUUID()));
+
+		filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
 }
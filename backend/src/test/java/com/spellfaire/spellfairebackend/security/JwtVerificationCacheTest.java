@@ -0,0 +1,125 @@
+package com.spellfaire.spellfairebackend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.spellfaire.spellfairebackend.auth.model.User;
+import com.spellfaire.spellfairebackend.auth.service.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtVerificationCacheTest {
+
+	private static final String SECRET = "unit-test-secret";
+
+	private final JwtService jwtService = spy(new JwtService(SECRET, "spellfaire-test", 3600, 60));
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void verifiesEachTokenOnceUntilItExpires() {
+		JwtVerificationCache cache = new JwtVerificationCache(jwtService, registry, 100);
+		User user = user();
+		String token = jwtService.createAccessToken(user);
+
+		assertEquals(user.getId().toString(), cache.verify(token));
+		assertEquals(user.getId().toString(), cache.verify(token));
+		assertEquals(user.getId().toString(), cache.verify(token));
+
+		verify(jwtService, times(1)).verify(token);
+		assertEquals(2, registry.get("spellfaire.security.jwt.cache").tag("result", "hit").counter().count());
+		assertEquals(1, registry.get("spellfaire.security.jwt.cache").tag("result", "miss").counter().count());
+		assertEquals(1, registry.get("spellfaire.security.jwt.cache.size").gauge().value());
+	}
+
+	@Test
+	void neverCachesARejectedToken() {
+		JwtVerificationCache cache = new JwtVerificationCache(jwtService, registry, 100);
+		String expired = JWT.create()
+			.withIssuer("spellfaire-test")
+			.withSubject("user-123")
+			.withExpiresAt(Date.from(Instant.now().minusSeconds(60)))
+			.sign(Algorithm.HMAC256(SECRET));
+		String forged = JWT.create()
+			.withIssuer("spellfaire-test")
+			.withSubject("user-123")
+			.withExpiresAt(Date.from(Instant.now().plusSeconds(60)))
+			.sign(Algorithm.HMAC256("another-secret"));
+
+		for (int i = 0; i < 2; i++) {
+			assertThrows(JWTVerificationException.class, () -> cache.verify(expired));
+			assertThrows(JWTVerificationException.class, () -> cache.verify(forged));
+		}
+
+		verify(jwtService, times(2)).verify(expired);
+		verify(jwtService, times(2)).verify(forged);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void evictsTheLeastRecentlyUsedTokenWhenFull() {
+		JwtVerificationCache cache = new JwtVerificationCache(jwtService, registry, 2);
+		String first = jwtService.createAccessToken(user());
+		String second = jwtService.createAccessToken(user());
+		String third = jwtService.createAccessToken(user());
+
+		cache.verify(first);
+		cache.verify(second);
+		cache.verify(first);
+		cache.verify(third);
+		cache.verify(first);
+		cache.verify(second);
+
+		assertEquals(2, cache.size());
+		verify(jwtService, times(1)).verify(first);
+		verify(jwtService, times(2)).verify(second);
+	}
+
+	@Test
+	void largeCachesSplitIntoStripesThatStayWithinTheLimit() {
+		JwtVerificationCache cache = new JwtVerificationCache(jwtService, registry, 1024);
+		String recent = jwtService.createAccessToken(user());
+
+		for (int i = 0; i < 2000; i++) {
+			cache.verify(jwtService.createAccessToken(user()));
+			cache.verify(recent);
+		}
+
+		assertEquals(JwtVerificationCache.MAX_STRIPES, cache.stripeCount());
+		assertTrue(cache.size() <= 1024, "cache holds " + cache.size() + " tokens");
+		assertTrue(cache.size() > 1024 - JwtVerificationCache.MAX_STRIPES * 8, "cache holds " + cache.size() + " tokens");
+		verify(jwtService, times(1)).verify(recent);
+	}
+
+	@Test
+	void verifiesEveryTimeWhenDisabled() {
+		JwtVerificationCache cache = new JwtVerificationCache(jwtService, registry, 0);
+		String token = jwtService.createAccessToken(user());
+
+		cache.verify(token);
+		cache.verify(token);
+
+		verify(jwtService, times(2)).verify(token);
+		assertEquals(0, cache.size());
+	}
+
+	private static User user() {
+		User user = new User();
+		user.setId(UUID.randomUUID());
+		user.setEmail("cache.tester@example.com");
+		user.setUsername("CacheTester");
+		return user;
+	}
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -32,6 +33,18 @@ class RestExceptionHandlerTest {
 		assertEquals("/api/games", response.getBody().path());
 	}
 
+	@Test
+	void handleConflictReturnsConflictStatus() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/games/1/end-turn");
+
+		ResponseEntity<ApiError> response = handler.handleConflict(
+				new OptimisticLockingFailureException("stale"), request);
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertNotNull(response.getBody());
+		assertEquals("/api/games/1/end-turn", response.getBody().path());
+	}
+
 	@Test
 	void handleResponseStatusFallsBackToReasonPhraseWhenReasonIsNull() {
 		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile");
@@ -83,6 +83,7 @@ export interface GameResponse {
   currentPhase: GamePhase;
   winnerId: string | null;
   turnNumber: number;
+  stateVersion: number; // bumped by every action; send as ?sinceVersion= to get deltas
   player1State: GamePlayerStateResponse;
   player2State: GamePlayerStateResponse;
   createdAt: string;
@@ -104,8 +105,41 @@ export interface GameEvent {
 }
 
 export interface GameActionResponse {
-  game: GameResponse;
+  game: GameResponse | null; // null when the server sent a delta instead
   events: GameEvent[];
+  delta?: GameDeltaResponse;
+}
+
+/** Changes since `baseVersion`; scalars are always present, unchanged piles are omitted. */
+export interface GameDeltaResponse {
+  id: string;
+  baseVersion: number;
+  stateVersion: number;
+  currentPlayerId: string;
+  gameStatus: GameStatus;
+  currentPhase: GamePhase;
+  winnerId?: string;
+  turnNumber: number;
+  player1State: GamePlayerStateDeltaResponse;
+  player2State: GamePlayerStateDeltaResponse;
+  updatedAt: string;
+}
+
+export interface GamePlayerStateDeltaResponse {
+  heroHealth: number;
+  maxMana: number;
+  currentMana: number;
+  fatigueCounter: number;
+  deck?: string[];
+  hand?: string[];
+  discardPile?: string[];
+  battlefield?: BoardCreatureResponse[]; // new or changed creatures only
+  removedCreatureIds?: string[];
+}
+
+/** Opens one game's event stream; EventSource cannot send the Authorization header. */
+export interface StreamTokenResponse {
+  token: string;
 }
 
 // ────────────────────────────────────────────────────────
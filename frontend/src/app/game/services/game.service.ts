@@ -8,10 +8,13 @@ import {
   CardResponse,
   CreateAiGameRequest,
   GameActionResponse,
+  GameDeltaResponse,
   GameEvent,
   GameResponse,
+  GamePlayerStateDeltaResponse,
   GamePlayerStateResponse,
   PlayCardRequest,
+  StreamTokenResponse,
 } from '../models/game.models';
 
 @Injectable({ providedIn: 'root' })
@@ -95,6 +98,8 @@ export class GameService {
         this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/ai`, request)
       );
       this.applyResponse(resp);
+      // The AI may go first; its turn arrives after this response
+      void this.awaitOpponentTurn();
       return true;
     } catch (e: any) {
       this._error.set(e?.error?.message ?? 'Failed to create game');
@@ -115,7 +120,9 @@ export class GameService {
     try {
       const body: PlayCardRequest = { cardId, targetId };
       const resp = await firstValueFrom(
-        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/play-card`, body)
+        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/play-card`, body, {
+          params: this.sinceVersion(),
+        })
       );
       this.applyResponse(resp);
       return true;
@@ -138,7 +145,9 @@ export class GameService {
     try {
       const body: AttackRequest = { attackerInstanceId, targetId };
       const resp = await firstValueFrom(
-        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/attack`, body)
+        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/attack`, body, {
+          params: this.sinceVersion(),
+        })
       );
       this.applyResponse(resp);
       return true;
@@ -160,14 +169,14 @@ export class GameService {
     this._error.set(null);
     try {
       const resp = await firstValueFrom(
-        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/end-turn`, {})
+        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/end-turn`, {}, {
+          params: this.sinceVersion(),
+        })
       );
-
-      // Small pacing delay before applying the opponent/AI action results.
-      // This helps the player mentally prepare for incoming combat visuals.
-      await new Promise<void>(resolve => window.setTimeout(resolve, 650));
-
       this.applyResponse(resp);
+
+      // The server plays the AI turn after this response; wait for its results
+      await this.awaitOpponentTurn();
       return true;
     } catch (e: any) {
       this._error.set(e?.error?.message ?? 'Failed to end turn');
@@ -187,7 +196,9 @@ export class GameService {
     this._error.set(null);
     try {
       const resp = await firstValueFrom(
-        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/surrender`, {})
+        this.http.post<GameActionResponse>(`${this.baseUrl}/api/games/${gameId}/surrender`, {}, {
+          params: this.sinceVersion(),
+        })
       );
       this.applyResponse(resp);
       return true;
@@ -210,13 +221,197 @@ export class GameService {
 
   // ── Internals ───────────────────────────────────────
 
+  /**
+   * Wait for the opponent's turn on the game's event stream. Polling is only the fallback, for
+   * when the stream cannot be opened or breaks before the turn comes back.
+   */
+  private async awaitOpponentTurn(): Promise<void> {
+    if (!this.waitingOnOpponent()) return;
+    if (await this.streamOpponentTurn()) return;
+    await this.pollOpponentTurn();
+  }
+
+  private waitingOnOpponent(): boolean {
+    const g = this._game();
+    return !!g && g.gameStatus === 'IN_PROGRESS' && g.currentPlayerId !== g.player1Id;
+  }
+
+  /**
+   * Follow the game's stream until the turn comes back to the player or the game ends.
+   * Resolves false if the stream fails or stays quiet too long, so the caller can poll instead.
+   * The stream opens with a snapshot, which covers anything published before it connected.
+   */
+  private async streamOpponentTurn(): Promise<boolean> {
+    const g = this._game();
+    if (!g || typeof EventSource === 'undefined') return false;
+
+    let token: string;
+    try {
+      token = (await firstValueFrom(
+        this.http.post<StreamTokenResponse>(`${this.baseUrl}/api/games/${g.id}/stream-token`, {})
+      )).token;
+    } catch {
+      return false;
+    }
+
+    return new Promise<boolean>(resolve => {
+      const source = new EventSource(
+        `${this.baseUrl}/api/games/${g.id}/stream?token=${encodeURIComponent(token)}`
+      );
+      const timer = window.setTimeout(() => finish(false), 40_000);
+      const finish = (done: boolean) => {
+        window.clearTimeout(timer);
+        source.close();
+        resolve(done);
+      };
+      const settle = () => {
+        if (!this.waitingOnOpponent()) finish(true);
+      };
+
+      source.addEventListener('game-state', e => {
+        const snapshot = JSON.parse((e as MessageEvent).data) as GameResponse;
+        if (snapshot.stateVersion > (this._game()?.stateVersion ?? -1)) {
+          this._game.set(snapshot);
+        }
+        settle();
+      });
+      source.addEventListener('game-update', e => {
+        const update = JSON.parse((e as MessageEvent).data) as GameActionResponse;
+        if ((update.game?.stateVersion ?? 0) > (this._game()?.stateVersion ?? -1)) {
+          this.applyResponse(update);
+        }
+        settle();
+      });
+      // EventSource would reconnect on its own, but the token may have expired by then
+      source.onerror = () => finish(false);
+    });
+  }
+
+  /**
+   * Poll the game's updates until the turn comes back to the player or the game ends.
+   * The pacing delay between polls also helps the player prepare for incoming combat visuals.
+   * The updates backlog lives in one server's memory and is bounded, so when it has nothing
+   * for a while, skips versions or cannot be reached, the full game is fetched instead.
+   */
+  private async pollOpponentTurn(): Promise<void> {
+    let emptyPolls = 0;
+    for (let attempt = 0; attempt < 60; attempt++) {
+      const g = this._game();
+      if (!g || g.gameStatus !== 'IN_PROGRESS' || g.currentPlayerId === g.player1Id) {
+        return;
+      }
+      await new Promise<void>(resolve => window.setTimeout(resolve, 650));
+      const updates = await this.pollUpdates(g);
+      if (updates === null || (updates.length > 0 && (updates[0].game?.stateVersion ?? 0) > g.stateVersion + 1)) {
+        await this.refreshGame(g);
+        continue;
+      }
+      if (updates.length === 0) {
+        if (++emptyPolls % 3 === 0) {
+          await this.refreshGame(g);
+        }
+        continue;
+      }
+      emptyPolls = 0;
+      for (const update of updates) {
+        this.applyResponse(update);
+      }
+    }
+    const g = this._game();
+    if (g) {
+      await this.refreshGame(g);
+    }
+  }
+
+  /** The updates published after the game's current version, or null if the poll failed. */
+  private async pollUpdates(g: GameResponse): Promise<GameActionResponse[] | null> {
+    try {
+      return await firstValueFrom(
+        this.http.get<GameActionResponse[]>(`${this.baseUrl}/api/games/${g.id}/updates`, {
+          params: { sinceVersion: g.stateVersion },
+        })
+      );
+    } catch {
+      return null;
+    }
+  }
+
+  /** Replace the game with the server's copy if it has moved on; the events in between are lost. */
+  private async refreshGame(g: GameResponse): Promise<void> {
+    try {
+      const latest = await firstValueFrom(
+        this.http.get<GameResponse>(`${this.baseUrl}/api/games/${g.id}`)
+      );
+      if (latest.stateVersion > (this._game()?.stateVersion ?? -1)) {
+        this._game.set(latest);
+      }
+    } catch {
+      console.error('Failed to refresh game');
+    }
+  }
+
+  /** The version the current game is at, so the server can answer with a delta. */
+  private sinceVersion(): Record<string, number> {
+    const g = this._game();
+    return g ? { sinceVersion: g.stateVersion } : {};
+  }
+
   private applyResponse(resp: GameActionResponse): void {
-    this._game.set(resp.game);
-    const turnNumber = resp.game.turnNumber;
+    const game = resp.game ?? this.applyDelta(resp.delta);
+    if (!game) {
+      // The delta does not fit the game we hold; reload it rather than show a wrong board
+      const current = this._game();
+      if (current) void this.refreshGame(current);
+    } else {
+      this._game.set(game);
+    }
+    const turnNumber = game?.turnNumber ?? this._game()?.turnNumber;
     const stampedEvents: GameEvent[] = resp.events.map(e => ({
       ...e,
       turnNumber,
     }));
     this._events.update(prev => [...prev, ...stampedEvents]);
   }
+
+  private applyDelta(delta: GameDeltaResponse | undefined): GameResponse | null {
+    const base = this._game();
+    if (!delta || !base || base.id !== delta.id || base.stateVersion !== delta.baseVersion) {
+      return null;
+    }
+    return {
+      ...base,
+      stateVersion: delta.stateVersion,
+      currentPlayerId: delta.currentPlayerId,
+      gameStatus: delta.gameStatus,
+      currentPhase: delta.currentPhase,
+      winnerId: delta.winnerId ?? null,
+      turnNumber: delta.turnNumber,
+      player1State: this.applyPlayerDelta(base.player1State, delta.player1State),
+      player2State: this.applyPlayerDelta(base.player2State, delta.player2State),
+      updatedAt: delta.updatedAt,
+    };
+  }
+
+  private applyPlayerDelta(
+    base: GamePlayerStateResponse,
+    delta: GamePlayerStateDeltaResponse
+  ): GamePlayerStateResponse {
+    const removed = new Set(delta.removedCreatureIds ?? []);
+    const changed = new Map((delta.battlefield ?? []).map(c => [c.instanceId, c]));
+    const battlefield = base.battlefield
+      .filter(c => !removed.has(c.instanceId) && !changed.has(c.instanceId))
+      .concat([...changed.values()])
+      .sort((a, b) => a.position - b.position);
+    return {
+      ...base,
+      heroHealth: delta.heroHealth,
+      maxMana: delta.maxMana,
+      currentMana: delta.currentMana,
+      fatigueCounter: delta.fatigueCounter,
+      deck: delta.deck ?? base.deck,
+      hand: delta.hand ?? base.hand,
+      discardPile: delta.discardPile ?? base.discardPile,
+      battlefield,
+    };
+  }
 }